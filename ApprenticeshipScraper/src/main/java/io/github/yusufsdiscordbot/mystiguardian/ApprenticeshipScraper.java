@@ -21,31 +21,147 @@ package io.github.yusufsdiscordbot.mystiguardian;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.FindAnApprenticeship;
 import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.HigherinApprenticeship;
+import io.github.yusufsdiscordbot.mystiguardian.config.ScraperConfig;
+import io.github.yusufsdiscordbot.mystiguardian.ratelimit.HostRateLimiter;
 import io.github.yusufsdiscordbot.mystiguardian.scraper.FindAnApprenticeshipScraper;
 import io.github.yusufsdiscordbot.mystiguardian.scraper.HigherinScraper;
+import io.github.yusufsdiscordbot.mystiguardian.scraper.http.HttpArchive;
+import io.github.yusufsdiscordbot.mystiguardian.scraper.http.RecordingInterceptor;
+import io.github.yusufsdiscordbot.mystiguardian.scraper.http.ReplayInterceptor;
+import io.github.yusufsdiscordbot.mystiguardian.source.ApprenticeshipSourceProvider;
+import io.github.yusufsdiscordbot.mystiguardian.source.FindAnApprenticeshipSourceProvider;
+import io.github.yusufsdiscordbot.mystiguardian.source.HigherinSourceProvider;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.Cache;
+import okhttp3.ConnectionPool;
 import okhttp3.OkHttpClient;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Facade class for apprenticeship scraping. Delegates to specialized scrapers for Higher In and
  * Find an Apprenticeship.
+ *
+ * <p>Besides the live scraper, {@link #recording(ScraperConfig, Path)} and {@link
+ * #replaying(ScraperConfig, Path, Duration)} create scrapers that record traffic to, or serve it
+ * from, an {@link HttpArchive}. Replay makes full crawls reproducible without network access, for
+ * benchmarks and regression tests.
  */
 @Slf4j
-public class ApprenticeshipScraper {
+public class ApprenticeshipScraper implements Closeable {
 
     private final HigherinScraper higherinScraper;
     private final FindAnApprenticeshipScraper findAnApprenticeshipScraper;
+    @Nullable private final OkHttpClient client;
+    @Nullable private final Closeable archive;
 
     /** Default constructor that creates scrapers with default HTTP client configuration. */
     public ApprenticeshipScraper() {
-        OkHttpClient sharedClient =
-                new OkHttpClient.Builder()
-                        .connectionPool(new okhttp3.ConnectionPool(5, 5, java.util.concurrent.TimeUnit.MINUTES))
+        this(ScraperConfig.defaults());
+    }
+
+    /**
+     * Creates scrapers that share one HTTP client and one per-host rate limiter built from the given
+     * configuration.
+     *
+     * @param config the crawl configuration (parallelism, request budget and HTTP cache)
+     */
+    public ApprenticeshipScraper(ScraperConfig config) {
+        this(config, createHttpClientBuilder(config).build(), null);
+    }
+
+    /**
+     * Creates scrapers that share the given HTTP client and one per-host rate limiter.
+     *
+     * @param config the crawl configuration
+     * @param sharedClient the HTTP client used by both scrapers
+     */
+    private ApprenticeshipScraper(
+            ScraperConfig config, OkHttpClient sharedClient, @Nullable Closeable archive) {
+        HostRateLimiter rateLimiter = new HostRateLimiter(config.requestsPerSecond(), config.burst());
+
+        this.higherinScraper =
+                new HigherinScraper(sharedClient, new ObjectMapper(), config, rateLimiter);
+        this.findAnApprenticeshipScraper =
+                new FindAnApprenticeshipScraper(sharedClient, config, rateLimiter);
+        this.client = sharedClient;
+        this.archive = archive;
+    }
+
+    /**
+     * Creates a live scraper that also writes every request and response to a gzip-compressed
+     * archive. The archive is complete once {@link #close()} has been called.
+     *
+     * @param config the crawl configuration
+     * @param archiveFile the archive file to create (overwritten if it exists)
+     * @return a recording scraper
+     * @throws IOException if the archive file cannot be created
+     */
+    public static ApprenticeshipScraper recording(ScraperConfig config, Path archiveFile)
+            throws IOException {
+        HttpArchive.Writer writer = HttpArchive.create(archiveFile);
+        OkHttpClient client =
+                createHttpClientBuilder(config).addInterceptor(new RecordingInterceptor(writer)).build();
+        logger.info("Recording scraper traffic to {}", archiveFile);
+        return new ApprenticeshipScraper(config, client, writer);
+    }
+
+    /**
+     * Creates a scraper that never touches the network and answers every request from an archive
+     * written by {@link #recording(ScraperConfig, Path)}.
+     *
+     * <p>For benchmarks, pass a configuration without an HTTP cache and with a high request rate so
+     * that neither the cache nor the rate limiter skews the results.
+     *
+     * @param config the crawl configuration
+     * @param archiveFile the archive to replay
+     * @param latency simulated network latency added to every response, or {@link Duration#ZERO}
+     * @return a replaying scraper
+     * @throws IOException if the archive cannot be read
+     */
+    public static ApprenticeshipScraper replaying(
+            ScraperConfig config, Path archiveFile, Duration latency) throws IOException {
+        OkHttpClient client =
+                createHttpClientBuilder(config)
+                        .addInterceptor(ReplayInterceptor.load(archiveFile, latency))
                         .build();
+        logger.info("Replaying scraper traffic from {} (latency {})", archiveFile, latency);
+        return new ApprenticeshipScraper(config, client, null);
+    }
+
+    /**
+     * Creates the HTTP client builder shared by both scrapers.
+     *
+     * <p>When {@link ScraperConfig#cacheDirectory()} is set, the client gets an on-disk {@link Cache}
+     * bounded by {@link ScraperConfig#cacheMaxBytes()} with least-recently-used eviction. OkHttp then
+     * revalidates stale pages with {@code If-None-Match} / {@code If-Modified-Since}, and the
+     * scrapers skip parsing pages that come back {@code 304 Not Modified}.
+     *
+     * @param config the crawl configuration
+     * @return a builder with the connection pool and cache configured
+     */
+    static OkHttpClient.Builder createHttpClientBuilder(ScraperConfig config) {
+        OkHttpClient.Builder builder =
+                new OkHttpClient.Builder()
+                        .connectionPool(
+                                new ConnectionPool(Math.max(5, config.parallelism()), 5, TimeUnit.MINUTES));
+
+        if (config.cacheDirectory() != null) {
+            builder.cache(new Cache(config.cacheDirectory().toFile(), config.cacheMaxBytes()));
+            logger.info(
+                    "HTTP cache enabled at {} ({} bytes max)",
+                    config.cacheDirectory(),
+                    config.cacheMaxBytes());
+        }
 
-        this.higherinScraper = new HigherinScraper(sharedClient, new ObjectMapper());
-        this.findAnApprenticeshipScraper = new FindAnApprenticeshipScraper(sharedClient);
+        return builder;
     }
 
     /**
@@ -59,6 +175,8 @@ public class ApprenticeshipScraper {
             HigherinScraper higherinScraper, FindAnApprenticeshipScraper findAnApprenticeshipScraper) {
         this.higherinScraper = higherinScraper;
         this.findAnApprenticeshipScraper = findAnApprenticeshipScraper;
+        this.client = null;
+        this.archive = null;
     }
 
     /**
@@ -72,6 +190,19 @@ public class ApprenticeshipScraper {
         return higherinScraper.scrapeApprenticeships();
     }
 
+    /**
+     * Scrapes only Higher In apprenticeships that are not already known. Delegates to {@link
+     * HigherinScraper#scrapeApprenticeships(Set)}.
+     *
+     * @param knownIds IDs that have already been persisted
+     * @return List of new Higher In apprenticeships
+     */
+    public List<HigherinApprenticeship> scrapeRateMyApprenticeshipJobs(
+            @NotNull Set<String> knownIds) {
+        logger.info("Starting incremental Higher In apprenticeship scraping");
+        return higherinScraper.scrapeApprenticeships(knownIds);
+    }
+
     /**
      * Scrapes GOV.UK Find an Apprenticeship listings. Delegates to {@link
      * FindAnApprenticeshipScraper}.
@@ -82,4 +213,54 @@ public class ApprenticeshipScraper {
         logger.info("Starting Find an Apprenticeship scraping");
         return findAnApprenticeshipScraper.scrapeApprenticeships();
     }
+
+    /**
+     * Scrapes only GOV.UK listings that are not already known, stopping each route early once it
+     * reaches known listings. Delegates to {@link
+     * FindAnApprenticeshipScraper#scrapeApprenticeships(Set)}.
+     *
+     * @param knownIds IDs that have already been persisted
+     * @return List of new Find an Apprenticeship jobs
+     */
+    public List<FindAnApprenticeship> scrapeFindAnApprenticeshipJobs(@NotNull Set<String> knownIds) {
+        logger.info("Starting incremental Find an Apprenticeship scraping");
+        return findAnApprenticeshipScraper.scrapeApprenticeships(knownIds);
+    }
+
+    /**
+     * Gets a source provider for each scraper, with the default poll interval and timeout. The
+     * providers share this scraper's HTTP client and rate limiter.
+     *
+     * @return the Higher In and GOV.UK source providers
+     */
+    public List<ApprenticeshipSourceProvider> getSourceProviders() {
+        return List.of(
+                new HigherinSourceProvider(higherinScraper),
+                new FindAnApprenticeshipSourceProvider(findAnApprenticeshipScraper));
+    }
+
+    /**
+     * Releases the HTTP client this scraper created: its dispatcher threads, pooled connections and
+     * on-disk cache, and finishes the archive of a recording scraper. Scrapers built from injected
+     * instances own no client and leave them untouched.
+     *
+     * @throws IOException if the cache or the archive cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (client != null) {
+                client.dispatcher().executorService().shutdown();
+                client.connectionPool().evictAll();
+                Cache cache = client.cache();
+                if (cache != null) {
+                    cache.close();
+                }
+            }
+        } finally {
+            if (archive != null) {
+                archive.close();
+            }
+        }
+    }
 }
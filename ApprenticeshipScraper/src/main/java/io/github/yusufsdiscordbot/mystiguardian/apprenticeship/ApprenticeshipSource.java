@@ -19,6 +19,7 @@
 package io.github.yusufsdiscordbot.mystiguardian.apprenticeship;
 
 import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Enum representing the different sources from which apprenticeships can be scraped.
@@ -54,4 +55,20 @@ public enum ApprenticeshipSource {
     ApprenticeshipSource(String code) {
         this.code = code;
     }
+
+    /**
+     * Looks up a source by its code.
+     *
+     * @param code the code as returned by {@link #getCode()}
+     * @return the matching source, or null if no source has that code
+     */
+    @Nullable
+    public static ApprenticeshipSource fromCode(@Nullable String code) {
+        for (ApprenticeshipSource source : values()) {
+            if (source.code.equals(code)) {
+                return source;
+            }
+        }
+        return null;
+    }
 }
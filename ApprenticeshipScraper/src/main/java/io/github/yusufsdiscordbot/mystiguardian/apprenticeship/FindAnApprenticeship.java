@@ -69,6 +69,26 @@ public class FindAnApprenticeship implements Apprenticeship {
     private LocalDate createdAtDate;
     private LocalDate closingDate;
 
+    /** Constructs a new, empty GOV.UK apprenticeship. */
+    public FindAnApprenticeship() {}
+
+    /**
+     * Constructs a copy of another GOV.UK apprenticeship.
+     *
+     * @param other the apprenticeship to copy
+     */
+    public FindAnApprenticeship(@NotNull FindAnApprenticeship other) {
+        this.id = other.id;
+        this.name = other.name;
+        this.url = other.url;
+        this.companyName = other.companyName;
+        this.salary = other.salary;
+        this.location = other.location;
+        this.category = other.category;
+        this.createdAtDate = other.createdAtDate;
+        this.closingDate = other.closingDate;
+    }
+
     /**
      * Sets the unique identifier for this apprenticeship.
      *
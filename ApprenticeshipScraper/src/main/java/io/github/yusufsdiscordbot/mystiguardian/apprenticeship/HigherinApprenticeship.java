@@ -77,6 +77,25 @@ public class HigherinApprenticeship implements Apprenticeship {
         this.categories = new ArrayList<>();
     }
 
+    /**
+     * Constructs a copy of another Higher In apprenticeship, with its own categories list.
+     *
+     * @param other the apprenticeship to copy
+     */
+    public HigherinApprenticeship(@NotNull HigherinApprenticeship other) {
+        this.id = other.id;
+        this.title = other.title;
+        this.companyName = other.companyName;
+        this.companyLogo = other.companyLogo;
+        this.location = other.location;
+        this.categories = new ArrayList<>(other.categories);
+        this.salary = other.salary;
+        this.openingDate = other.openingDate;
+        this.closingDate = other.closingDate;
+        this.url = other.url;
+        this.category = other.category;
+    }
+
     /**
      * Sets the unique identifier for this apprenticeship.
      *
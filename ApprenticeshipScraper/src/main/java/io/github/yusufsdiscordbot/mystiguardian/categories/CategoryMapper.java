@@ -20,6 +20,7 @@ package io.github.yusufsdiscordbot.mystiguardian.categories;
 
 import io.github.yusufsdiscordbot.mystiguardian.config.ApprenticeshipCategoryGroup;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -36,6 +37,11 @@ import lombok.extern.slf4j.Slf4j;
  * Finance, Business, Engineering, Marketing, Design, Legal, Construction, Retail, Hospitality, HR,
  * Property, Public Sector, and Science.
  *
+ * <p>Every mapping is resolved when the class loads: a reverse index from each normalized category
+ * slug to its groups, the GOV.UK routes, and the display name of every group. Looking up a
+ * category is a hash lookup that returns shared immutable lists, so mapping the thousands of
+ * listings in a run allocates nothing for single categories.
+ *
  * <p>Usage examples:
  *
  * <pre>{@code
@@ -100,40 +106,80 @@ public final class CategoryMapper {
                             List.of(ApprenticeshipCategoryGroup.MARKETING, ApprenticeshipCategoryGroup.BUSINESS)),
                     Map.entry("Transport and logistics", List.of(ApprenticeshipCategoryGroup.BUSINESS)));
 
+    /** Maximum number of raw category strings whose normalized form is remembered. */
+    private static final int MAX_NORMALIZED_CATEGORIES = 1024;
+
+    /** Display names of the category groups, indexed by ordinal. */
+    private static final String[] DISPLAY_NAMES =
+            Arrays.stream(ApprenticeshipCategoryGroup.values())
+                    .map(CategoryMapper::formatCategoryGroupName)
+                    .toArray(String[]::new);
+
+    /** Reverse index from normalized Higher In category slug to the groups containing it. */
+    private static final Map<String, Mapping> SLUG_INDEX = buildSlugIndex();
+
+    /** {@link #GOV_UK_ROUTE_MAPPING} with the display names resolved. */
+    private static final Map<String, Mapping> GOV_UK_INDEX = buildGovUkIndex();
+
+    /**
+     * Normalized form of raw categories seen so far. Sources only use a small vocabulary of
+     * categories, so once the cache is full new strings are normalized without being remembered.
+     */
+    private static final Map<String, String> NORMALIZED_CATEGORIES = new ConcurrentHashMap<>();
+
+    /**
+     * The unified groups of a category together with their display names.
+     *
+     * @param groups the category groups, in declaration order
+     * @param names the display names of {@code groups}
+     */
+    private record Mapping(List<ApprenticeshipCategoryGroup> groups, List<String> names) {
+        private static final Mapping NONE = new Mapping(List.of(), List.of());
+
+        private static Mapping of(List<ApprenticeshipCategoryGroup> groups) {
+            return new Mapping(
+                    List.copyOf(groups), groups.stream().map(CategoryMapper::displayName).toList());
+        }
+    }
+
+    private static Map<String, Mapping> buildSlugIndex() {
+        Map<String, EnumSet<ApprenticeshipCategoryGroup>> groupsBySlug = new HashMap<>();
+        for (ApprenticeshipCategoryGroup group : ApprenticeshipCategoryGroup.values()) {
+            for (String slug : group.getCategories()) {
+                groupsBySlug
+                        .computeIfAbsent(slug, ignored -> EnumSet.noneOf(ApprenticeshipCategoryGroup.class))
+                        .add(group);
+            }
+        }
+
+        Map<String, Mapping> index = new HashMap<>();
+        groupsBySlug.forEach((slug, groups) -> index.put(slug, Mapping.of(List.copyOf(groups))));
+        return Map.copyOf(index);
+    }
+
+    private static Map<String, Mapping> buildGovUkIndex() {
+        Map<String, Mapping> index = new HashMap<>();
+        GOV_UK_ROUTE_MAPPING.forEach((route, groups) -> index.put(route, Mapping.of(groups)));
+        return Map.copyOf(index);
+    }
+
     /**
      * Maps a source-specific category to unified MystiGuardian category groups.
      *
      * <p>This method handles both Higher In categories (e.g., "software-engineering") and GOV.UK
      * routes (e.g., "Digital", "Engineering and manufacturing").
      *
-     * <p>For Higher In categories, uses {@link
-     * ApprenticeshipCategoryGroup#findGroupsForCategory(String)}. For GOV.UK routes, uses the
-     * predefined {@link #GOV_UK_ROUTE_MAPPING}.
+     * <p>Higher In categories are looked up in the reverse index built from {@link
+     * ApprenticeshipCategoryGroup}, matching {@link
+     * ApprenticeshipCategoryGroup#findGroupsForCategory(String)}. GOV.UK routes use the predefined
+     * {@link #GOV_UK_ROUTE_MAPPING}.
      *
      * @param sourceCategory the category from the scraping source
-     * @return list of unified category groups (may be empty if no mapping found, may contain multiple
-     *     groups)
+     * @return unmodifiable list of unified category groups (may be empty if no mapping found, may
+     *     contain multiple groups)
      */
     public static List<ApprenticeshipCategoryGroup> mapToUnifiedCategories(String sourceCategory) {
-        if (sourceCategory == null || sourceCategory.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        // First try to map as Higher In category (lowercase with hyphens)
-        List<ApprenticeshipCategoryGroup> groups =
-                ApprenticeshipCategoryGroup.findGroupsForCategory(sourceCategory);
-
-        // If no match, try GOV.UK route mapping (case-sensitive, with spaces)
-        if (groups.isEmpty() && GOV_UK_ROUTE_MAPPING.containsKey(sourceCategory)) {
-            groups = GOV_UK_ROUTE_MAPPING.get(sourceCategory);
-        }
-
-        // Log if no mapping found
-        if (groups.isEmpty()) {
-            logger.debug("No unified category mapping found for source category: {}", sourceCategory);
-        }
-
-        return groups;
+        return lookup(sourceCategory).groups();
     }
 
     /**
@@ -151,12 +197,20 @@ public final class CategoryMapper {
             return Collections.emptyList();
         }
 
-        Set<ApprenticeshipCategoryGroup> uniqueGroups = new LinkedHashSet<>();
+        // There are fewer than 64 groups, so one bit per ordinal tracks what has been added
+        List<ApprenticeshipCategoryGroup> uniqueGroups = new ArrayList<>();
+        long seen = 0;
         for (String category : sourceCategories) {
-            uniqueGroups.addAll(mapToUnifiedCategories(category));
+            for (ApprenticeshipCategoryGroup group : lookup(category).groups()) {
+                long bit = 1L << group.ordinal();
+                if ((seen & bit) == 0) {
+                    seen |= bit;
+                    uniqueGroups.add(group);
+                }
+            }
         }
 
-        return new ArrayList<>(uniqueGroups);
+        return uniqueGroups;
     }
 
     /**
@@ -169,9 +223,7 @@ public final class CategoryMapper {
      * @return list of unified category names
      */
     public static List<String> getUnifiedCategoryNames(String sourceCategory) {
-        return mapToUnifiedCategories(sourceCategory).stream()
-                .map(CategoryMapper::formatCategoryGroupName)
-                .toList();
+        return lookup(sourceCategory).names();
     }
 
     /**
@@ -182,10 +234,55 @@ public final class CategoryMapper {
      */
     public static List<String> getUnifiedCategoryNames(List<String> sourceCategories) {
         return mapToUnifiedCategories(sourceCategories).stream()
-                .map(CategoryMapper::formatCategoryGroupName)
+                .map(CategoryMapper::displayName)
                 .toList();
     }
 
+    /**
+     * Finds the mapping for a source category.
+     *
+     * <p>Categories that are already slugs are found without normalizing them. Anything else is
+     * normalized the same way as {@link ApprenticeshipCategoryGroup#findGroupsForCategory(String)}
+     * (lowercase, spaces to hyphens) before the slug lookup, and then tried as a GOV.UK route as is.
+     *
+     * @param sourceCategory the category from the scraping source
+     * @return the mapping, or {@link Mapping#NONE} if there is none
+     */
+    private static Mapping lookup(String sourceCategory) {
+        if (sourceCategory == null || sourceCategory.isEmpty()) {
+            return Mapping.NONE;
+        }
+
+        Mapping mapping = SLUG_INDEX.get(sourceCategory);
+        if (mapping == null) {
+            mapping = SLUG_INDEX.get(normalize(sourceCategory));
+        }
+        if (mapping == null) {
+            mapping = GOV_UK_INDEX.get(sourceCategory);
+        }
+
+        if (mapping == null) {
+            logger.debug("No unified category mapping found for source category: {}", sourceCategory);
+            return Mapping.NONE;
+        }
+        return mapping;
+    }
+
+    private static String normalize(String sourceCategory) {
+        String normalized = NORMALIZED_CATEGORIES.get(sourceCategory);
+        if (normalized == null) {
+            normalized = sourceCategory.toLowerCase().replace(" ", "-");
+            if (NORMALIZED_CATEGORIES.size() < MAX_NORMALIZED_CATEGORIES) {
+                NORMALIZED_CATEGORIES.putIfAbsent(sourceCategory, normalized);
+            }
+        }
+        return normalized;
+    }
+
+    private static String displayName(ApprenticeshipCategoryGroup group) {
+        return DISPLAY_NAMES[group.ordinal()];
+    }
+
     /**
      * Formats a category group enum to a display-friendly name.
      *
@@ -236,8 +333,6 @@ public final class CategoryMapper {
      * @return list of all unified category names
      */
     public static List<String> getAllUnifiedCategoryNames() {
-        return Arrays.stream(ApprenticeshipCategoryGroup.values())
-                .map(CategoryMapper::formatCategoryGroupName)
-                .toList();
+        return List.of(DISPLAY_NAMES);
     }
 }
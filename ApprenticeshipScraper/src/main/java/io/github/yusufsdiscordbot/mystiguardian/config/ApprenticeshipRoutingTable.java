@@ -0,0 +1,281 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.config;
+
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.Apprenticeship;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Routing table for apprenticeship announcements, compiled once from the category mappings.
+ *
+ * <p>Every category slug that any mapping or hub refers to is resolved ahead of time to:
+ *
+ * <ul>
+ *   <li>A bitset of the roles to ping, combining the {@code categoryRoleMappings} entry for the
+ *       slug with the {@code categoryGroupMappings} entries of every {@link
+ *       ApprenticeshipCategoryGroup} containing it
+ *   <li>A bitset of the hub channels whose category group contains it
+ * </ul>
+ *
+ * <p>Routing an announcement is then one map lookup per category and a few bitset unions. A
+ * category is looked up as given first and only normalized (lowercased, spaces to hyphens) on a
+ * miss, since scraped categories are usually already slugs.
+ *
+ * <p>The table is immutable, so callers compile it again when the configuration changes and can
+ * share it between threads.
+ *
+ * @see ApprenticeshipCategoryGroup
+ * @see DAConfig.HubChannelConfig
+ */
+public final class ApprenticeshipRoutingTable {
+
+    /** Roles and hubs resolved for one category slug. */
+    private record Route(BitSet roles, BitSet hubs) {}
+
+    private final Map<String, Route> routes;
+    private final String[] roleIds;
+    private final String[] mentions;
+    private final BitSet defaultRoles;
+    private final boolean hasCategoryMappings;
+    private final List<DAConfig.HubChannelConfig> hubs;
+    private final BitSet catchAllHubs;
+
+    private ApprenticeshipRoutingTable(
+            Map<String, Route> routes,
+            List<String> roleIds,
+            BitSet defaultRoles,
+            boolean hasCategoryMappings,
+            List<DAConfig.HubChannelConfig> hubs,
+            BitSet catchAllHubs) {
+        this.routes = routes;
+        this.roleIds = roleIds.toArray(String[]::new);
+        this.mentions = roleIds.stream().map(roleId -> "<@&" + roleId + ">").toArray(String[]::new);
+        this.defaultRoles = defaultRoles;
+        this.hasCategoryMappings = hasCategoryMappings;
+        this.hubs = hubs;
+        this.catchAllHubs = catchAllHubs;
+    }
+
+    /**
+     * Compiles a routing table.
+     *
+     * @param categoryRoleMappings role IDs to ping per category slug, or null for none
+     * @param categoryGroupMappings role IDs to ping per {@link ApprenticeshipCategoryGroup} name, or
+     *     null for none; names that are not a group are ignored
+     * @param defaultRoles role IDs pinged for every announcement, used only when neither mapping is
+     *     configured; null for none
+     * @param hubs hub channels to route to; indices into this list are the bits returned by {@link
+     *     #hubs(Apprenticeship)}
+     * @return the compiled table
+     */
+    public static ApprenticeshipRoutingTable compile(
+            @Nullable Map<String, List<String>> categoryRoleMappings,
+            @Nullable Map<String, List<String>> categoryGroupMappings,
+            @Nullable List<String> defaultRoles,
+            @NotNull List<DAConfig.HubChannelConfig> hubs) {
+        Map<String, Integer> roleIndex = new LinkedHashMap<>();
+        Map<String, BitSet> rolesBySlug = new HashMap<>();
+        Map<String, BitSet> hubsBySlug = new HashMap<>();
+
+        if (categoryRoleMappings != null) {
+            categoryRoleMappings.forEach(
+                    (slug, roles) ->
+                            rolesBySlug
+                                    .computeIfAbsent(slug, ignored -> new BitSet())
+                                    .or(roleBits(roles, roleIndex)));
+        }
+        if (categoryGroupMappings != null) {
+            for (ApprenticeshipCategoryGroup group : ApprenticeshipCategoryGroup.values()) {
+                List<String> roles = categoryGroupMappings.get(group.name());
+                if (roles == null) {
+                    continue;
+                }
+                BitSet bits = roleBits(roles, roleIndex);
+                for (String slug : group.getCategories()) {
+                    rolesBySlug.computeIfAbsent(slug, ignored -> new BitSet()).or(bits);
+                }
+            }
+        }
+
+        List<DAConfig.HubChannelConfig> hubList = List.copyOf(hubs);
+        BitSet catchAllHubs = new BitSet();
+        for (int i = 0; i < hubList.size(); i++) {
+            ApprenticeshipCategoryGroup group = hubList.get(i).categoryGroup();
+            if (group == null) {
+                catchAllHubs.set(i);
+                continue;
+            }
+            for (String slug : group.getCategories()) {
+                hubsBySlug.computeIfAbsent(slug, ignored -> new BitSet()).set(i);
+            }
+        }
+
+        Map<String, Route> routes = new HashMap<>();
+        for (String slug : rolesBySlug.keySet()) {
+            routes.put(slug.intern(), new Route(rolesBySlug.get(slug), hubsOf(hubsBySlug, slug)));
+        }
+        for (String slug : hubsBySlug.keySet()) {
+            routes.putIfAbsent(slug.intern(), new Route(new BitSet(), hubsBySlug.get(slug)));
+        }
+
+        boolean hasCategoryMappings =
+                (categoryRoleMappings != null && !categoryRoleMappings.isEmpty())
+                        || (categoryGroupMappings != null && !categoryGroupMappings.isEmpty());
+        BitSet defaults = defaultRoles == null ? new BitSet() : roleBits(defaultRoles, roleIndex);
+        return new ApprenticeshipRoutingTable(
+                Map.copyOf(routes),
+                new ArrayList<>(roleIndex.keySet()),
+                defaults,
+                hasCategoryMappings,
+                hubList,
+                catchAllHubs);
+    }
+
+    /**
+     * Compiles a table that only routes to hub channels, without any role pings.
+     *
+     * @param hubs hub channels to route to
+     * @return the compiled table
+     */
+    public static ApprenticeshipRoutingTable forHubs(@NotNull List<DAConfig.HubChannelConfig> hubs) {
+        return compile(null, null, null, hubs);
+    }
+
+    /**
+     * Resolves the roles to ping for an announcement of the given apprenticeships.
+     *
+     * <p>If no category matches a mapping, the default roles are used, but only when no category or
+     * group mappings are configured at all.
+     *
+     * @param apprenticeships the apprenticeships being announced
+     * @return the role IDs to ping, in configuration order
+     */
+    public List<String> roles(@NotNull Collection<? extends Apprenticeship> apprenticeships) {
+        BitSet bits = roleBits(apprenticeships);
+        List<String> roles = new ArrayList<>(bits.cardinality());
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            roles.add(roleIds[i]);
+        }
+        return roles;
+    }
+
+    /**
+     * Builds the role mentions for an announcement of the given apprenticeships.
+     *
+     * @param apprenticeships the apprenticeships being announced
+     * @return the mentions separated by spaces, or null if there is no role to ping
+     */
+    @Nullable
+    public String pingMessage(@NotNull Collection<? extends Apprenticeship> apprenticeships) {
+        BitSet bits = roleBits(apprenticeships);
+        if (bits.isEmpty()) {
+            return null;
+        }
+        StringJoiner message = new StringJoiner(" ");
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            message.add(mentions[i]);
+        }
+        return message.toString();
+    }
+
+    /**
+     * Resolves the hub channels an apprenticeship is posted to.
+     *
+     * @param apprenticeship the apprenticeship to route
+     * @return a new bitset of indices into {@link #hubChannels()}
+     */
+    public BitSet hubs(@NotNull Apprenticeship apprenticeship) {
+        BitSet bits = (BitSet) catchAllHubs.clone();
+        List<String> categories = apprenticeship.getCategories();
+        if (categories != null) {
+            for (String category : categories) {
+                Route route = route(category);
+                if (route != null) {
+                    bits.or(route.hubs());
+                }
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Gets the hub channels this table routes to, in the order used by {@link
+     * #hubs(Apprenticeship)}.
+     *
+     * @return the hub channels
+     */
+    public List<DAConfig.HubChannelConfig> hubChannels() {
+        return hubs;
+    }
+
+    private BitSet roleBits(Collection<? extends Apprenticeship> apprenticeships) {
+        BitSet bits = new BitSet(roleIds.length);
+        for (Apprenticeship apprenticeship : apprenticeships) {
+            List<String> categories = apprenticeship.getCategories();
+            if (categories == null) {
+                continue;
+            }
+            for (String category : categories) {
+                Route route = route(category);
+                if (route != null) {
+                    bits.or(route.roles());
+                }
+            }
+        }
+        if (bits.isEmpty() && !hasCategoryMappings) {
+            bits.or(defaultRoles);
+        }
+        return bits;
+    }
+
+    @Nullable
+    private Route route(String category) {
+        Route route = routes.get(category);
+        return route != null ? route : routes.get(normalize(category));
+    }
+
+    private static BitSet hubsOf(Map<String, BitSet> hubsBySlug, String slug) {
+        BitSet hubs = hubsBySlug.get(slug);
+        return hubs != null ? hubs : new BitSet();
+    }
+
+    private static BitSet roleBits(List<String> roles, Map<String, Integer> roleIndex) {
+        BitSet bits = new BitSet();
+        for (String roleId : roles) {
+            if (roleId != null && !roleId.isEmpty()) {
+                bits.set(roleIndex.computeIfAbsent(roleId, ignored -> roleIndex.size()));
+            }
+        }
+        return bits;
+    }
+
+    private static String normalize(String category) {
+        return category.toLowerCase(Locale.ROOT).replace(' ', '-');
+    }
+}
@@ -21,6 +21,7 @@ package io.github.yusufsdiscordbot.mystiguardian.config;
 import com.google.api.services.sheets.v4.Sheets;
 import io.github.yusufsdiscordbot.mystiguardian.manager.ApprenticeshipSpreadsheetManager;
 import java.util.List;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Configuration record for Digital Apprenticeship (DA) scraping and posting.
@@ -29,17 +30,54 @@ import java.util.List;
  *
  * <ul>
  *   <li>Discord guild and channel targets for posting apprenticeships
+ *   <li>Optional hub announcement channels that other guilds follow
  *   <li>Google Sheets service for storing apprenticeship data
  *   <li>Spreadsheet ID for tracking apprenticeships
  * </ul>
  *
+ * <p>When hub channels are configured, each new apprenticeship is posted once to every hub whose
+ * category group it belongs to and then crossposted. Discord copies it into every channel that
+ * follows the hub, so the number of API calls no longer grows with the number of guilds. Guilds
+ * choose what they receive by following the hubs for the groups they want.
+ *
  * @param guildChannels list of guild-channel pairs where apprenticeships should be posted
  * @param sheetsService the Google Sheets API service instance
  * @param spreadsheetId the ID of the Google Spreadsheet for apprenticeship tracking
+ * @param hubChannels hub announcement channels to crosspost from; when not empty they replace
+ *     {@code guildChannels} as posting targets
  * @see ApprenticeshipSpreadsheetManager
  */
 public record DAConfig(
-        List<GuildChannelConfig> guildChannels, Sheets sheetsService, String spreadsheetId) {
+        List<GuildChannelConfig> guildChannels,
+        Sheets sheetsService,
+        String spreadsheetId,
+        List<HubChannelConfig> hubChannels) {
+
+    /** Copies the hub list, treating null as no hubs. */
+    public DAConfig {
+        hubChannels = hubChannels == null ? List.of() : List.copyOf(hubChannels);
+    }
+
+    /**
+     * Creates a configuration that posts to every guild channel directly, without hubs.
+     *
+     * @param guildChannels list of guild-channel pairs where apprenticeships should be posted
+     * @param sheetsService the Google Sheets API service instance
+     * @param spreadsheetId the ID of the Google Spreadsheet for apprenticeship tracking
+     */
+    public DAConfig(
+            List<GuildChannelConfig> guildChannels, Sheets sheetsService, String spreadsheetId) {
+        this(guildChannels, sheetsService, spreadsheetId, List.of());
+    }
+
+    /**
+     * Checks whether apprenticeships are posted to hub channels and crossposted.
+     *
+     * @return true if at least one hub channel is configured
+     */
+    public boolean usesHubChannels() {
+        return !hubChannels.isEmpty();
+    }
 
     /**
      * Configuration for a specific Discord guild and channel pair.
@@ -50,4 +88,17 @@ public record DAConfig(
      * @param channelId the Discord text channel ID within that guild
      */
     public record GuildChannelConfig(long guildId, long channelId) {}
+
+    /**
+     * Configuration for a hub announcement (news) channel.
+     *
+     * <p>A hub with a category group receives only apprenticeships in that group. A hub without one
+     * receives every apprenticeship.
+     *
+     * @param guildId the Discord guild (server) ID that owns the hub
+     * @param channelId the Discord announcement channel ID within that guild
+     * @param categoryGroup the category group posted to this hub, or null for all apprenticeships
+     */
+    public record HubChannelConfig(
+            long guildId, long channelId, @Nullable ApprenticeshipCategoryGroup categoryGroup) {}
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.config;
+
+import io.github.yusufsdiscordbot.mystiguardian.ApprenticeshipScraper;
+import io.github.yusufsdiscordbot.mystiguardian.ratelimit.HostRateLimiter;
+import java.nio.file.Path;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Configuration record for how aggressively the scrapers crawl their source sites.
+ *
+ * <p>This configuration controls:
+ *
+ * <ul>
+ *   <li>How many pages may be fetched at the same time
+ *   <li>The sustained request rate allowed per host
+ *   <li>How many requests a host may receive in a burst after being idle
+ *   <li>Where the on-disk HTTP cache lives and how large it may grow
+ * </ul>
+ *
+ * @param parallelism maximum number of concurrent requests a single scraper may have in flight
+ * @param requestsPerSecond sustained number of requests per second allowed for each host
+ * @param burst number of requests a host may receive back-to-back before rate limiting applies
+ * @param cacheDirectory directory for the HTTP cache, or null to disable caching
+ * @param cacheMaxBytes maximum size of the HTTP cache; least recently used entries are evicted
+ *     beyond it
+ * @see ApprenticeshipScraper
+ * @see HostRateLimiter
+ */
+public record ScraperConfig(
+        int parallelism,
+        double requestsPerSecond,
+        int burst,
+        @Nullable Path cacheDirectory,
+        long cacheMaxBytes) {
+
+    /** Default number of concurrent requests per scraper. */
+    public static final int DEFAULT_PARALLELISM = 8;
+
+    /** Default sustained requests per second per host. */
+    public static final double DEFAULT_REQUESTS_PER_SECOND = 5.0;
+
+    /** Default burst size per host. */
+    public static final int DEFAULT_BURST = 5;
+
+    /** Default HTTP cache directory. */
+    public static final Path DEFAULT_CACHE_DIRECTORY =
+            Path.of(System.getProperty("java.io.tmpdir"), "mystiguardian", "scraper-http-cache");
+
+    /** Default HTTP cache size bound (50 MiB). */
+    public static final long DEFAULT_CACHE_MAX_BYTES = 50L * 1024 * 1024;
+
+    /**
+     * Validates the configuration values.
+     *
+     * @throws IllegalArgumentException if any value is out of range
+     */
+    public ScraperConfig {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("requestsPerSecond must be positive");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be at least 1");
+        }
+        if (cacheDirectory != null && cacheMaxBytes <= 0) {
+            throw new IllegalArgumentException("cacheMaxBytes must be positive when caching is enabled");
+        }
+    }
+
+    /**
+     * Creates a configuration without an HTTP cache.
+     *
+     * @param parallelism maximum number of concurrent requests a single scraper may have in flight
+     * @param requestsPerSecond sustained number of requests per second allowed for each host
+     * @param burst number of requests a host may receive back-to-back before rate limiting applies
+     */
+    public ScraperConfig(int parallelism, double requestsPerSecond, int burst) {
+        this(parallelism, requestsPerSecond, burst, null, 0);
+    }
+
+    /**
+     * Gets the default configuration, tuned to stay well within the request budgets of Higher In and
+     * GOV.UK, with a 50 MiB HTTP cache in the system temp directory.
+     *
+     * @return the default scraper configuration
+     */
+    public static ScraperConfig defaults() {
+        return new ScraperConfig(
+                DEFAULT_PARALLELISM,
+                DEFAULT_REQUESTS_PER_SECOND,
+                DEFAULT_BURST,
+                DEFAULT_CACHE_DIRECTORY,
+                DEFAULT_CACHE_MAX_BYTES);
+    }
+}
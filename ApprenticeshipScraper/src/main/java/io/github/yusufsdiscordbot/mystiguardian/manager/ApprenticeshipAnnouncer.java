@@ -0,0 +1,290 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.manager;
+
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.Apprenticeship;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.channel.concrete.NewsChannel;
+import net.dv8tion.jda.api.entities.channel.middleman.GuildMessageChannel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Posts new apprenticeships to every configured Discord channel at once.
+ *
+ * <p>Each announcement:
+ *
+ * <ul>
+ *   <li>Builds every embed once and splits them into messages of {@link #MAX_EMBEDS_PER_MESSAGE},
+ *       shared by all channels
+ *   <li>Sends to all channels in parallel, with no fixed delays
+ *   <li>Sends the messages for one channel strictly one after another, chained onto whatever is
+ *       still being sent to that channel from earlier announcements
+ * </ul>
+ *
+ * <p>Rate limits are left to JDA, which keeps a bucket per route (one per channel for message
+ * sends) and holds a request back only when its own bucket is exhausted. A busy channel therefore
+ * never delays the others. A message that fails is logged and the channel moves on to its next
+ * message.
+ *
+ * <p>An announcer created with {@link #crossposting()} also publishes every message it sends to an
+ * announcement ({@link NewsChannel news}) channel, so Discord copies it to every channel that
+ * follows it. Discord allows only a few crossposts per channel per hour, which is another reason
+ * messages are always filled up to {@link #MAX_EMBEDS_PER_MESSAGE} embeds. Crossposts run alongside
+ * the channel's sends rather than in line with them, so a crosspost JDA is holding back for that
+ * limit never delays the next message.
+ */
+@Slf4j
+public final class ApprenticeshipAnnouncer {
+
+    /** Maximum number of embeds Discord accepts in one message. */
+    public static final int MAX_EMBEDS_PER_MESSAGE = 10;
+
+    /** Sends one message to a channel. */
+    @FunctionalInterface
+    public interface MessageSender {
+        /**
+         * Sends one message without blocking.
+         *
+         * @param channel the channel to post to
+         * @param content the text content, or null for embeds only
+         * @param embeds the embeds to attach, at most {@link #MAX_EMBEDS_PER_MESSAGE}
+         * @return a future completed once Discord has accepted the message
+         */
+        CompletableFuture<?> send(
+                @NotNull GuildMessageChannel channel,
+                @Nullable String content,
+                @NotNull List<MessageEmbed> embeds);
+    }
+
+    private static final MessageSender JDA_SENDER = ApprenticeshipAnnouncer::sendWithJda;
+
+    private static final MessageSender JDA_CROSSPOSTING_SENDER =
+            (channel, content, embeds) -> {
+                CompletableFuture<Message> sent = sendWithJda(channel, content, embeds);
+                if (channel instanceof NewsChannel) {
+                    // Not part of the returned future: a held-back crosspost must not stall the channel
+                    sent.thenAccept(ApprenticeshipAnnouncer::crosspost);
+                }
+                return sent;
+            };
+
+    private final MessageSender sender;
+    private final Map<Long, CompletableFuture<Void>> channelTails = new ConcurrentHashMap<>();
+
+    /** Creates an announcer that sends through JDA. */
+    public ApprenticeshipAnnouncer() {
+        this(JDA_SENDER);
+    }
+
+    /**
+     * Creates an announcer with a custom sender.
+     *
+     * @param sender the sender used for every message
+     */
+    public ApprenticeshipAnnouncer(@NotNull MessageSender sender) {
+        this.sender = Objects.requireNonNull(sender, "sender cannot be null");
+    }
+
+    /**
+     * Creates an announcer that sends through JDA and crossposts every message sent to an
+     * announcement channel.
+     *
+     * @return a crossposting announcer
+     */
+    public static ApprenticeshipAnnouncer crossposting() {
+        return new ApprenticeshipAnnouncer(JDA_CROSSPOSTING_SENDER);
+    }
+
+    /**
+     * Queues an announcement of the given apprenticeships on every channel and returns straight
+     * away.
+     *
+     * @param apprenticeships the apprenticeships to announce, in posting order
+     * @param channels the channels to post to; null entries are skipped
+     * @param content text sent with every message (such as role pings), or null for embeds only
+     * @return a future completed once every channel has finished, whether or not its sends succeeded
+     */
+    public CompletableFuture<Void> announce(
+            @NotNull List<? extends Apprenticeship> apprenticeships,
+            @NotNull Collection<? extends GuildMessageChannel> channels,
+            @Nullable String content) {
+        if (apprenticeships.isEmpty() || channels.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<List<MessageEmbed>> messages = buildMessages(apprenticeships, Apprenticeship::getEmbed);
+        List<CompletableFuture<Void>> channelsDone = new ArrayList<>(channels.size());
+        for (GuildMessageChannel channel : channels) {
+            if (channel == null) {
+                logger.warn("Skipping null text channel");
+                continue;
+            }
+            channelsDone.add(enqueue(channel, content, messages));
+        }
+
+        logger.info(
+                "Announcing {} apprenticeships in {} messages to {} channels",
+                apprenticeships.size(),
+                messages.size(),
+                channelsDone.size());
+        return CompletableFuture.allOf(channelsDone.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Queues an announcement where each channel gets its own selection of apprenticeships, and
+     * returns straight away. An apprenticeship sent to several channels still has its embed built
+     * only once.
+     *
+     * @param routes the apprenticeships to announce on each channel, in posting order
+     * @param content text sent with every message, or null for embeds only
+     * @return a future completed once every channel has finished, whether or not its sends succeeded
+     */
+    public CompletableFuture<Void> announce(
+            @NotNull Map<? extends GuildMessageChannel, ? extends List<? extends Apprenticeship>> routes,
+            @Nullable String content) {
+        Map<Apprenticeship, MessageEmbed> embeds = new IdentityHashMap<>();
+        List<CompletableFuture<Void>> channelsDone = new ArrayList<>(routes.size());
+        int posts = 0;
+        for (var route : routes.entrySet()) {
+            if (route.getValue().isEmpty()) {
+                continue;
+            }
+            List<List<MessageEmbed>> messages =
+                    buildMessages(
+                            route.getValue(),
+                            apprenticeship ->
+                                    embeds.computeIfAbsent(apprenticeship, Apprenticeship::getEmbed));
+            channelsDone.add(enqueue(route.getKey(), content, messages));
+            posts += route.getValue().size();
+        }
+
+        if (!channelsDone.isEmpty()) {
+            logger.info(
+                    "Announcing {} apprenticeships ({} posts) to {} channels",
+                    embeds.size(),
+                    posts,
+                    channelsDone.size());
+        }
+        return CompletableFuture.allOf(channelsDone.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Gets the number of channels that still have messages being sent.
+     *
+     * @return the number of busy channels
+     */
+    public int pendingChannels() {
+        return channelTails.size();
+    }
+
+    private static List<List<MessageEmbed>> buildMessages(
+            List<? extends Apprenticeship> apprenticeships,
+            Function<Apprenticeship, MessageEmbed> embedder) {
+        List<List<MessageEmbed>> messages = new ArrayList<>();
+        for (int i = 0; i < apprenticeships.size(); i += MAX_EMBEDS_PER_MESSAGE) {
+            List<? extends Apprenticeship> batch =
+                    apprenticeships.subList(
+                            i, Math.min(i + MAX_EMBEDS_PER_MESSAGE, apprenticeships.size()));
+            messages.add(batch.stream().<MessageEmbed>map(embedder).toList());
+        }
+        return messages;
+    }
+
+    /**
+     * Chains the messages onto the channel's current tail, so they are sent after anything already
+     * queued for it.
+     */
+    private CompletableFuture<Void> enqueue(
+            GuildMessageChannel channel, @Nullable String content, List<List<MessageEmbed>> messages) {
+        long channelId = channel.getIdLong();
+        CompletableFuture<Void> tail =
+                channelTails.compute(
+                        channelId,
+                        (id, previous) -> {
+                            CompletableFuture<Void> next =
+                                    previous == null ? CompletableFuture.completedFuture(null) : previous;
+                            for (List<MessageEmbed> embeds : messages) {
+                                next = next.thenCompose(ignored -> send(channel, content, embeds));
+                            }
+                            return next;
+                        });
+        // Registered outside compute, as it may run immediately and touch the map
+        tail.whenComplete((ignored, error) -> channelTails.remove(channelId, tail));
+        return tail;
+    }
+
+    private static void crosspost(Message message) {
+        message
+                .crosspost()
+                .submit()
+                .whenComplete(
+                        (ignored, error) -> {
+                            if (error != null) {
+                                logger.error(
+                                        "Failed to crosspost message {} in channel {}: {}",
+                                        message.getId(),
+                                        message.getChannel().getId(),
+                                        error.getMessage());
+                            }
+                        });
+    }
+
+    private static CompletableFuture<Message> sendWithJda(
+            GuildMessageChannel channel, @Nullable String content, List<MessageEmbed> embeds) {
+        return content == null
+                ? channel.sendMessageEmbeds(embeds).submit()
+                : channel.sendMessage(content).setEmbeds(embeds).submit();
+    }
+
+    private CompletableFuture<Void> send(
+            GuildMessageChannel channel, @Nullable String content, List<MessageEmbed> embeds) {
+        CompletableFuture<?> sent;
+        try {
+            sent = sender.send(channel, content, embeds);
+        } catch (RuntimeException e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+
+        return sent.handle(
+                (ignored, error) -> {
+                    if (error != null) {
+                        logger.error(
+                                "Failed to send {} jobs to channel {}: {}",
+                                embeds.size(),
+                                channel.getId(),
+                                error.getMessage());
+                    } else {
+                        logger.debug("Sent {} jobs to channel {}", embeds.size(), channel.getId());
+                    }
+                    return null;
+                });
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.manager;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Local, persistent set of apprenticeship IDs that have already been saved to the spreadsheet.
+ *
+ * <p>Deduplication used to read the whole ID column of the sheet on every run and scan it with
+ * {@code List.contains}. The index keeps the IDs in a concurrent hash set instead, so membership
+ * checks are O(1) and need no network round-trip. It is updated as rows are saved and only
+ * reconciled against the sheet occasionally (see {@link #replaceAll(String, Collection)}).
+ *
+ * <p>The file format is plain UTF-8 text: a header line recording the scope (the sheet the IDs
+ * belong to) and when the index was last reconciled, followed by one ID per line. New IDs are
+ * appended; a reconcile rewrites the file atomically.
+ *
+ * <p>Instances are thread-safe. The set returned by {@link #view()} may be read while the index
+ * is being updated, and IDs never disappear from it temporarily during a reconcile.
+ */
+@Slf4j
+public final class ApprenticeshipIdIndex {
+
+    /** Default location of the index file. */
+    public static final Path DEFAULT_FILE =
+            Path.of(System.getProperty("java.io.tmpdir"), "mystiguardian", "apprenticeship-ids.txt");
+
+    private static final String HEADER_PREFIX = "# ";
+    private static final char HEADER_SEPARATOR = '\t';
+
+    @Nullable private final Path file;
+    private final Set<String> ids = ConcurrentHashMap.newKeySet();
+    private final Set<String> view = Collections.unmodifiableSet(ids);
+    private volatile boolean loaded;
+    @Nullable private volatile String scope;
+    @Nullable private volatile Instant reconciledAt;
+
+    /**
+     * Creates an index backed by the given file. Nothing is read until {@link #load()} is called.
+     *
+     * @param file the index file, or null to keep the index in memory only
+     */
+    public ApprenticeshipIdIndex(@Nullable Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Loads the index file, if it exists and has not been loaded yet. A missing or unreadable file
+     * leaves the index empty and unscoped, so the next reconcile rebuilds it.
+     */
+    public synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+
+        if (file == null || !Files.exists(file)) {
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            int separator = header == null ? -1 : header.lastIndexOf(HEADER_SEPARATOR);
+            if (header == null || !header.startsWith(HEADER_PREFIX) || separator < 0) {
+                logger.warn("Ignoring apprenticeship ID index {} with a malformed header", file);
+                return;
+            }
+            String fileScope = header.substring(HEADER_PREFIX.length(), separator);
+            Instant fileReconciledAt =
+                    Instant.ofEpochMilli(Long.parseLong(header.substring(separator + 1)));
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    ids.add(line);
+                }
+            }
+            scope = fileScope;
+            reconciledAt = fileReconciledAt;
+            logger.info("Loaded {} apprenticeship IDs for '{}' from {}", ids.size(), scope, file);
+        } catch (IOException | RuntimeException e) {
+            ids.clear();
+            logger.warn("Failed to load apprenticeship ID index {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Checks whether an ID is in the index.
+     *
+     * @param id the apprenticeship ID
+     * @return true if the ID has already been saved
+     */
+    public boolean contains(@NotNull String id) {
+        return ids.contains(id);
+    }
+
+    /**
+     * Gets a live, read-only view of the indexed IDs.
+     *
+     * @return the IDs in the index
+     */
+    @NotNull
+    public Set<String> view() {
+        return view;
+    }
+
+    /**
+     * Gets the number of IDs in the index.
+     *
+     * @return the index size
+     */
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * Gets the scope the IDs belong to, typically the name of the sheet they were read from.
+     *
+     * @return the scope, or null if the index has never been reconciled
+     */
+    @Nullable
+    public String scope() {
+        return scope;
+    }
+
+    /**
+     * Gets when the index was last reconciled against its source of truth.
+     *
+     * @return the time of the last reconcile, or null if it has never been reconciled
+     */
+    @Nullable
+    public Instant reconciledAt() {
+        return reconciledAt;
+    }
+
+    /**
+     * Adds IDs that have just been saved and appends them to the file.
+     *
+     * @param newIds the saved IDs; IDs already in the index are ignored
+     * @throws IOException if the IDs cannot be written to the file. They stay in memory regardless.
+     */
+    public synchronized void addAll(@NotNull Collection<String> newIds) throws IOException {
+        List<String> added = new ArrayList<>();
+        for (String id : newIds) {
+            if (id != null && !id.isEmpty() && ids.add(id)) {
+                added.add(id);
+            }
+        }
+
+        if (added.isEmpty() || file == null || scope == null) {
+            // An unscoped index has no header yet; the first reconcile writes the whole file
+            return;
+        }
+
+        try (BufferedWriter writer =
+                Files.newBufferedWriter(
+                        file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (String id : added) {
+                writer.write(id);
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the IDs from its source of truth and rewrites the
+     * file.
+     *
+     * <p>The new IDs are added before stale ones are removed, so concurrent readers never see an ID
+     * that is in both the old and new contents go missing.
+     *
+     * @param scope the scope the IDs belong to
+     * @param sourceIds every ID currently in the source of truth
+     * @throws IOException if the file cannot be written. The in-memory index is still replaced.
+     */
+    public synchronized void replaceAll(@NotNull String scope, @NotNull Collection<String> sourceIds)
+            throws IOException {
+        Set<String> replacement = new HashSet<>(sourceIds);
+        replacement.remove("");
+        ids.addAll(replacement);
+        ids.retainAll(replacement);
+        this.scope = scope;
+        this.reconciledAt = Instant.now();
+        loaded = true;
+
+        if (file != null) {
+            write(file, scope, reconciledAt, replacement);
+        }
+    }
+
+    private static void write(Path file, String scope, Instant reconciledAt, Set<String> ids)
+            throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write(HEADER_PREFIX + scope + HEADER_SEPARATOR + reconciledAt.toEpochMilli());
+                writer.newLine();
+                for (String id : ids) {
+                    writer.write(id);
+                    writer.newLine();
+                }
+            }
+            Files.move(
+                    temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -23,53 +23,112 @@ import com.google.api.services.sheets.v4.model.*;
 import io.github.yusufsdiscordbot.mystiguardian.ApprenticeshipScraper;
 import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.Apprenticeship;
 import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.ApprenticeshipSource;
-import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.FindAnApprenticeship;
-import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.HigherinApprenticeship;
+import io.github.yusufsdiscordbot.mystiguardian.config.ApprenticeshipRoutingTable;
 import io.github.yusufsdiscordbot.mystiguardian.config.DAConfig;
+import io.github.yusufsdiscordbot.mystiguardian.ratelimit.TokenBucket;
+import io.github.yusufsdiscordbot.mystiguardian.scraper.FindAnApprenticeshipPageParser;
+import io.github.yusufsdiscordbot.mystiguardian.source.ApprenticeshipSourceProvider;
+import io.github.yusufsdiscordbot.mystiguardian.source.ApprenticeshipSourceScheduler;
+import io.github.yusufsdiscordbot.mystiguardian.store.ApprenticeshipFeed;
+import io.github.yusufsdiscordbot.mystiguardian.store.ApprenticeshipListing;
+import io.github.yusufsdiscordbot.mystiguardian.store.ApprenticeshipReadModel;
+import io.github.yusufsdiscordbot.mystiguardian.store.ApprenticeshipStore;
+import io.github.yusufsdiscordbot.mystiguardian.store.InMemoryApprenticeshipStore;
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Month;
+import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.JDA;
-import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.entities.channel.concrete.NewsChannel;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
- * Manages apprenticeship data in Google Sheets and posts new apprenticeships to Discord.
+ * Stores scraped apprenticeships, exports them to Google Sheets and posts new ones to Discord.
  *
  * <p>This class:
  *
  * <ul>
- *   <li>Tracks apprenticeships in a Google Spreadsheet
+ *   <li>Saves apprenticeships to an {@link ApprenticeshipStore}, which serves every read
+ *   <li>Keeps open apprenticeships in an {@link ApprenticeshipReadModel} for the web API
+ *   <li>Mirrors new apprenticeships to a Google Spreadsheet as an export
  *   <li>Detects and processes new apprenticeships
- *   <li>Posts announcements to configured Discord channels
+ *   <li>Posts announcements to all configured Discord channels in parallel through an {@link
+ *       ApprenticeshipAnnouncer}, or once per hub announcement channel when {@link
+ *       DAConfig#usesHubChannels() hubs} are configured
  *   <li>Handles rate limiting and retry logic for API calls
  * </ul>
  *
+ * <p>Each {@link ApprenticeshipSourceProvider} is polled on its own schedule by an {@link
+ * ApprenticeshipSourceScheduler}, so sources run in parallel and a slow or failing source does not
+ * hold up the others. New apprenticeships are written to the store first; rows then reach the
+ * sheet through a {@link SheetsWriteBehindQueue}, so neither scraping, Discord posting nor the web
+ * listing waits on Sheets latency or quota.
+ *
  * <p>The spreadsheet structure includes columns for: ID, Title, Company, Location, Categories,
  * Salary, Opening Date, Closing Date, URL, Source
  *
  * @see DAConfig
  * @see ApprenticeshipScraper
+ * @see ApprenticeshipSourceScheduler
  */
 @Slf4j
-public class ApprenticeshipSpreadsheetManager {
+public class ApprenticeshipSpreadsheetManager implements Closeable {
     private static final String LOG_PREFIX = "ApprenticeshipSpreadsheetManager";
-    private static final int MAX_RETRIES = 3;
-    private static final int RETRY_DELAY_MS = 1000;
     private static final String HEADER_RANGE_NUMBER = "!A1:J1";
 
+    /** Field mask for spreadsheet metadata requests: sheet titles only, not every tab's grid data. */
+    private static final String SHEET_TITLES_FIELDS = "sheets.properties.title";
+
+    /** How long cached sheet titles are trusted before they are fetched again. */
+    private static final Duration SHEET_TITLES_TTL = Duration.ofHours(1);
+
+    /**
+     * How often a full crawl of each source runs. Runs in between are incremental: they skip known
+     * IDs and stop paging a route as soon as it reaches listings that are already in the sheet.
+     */
+    private static final Duration FULL_CRAWL_INTERVAL = Duration.ofHours(24);
+
+    /**
+     * How often the local ID index is rebuilt from the sheet, to pick up rows added or removed by
+     * hand. It is also rebuilt whenever the current sheet changes.
+     */
+    private static final Duration ID_INDEX_RECONCILE_INTERVAL = Duration.ofHours(24);
+
     private final Sheets sheetsService;
     private final String spreadsheetId;
     private final ScheduledExecutorService scheduler;
     private final DAConfig daConfig;
-    private final List<String> rolesToPing;
+    private final ApprenticeshipRoutingTable hubRouting;
+    private final ApprenticeshipRoutingTable pingRouting;
+    private final List<ApprenticeshipSourceProvider> sourceProviders;
+    private final Map<ApprenticeshipSource, Instant> lastFullCrawls = new ConcurrentHashMap<>();
+    private final TokenBucket sheetsQuota =
+            new TokenBucket(
+                    SheetsWriteBehindQueue.DEFAULT_WRITES_PER_SECOND,
+                    SheetsWriteBehindQueue.DEFAULT_WRITE_BURST);
+    private final SheetsWriteBehindQueue sheetsWriteQueue;
+    private final ApprenticeshipIdIndex idIndex;
+    private final ApprenticeshipStore store;
+    @Nullable private final ApprenticeshipScraper scraper;
+    private final ApprenticeshipReadModel readModel = new ApprenticeshipReadModel();
+    private final ApprenticeshipFeed feed = new ApprenticeshipFeed();
+    private final ApprenticeshipAnnouncer announcer;
+    private final ApprenticeshipAnnouncer hubAnnouncer = ApprenticeshipAnnouncer.crossposting();
+    private final Object sheetTitlesLock = new Object();
+    private Set<String> sheetTitles;
+    private Instant sheetTitlesFetchedAt;
+    private ApprenticeshipSourceScheduler sourceScheduler;
 
     /**
      * Constructs a new ApprenticeshipSpreadsheetManager with validation and initialization.
@@ -88,11 +147,272 @@ public class ApprenticeshipSpreadsheetManager {
             @NotNull ScheduledExecutorService scheduler,
             @NotNull DAConfig daConfig,
             @Nullable List<String> rolesToPing) {
+        this(
+                sheetsService,
+                spreadsheetId,
+                scheduler,
+                daConfig,
+                rolesToPing,
+                new ApprenticeshipScraper());
+    }
+
+    /**
+     * Constructs a new ApprenticeshipSpreadsheetManager that saves apprenticeships to the given store
+     * and polls the default sources.
+     *
+     * @param sheetsService the Google Sheets API service instance
+     * @param spreadsheetId the ID of the Google Spreadsheet to use
+     * @param scheduler the executor service for scheduling periodic tasks
+     * @param daConfig the Digital Apprenticeship configuration
+     * @param rolesToPing optional list of Discord role IDs to ping when posting apprenticeships
+     * @param store the primary store for apprenticeships
+     * @throws NullPointerException if any required parameter is null
+     * @throws RuntimeException if sheet initialization fails
+     */
+    public ApprenticeshipSpreadsheetManager(
+            @NotNull Sheets sheetsService,
+            @NotNull String spreadsheetId,
+            @NotNull ScheduledExecutorService scheduler,
+            @NotNull DAConfig daConfig,
+            @Nullable List<String> rolesToPing,
+            @NotNull ApprenticeshipStore store) {
+        this(
+                sheetsService,
+                spreadsheetId,
+                scheduler,
+                daConfig,
+                defaultPingRouting(rolesToPing),
+                new ApprenticeshipScraper(),
+                new ApprenticeshipIdIndex(ApprenticeshipIdIndex.DEFAULT_FILE),
+                store,
+                new ApprenticeshipAnnouncer());
+    }
+
+    /**
+     * Constructs a new ApprenticeshipSpreadsheetManager that saves apprenticeships to the given
+     * store, polls the default sources and posts to guild channels through the given sender.
+     *
+     * @param sheetsService the Google Sheets API service instance
+     * @param spreadsheetId the ID of the Google Spreadsheet to use
+     * @param scheduler the executor service for scheduling periodic tasks
+     * @param daConfig the Digital Apprenticeship configuration
+     * @param pingRouting resolves the roles to ping for each guild channel announcement
+     * @param store the primary store for apprenticeships
+     * @param sender sends each announcement message to a guild channel, for example through a
+     *     channel webhook; hub channels are always posted to and crossposted by the bot
+     * @throws NullPointerException if any required parameter is null
+     * @throws RuntimeException if sheet initialization fails
+     */
+    public ApprenticeshipSpreadsheetManager(
+            @NotNull Sheets sheetsService,
+            @NotNull String spreadsheetId,
+            @NotNull ScheduledExecutorService scheduler,
+            @NotNull DAConfig daConfig,
+            @NotNull ApprenticeshipRoutingTable pingRouting,
+            @NotNull ApprenticeshipStore store,
+            @NotNull ApprenticeshipAnnouncer.MessageSender sender) {
+        this(
+                sheetsService,
+                spreadsheetId,
+                scheduler,
+                daConfig,
+                Objects.requireNonNull(pingRouting, "pingRouting cannot be null"),
+                new ApprenticeshipScraper(),
+                new ApprenticeshipIdIndex(ApprenticeshipIdIndex.DEFAULT_FILE),
+                store,
+                new ApprenticeshipAnnouncer(sender));
+    }
+
+    /**
+     * Constructs a new ApprenticeshipSpreadsheetManager that polls the given scraper's sources with
+     * their default schedules.
+     *
+     * <p>The scraper is kept for the lifetime of the manager so that its HTTP connection pool, disk
+     * cache, rate limiter state and parsed-page memo carry over from one run to the next. It is
+     * closed by {@link #close()}.
+     *
+     * @param sheetsService the Google Sheets API service instance
+     * @param spreadsheetId the ID of the Google Spreadsheet to use
+     * @param scheduler the executor service for scheduling periodic tasks
+     * @param daConfig the Digital Apprenticeship configuration
+     * @param rolesToPing optional list of Discord role IDs to ping when posting apprenticeships
+     * @param scraper the scraper used for every run
+     * @throws NullPointerException if any required parameter is null
+     * @throws RuntimeException if sheet initialization fails
+     */
+    public ApprenticeshipSpreadsheetManager(
+            @NotNull Sheets sheetsService,
+            @NotNull String spreadsheetId,
+            @NotNull ScheduledExecutorService scheduler,
+            @NotNull DAConfig daConfig,
+            @Nullable List<String> rolesToPing,
+            @NotNull ApprenticeshipScraper scraper) {
+        this(
+                sheetsService,
+                spreadsheetId,
+                scheduler,
+                daConfig,
+                defaultPingRouting(rolesToPing),
+                Objects.requireNonNull(scraper, "scraper cannot be null"),
+                new ApprenticeshipIdIndex(ApprenticeshipIdIndex.DEFAULT_FILE),
+                new InMemoryApprenticeshipStore(),
+                new ApprenticeshipAnnouncer());
+    }
+
+    private ApprenticeshipSpreadsheetManager(
+            @NotNull Sheets sheetsService,
+            @NotNull String spreadsheetId,
+            @NotNull ScheduledExecutorService scheduler,
+            @NotNull DAConfig daConfig,
+            @NotNull ApprenticeshipRoutingTable pingRouting,
+            @NotNull ApprenticeshipScraper scraper,
+            @NotNull ApprenticeshipIdIndex idIndex,
+            @NotNull ApprenticeshipStore store,
+            @NotNull ApprenticeshipAnnouncer announcer) {
+        this(
+                sheetsService,
+                spreadsheetId,
+                scheduler,
+                daConfig,
+                pingRouting,
+                scraper.getSourceProviders(),
+                idIndex,
+                store,
+                scraper,
+                announcer);
+    }
+
+    /**
+     * Constructs a new ApprenticeshipSpreadsheetManager that polls the given sources.
+     *
+     * @param sheetsService the Google Sheets API service instance
+     * @param spreadsheetId the ID of the Google Spreadsheet to use
+     * @param scheduler the executor service for scheduling periodic tasks
+     * @param daConfig the Digital Apprenticeship configuration
+     * @param rolesToPing optional list of Discord role IDs to ping when posting apprenticeships
+     * @param sourceProviders the sources to poll, each on its own schedule
+     * @throws NullPointerException if any required parameter is null
+     * @throws RuntimeException if sheet initialization fails
+     */
+    public ApprenticeshipSpreadsheetManager(
+            @NotNull Sheets sheetsService,
+            @NotNull String spreadsheetId,
+            @NotNull ScheduledExecutorService scheduler,
+            @NotNull DAConfig daConfig,
+            @Nullable List<String> rolesToPing,
+            @NotNull List<? extends ApprenticeshipSourceProvider> sourceProviders) {
+        this(
+                sheetsService,
+                spreadsheetId,
+                scheduler,
+                daConfig,
+                rolesToPing,
+                sourceProviders,
+                new ApprenticeshipIdIndex(ApprenticeshipIdIndex.DEFAULT_FILE));
+    }
+
+    /**
+     * Constructs a new ApprenticeshipSpreadsheetManager that polls the given sources and
+     * deduplicates against the given ID index, keeping apprenticeships in memory only.
+     *
+     * @param sheetsService the Google Sheets API service instance
+     * @param spreadsheetId the ID of the Google Spreadsheet to use
+     * @param scheduler the executor service for scheduling periodic tasks
+     * @param daConfig the Digital Apprenticeship configuration
+     * @param rolesToPing optional list of Discord role IDs to ping when posting apprenticeships
+     * @param sourceProviders the sources to poll, each on its own schedule
+     * @param idIndex the local index of IDs already saved
+     * @throws NullPointerException if any required parameter is null
+     * @throws RuntimeException if sheet initialization fails
+     */
+    public ApprenticeshipSpreadsheetManager(
+            @NotNull Sheets sheetsService,
+            @NotNull String spreadsheetId,
+            @NotNull ScheduledExecutorService scheduler,
+            @NotNull DAConfig daConfig,
+            @Nullable List<String> rolesToPing,
+            @NotNull List<? extends ApprenticeshipSourceProvider> sourceProviders,
+            @NotNull ApprenticeshipIdIndex idIndex) {
+        this(
+                sheetsService,
+                spreadsheetId,
+                scheduler,
+                daConfig,
+                rolesToPing,
+                sourceProviders,
+                idIndex,
+                new InMemoryApprenticeshipStore());
+    }
+
+    /**
+     * Constructs a new ApprenticeshipSpreadsheetManager that polls the given sources, deduplicates
+     * against the given ID index and saves apprenticeships to the given store.
+     *
+     * <p>If the store is empty, it is backfilled from the current sheet so that apprenticeships
+     * saved before the store existed are neither lost from the web listing nor announced again.
+     *
+     * @param sheetsService the Google Sheets API service instance
+     * @param spreadsheetId the ID of the Google Spreadsheet to use
+     * @param scheduler the executor service for scheduling periodic tasks
+     * @param daConfig the Digital Apprenticeship configuration
+     * @param rolesToPing optional list of Discord role IDs to ping when posting apprenticeships
+     * @param sourceProviders the sources to poll, each on its own schedule
+     * @param idIndex the local index of IDs already saved
+     * @param store the primary store for apprenticeships
+     * @throws NullPointerException if any required parameter is null
+     * @throws RuntimeException if sheet initialization fails
+     */
+    public ApprenticeshipSpreadsheetManager(
+            @NotNull Sheets sheetsService,
+            @NotNull String spreadsheetId,
+            @NotNull ScheduledExecutorService scheduler,
+            @NotNull DAConfig daConfig,
+            @Nullable List<String> rolesToPing,
+            @NotNull List<? extends ApprenticeshipSourceProvider> sourceProviders,
+            @NotNull ApprenticeshipIdIndex idIndex,
+            @NotNull ApprenticeshipStore store) {
+        this(
+                sheetsService,
+                spreadsheetId,
+                scheduler,
+                daConfig,
+                defaultPingRouting(rolesToPing),
+                sourceProviders,
+                idIndex,
+                store,
+                null,
+                new ApprenticeshipAnnouncer());
+    }
+
+    private ApprenticeshipSpreadsheetManager(
+            @NotNull Sheets sheetsService,
+            @NotNull String spreadsheetId,
+            @NotNull ScheduledExecutorService scheduler,
+            @NotNull DAConfig daConfig,
+            @NotNull ApprenticeshipRoutingTable pingRouting,
+            @NotNull List<? extends ApprenticeshipSourceProvider> sourceProviders,
+            @NotNull ApprenticeshipIdIndex idIndex,
+            @NotNull ApprenticeshipStore store,
+            @Nullable ApprenticeshipScraper scraper,
+            @NotNull ApprenticeshipAnnouncer announcer) {
         this.sheetsService = Objects.requireNonNull(sheetsService, "sheetsService cannot be null");
         this.spreadsheetId = Objects.requireNonNull(spreadsheetId, "spreadsheetId cannot be null");
         this.scheduler = Objects.requireNonNull(scheduler, "scheduler cannot be null");
         this.daConfig = Objects.requireNonNull(daConfig, "daConfig cannot be null");
-        this.rolesToPing = rolesToPing;
+        this.hubRouting = ApprenticeshipRoutingTable.forHubs(daConfig.hubChannels());
+        this.pingRouting = pingRouting;
+        this.sourceProviders =
+                List.copyOf(Objects.requireNonNull(sourceProviders, "sourceProviders cannot be null"));
+        this.idIndex = Objects.requireNonNull(idIndex, "idIndex cannot be null");
+        this.store = Objects.requireNonNull(store, "store cannot be null");
+        this.scraper = scraper;
+        this.announcer = announcer;
+        this.sheetsWriteQueue =
+                new SheetsWriteBehindQueue(
+                        this::appendRows,
+                        sheetsQuota,
+                        SheetsWriteBehindQueue.DEFAULT_MAX_BATCH_ROWS,
+                        SheetsWriteBehindQueue.DEFAULT_FLUSH_INTERVAL);
 
         logger.info("{}: Initializing with spreadsheet ID: {}", LOG_PREFIX, spreadsheetId);
         try {
@@ -101,6 +421,8 @@ public class ApprenticeshipSpreadsheetManager {
             logger.error("{}: Failed to initialize: {}", LOG_PREFIX, e.getMessage());
             throw new RuntimeException("Failed to initialize spreadsheet", e);
         }
+        backfillStoreIfEmpty();
+        refreshReadModel();
     }
 
     /**
@@ -128,14 +450,7 @@ public class ApprenticeshipSpreadsheetManager {
         logger.debug("{}: Starting sheet initialization", LOG_PREFIX);
         try {
             String currentSheetName = getCurrentSheetName();
-            Spreadsheet spreadsheet = sheetsService.spreadsheets().get(spreadsheetId).execute();
-            boolean hasJobsSheet =
-                    spreadsheet.getSheets().stream()
-                            .anyMatch(s -> s.getProperties().getTitle().equals(currentSheetName));
-
-            if (!hasJobsSheet) {
-                createApprenticeshipsSheet(currentSheetName);
-            }
+            ensureApprenticeshipsSheetExists(currentSheetName);
 
             ensureHeaders(currentSheetName);
         } catch (Exception e) {
@@ -154,12 +469,72 @@ public class ApprenticeshipSpreadsheetManager {
                                                         new AddSheetRequest()
                                                                 .setProperties(new SheetProperties().setTitle(sheetName)))));
 
+        acquireSheetsQuota();
         sheetsService.spreadsheets().batchUpdate(spreadsheetId, request).execute();
+        synchronized (sheetTitlesLock) {
+            if (sheetTitles != null) {
+                sheetTitles.add(sheetName);
+            }
+        }
         logger.info("{}: Created new sheet: {}", LOG_PREFIX, sheetName);
     }
 
+    /**
+     * Waits for a token from the Sheets quota bucket. Every Sheets request the manager makes takes
+     * one, including the write-behind queue's appends, so reads and writes share one budget.
+     *
+     * @throws InterruptedIOException if interrupted while waiting
+     */
+    private void acquireSheetsQuota() throws InterruptedIOException {
+        try {
+            sheetsQuota.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for Sheets quota");
+        }
+    }
+
+    /**
+     * Checks whether the spreadsheet has a tab with the given title, using cached metadata.
+     *
+     * @param sheetName the tab title
+     * @return true if the tab exists
+     * @throws IOException if the titles are not cached and cannot be fetched
+     */
+    private boolean hasSheet(String sheetName) throws IOException {
+        return getSheetTitles().contains(sheetName);
+    }
+
+    /**
+     * Gets the titles of every tab in the spreadsheet. Titles are fetched with a field mask, so the
+     * response carries no other metadata, and cached for {@link #SHEET_TITLES_TTL}. Tabs created by
+     * this manager are added to the cache directly.
+     */
+    private Set<String> getSheetTitles() throws IOException {
+        synchronized (sheetTitlesLock) {
+            if (sheetTitles != null
+                    && Duration.between(sheetTitlesFetchedAt, Instant.now()).compareTo(SHEET_TITLES_TTL)
+                            < 0) {
+                return sheetTitles;
+            }
+
+            acquireSheetsQuota();
+            Spreadsheet spreadsheet =
+                    sheetsService.spreadsheets().get(spreadsheetId).setFields(SHEET_TITLES_FIELDS).execute();
+            Set<String> titles = new HashSet<>();
+            if (spreadsheet.getSheets() != null) {
+                spreadsheet.getSheets().forEach(sheet -> titles.add(sheet.getProperties().getTitle()));
+            }
+
+            sheetTitles = titles;
+            sheetTitlesFetchedAt = Instant.now();
+            return titles;
+        }
+    }
+
     private void ensureHeaders(String sheetName) throws IOException {
         String headerRange = sheetName + HEADER_RANGE_NUMBER;
+        acquireSheetsQuota();
         ValueRange headerResponse =
                 sheetsService.spreadsheets().values().get(spreadsheetId, headerRange).execute();
 
@@ -168,6 +543,7 @@ public class ApprenticeshipSpreadsheetManager {
                     new ValueRange()
                             .setValues(Collections.singletonList(Arrays.asList((Object[]) Columns.HEADERS)));
 
+            acquireSheetsQuota();
             sheetsService
                     .spreadsheets()
                     .values()
@@ -179,389 +555,367 @@ public class ApprenticeshipSpreadsheetManager {
     }
 
     private <T extends Apprenticeship> List<T> filterNewApprenticeships(
-            List<T> scrapedApprenticeships) throws IOException {
-        List<String> existingIds = getExistingApprenticeshipIds();
+            List<T> scrapedApprenticeships, Set<String> existingIds) {
         return scrapedApprenticeships.stream()
                 .filter(apprenticeship -> !existingIds.contains(apprenticeship.getId()))
                 .collect(Collectors.toList());
     }
 
-    private <T extends Apprenticeship> void saveApprenticeships(
-            List<T> apprenticeships, ApprenticeshipSource source) throws IOException {
+    /**
+     * Saves apprenticeships to the store and the read model, publishes them to live subscribers,
+     * then queues them to be appended to the current sheet. The store write is synchronous; the
+     * sheet write is not, see {@link SheetsWriteBehindQueue}.
+     */
+    private void saveApprenticeships(
+            List<? extends Apprenticeship> apprenticeships, ApprenticeshipSource source) {
         if (apprenticeships == null || apprenticeships.isEmpty()) {
             return;
         }
 
-        String currentSheetName = getCurrentSheetName();
-        ensureApprenticeshipsSheetExists(currentSheetName);
-        List<List<Object>> values = convertApprenticeshipsToRows(apprenticeships, source);
-
-        if (!values.isEmpty()) {
-            String range =
-                    String.format("%s!A%d", currentSheetName, getNextAvailableRow(currentSheetName));
-            ValueRange body = new ValueRange().setValues(values);
+        List<ApprenticeshipListing> listings =
+                apprenticeships.stream()
+                        .filter(apprenticeship -> apprenticeship != null && apprenticeship.getId() != null)
+                        .map(apprenticeship -> ApprenticeshipListing.of(apprenticeship, source))
+                        .toList();
+
+        store.upsertAll(listings);
+        readModel.upsertAll(listings);
+        feed.publish(listings);
+        sheetsWriteQueue.enqueue(
+                getCurrentSheetName(), listings.stream().map(ApprenticeshipListing::toSheetRow).toList());
+    }
 
-            executeWithRetry(
-                    () ->
-                            sheetsService
-                                    .spreadsheets()
-                                    .values()
-                                    .append(spreadsheetId, range, body)
-                                    .setValueInputOption("RAW")
-                                    .setInsertDataOption("INSERT_ROWS")
-                                    .execute());
-        }
+    /**
+     * Appends one batch of rows to a sheet, creating the sheet first if needed. Called from the
+     * write-behind queue's flush thread, which handles quota and retries.
+     */
+    private void appendRows(String sheetName, List<List<Object>> rows) throws IOException {
+        ensureApprenticeshipsSheetExists(sheetName);
+
+        // The append API finds the end of the table itself, so no row lookup is needed
+        sheetsService
+                .spreadsheets()
+                .values()
+                .append(spreadsheetId, sheetName + "!A1", new ValueRange().setValues(rows))
+                .setValueInputOption("RAW")
+                .setInsertDataOption("INSERT_ROWS")
+                .execute();
     }
 
     /**
-     * Retrieves all existing apprenticeship IDs from the spreadsheet.
+     * Retrieves all existing apprenticeship IDs from the store.
      *
-     * <p>This method reads the ID column (column A) from the current month's sheet and returns a list
-     * of all apprenticeship IDs already tracked.
-     *
-     * @return list of existing apprenticeship IDs (empty list if no sheet exists)
-     * @throws IOException if an error occurs while reading from the spreadsheet
+     * @return list of existing apprenticeship IDs
+     * @throws IOException if the store cannot be read
      */
     public List<String> getExistingApprenticeshipIds() throws IOException {
         try {
-            String currentSheetName = getCurrentSheetName();
-            Spreadsheet spreadsheet = sheetsService.spreadsheets().get(spreadsheetId).execute();
-            boolean hasApprenticeshipsSheet =
-                    spreadsheet.getSheets().stream()
-                            .anyMatch(s -> s.getProperties().getTitle().equals(currentSheetName));
-
-            if (!hasApprenticeshipsSheet) {
-                return new ArrayList<>();
-            }
-
-            String idColumnRange = String.format("%s!A2:A", currentSheetName);
-            ValueRange response =
-                    sheetsService.spreadsheets().values().get(spreadsheetId, idColumnRange).execute();
-
-            List<String> ids = new ArrayList<>();
-            if (response.getValues() != null) {
-                response
-                        .getValues()
-                        .forEach(
-                                row -> {
-                                    if (!row.isEmpty()) {
-                                        String id = row.getFirst().toString().trim();
-                                        if (!id.isEmpty()) {
-                                            ids.add(id);
-                                        }
-                                    }
-                                });
-            }
-            return ids;
-        } catch (Exception e) {
+            return new ArrayList<>(store.findAllIds());
+        } catch (RuntimeException e) {
             logger.error("{}: Failed to get existing IDs: {}", LOG_PREFIX, e.getMessage());
             throw new IOException("Failed to get existing apprenticeship IDs", e);
         }
     }
 
-    private void ensureApprenticeshipsSheetExists(String sheetName) throws IOException {
-        Spreadsheet spreadsheet = sheetsService.spreadsheets().get(spreadsheetId).execute();
-        boolean hasApprenticeshipsSheet =
-                spreadsheet.getSheets().stream()
-                        .anyMatch(s -> s.getProperties().getTitle().equals(sheetName));
+    /**
+     * Copies the current sheet into the store if the store has no apprenticeships yet. This runs
+     * once when the store is first introduced (or on every start with the in-memory store), so
+     * existing rows stay in the web listing and are not announced again. Failures are logged; the
+     * sheet stays the export either way.
+     */
+    private void backfillStoreIfEmpty() {
+        try {
+            if (store.count() > 0) {
+                return;
+            }
 
-        if (!hasApprenticeshipsSheet) {
-            createApprenticeshipsSheet(sheetName);
+            List<ApprenticeshipListing> listings = readSheetListings(getCurrentSheetName());
+            if (!listings.isEmpty()) {
+                store.upsertAll(listings);
+            }
+            logger.info("{}: Backfilled store with {} apprenticeships", LOG_PREFIX, listings.size());
+        } catch (IOException | RuntimeException e) {
+            logger.error("{}: Failed to backfill store from sheet: {}", LOG_PREFIX, e.getMessage());
         }
     }
 
-    private <T extends Apprenticeship> List<List<Object>> convertApprenticeshipsToRows(
-            List<T> apprenticeships, ApprenticeshipSource source) {
-        return apprenticeships.stream()
-                .filter(apprenticeship -> apprenticeship != null && apprenticeship.getId() != null)
-                .map(
-                        apprenticeship -> {
-                            if (apprenticeship instanceof HigherinApprenticeship higherinApprenticeship) {
-                                // RateMyApprenticeship apprenticeship format
-                                return Arrays.<Object>asList(
-                                        higherinApprenticeship.getId(),
-                                        higherinApprenticeship.getTitle(),
-                                        higherinApprenticeship.getCompanyName(),
-                                        higherinApprenticeship.getLocation(),
-                                        String.join(", ", higherinApprenticeship.getCategories()),
-                                        String.join(", ", higherinApprenticeship.getUnifiedCategories()),
-                                        higherinApprenticeship.getSalary(),
-                                        higherinApprenticeship.getOpeningDate() != null
-                                                ? higherinApprenticeship.getOpeningDate().toString()
-                                                : "",
-                                        higherinApprenticeship.getClosingDate() != null
-                                                ? higherinApprenticeship.getClosingDate().toString()
-                                                : "",
-                                        higherinApprenticeship.getUrl(),
-                                        source.getCode());
-                            } else if (apprenticeship instanceof FindAnApprenticeship govApprenticeship) {
-                                // GOV.UK apprenticeship format - has categories and unified categories
-                                return Arrays.<Object>asList(
-                                        govApprenticeship.getId(),
-                                        govApprenticeship.getTitle(),
-                                        govApprenticeship.getCompanyName(),
-                                        govApprenticeship.getLocation(),
-                                        String.join(", ", govApprenticeship.getCategories()),
-                                        String.join(", ", govApprenticeship.getUnifiedCategories()),
-                                        govApprenticeship.getSalary(),
-                                        govApprenticeship.getCreatedAtDate() != null
-                                                ? govApprenticeship.getCreatedAtDate().toString()
-                                                : "",
-                                        govApprenticeship.getClosingDate() != null
-                                                ? govApprenticeship.getClosingDate().toString()
-                                                : "",
-                                        govApprenticeship.getUrl(),
-                                        source.getCode());
-                            } else {
-                                // Fallback for any other apprenticeship type
-                                return Arrays.<Object>asList(
-                                        apprenticeship.getId(),
-                                        apprenticeship.getTitle(),
-                                        apprenticeship.getCompanyName(),
-                                        apprenticeship.getLocation(),
-                                        String.join(", ", apprenticeship.getCategories()),
-                                        String.join(", ", apprenticeship.getUnifiedCategories()),
-                                        apprenticeship.getSalary(),
-                                        "",
-                                        apprenticeship.getClosingDate() != null
-                                                ? apprenticeship.getClosingDate().toString()
-                                                : "",
-                                        apprenticeship.getUrl(),
-                                        source.getCode());
-                            }
-                        })
-                .collect(Collectors.toList());
+    /**
+     * Loads the open apprenticeships from the store into the read model. Failures are logged and
+     * leave the read model as it was.
+     */
+    private void refreshReadModel() {
+        try {
+            readModel.replaceAll(store.findOpen(LocalDate.now()));
+            logger.info("{}: Loaded {} open apprenticeships for the web", LOG_PREFIX, readModel.size());
+        } catch (RuntimeException e) {
+            logger.error("{}: Failed to load read model from store: {}", LOG_PREFIX, e.getMessage());
+        }
     }
 
-    private void executeWithRetry(IOOperation operation) throws IOException {
-        IOException lastException = null;
-        for (int attempt = 0; attempt < MAX_RETRIES; attempt++) {
-            try {
-                operation.execute();
-                return;
-            } catch (IOException e) {
-                lastException = e;
-                if (attempt < MAX_RETRIES - 1) {
-                    try {
-                        Thread.sleep(RETRY_DELAY_MS);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        throw new IOException("Interrupted during retry", ie);
-                    }
-                }
+    /**
+     * Reads every row of a sheet back into listings. Rows without an ID are skipped. Every other row
+     * is kept, even with a blank or unknown source, so that its ID reaches the store and the ID index
+     * rebuilt from it; see {@link #sourceOf(String, String)}.
+     *
+     * @param sheetName the sheet to read
+     * @return the listings in sheet order (empty if the sheet does not exist)
+     * @throws IOException if the sheet cannot be read
+     */
+    private List<ApprenticeshipListing> readSheetListings(String sheetName) throws IOException {
+        if (!hasSheet(sheetName)) {
+            return new ArrayList<>();
+        }
+
+        acquireSheetsQuota();
+        ValueRange response =
+                sheetsService.spreadsheets().values().get(spreadsheetId, sheetName + "!A2:K").execute();
+
+        List<ApprenticeshipListing> listings = new ArrayList<>();
+        if (response.getValues() == null) {
+            return listings;
+        }
+
+        for (List<Object> row : response.getValues()) {
+            String id = getStringValue(row, 0);
+            if (id.isEmpty()) {
+                continue;
             }
+
+            listings.add(
+                    new ApprenticeshipListing(
+                            id,
+                            sourceOf(getStringValue(row, 10), getStringValue(row, 9)),
+                            getStringValue(row, 1),
+                            getStringValue(row, 2),
+                            getStringValue(row, 3),
+                            splitList(getStringValue(row, 4)),
+                            splitList(getStringValue(row, 5)),
+                            getStringValue(row, 6),
+                            parseDate(getStringValue(row, 7)),
+                            parseDate(getStringValue(row, 8)),
+                            getStringValue(row, 9)));
         }
-        throw lastException;
+        return listings;
     }
 
-    private int getNextAvailableRow(String sheetName) throws IOException {
-        String rangeA1 = String.format("%s!A:A", sheetName);
-        ValueRange response =
-                sheetsService.spreadsheets().values().get(spreadsheetId, rangeA1).execute();
+    /**
+     * Resolves the source of a sheet row from its Source column. Rows whose Source cell is blank or
+     * was edited by hand fall back to the source their URL points at, and otherwise to Higher In.
+     *
+     * @param code the value of the Source column
+     * @param url the value of the URL column
+     * @return the source of the row
+     */
+    private static ApprenticeshipSource sourceOf(String code, String url) {
+        ApprenticeshipSource source = ApprenticeshipSource.fromCode(code);
+        if (source != null) {
+            return source;
+        }
+        return url.startsWith(FindAnApprenticeshipPageParser.BASE_URI)
+                ? ApprenticeshipSource.GOV_UK
+                : ApprenticeshipSource.RATE_MY_APPRENTICESHIP;
+    }
 
-        return (response.getValues() == null) ? 1 : response.getValues().size() + 1;
+    private void ensureApprenticeshipsSheetExists(String sheetName) throws IOException {
+        if (!hasSheet(sheetName)) {
+            createApprenticeshipsSheet(sheetName);
+        }
     }
 
     /**
      * Schedules periodic apprenticeship processing and posting to Discord.
      *
-     * <p>This method sets up a scheduled task that:
+     * <p>Each source is polled on its own schedule (see {@link
+     * ApprenticeshipSourceProvider#pollInterval()}). Every run:
      *
      * <ul>
-     *   <li>Scrapes new apprenticeships from configured sources
-     *   <li>Compares them with existing apprenticeships in the spreadsheet
+     *   <li>Scrapes new apprenticeships from the source
+     *   <li>Compares them with existing apprenticeships in the store
+     *   <li>Saves new entries to the store and queues them for the spreadsheet
      *   <li>Posts new apprenticeships to Discord channels
-     *   <li>Updates the spreadsheet with new entries
      * </ul>
      *
-     * <p>The task runs on a fixed schedule defined by the scheduler.
+     * <p>The first call starts the schedules. Later calls trigger an immediate run of every source
+     * that is not already running, instead of adding more schedules.
      *
      * @param jda the JDA instance for posting to Discord
      * @throws NullPointerException if jda is null
      */
-    public void scheduleProcessNewApprenticeships(JDA jda) {
-        logger.info("{}: Scheduling apprenticeship processing", LOG_PREFIX);
+    public synchronized void scheduleProcessNewApprenticeships(JDA jda) {
         Objects.requireNonNull(jda, "JDA instance cannot be null");
 
-        scheduler.scheduleAtFixedRate(() -> processNewApprenticeshipsSafely(jda), 0, 1, TimeUnit.HOURS);
+        if (sourceScheduler != null) {
+            logger.info("{}: Already scheduled, running all sources now", LOG_PREFIX);
+            sourceScheduler.runAllNow();
+            return;
+        }
+
+        logger.info(
+                "{}: Scheduling apprenticeship processing for {} sources",
+                LOG_PREFIX,
+                sourceProviders.size());
+        sourceScheduler =
+                new ApprenticeshipSourceScheduler(
+                        scheduler, sourceProviders, provider -> processSource(provider, jda));
+        sourceScheduler.start();
     }
 
-    private void processNewApprenticeshipsSafely(JDA jda) {
-        // Use virtual threads if available (Java 21+), otherwise use regular thread pool
-        try {
-            Thread.ofVirtual()
-                    .start(
-                            () -> {
-                                try {
-                                    processAndSaveNewApprenticeships(jda);
-                                } catch (Exception e) {
-                                    logger.error(
-                                            "{}: Apprenticeship processing failed via virtual threads: {}",
-                                            LOG_PREFIX,
-                                            e.getMessage() + e.fillInStackTrace());
-                                }
-                            });
-        } catch (UnsupportedOperationException e) {
-            // Fallback for older Java versions
-            new Thread(
-                            () -> {
-                                try {
-                                    processAndSaveNewApprenticeships(jda);
-                                } catch (Exception ex) {
-                                    logger.error(
-                                            "{}: Apprenticeship processing failed via normal threads: {}",
-                                            LOG_PREFIX,
-                                            ex.getMessage() + ex.fillInStackTrace());
-                                }
-                            })
-                    .start();
-        }
-    }
-
-    private void processAndSaveNewApprenticeships(JDA jda) {
-        List<TextChannel> textChannels = getTextChannels(jda);
-        ApprenticeshipScraper scraper = new ApprenticeshipScraper();
-
-        // Process RMA apprenticeships first
-        processRateMyApprenticeships(scraper, textChannels);
-
-        // Then process GOV apprenticeships
-        processFindAnApprenticeships(scraper, textChannels);
-    }
-
-    private void processRateMyApprenticeships(
-            ApprenticeshipScraper scraper, List<TextChannel> textChannels) {
-        try {
-            List<HigherinApprenticeship> scrapedRmaApprenticeships =
-                    scraper.scrapeRateMyApprenticeshipJobs();
-            List<HigherinApprenticeship> newRmaApprenticeships =
-                    filterNewApprenticeships(scrapedRmaApprenticeships);
-            if (!newRmaApprenticeships.isEmpty()) {
-                saveApprenticeships(newRmaApprenticeships, ApprenticeshipSource.RATE_MY_APPRENTICESHIP);
-                sendToDiscord(newRmaApprenticeships, textChannels);
-            }
-        } catch (Exception e) {
-            logger.error("Failed to process RMA apprenticeships: {}", e.getMessage());
+    /**
+     * Runs one source: scrapes it, saves the new apprenticeships and announces them.
+     *
+     * <p>Known IDs come from the local {@link ApprenticeshipIdIndex}, so deduplication needs no
+     * round-trip unless the index is due to be reconciled with the store.
+     *
+     * @param provider the source to run
+     * @param jda the JDA instance for posting to Discord
+     * @throws IOException if the ID index cannot be built
+     */
+    private void processSource(ApprenticeshipSourceProvider provider, JDA jda) throws IOException {
+        ApprenticeshipSource source = provider.source();
+        reconcileIdIndexIfDue();
+        Set<String> knownIds = idIndex.view();
+
+        boolean fullCrawl = isFullCrawlDue(source);
+        logger.info(
+                "{}: Starting {} {} crawl with {} known IDs",
+                LOG_PREFIX,
+                fullCrawl ? "full" : "incremental",
+                source,
+                knownIds.size());
+
+        List<? extends Apprenticeship> scraped = provider.scrape(fullCrawl ? null : knownIds);
+        List<? extends Apprenticeship> newApprenticeships = filterNewApprenticeships(scraped, knownIds);
+        if (!newApprenticeships.isEmpty()) {
+            saveAndIndex(newApprenticeships, source);
+            announce(newApprenticeships, jda);
+        }
+
+        if (fullCrawl) {
+            lastFullCrawls.put(source, Instant.now());
         }
     }
 
-    private void processFindAnApprenticeships(
-            ApprenticeshipScraper scraper, List<TextChannel> textChannels) {
+    /**
+     * Rebuilds the ID index from the store if it has never been built, belongs to a different sheet
+     * (a new academic year), or has not been reconciled for {@link #ID_INDEX_RECONCILE_INTERVAL}.
+     *
+     * <p>If the store cannot be read but the index already covers the current sheet, the run carries
+     * on with the local index.
+     *
+     * @throws IOException if the index is unusable and cannot be rebuilt
+     */
+    private synchronized void reconcileIdIndexIfDue() throws IOException {
+        idIndex.load();
+
+        String currentSheetName = getCurrentSheetName();
+        boolean sameSheet = currentSheetName.equals(idIndex.scope());
+        Instant reconciledAt = idIndex.reconciledAt();
+        if (sameSheet
+                && reconciledAt != null
+                && Duration.between(reconciledAt, Instant.now()).compareTo(ID_INDEX_RECONCILE_INTERVAL)
+                        < 0) {
+            return;
+        }
+
         try {
-            List<FindAnApprenticeship> scrapedGovApprenticeships =
-                    scraper.scrapeFindAnApprenticeshipJobs();
-            List<FindAnApprenticeship> newGovApprenticeships =
-                    filterNewApprenticeships(scrapedGovApprenticeships);
-            if (!newGovApprenticeships.isEmpty()) {
-                saveApprenticeships(newGovApprenticeships, ApprenticeshipSource.GOV_UK);
-                sendToDiscord(newGovApprenticeships, textChannels);
+            // Saves hold this lock and write the store before the index, so nothing is missed
+            idIndex.replaceAll(currentSheetName, store.findAllIds());
+            logger.info(
+                    "{}: Reconciled ID index with {} IDs for {}",
+                    LOG_PREFIX,
+                    idIndex.size(),
+                    currentSheetName);
+        } catch (RuntimeException e) {
+            if (!sameSheet) {
+                throw new IOException("Failed to rebuild ID index from store", e);
             }
-        } catch (Exception e) {
-            logger.error("Failed to process GOV.UK apprenticeships: {}", e.getMessage());
+            logger.warn(
+                    "{}: Could not reconcile ID index, using local copy: {}", LOG_PREFIX, e.getMessage());
         }
     }
 
-    private <T extends Apprenticeship> void sendToDiscord(
-            @NotNull List<T> newApprenticeships, List<TextChannel> textChannels) {
-        final int BATCH_SIZE = 10;
-        final int DELAY_MS = 1000;
-
-        // Build the ping message once
-        String pingMessage = buildPingMessage();
+    /**
+     * Saves new apprenticeships and adds them to the ID index. Holds the same lock as {@link
+     * #reconcileIdIndexIfDue()}, so a reconcile never runs between the store write and the index
+     * update.
+     */
+    private synchronized void saveAndIndex(
+            List<? extends Apprenticeship> apprenticeships, ApprenticeshipSource source) {
+        saveApprenticeships(apprenticeships, source);
+        recordSavedIds(apprenticeships);
+    }
 
-        for (TextChannel textChannel : textChannels) {
-            if (textChannel == null) {
-                logger.warn("Skipping null text channel");
-                continue;
-            }
+    private void recordSavedIds(List<? extends Apprenticeship> saved) {
+        try {
+            idIndex.addAll(saved.stream().map(Apprenticeship::getId).toList());
+        } catch (IOException e) {
+            // The IDs are still indexed in memory; the next reconcile rewrites the file
+            logger.warn("{}: Failed to persist saved IDs: {}", LOG_PREFIX, e.getMessage());
+        }
+    }
 
-            for (int i = 0; i < newApprenticeships.size(); i += BATCH_SIZE) {
-                List<MessageEmbed> batchEmbeds =
-                        newApprenticeships.stream()
-                                .skip(i)
-                                .limit(BATCH_SIZE)
-                                .map(Apprenticeship::getEmbed)
-                                .collect(Collectors.toList());
-
-                // Send with ping message as content if there are people/roles to ping
-                if (pingMessage != null && !pingMessage.isEmpty()) {
-                    textChannel
-                            .sendMessage(pingMessage)
-                            .setEmbeds(batchEmbeds)
-                            .queue(
-                                    success ->
-                                            logger.debug(
-                                                    "Successfully sent batch of {} jobs to channel {} in guild {}",
-                                                    batchEmbeds.size(),
-                                                    textChannel.getId(),
-                                                    textChannel.getGuild().getId()),
-                                    error ->
-                                            logger.error(
-                                                    "Failed to send batch to channel {} in guild {}: {}",
-                                                    textChannel.getId(),
-                                                    textChannel.getGuild().getId(),
-                                                    error.getMessage()));
-                } else {
-                    // No pings configured, send embeds only
-                    textChannel
-                            .sendMessageEmbeds(batchEmbeds)
-                            .queue(
-                                    success ->
-                                            logger.debug(
-                                                    "Successfully sent batch of {} jobs to channel {} in guild {}",
-                                                    batchEmbeds.size(),
-                                                    textChannel.getId(),
-                                                    textChannel.getGuild().getId()),
-                                    error ->
-                                            logger.error(
-                                                    "Failed to send batch to channel {} in guild {}: {}",
-                                                    textChannel.getId(),
-                                                    textChannel.getGuild().getId(),
-                                                    error.getMessage()));
-                }
+    /**
+     * Checks whether this run should re-crawl every route of a source to the end instead of stopping
+     * at known listings. A full crawl picks up anything an incremental run could have missed, such as
+     * a listing re-posted with an old date.
+     */
+    private boolean isFullCrawlDue(ApprenticeshipSource source) {
+        Instant last = lastFullCrawls.get(source);
+        return last == null
+                || Duration.between(last, Instant.now()).compareTo(FULL_CRAWL_INTERVAL) >= 0;
+    }
 
-                if (i + BATCH_SIZE < newApprenticeships.size()) {
-                    try {
-                        Thread.sleep(DELAY_MS);
-                    } catch (InterruptedException e) {
-                        logger.error("Sleep interrupted while sending batches: {}", e.getMessage());
-                        Thread.currentThread().interrupt();
-                        return;
-                    }
-                }
-            }
+    /**
+     * Announces new apprenticeships. With hub channels configured, each apprenticeship is posted
+     * once to every hub routed to by its categories and crossposted from there. Otherwise the batch
+     * is posted to every configured guild channel, pinging the roles its categories route to.
+     *
+     * <p>Hub posts carry no role pings. Roles belong to one guild and would not resolve in the
+     * guilds that follow a hub.
+     */
+    private void announce(List<? extends Apprenticeship> newApprenticeships, JDA jda) {
+        if (!daConfig.usesHubChannels()) {
+            announcer.announce(
+                    newApprenticeships, getTextChannels(jda), buildPingMessage(newApprenticeships));
+            return;
+        }
 
-            // Add delay between channels to avoid rate limiting
-            if (textChannels.indexOf(textChannel) < textChannels.size() - 1) {
-                try {
-                    Thread.sleep(DELAY_MS);
-                } catch (InterruptedException e) {
-                    logger.error("Sleep interrupted between channels: {}", e.getMessage());
-                    Thread.currentThread().interrupt();
-                    return;
+        NewsChannel[] hubs = getHubChannels(jda);
+        Map<NewsChannel, List<Apprenticeship>> routes = new LinkedHashMap<>();
+        for (Apprenticeship apprenticeship : newApprenticeships) {
+            BitSet routed = hubRouting.hubs(apprenticeship);
+            for (int i = routed.nextSetBit(0); i >= 0; i = routed.nextSetBit(i + 1)) {
+                if (hubs[i] != null) {
+                    routes.computeIfAbsent(hubs[i], ignored -> new ArrayList<>()).add(apprenticeship);
                 }
             }
         }
+        hubAnnouncer.announce(routes, null);
     }
 
-    private String buildPingMessage() {
+    private String buildPingMessage(List<? extends Apprenticeship> newApprenticeships) {
         StringBuilder pings = new StringBuilder();
 
         // Add a friendly message before pings
         pings.append("📢 **Hey there!** New opportunities just dropped! ");
 
-        // Add role pings
-        if (rolesToPing != null && !rolesToPing.isEmpty()) {
-            for (String roleId : rolesToPing) {
-                if (roleId != null && !roleId.isEmpty()) {
-                    pings.append("<@&").append(roleId).append("> ");
-                }
-            }
+        // Add the roles routed to by the announced categories
+        String mentions = pingRouting.pingMessage(newApprenticeships);
+        if (mentions != null) {
+            pings.append(mentions);
         }
 
         return pings.toString().trim();
     }
 
+    /**
+     * Compiles the routing table for managers configured with a flat list of roles, which are
+     * pinged for every announcement.
+     */
+    private static ApprenticeshipRoutingTable defaultPingRouting(@Nullable List<String> rolesToPing) {
+        return ApprenticeshipRoutingTable.compile(null, null, rolesToPing, List.of());
+    }
+
     private List<TextChannel> getTextChannels(JDA jda) {
         List<TextChannel> channels = new ArrayList<>();
 
@@ -603,109 +957,101 @@ public class ApprenticeshipSpreadsheetManager {
         return channels;
     }
 
-    @FunctionalInterface
-    private interface IOOperation {
-        void execute() throws IOException;
+    /** Resolves the hub channels, indexed like {@link ApprenticeshipRoutingTable#hubChannels()}. */
+    private NewsChannel[] getHubChannels(JDA jda) {
+        List<DAConfig.HubChannelConfig> configured = hubRouting.hubChannels();
+        NewsChannel[] hubs = new NewsChannel[configured.size()];
+        boolean found = false;
+
+        for (int i = 0; i < hubs.length; i++) {
+            DAConfig.HubChannelConfig hub = configured.get(i);
+            var guild = jda.getGuildById(hub.guildId());
+            if (guild == null) {
+                logger.warn("Hub guild with ID {} not found", hub.guildId());
+                continue;
+            }
+
+            var channel = guild.getNewsChannelById(hub.channelId());
+            if (channel == null) {
+                logger.warn(
+                        "Announcement channel with ID {} not found in guild {}",
+                        hub.channelId(),
+                        hub.guildId());
+                continue;
+            }
+            hubs[i] = channel;
+            found = true;
+        }
+
+        if (!found) {
+            logger.error("No valid hub announcement channels found in configuration!");
+        }
+
+        return hubs;
     }
 
     /**
-     * Retrieves all apprenticeships from the current year's spreadsheet for web viewing
+     * Retrieves all open apprenticeships for web viewing, soonest closing first. Served from the
+     * in-memory read model.
      *
      * @return List of maps containing apprenticeship data
-     * @throws IOException if there's an error reading from the spreadsheet
+     * @throws IOException never thrown by the in-memory read model; kept for existing callers
      */
     public List<Map<String, Object>> getAllJobsForWeb() throws IOException {
-        List<Map<String, Object>> apprenticeshipsList = new ArrayList<>();
-
-        try {
-            String currentSheetName = getCurrentSheetName();
-            Spreadsheet spreadsheet = sheetsService.spreadsheets().get(spreadsheetId).execute();
-            boolean hasApprenticeshipSheet =
-                    spreadsheet.getSheets().stream()
-                            .anyMatch(s -> s.getProperties().getTitle().equals(currentSheetName));
-
-            if (!hasApprenticeshipSheet) {
-                logger.warn("No apprenticeships sheet found for current year");
-                return apprenticeshipsList;
-            }
-
-            // Fetch all data from the sheet
-            String dataRange =
-                    String.format("%s!A2:K", currentSheetName); // Skip header row, include unified categories
-            ValueRange response =
-                    sheetsService.spreadsheets().values().get(spreadsheetId, dataRange).execute();
-
-            List<List<Object>> values = response.getValues();
-            if (values == null || values.isEmpty()) {
-                logger.info("No apprenticeships found in spreadsheet");
-                return apprenticeshipsList;
-            }
-
-            // Parse each row into an apprenticeship map
-            for (List<Object> row : values) {
-                if (row.isEmpty()) continue;
-
-                Map<String, Object> apprenticeship = new HashMap<>();
-
-                // Map columns to apprenticeship fields
-                apprenticeship.put("id", getStringValue(row, 0));
-                apprenticeship.put("title", getStringValue(row, 1));
-                apprenticeship.put("companyName", getStringValue(row, 2));
-                apprenticeship.put("location", getStringValue(row, 3));
+        return readModel.listings().stream().map(ApprenticeshipListing::toWebMap).toList();
+    }
 
-                // Parse source categories
-                String categoriesStr = getStringValue(row, 4);
-                if (!categoriesStr.isEmpty()) {
-                    apprenticeship.put("categories", Arrays.asList(categoriesStr.split(",\\s*")));
-                } else {
-                    apprenticeship.put("categories", Collections.emptyList());
-                }
+    /**
+     * Gets the in-memory read model of open apprenticeships, which holds the web API response
+     * already encoded.
+     *
+     * @return the read model
+     */
+    public ApprenticeshipReadModel getReadModel() {
+        return readModel;
+    }
 
-                // Parse unified categories
-                String unifiedCategoriesStr = getStringValue(row, 5);
-                if (!unifiedCategoriesStr.isEmpty()) {
-                    apprenticeship.put(
-                            "unifiedCategories", Arrays.asList(unifiedCategoriesStr.split(",\\s*")));
-                } else {
-                    apprenticeship.put("unifiedCategories", Collections.emptyList());
-                }
+    /**
+     * Gets the live feed that newly saved apprenticeships are published to.
+     *
+     * @return the feed
+     */
+    public ApprenticeshipFeed getFeed() {
+        return feed;
+    }
 
-                apprenticeship.put("salary", getStringValue(row, 6));
-                apprenticeship.put("openingDate", getStringValue(row, 7));
-                apprenticeship.put("createdAtDate", getStringValue(row, 7)); // For GOV.UK apprenticeships
-                apprenticeship.put("closingDate", getStringValue(row, 8));
-                apprenticeship.put("url", getStringValue(row, 9));
-                apprenticeship.put("source", getStringValue(row, 10));
-
-                // Only add apprenticeships that have an ID and aren't expired
-                if (!apprenticeship.get("id").toString().isEmpty()) {
-                    String closingDateStr = apprenticeship.get("closingDate").toString();
-                    if (!closingDateStr.isEmpty()) {
-                        try {
-                            LocalDate closingDate = LocalDate.parse(closingDateStr);
-                            // Only include apprenticeships that haven't closed yet
-                            if (closingDate.isAfter(LocalDate.now()) || closingDate.isEqual(LocalDate.now())) {
-                                apprenticeshipsList.add(apprenticeship);
-                            }
-                        } catch (Exception e) {
-                            // If date parsing fails, include the apprenticeship anyway
-                            apprenticeshipsList.add(apprenticeship);
-                        }
-                    } else {
-                        // No closing date, include it
-                        apprenticeshipsList.add(apprenticeship);
-                    }
-                }
-            }
+    /**
+     * Stops polling the sources, writes every row still queued for the spreadsheet and closes the
+     * scraper this manager polls, releasing its HTTP connections and disk cache.
+     *
+     * @throws IOException if the scraper cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (sourceScheduler != null) {
+            sourceScheduler.stop();
+        }
+        sheetsWriteQueue.close();
+        if (scraper != null) {
+            scraper.close();
+        }
+        logger.info("{}: Closed", LOG_PREFIX);
+    }
 
-            logger.info("Retrieved {} active apprenticeships for web view", apprenticeshipsList.size());
+    private static List<String> splitList(String value) {
+        return value.isEmpty() ? List.of() : Arrays.asList(value.split(",\\s*"));
+    }
 
-        } catch (Exception e) {
-            logger.error("Failed to fetch apprenticeships for web: {}", e.getMessage());
-            throw new IOException("Failed to fetch apprenticeships from spreadsheet", e);
+    @Nullable
+    private static LocalDate parseDate(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
         }
-
-        return apprenticeshipsList;
     }
 
     private String getStringValue(List<Object> row, int index) {
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.manager;
+
+import com.google.api.client.http.HttpResponseException;
+import io.github.yusufsdiscordbot.mystiguardian.ratelimit.TokenBucket;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Write-behind queue in front of every row appended to the spreadsheet.
+ *
+ * <p>Callers hand rows to {@link #enqueue(String, List)} and return immediately, so scraping and
+ * Discord posting never wait on Sheets latency. A single background thread:
+ *
+ * <ul>
+ *   <li>Coalesces pending rows by sheet and ID, so a row queued twice is written once
+ *   <li>Flushes when {@code maxBatchRows} rows are pending or the oldest has waited {@code
+ *       flushInterval}, writing each sheet's rows in one request
+ *   <li>Takes a token from a Sheets quota bucket before every request
+ *   <li>Backs off exponentially with jitter on 429 and 5xx responses, pausing the shared
+ *       bucket so every Sheets writer slows down together
+ * </ul>
+ *
+ * <p>Rows from a batch that still fails after {@link #MAX_ATTEMPTS} attempts go back on the queue
+ * and are retried on the next flush, so bursts and quota exhaustion never lose rows. Only batches
+ * the API rejects outright (a 4xx other than 429) are dropped, with an error logged.
+ */
+@Slf4j
+public final class SheetsWriteBehindQueue implements Closeable {
+
+    /** Default number of pending rows that triggers a flush. */
+    public static final int DEFAULT_MAX_BATCH_ROWS = 500;
+
+    /** Default time a row may wait before it is flushed. */
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(10);
+
+    /**
+     * Default write budget. The Sheets API allows 60 write requests per minute per user, so one per
+     * second with a small burst stays inside it.
+     */
+    public static final double DEFAULT_WRITES_PER_SECOND = 1.0;
+
+    /** Default burst size of the write budget. */
+    public static final int DEFAULT_WRITE_BURST = 5;
+
+    /** Attempts made for one batch within a single flush. */
+    static final int MAX_ATTEMPTS = 6;
+
+    private static final Duration DEFAULT_BASE_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(64);
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+
+    /** Writes one batch of rows to a sheet. */
+    @FunctionalInterface
+    public interface BatchWriter {
+        /**
+         * Appends rows to the end of a sheet in a single request.
+         *
+         * @param sheetName the sheet to append to
+         * @param rows the rows to append, in order
+         * @throws IOException if the request fails
+         */
+        void write(@NotNull String sheetName, @NotNull List<List<Object>> rows) throws IOException;
+    }
+
+    private enum WriteResult {
+        WRITTEN,
+        REJECTED,
+        FAILED
+    }
+
+    private record PendingRow(String sheetName, List<Object> row) {}
+
+    private final BatchWriter writer;
+    private final TokenBucket quota;
+    private final int maxBatchRows;
+    private final long flushIntervalNanos;
+    private final Duration baseBackoff;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private LinkedHashMap<String, PendingRow> pending = new LinkedHashMap<>();
+    private long oldestPendingNanos;
+    private boolean closed;
+    private final Thread flusher;
+
+    /**
+     * Creates a queue with the default batch size, flush interval and write budget.
+     *
+     * @param writer the writer used to append each batch
+     */
+    public SheetsWriteBehindQueue(@NotNull BatchWriter writer) {
+        this(
+                writer,
+                new TokenBucket(DEFAULT_WRITES_PER_SECOND, DEFAULT_WRITE_BURST),
+                DEFAULT_MAX_BATCH_ROWS,
+                DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Creates a queue and starts its flush thread.
+     *
+     * @param writer the writer used to append each batch
+     * @param quota the Sheets write budget, shared with any other Sheets writers
+     * @param maxBatchRows the number of pending rows that triggers a flush
+     * @param flushInterval the maximum time a row waits before it is flushed
+     */
+    public SheetsWriteBehindQueue(
+            @NotNull BatchWriter writer,
+            @NotNull TokenBucket quota,
+            int maxBatchRows,
+            @NotNull Duration flushInterval) {
+        this(writer, quota, maxBatchRows, flushInterval, DEFAULT_BASE_BACKOFF);
+    }
+
+    /**
+     * Creates a queue with a custom first backoff step, used by tests to keep retries fast.
+     *
+     * @param writer the writer used to append each batch
+     * @param quota the Sheets write budget, shared with any other Sheets writers
+     * @param maxBatchRows the number of pending rows that triggers a flush
+     * @param flushInterval the maximum time a row waits before it is flushed
+     * @param baseBackoff the delay before the first retry, doubled on each further attempt
+     */
+    SheetsWriteBehindQueue(
+            BatchWriter writer,
+            TokenBucket quota,
+            int maxBatchRows,
+            Duration flushInterval,
+            Duration baseBackoff) {
+        if (maxBatchRows < 1) {
+            throw new IllegalArgumentException("maxBatchRows must be at least 1");
+        }
+        this.writer = Objects.requireNonNull(writer, "writer cannot be null");
+        this.quota = Objects.requireNonNull(quota, "quota cannot be null");
+        this.maxBatchRows = maxBatchRows;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.baseBackoff = baseBackoff;
+        this.flusher = Thread.ofVirtual().name("sheets-write-behind").start(this::runFlushLoop);
+    }
+
+    /**
+     * Queues rows to be appended to a sheet. Never blocks on the network.
+     *
+     * <p>Rows are keyed by their first column (the apprenticeship ID). Queuing a row whose ID is
+     * already pending for the same sheet replaces it in place.
+     *
+     * @param sheetName the sheet the rows belong to
+     * @param rows the rows to append
+     * @throws IllegalStateException if the queue has been closed
+     */
+    public void enqueue(@NotNull String sheetName, @NotNull List<List<Object>> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Write-behind queue is closed");
+            }
+            if (pending.isEmpty()) {
+                oldestPendingNanos = System.nanoTime();
+            }
+            for (List<Object> row : rows) {
+                pending.put(keyOf(sheetName, row), new PendingRow(sheetName, row));
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of rows waiting to be written.
+     *
+     * @return the pending row count
+     */
+    public int pendingRows() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting rows, flushes everything still pending and waits for the flush thread to
+     * finish. Rows that cannot be written before the timeout are logged and dropped.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            if (!flusher.join(CLOSE_TIMEOUT)) {
+                flusher.interrupt();
+                flusher.join(CLOSE_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runFlushLoop() {
+        while (true) {
+            List<PendingRow> batch;
+            lock.lock();
+            try {
+                while (!isFlushDue()) {
+                    if (closed && pending.isEmpty()) {
+                        return;
+                    }
+                    if (pending.isEmpty()) {
+                        changed.await();
+                    } else {
+                        changed.awaitNanos(oldestPendingNanos + flushIntervalNanos - System.nanoTime());
+                    }
+                }
+                batch = drainBatch();
+            } catch (InterruptedException e) {
+                logger.error("Write-behind queue interrupted with {} rows pending", pending.size());
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            flush(batch);
+        }
+    }
+
+    private boolean isFlushDue() {
+        return !pending.isEmpty()
+                && (closed
+                        || pending.size() >= maxBatchRows
+                        || System.nanoTime() - oldestPendingNanos >= flushIntervalNanos);
+    }
+
+    private List<PendingRow> drainBatch() {
+        List<PendingRow> batch = new ArrayList<>(Math.min(pending.size(), maxBatchRows));
+        var iterator = pending.values().iterator();
+        while (iterator.hasNext() && batch.size() < maxBatchRows) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        oldestPendingNanos = System.nanoTime();
+        return batch;
+    }
+
+    private void flush(List<PendingRow> batch) {
+        Map<String, List<List<Object>>> rowsBySheet = new LinkedHashMap<>();
+        for (PendingRow pendingRow : batch) {
+            rowsBySheet
+                    .computeIfAbsent(pendingRow.sheetName(), sheet -> new ArrayList<>())
+                    .add(pendingRow.row());
+        }
+
+        for (Map.Entry<String, List<List<Object>>> entry : rowsBySheet.entrySet()) {
+            String sheetName = entry.getKey();
+            List<List<Object>> rows = entry.getValue();
+            switch (writeWithBackoff(sheetName, rows)) {
+                case WRITTEN -> logger.debug("Flushed {} rows to {}", rows.size(), sheetName);
+                case REJECTED -> logger.error("Dropped {} rows rejected by {}", rows.size(), sheetName);
+                case FAILED -> requeue(sheetName, rows);
+            }
+        }
+    }
+
+    private WriteResult writeWithBackoff(String sheetName, List<List<Object>> rows) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            try {
+                quota.acquire();
+                writer.write(sheetName, rows);
+                return WriteResult.WRITTEN;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return WriteResult.FAILED;
+            } catch (IOException e) {
+                if (!isRetryable(e)) {
+                    logger.error("Sheets rejected a write to {}: {}", sheetName, e.getMessage());
+                    return WriteResult.REJECTED;
+                }
+                Duration delay = backoff(attempt);
+                logger.warn(
+                        "Sheets write to {} failed ({}), retrying in {} ms",
+                        sheetName,
+                        e.getMessage(),
+                        delay.toMillis());
+                quota.pause(delay);
+            }
+        }
+        return WriteResult.FAILED;
+    }
+
+    private void requeue(String sheetName, List<List<Object>> rows) {
+        lock.lock();
+        try {
+            if (closed) {
+                logger.error(
+                        "Dropped {} rows for {}: queue closed before they could be written",
+                        rows.size(),
+                        sheetName);
+                return;
+            }
+            // Put the failed rows back in front; anything queued for the same ID since then wins
+            LinkedHashMap<String, PendingRow> requeued = new LinkedHashMap<>();
+            for (List<Object> row : rows) {
+                requeued.put(keyOf(sheetName, row), new PendingRow(sheetName, row));
+            }
+            requeued.putAll(pending);
+            pending = requeued;
+            oldestPendingNanos = System.nanoTime();
+            logger.warn("Requeued {} rows for {} after repeated failures", rows.size(), sheetName);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether a failed write is worth retrying: rate limiting, server errors and failures
+     * without an HTTP response (timeouts, connection resets).
+     */
+    static boolean isRetryable(IOException e) {
+        if (e instanceof HttpResponseException response) {
+            return response.getStatusCode() == 429 || response.getStatusCode() >= 500;
+        }
+        return true;
+    }
+
+    /**
+     * Exponential backoff with jitter: a random delay between half and all of {@code baseBackoff *
+     * 2^attempt}, capped at {@link #MAX_BACKOFF}. The jitter keeps concurrent writers from retrying
+     * in lockstep.
+     */
+    Duration backoff(int attempt) {
+        long capMillis = Math.min(MAX_BACKOFF.toMillis(), baseBackoff.toMillis() << attempt);
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(capMillis / 2, capMillis + 1));
+    }
+
+    private static String keyOf(String sheetName, List<Object> row) {
+        return sheetName + '\u0000' + (row.isEmpty() ? "" : String.valueOf(row.getFirst()));
+    }
+}
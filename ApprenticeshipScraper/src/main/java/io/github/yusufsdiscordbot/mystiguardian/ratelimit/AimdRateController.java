@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.ratelimit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Adapts the rate of a {@link TokenBucket} to how the remote host is responding, using additive
+ * increase / multiplicative decrease (AIMD).
+ *
+ * <p>Every successful response nudges the rate up by a fixed step until it reaches the configured
+ * ceiling. A throttled response (HTTP 429 or 5xx) halves the rate, never going below the floor, and
+ * pauses the bucket for the server's {@code Retry-After} value when one is sent. This lets a crawl
+ * run at full speed while the host is healthy and back off quickly when it is not.
+ *
+ * @see HostRateLimiter
+ */
+@Slf4j
+public final class AimdRateController {
+
+    /** Lowest rate the controller will ever drop a host to, in requests per second. */
+    public static final double MIN_PERMITS_PER_SECOND = 0.2;
+
+    /** Factor the rate is multiplied by when the host signals it is overloaded. */
+    private static final double DECREASE_FACTOR = 0.5;
+
+    /** Fraction of the ceiling added back after each successful response. */
+    private static final double INCREASE_FRACTION = 0.1;
+
+    /** Longest {@code Retry-After} the controller will honour, so a bad header cannot stall a run. */
+    private static final Duration MAX_RETRY_AFTER = Duration.ofMinutes(2);
+
+    private final String host;
+    private final TokenBucket bucket;
+    private final double ceiling;
+    private final double floor;
+    private final double increaseStep;
+
+    /**
+     * Creates a controller for one host.
+     *
+     * @param host the host name, used for logging
+     * @param bucket the bucket whose rate is adjusted
+     * @param ceiling the maximum (and initial) rate in requests per second
+     */
+    public AimdRateController(@NotNull String host, @NotNull TokenBucket bucket, double ceiling) {
+        this.host = host;
+        this.bucket = bucket;
+        this.ceiling = ceiling;
+        this.floor = Math.min(MIN_PERMITS_PER_SECOND, ceiling);
+        this.increaseStep = ceiling * INCREASE_FRACTION;
+    }
+
+    /** Records a successful response and raises the rate by one step, up to the ceiling. */
+    public synchronized void onSuccess() {
+        double current = bucket.getPermitsPerSecond();
+        if (current < ceiling) {
+            bucket.setPermitsPerSecond(Math.min(ceiling, current + increaseStep));
+        }
+    }
+
+    /**
+     * Records a throttled response, halving the rate and honouring any {@code Retry-After}.
+     *
+     * @param retryAfter how long the server asked us to wait, or null if it did not say
+     */
+    public synchronized void onThrottle(@Nullable Duration retryAfter) {
+        double reduced = Math.max(floor, bucket.getPermitsPerSecond() * DECREASE_FACTOR);
+        bucket.setPermitsPerSecond(reduced);
+
+        if (retryAfter != null && !retryAfter.isNegative()) {
+            Duration pause = retryAfter.compareTo(MAX_RETRY_AFTER) > 0 ? MAX_RETRY_AFTER : retryAfter;
+            bucket.pause(pause);
+            logger.warn("{} throttled, rate now {} req/s, pausing for {}", host, reduced, pause);
+        } else {
+            logger.warn("{} throttled, rate now {} req/s", host, reduced);
+        }
+    }
+
+    /**
+     * Gets the bucket controlled by this instance.
+     *
+     * @return the token bucket
+     */
+    @NotNull
+    public TokenBucket getBucket() {
+        return bucket;
+    }
+
+    /**
+     * Parses an HTTP {@code Retry-After} header, which is either a number of seconds or an HTTP
+     * date.
+     *
+     * @param header the raw header value, may be null
+     * @return the delay the server asked for, or null if the header is missing or malformed
+     */
+    @Nullable
+    public static Duration parseRetryAfter(@Nullable String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+
+        String value = header.trim();
+        try {
+            return Duration.ofSeconds(Long.parseLong(value));
+        } catch (NumberFormatException ignored) {
+            // Not delta-seconds, try the HTTP-date form below
+        }
+
+        try {
+            Instant retryAt =
+                    ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            Duration delay = Duration.between(Instant.now(), retryAt);
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException e) {
+            logger.debug("Ignoring malformed Retry-After header '{}'", header);
+            return null;
+        }
+    }
+}
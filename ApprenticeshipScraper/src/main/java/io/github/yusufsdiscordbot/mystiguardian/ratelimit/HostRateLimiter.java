@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.ratelimit;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import okhttp3.HttpUrl;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Keeps one {@link TokenBucket} per remote host so that concurrent scrapers share a single request
+ * budget for each site.
+ *
+ * <p>Buckets are created lazily the first time a host is seen. All scrapers created by the same
+ * {@link io.github.yusufsdiscordbot.mystiguardian.ApprenticeshipScraper} share one instance, so
+ * parallel crawls of the same site cannot exceed the configured rate between them.
+ *
+ * <p>Each bucket is driven by an {@link AimdRateController}: callers report responses through
+ * {@link #onResponse(Response)} and the limiter slows a host down on 429/5xx, honours {@code
+ * Retry-After}, and speeds back up to the configured rate as requests succeed.
+ */
+public final class HostRateLimiter {
+    private final Map<String, AimdRateController> controllers = new ConcurrentHashMap<>();
+    private final double permitsPerSecond;
+    private final int burst;
+
+    /**
+     * Creates a limiter that gives every host the same rate and burst size.
+     *
+     * @param permitsPerSecond the sustained number of requests per second allowed per host
+     * @param burst the number of requests a host may receive back-to-back after being idle
+     */
+    public HostRateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be at least 1");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+    }
+
+    /**
+     * Blocks until a request to the host of the given URL is allowed.
+     *
+     * @param url the URL about to be requested
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public void acquire(@NotNull HttpUrl url) throws InterruptedException {
+        bucketFor(url.host()).acquire();
+    }
+
+    /**
+     * Feeds a response back into the limiter so the host's rate can adapt.
+     *
+     * @param response the response just received
+     * @return true if the host throttled the request and it should be retried later
+     */
+    public boolean onResponse(@NotNull Response response) {
+        AimdRateController controller = controllerFor(response.request().url().host());
+        if (isThrottled(response.code())) {
+            controller.onThrottle(AimdRateController.parseRetryAfter(response.header("Retry-After")));
+            return true;
+        }
+        if (response.isSuccessful()) {
+            controller.onSuccess();
+        }
+        return false;
+    }
+
+    /**
+     * Slows a host down after a failure that produced no response, such as a timeout.
+     *
+     * @param url the URL whose request failed
+     * @param backoff how long to hold back further requests to the host
+     */
+    public void onFailure(@NotNull HttpUrl url, @NotNull Duration backoff) {
+        controllerFor(url.host()).onThrottle(backoff);
+    }
+
+    /**
+     * Gets the bucket for a host, creating it if this is the first request to that host.
+     *
+     * @param host the host name (e.g., "www.higherin.com")
+     * @return the token bucket for the host
+     */
+    @NotNull
+    public TokenBucket bucketFor(@NotNull String host) {
+        return controllerFor(host).getBucket();
+    }
+
+    /**
+     * Gets the rate controller for a host, creating it if this is the first request to that host.
+     *
+     * @param host the host name
+     * @return the AIMD controller for the host
+     */
+    @NotNull
+    public AimdRateController controllerFor(@NotNull String host) {
+        return controllers.computeIfAbsent(
+                host,
+                h -> new AimdRateController(h, new TokenBucket(permitsPerSecond, burst), permitsPerSecond));
+    }
+
+    /**
+     * Checks whether a status code means the host is overloaded or rate limiting us.
+     *
+     * @param code the HTTP status code
+     * @return true for 429 and any 5xx status
+     */
+    public static boolean isThrottled(int code) {
+        return code == 429 || code >= 500;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread-safe token bucket used to keep outgoing requests within a fixed budget.
+ *
+ * <p>The bucket refills continuously at {@code permitsPerSecond} and holds at most {@code
+ * capacity} tokens, so short bursts are allowed while the long-run rate stays bounded. Callers that
+ * find the bucket empty reserve a future token and sleep outside the lock, which keeps waiting
+ * threads (including virtual threads) from blocking each other.
+ *
+ * <p>The refill rate can be changed at runtime and the bucket can be paused, which is how {@link
+ * AimdRateController} slows a host down when it starts rejecting requests.
+ *
+ * @see HostRateLimiter
+ */
+public final class TokenBucket {
+    private final double capacity;
+    private double permitsPerSecond;
+    private double availableTokens;
+    private long lastRefillNanos;
+
+    /**
+     * Creates a new token bucket that starts full.
+     *
+     * @param permitsPerSecond the sustained refill rate, must be positive
+     * @param capacity the maximum number of tokens that can be accumulated, must be at least 1
+     * @throws IllegalArgumentException if either argument is out of range
+     */
+    public TokenBucket(double permitsPerSecond, int capacity) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.capacity = capacity;
+        this.availableTokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Takes one token, sleeping until it becomes available if the bucket is empty.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Takes one token only if it is available right now.
+     *
+     * @return true if a token was taken, false if the caller would have to wait
+     */
+    public synchronized boolean tryAcquire() {
+        refill(System.nanoTime());
+        if (availableTokens >= 1) {
+            availableTokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the current sustained refill rate.
+     *
+     * @return the number of tokens added per second
+     */
+    public synchronized double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Changes the sustained refill rate. Tokens accumulated so far are kept.
+     *
+     * @param permitsPerSecond the new refill rate, must be positive
+     * @throws IllegalArgumentException if the rate is not positive
+     */
+    public synchronized void setPermitsPerSecond(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        refill(System.nanoTime());
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    /**
+     * Empties the bucket and holds back every caller for at least the given time. Pauses do not
+     * stack: a shorter pause than the one already pending has no effect.
+     *
+     * @param pause how long no token should be handed out
+     */
+    public synchronized void pause(Duration pause) {
+        refill(System.nanoTime());
+        double pauseDebt = pause.toNanos() * permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        availableTokens = Math.min(availableTokens, -pauseDebt);
+    }
+
+    /**
+     * Reserves one token and returns how long the caller must wait before using it. The balance may
+     * go negative, which queues callers fairly behind each other.
+     */
+    private synchronized long reserve() {
+        refill(System.nanoTime());
+        availableTokens -= 1;
+        if (availableTokens >= 0) {
+            return 0;
+        }
+        return (long) (-availableTokens / permitsPerSecond * TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private void refill(long nowNanos) {
+        long elapsedNanos = nowNanos - lastRefillNanos;
+        if (elapsedNanos > 0) {
+            double refilled = elapsedNanos * permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            availableTokens = Math.min(capacity, availableTokens + refilled);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
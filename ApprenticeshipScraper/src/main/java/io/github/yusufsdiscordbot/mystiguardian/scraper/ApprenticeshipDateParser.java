@@ -0,0 +1,344 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.scraper;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Parses the dates found on scraped apprenticeship listings.
+ *
+ * <p>Both sources use a small, fixed vocabulary of date formats, so instead of layering {@link
+ * java.time.format.DateTimeFormatter} patterns and catching their exceptions this parser walks the
+ * text once, picking out the day, month name and year tokens directly. It understands:
+ *
+ * <ul>
+ *   <li>ISO dates ({@code 2025-01-31})
+ *   <li>Day, month and optional year, with an optional weekday or ordinal suffix ({@code 1st March
+ *       2025}, {@code Friday 17 October 2025}, {@code 5 January})
+ *   <li>GOV.UK phrases wrapping such a date ({@code Closes in 3 days (Monday 12 May 2025)}, {@code
+ *       Closes in 30 days at 11:59pm (Friday 17 October 2025)}, {@code Posted 21 October})
+ *   <li>{@code Closes today} and {@code Posted today}
+ * </ul>
+ *
+ * <p>Thousands of listings share a few dozen distinct date strings, so results are memoized per
+ * input. Answers for relative and year-less dates depend on the current day, so the memo is
+ * cleared at midnight. The memo is bounded; once full, new strings are parsed but not stored.
+ *
+ * <p>Instances are thread-safe.
+ *
+ * @see HigherinPageParser
+ * @see FindAnApprenticeshipPageParser
+ */
+@Slf4j
+public final class ApprenticeshipDateParser {
+
+    /** Default maximum number of distinct strings memoized per format. */
+    public static final int DEFAULT_MAX_MEMO_SIZE = 1024;
+
+    private static final ApprenticeshipDateParser SHARED =
+            new ApprenticeshipDateParser(Clock.systemDefaultZone(), DEFAULT_MAX_MEMO_SIZE);
+
+    private static final String[] MONTH_NAMES = {
+        "january", "february", "march", "april", "may", "june",
+        "july", "august", "september", "october", "november", "december"
+    };
+
+    /** Memo value standing in for "not a date", since concurrent maps cannot hold null. */
+    private static final LocalDate UNPARSEABLE = LocalDate.MIN;
+
+    private final Clock clock;
+    private final int maxMemoSize;
+    private final Map<String, LocalDate> higherinMemo = new ConcurrentHashMap<>();
+    private final Map<String, LocalDate> govUkMemo = new ConcurrentHashMap<>();
+    private volatile long memoExpiresAtMillis = Long.MIN_VALUE;
+    private volatile LocalDate memoDay;
+
+    /**
+     * Creates a parser that resolves "today" and missing years against the given clock.
+     *
+     * @param clock the clock used for the current date and time zone
+     * @param maxMemoSize maximum number of distinct strings memoized per format, 0 to disable
+     */
+    public ApprenticeshipDateParser(@NotNull Clock clock, int maxMemoSize) {
+        if (maxMemoSize < 0) {
+            throw new IllegalArgumentException("maxMemoSize must not be negative");
+        }
+        this.clock = clock;
+        this.maxMemoSize = maxMemoSize;
+    }
+
+    /**
+     * Gets the parser shared by the scrapers, which uses the system clock.
+     *
+     * @return the shared parser
+     */
+    @NotNull
+    public static ApprenticeshipDateParser shared() {
+        return SHARED;
+    }
+
+    /**
+     * Parses a Higher In deadline.
+     *
+     * <p>Accepts ISO dates and day-month-year dates with an optional ordinal suffix (e.g., "1st
+     * January 2024"). The year is required.
+     *
+     * @param dateStr the date string to parse
+     * @return parsed LocalDate, or null if the string is not a recognised date
+     */
+    @Nullable
+    public LocalDate parseHigherinDate(@Nullable String dateStr) {
+        if (dateStr == null || dateStr.isEmpty()) {
+            return null;
+        }
+        LocalDate today = today();
+        LocalDate memoized = higherinMemo.get(dateStr);
+        if (memoized == null) {
+            memoized = parseIsoDate(dateStr);
+            if (memoized == null) {
+                memoized = parseDayMonthYear(dateStr, today, true);
+            }
+            remember(higherinMemo, dateStr, memoized);
+        }
+        return memoized == UNPARSEABLE ? null : memoized;
+    }
+
+    /**
+     * Parses a GOV.UK "Closes…" or "Posted…" line.
+     *
+     * <p>The date is taken from the last month name in the text, the nearest day number before it
+     * and the year immediately after it. Durations ("in 3 days") and times ("at 11:59pm") are
+     * skipped. If no year is given the current year is assumed, or next year if that date has
+     * already passed.
+     *
+     * @param dateStr the date string to parse
+     * @return parsed LocalDate, or null if the string is not a recognised date
+     */
+    @Nullable
+    public LocalDate parseGovUkDate(@Nullable String dateStr) {
+        if (dateStr == null || dateStr.isEmpty()) {
+            return null;
+        }
+        LocalDate today = today();
+        LocalDate memoized = govUkMemo.get(dateStr);
+        if (memoized == null) {
+            memoized = parseDayMonthYear(dateStr, today, false);
+            if (memoized == UNPARSEABLE) {
+                logger.warn("Failed to parse GOV.UK date '{}'", dateStr);
+            }
+            remember(govUkMemo, dateStr, memoized);
+        }
+        return memoized == UNPARSEABLE ? null : memoized;
+    }
+
+    /**
+     * Gets the number of strings currently memoized across both formats.
+     *
+     * @return the memo size
+     */
+    public int memoSize() {
+        return higherinMemo.size() + govUkMemo.size();
+    }
+
+    private void remember(Map<String, LocalDate> memo, String dateStr, LocalDate date) {
+        if (memo.size() < maxMemoSize) {
+            memo.put(dateStr, date);
+        }
+    }
+
+    /**
+     * Gets the current date, clearing the memo first if the day has changed since it was filled.
+     * Only the first call after midnight pays for the date computation.
+     */
+    private LocalDate today() {
+        long nowMillis = clock.millis();
+        if (nowMillis < memoExpiresAtMillis) {
+            return memoDay;
+        }
+        synchronized (this) {
+            if (nowMillis >= memoExpiresAtMillis) {
+                ZoneId zone = clock.getZone();
+                LocalDate today = LocalDate.now(clock);
+                higherinMemo.clear();
+                govUkMemo.clear();
+                memoDay = today;
+                memoExpiresAtMillis = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+            }
+            return memoDay;
+        }
+    }
+
+    /** Parses {@code yyyy-MM-dd}, or returns null if the text is not exactly in that shape. */
+    @Nullable
+    private static LocalDate parseIsoDate(String text) {
+        if (text.length() != 10 || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return null;
+        }
+        int year = parseDigits(text, 0, 4);
+        int month = parseDigits(text, 5, 7);
+        int day = parseDigits(text, 8, 10);
+        if (year < 0 || month < 0 || day < 0) {
+            return null;
+        }
+        return toDate(year, month, day);
+    }
+
+    /**
+     * Walks the text token by token looking for a day number, a month name and a year. A token is a
+     * run of letters, digits and colons, so "11:59pm" is a single token and ignored.
+     *
+     * @return the date, or {@link #UNPARSEABLE}
+     */
+    private static LocalDate parseDayMonthYear(String text, LocalDate today, boolean requireYear) {
+        int candidateDay = -1;
+        int day = -1;
+        int month = -1;
+        int year = -1;
+        boolean previousWasMonth = false;
+
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            if (!isTokenChar(text.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i;
+            int digitsEnd = start;
+            while (digitsEnd < length && isDigit(text.charAt(digitsEnd))) {
+                digitsEnd++;
+            }
+            int end = digitsEnd;
+            while (end < length && isTokenChar(text.charAt(end))) {
+                end++;
+            }
+            i = end;
+
+            int digits = digitsEnd - start;
+            boolean wasMonth = previousWasMonth;
+            previousWasMonth = false;
+
+            if (digits > 0) {
+                boolean plainNumber = digitsEnd == end;
+                if (plainNumber && digits == 4 && wasMonth) {
+                    year = parseDigits(text, start, end);
+                } else if (digits <= 2 && (plainNumber || isOrdinalSuffix(text, digitsEnd, end))) {
+                    candidateDay = parseDigits(text, start, digitsEnd);
+                }
+            } else if (isWord(text, start, end, "today")) {
+                return today;
+            } else if (isWord(text, start, end, "day") || isWord(text, start, end, "days")) {
+                // The number before was a duration ("in 3 days"), not a day of the month
+                candidateDay = -1;
+            } else {
+                int monthIndex = monthOf(text, start, end);
+                if (monthIndex > 0) {
+                    // A later month name wins, so "Closes in 3 days (Monday 12 May 2025)" works
+                    month = monthIndex;
+                    day = candidateDay;
+                    year = -1;
+                    previousWasMonth = true;
+                }
+            }
+        }
+
+        if (month < 0 || day < 1 || (requireYear && year < 0)) {
+            return UNPARSEABLE;
+        }
+        if (year >= 0) {
+            LocalDate date = toDate(year, month, day);
+            return date != null ? date : UNPARSEABLE;
+        }
+
+        LocalDate date = toDate(today.getYear(), month, day);
+        if (date == null || date.isBefore(today)) {
+            date = toDate(today.getYear() + 1, month, day);
+        }
+        return date != null ? date : UNPARSEABLE;
+    }
+
+    @Nullable
+    private static LocalDate toDate(int year, int month, int day) {
+        if (month < 1 || month > 12 || day < 1) {
+            return null;
+        }
+        if (day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /** Parses the ASCII digits in {@code [start, end)}, or returns -1 if any character is not one. */
+    private static int parseDigits(String text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /** Returns the 1-based month for a full or three-letter month name, or -1. */
+    private static int monthOf(String text, int start, int end) {
+        int tokenLength = end - start;
+        if (tokenLength < 3) {
+            return -1;
+        }
+        for (int m = 0; m < MONTH_NAMES.length; m++) {
+            String name = MONTH_NAMES[m];
+            if ((tokenLength == name.length() || tokenLength == 3)
+                    && text.regionMatches(true, start, name, 0, tokenLength)) {
+                return m + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isOrdinalSuffix(String text, int start, int end) {
+        return end - start == 2
+                && (text.regionMatches(true, start, "st", 0, 2)
+                        || text.regionMatches(true, start, "nd", 0, 2)
+                        || text.regionMatches(true, start, "rd", 0, 2)
+                        || text.regionMatches(true, start, "th", 0, 2));
+    }
+
+    private static boolean isWord(String text, int start, int end, String word) {
+        return end - start == word.length() && text.regionMatches(true, start, word, 0, word.length());
+    }
+
+    private static boolean isTokenChar(char c) {
+        return Character.isLetterOrDigit(c) || c == ':';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
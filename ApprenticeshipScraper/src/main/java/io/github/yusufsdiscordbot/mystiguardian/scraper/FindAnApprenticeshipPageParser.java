@@ -0,0 +1,214 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.scraper;
+
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.FindAnApprenticeship;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+
+/**
+ * Streaming parser for GOV.UK Find an Apprenticeship search result pages.
+ *
+ * <p>Rather than building a DOM for the whole page, this parser feeds the HTML through jsoup's
+ * {@link StreamParser} and:
+ *
+ * <ul>
+ *   <li>Emits one {@link FindAnApprenticeship} as soon as each {@code
+ *       li.das-search-results__list-item} element has been closed
+ *   <li>Removes every listing from the tree once it has been handled, so memory stays flat no
+ *       matter how many listings a page holds
+ *   <li>Reads each listing's fields in a single pass over its {@code <p>} elements instead of
+ *       running one {@code :contains()} selector per field
+ * </ul>
+ *
+ * <p>Instances are stateless and thread-safe.
+ *
+ * @see FindAnApprenticeshipScraper
+ */
+@Slf4j
+public final class FindAnApprenticeshipPageParser {
+
+    /** CSS selector matching one search result listing. */
+    public static final String LISTING_SELECTOR = "li.das-search-results__list-item";
+
+    /** Base URI of the service, used to resolve listing links. */
+    public static final String BASE_URI = "https://www.findapprenticeship.service.gov.uk";
+
+    private static final ApprenticeshipDateParser DATE_PARSER = ApprenticeshipDateParser.shared();
+
+    /**
+     * Parses every listing on a search page.
+     *
+     * @param html the page HTML
+     * @return the apprenticeships found on the page
+     * @throws IOException if the page cannot be read
+     */
+    public List<FindAnApprenticeship> parse(@NotNull String html) throws IOException {
+        List<FindAnApprenticeship> apprenticeships = new ArrayList<>();
+        parse(new StringReader(html), id -> true, apprenticeships::add);
+        return apprenticeships;
+    }
+
+    /**
+     * Streams a search page, building apprenticeships only for IDs accepted by {@code wanted}.
+     *
+     * <p>Rejected listings are dropped after reading their link, without looking at the rest of
+     * the listing. Listings that fail to parse are logged and skipped.
+     *
+     * @param page the page HTML
+     * @param wanted decides from the ID alone whether a listing should be built
+     * @param sink receives each apprenticeship that was built
+     * @return the number of listings accepted by {@code wanted}
+     * @throws IOException if the page cannot be read
+     */
+    public int parse(
+            @NotNull Reader page,
+            @NotNull Predicate<String> wanted,
+            @NotNull Consumer<FindAnApprenticeship> sink)
+            throws IOException {
+        int accepted = 0;
+
+        try (StreamParser streamer = new StreamParser(Parser.htmlParser())) {
+            streamer.parse(page, BASE_URI);
+
+            Element listing;
+            while ((listing = streamer.selectNext(LISTING_SELECTOR)) != null) {
+                try {
+                    String id = extractId(listing);
+                    if (id != null && !wanted.test(id)) {
+                        continue;
+                    }
+                    accepted++;
+
+                    FindAnApprenticeship apprenticeship = parseListing(listing);
+                    if (apprenticeship.getId() != null) {
+                        sink.accept(apprenticeship);
+                    }
+                } catch (Exception e) {
+                    logger.error("Failed to parse apprenticeship listing: {}", e.getMessage());
+                } finally {
+                    listing.remove();
+                }
+            }
+        }
+
+        return accepted;
+    }
+
+    /**
+     * Extracts only the listing ID from a listing element, without parsing the rest of it.
+     *
+     * @param listing the JSoup element containing the apprenticeship listing
+     * @return the listing ID, or null if the listing has no link
+     */
+    @Nullable
+    public static String extractId(@NotNull Element listing) {
+        Element linkElement = listing.selectFirst("a.das-search-results__link");
+        if (linkElement == null) {
+            return null;
+        }
+        String href = linkElement.attr("href");
+        return href.substring(href.lastIndexOf("/") + 1);
+    }
+
+    /**
+     * Parses a single apprenticeship listing element.
+     *
+     * <p>Extracts:
+     *
+     * <ul>
+     *   <li>Apprenticeship ID from the URL
+     *   <li>Title/name of the apprenticeship
+     *   <li>Company name and location from the first two {@code p.govuk-body} paragraphs
+     *   <li>Salary, closing date and posted date from the first paragraph mentioning "Wage",
+     *       "Closes" and "Posted" (case-insensitive, like jsoup's {@code :contains})
+     * </ul>
+     *
+     * @param listing the JSoup element containing the apprenticeship listing
+     * @return a populated FindAnApprenticeship object
+     */
+    @NotNull
+    public static FindAnApprenticeship parseListing(@NotNull Element listing) {
+        FindAnApprenticeship apprenticeship = new FindAnApprenticeship();
+
+        Element linkElement = listing.selectFirst("a.das-search-results__link");
+        if (linkElement != null) {
+            String href = linkElement.attr("href");
+            String id = href.substring(href.lastIndexOf("/") + 1);
+            apprenticeship.setId(id);
+            apprenticeship.setName(linkElement.text().trim());
+            apprenticeship.setUrl(BASE_URI + href);
+        }
+
+        int bodyParagraphs = 0;
+        String salaryText = null;
+        String closingText = null;
+        String postedText = null;
+
+        for (Element paragraph : listing.getElementsByTag("p")) {
+            String text = paragraph.text();
+
+            if (paragraph.hasClass("govuk-body")) {
+                if (bodyParagraphs == 0) {
+                    apprenticeship.setCompanyName(text.trim());
+                } else if (bodyParagraphs == 1) {
+                    apprenticeship.setLocation(text.trim());
+                }
+                bodyParagraphs++;
+            }
+
+            String lower = text.toLowerCase(Locale.ROOT);
+            if (salaryText == null && lower.contains("wage")) {
+                salaryText = text;
+            }
+            if (closingText == null && lower.contains("closes")) {
+                closingText = text;
+            }
+            if (postedText == null && lower.contains("posted")) {
+                postedText = text;
+            }
+        }
+
+        if (salaryText != null) {
+            apprenticeship.setSalary(salaryText.replace("Wage", "").trim());
+        }
+
+        if (closingText != null) {
+            apprenticeship.setClosingDate(DATE_PARSER.parseGovUkDate(closingText));
+        }
+
+        if (postedText != null) {
+            apprenticeship.setCreatedAtDate(DATE_PARSER.parseGovUkDate(postedText));
+        }
+
+        return apprenticeship;
+    }
+}
@@ -21,18 +21,26 @@ package io.github.yusufsdiscordbot.mystiguardian.scraper;
 import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.ApprenticeshipSource;
 import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.FindAnApprenticeship;
 import io.github.yusufsdiscordbot.mystiguardian.categories.GovUkRoutes;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import io.github.yusufsdiscordbot.mystiguardian.config.ScraperConfig;
+import io.github.yusufsdiscordbot.mystiguardian.ratelimit.HostRateLimiter;
+import io.github.yusufsdiscordbot.mystiguardian.scraper.http.ParsedPageCache;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
-import org.jetbrains.annotations.NotNull;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Scraper for GOV.UK's Find an Apprenticeship service.
@@ -42,9 +50,13 @@ import org.jsoup.select.Elements;
  * <ul>
  *   <li>Iterating through 15 predefined route categories (sectors)
  *   <li>Paginating through search results for each category
- *   <li>Parsing HTML using JSoup to extract apprenticeship details
+ *   <li>Streaming each results page through {@link FindAnApprenticeshipPageParser}
  *   <li>Handling date formats with flexible parsing (with/without year)
- *   <li>Implementing rate limiting to respect the government service
+ *   <li>Crawling routes in parallel and prefetching the next page while the current one parses
+ *   <li>Adapting the request rate to 429/5xx responses and {@code Retry-After} (AIMD backoff)
+ *   <li>Skipping the parse of pages the HTTP cache reports as unchanged (304)
+ *   <li>Optionally crawling incrementally, newest first, stopping a route once a page contains only
+ *       listings that are already known
  * </ul>
  *
  * <p>Route categories include:
@@ -59,15 +71,23 @@ import org.jsoup.select.Elements;
  *
  * <p>The scraper focuses on Level 6+ (degree) apprenticeships and searches across all UK locations.
  *
- * <p>This is a record class that requires an {@link OkHttpClient} for HTTP requests.
+ * <p>This is a record class that requires an {@link OkHttpClient} for HTTP requests and a {@link
+ * HostRateLimiter} shared with the other scrapers.
  *
  * @param client the HTTP client for making requests to GOV.UK
+ * @param config the crawl configuration (parallelism and request budget)
+ * @param rateLimiter the adaptive per-host rate limiter applied before every request
+ * @param pageCache parsed pages from full crawls, reused when a page comes back 304
  * @see FindAnApprenticeship
  * @see GovUkRoutes
  * @see ApprenticeshipSource#GOV_UK
  */
 @Slf4j
-public record FindAnApprenticeshipScraper(OkHttpClient client) {
+public record FindAnApprenticeshipScraper(
+        OkHttpClient client,
+        ScraperConfig config,
+        HostRateLimiter rateLimiter,
+        ParsedPageCache<List<FindAnApprenticeship>> pageCache) {
 
     /**
      * Base URL for GOV.UK apprenticeship search. Filters for Level 6+ (degree) apprenticeships across
@@ -76,45 +96,147 @@ public record FindAnApprenticeshipScraper(OkHttpClient client) {
     public static final String BASE_URL =
             "https://www.findapprenticeship.service.gov.uk/apprenticeships?sort=DistanceAsc&searchTerm=&location=&distance=all&levelIds=6&routeIds=";
 
+    /**
+     * Search URL used for incremental crawls. Same filters as {@link #BASE_URL} but sorted by posted
+     * date (newest first), so already-known listings collect at the end of each route.
+     */
+    public static final String INCREMENTAL_BASE_URL =
+            "https://www.findapprenticeship.service.gov.uk/apprenticeships?sort=AgeAsc&searchTerm=&location=&distance=all&levelIds=6&routeIds=";
+
     /** Maximum number of consecutive errors before stopping category scraping. */
     private static final int MAX_CONSECUTIVE_ERRORS = 3;
 
+    /** Maximum number of attempts for a single page while the service is throttling us. */
+    private static final int MAX_THROTTLED_ATTEMPTS = 5;
+
+    /** Initial backoff when the service throttles without sending {@code Retry-After}. */
+    private static final Duration BASE_BACKOFF = Duration.ofMillis(500);
+
+    /** Marker present in a results page only when it contains at least one listing. */
+    private static final String LISTING_MARKER = "das-search-results__list-item";
+
+    /** Shared streaming parser for results pages; it holds no state between pages. */
+    private static final FindAnApprenticeshipPageParser PAGE_PARSER =
+            new FindAnApprenticeshipPageParser();
+
+    /**
+     * Creates a scraper with the default {@link ScraperConfig} and its own rate limiter.
+     *
+     * @param client the HTTP client for making requests to GOV.UK
+     */
+    public FindAnApprenticeshipScraper(OkHttpClient client) {
+        this(client, ScraperConfig.defaults());
+    }
+
+    /**
+     * Creates a scraper with its own rate limiter built from the given configuration.
+     *
+     * @param client the HTTP client for making requests to GOV.UK
+     * @param config the crawl configuration
+     */
+    public FindAnApprenticeshipScraper(OkHttpClient client, ScraperConfig config) {
+        this(client, config, new HostRateLimiter(config.requestsPerSecond(), config.burst()));
+    }
+
+    /**
+     * Creates a scraper with an empty parsed-page memo.
+     *
+     * @param client the HTTP client for making requests to GOV.UK
+     * @param config the crawl configuration
+     * @param rateLimiter the adaptive per-host rate limiter applied before every request
+     */
+    public FindAnApprenticeshipScraper(
+            OkHttpClient client, ScraperConfig config, HostRateLimiter rateLimiter) {
+        this(client, config, rateLimiter, new ParsedPageCache<>());
+    }
+
     /**
      * Scrapes all Find an Apprenticeship listings across all route categories.
      *
      * <p>This method:
      *
      * <ul>
-     *   <li>Iterates through all 15 route categories
-     *   <li>Deduplicates apprenticeships by ID
-     *   <li>Implements rate limiting (2 seconds between categories)
-     *   <li>Handles errors gracefully without stopping entire scrape
+     *   <li>Crawls every route on its own virtual thread
+     *   <li>Caps the number of requests in flight at {@link ScraperConfig#parallelism()}
+     *   <li>Deduplicates apprenticeships by ID in a concurrent map
+     *   <li>Handles errors per route without stopping the entire scrape
      * </ul>
      *
      * @return List of unique Find an Apprenticeship jobs from all categories
      */
     public List<FindAnApprenticeship> scrapeApprenticeships() {
-        Map<String, FindAnApprenticeship> uniqueApprenticeships = new HashMap<>();
-        Map<String, Integer> routes = GovUkRoutes.getAllRoutes();
+        return scrapeApprenticeships(null);
+    }
 
-        logger.info("Starting Find an Apprenticeship scraping from {} categories", routes.size());
+    /**
+     * Scrapes Find an Apprenticeship listings, optionally in incremental mode.
+     *
+     * <p>When {@code knownIds} is given, routes are crawled newest first and paging stops at the
+     * first page whose listings are all already known. Only listings not in {@code knownIds} are
+     * returned. Pass null to crawl every route to the end.
+     *
+     * @param knownIds IDs that have already been persisted, or null for a full crawl. The set is read
+     *     from several threads and must not be modified while the crawl runs.
+     * @return List of unique Find an Apprenticeship jobs (only new ones in incremental mode)
+     */
+    public List<FindAnApprenticeship> scrapeApprenticeships(@Nullable Set<String> knownIds) {
+        return scrapeApprenticeships(knownIds, config.parallelism());
+    }
 
-        for (Map.Entry<String, Integer> route : routes.entrySet()) {
-            String categoryName = route.getKey();
-            int routeId = route.getValue();
+    /**
+     * Scrapes Find an Apprenticeship listings with the given concurrency budget instead of {@link
+     * ScraperConfig#parallelism()}.
+     *
+     * @param knownIds IDs that have already been persisted, or null for a full crawl
+     * @param parallelism maximum number of requests in flight during this run
+     * @return List of unique Find an Apprenticeship jobs (only new ones in incremental mode)
+     * @throws IllegalArgumentException if {@code parallelism} is less than 1
+     */
+    public List<FindAnApprenticeship> scrapeApprenticeships(
+            @Nullable Set<String> knownIds, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        Map<String, FindAnApprenticeship> uniqueApprenticeships = new ConcurrentHashMap<>();
+        Map<String, Integer> routes = GovUkRoutes.getAllRoutes();
+        Semaphore inFlight = new Semaphore(parallelism);
 
-            try {
-                scrapeCategory(categoryName, routeId, uniqueApprenticeships);
-            } catch (Exception e) {
-                logger.error("Failed to scrape category {}: {}", categoryName, e.getMessage());
+        logger.info(
+                "Starting {} Find an Apprenticeship scraping from {} categories (parallelism={})",
+                knownIds == null ? "full" : "incremental",
+                routes.size(),
+                parallelism);
+
+        long startNanos = System.nanoTime();
+
+        // Resources close in reverse order: every route task finishes before the page fetches they
+        // started are shut down
+        try (ExecutorService pageFetches = Executors.newVirtualThreadPerTaskExecutor();
+                ExecutorService routeTasks = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Map.Entry<String, Integer> route : routes.entrySet()) {
+                String categoryName = route.getKey();
+                int routeId = route.getValue();
+
+                routeTasks.submit(
+                        () -> {
+                            try {
+                                scrapeCategory(
+                                        categoryName,
+                                        routeId,
+                                        knownIds,
+                                        pageFetches,
+                                        inFlight,
+                                        uniqueApprenticeships);
+                            } catch (Exception e) {
+                                logger.error("Failed to scrape category {}: {}", categoryName, e.getMessage());
+                            }
+                        });
             }
-
-            // Rate limiting between categories
-            rateLimitDelay(2000);
         }
 
         logger.info(
-                "Completed Find an Apprenticeship scraping. Total unique apprenticeships: {}",
+                "Completed Find an Apprenticeship scraping in {} ms. Total unique apprenticeships: {}",
+                (System.nanoTime() - startNanos) / 1_000_000,
                 uniqueApprenticeships.size());
         return new ArrayList<>(uniqueApprenticeships.values());
     }
@@ -122,91 +244,120 @@ public record FindAnApprenticeshipScraper(OkHttpClient client) {
     /**
      * Scrapes all pages of a single route category.
      *
-     * <p>Paginates through search results, parsing each apprenticeship listing. Stops after
-     * MAX_CONSECUTIVE_ERRORS or when no more pages exist. Implements rate limiting between page
-     * requests (1 second).
+     * <p>Paginates through search results, parsing each apprenticeship listing. While one page is
+     * being parsed the next one is already being fetched. Stops after MAX_CONSECUTIVE_ERRORS or when
+     * no more pages exist.
+     *
+     * <p>In incremental mode the route is paged newest first, known listings are skipped without
+     * being parsed in full, and paging stops once a page contains nothing new. Prefetching is
+     * disabled in this mode because the next page is usually not needed.
+     *
+     * <p>A page that fails is fetched again after an exponential backoff, except on a client error
+     * (4xx other than 408 and 429), which ends the route at once.
      *
      * @param categoryName the human-readable category name
      * @param routeId the GOV.UK route ID for this category
+     * @param knownIds IDs that are already persisted, or null for a full crawl
+     * @param executor the executor used to fetch pages, open until every route has finished
+     * @param inFlight semaphore bounding the number of concurrent requests
      * @param uniqueApprenticeships map to store deduplicated apprenticeships
      */
     private void scrapeCategory(
-            String categoryName, int routeId, Map<String, FindAnApprenticeship> uniqueApprenticeships) {
+            String categoryName,
+            int routeId,
+            @Nullable Set<String> knownIds,
+            ExecutorService executor,
+            Semaphore inFlight,
+            Map<String, FindAnApprenticeship> uniqueApprenticeships) {
 
         logger.info("Scraping category: {} (routeId={})", categoryName, routeId);
 
+        boolean incremental = knownIds != null;
+        String baseUrl = incremental ? INCREMENTAL_BASE_URL : BASE_URL;
         int pageNumber = 1;
-        boolean hasMorePages = true;
         int consecutiveErrors = 0;
+        CompletableFuture<FetchedPage> nextPage =
+                fetchPageAsync(baseUrl, routeId, pageNumber, executor, inFlight);
 
-        while (hasMorePages && consecutiveErrors < MAX_CONSECUTIVE_ERRORS) {
-            String pageUrl = String.format("%s%d&pageNumber=%d", BASE_URL, routeId, pageNumber);
-
-            Request request =
-                    new Request.Builder().url(pageUrl).header("User-Agent", "Mozilla/5.0").build();
-
-            try (Response response = client.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    consecutiveErrors++;
-                    logger.warn(
-                            "Failed to fetch page {} for category {}: {}",
-                            pageNumber,
-                            categoryName,
-                            response.code());
-                    continue;
+        while (nextPage != null && consecutiveErrors < MAX_CONSECUTIVE_ERRORS) {
+            FetchedPage page;
+            try {
+                page = nextPage.join();
+            } catch (CompletionException e) {
+                Throwable cause =
+                        e.getCause() instanceof UncheckedIOException unchecked
+                                ? unchecked.getCause()
+                                : e.getCause() != null ? e.getCause() : e;
+                logger.error(
+                        "Failed to process page {} for category {}: {}",
+                        pageNumber,
+                        categoryName,
+                        cause.getMessage());
+                if (cause instanceof ClientErrorException) {
+                    // Asking again gets the same answer
+                    break;
                 }
-
-                String html = response.body().string();
-                Document doc = Jsoup.parse(html);
-
-                Elements apprenticeshipListings = doc.select("li.das-search-results__list-item");
-
-                if (apprenticeshipListings.isEmpty()) {
-                    hasMorePages = false;
-                    continue;
+                consecutiveErrors++;
+                if (consecutiveErrors >= MAX_CONSECUTIVE_ERRORS) {
+                    break;
                 }
-
-                consecutiveErrors = 0;
-
-                for (Element listing : apprenticeshipListings) {
-                    try {
-                        FindAnApprenticeship apprenticeship = parseApprenticeship(listing);
-                        if (apprenticeship != null && apprenticeship.getId() != null) {
-                            if (!uniqueApprenticeships.containsKey(apprenticeship.getId())) {
-                                apprenticeship.setCategory(categoryName);
-                                uniqueApprenticeships.put(apprenticeship.getId(), apprenticeship);
-                            }
-                        }
-                    } catch (Exception e) {
-                        logger.error(
-                                "Failed to parse apprenticeship listing on page {} for category {}: {}",
-                                pageNumber,
-                                categoryName,
-                                e.getMessage());
-                    }
+                try {
+                    Thread.sleep(BASE_BACKOFF.multipliedBy(1L << consecutiveErrors));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
                 }
+                nextPage = fetchPageAsync(baseUrl, routeId, pageNumber, executor, inFlight);
+                continue;
+            }
 
-                pageNumber++;
+            List<FindAnApprenticeship> memoized = page.unchanged() ? pageCache.get(page.url()) : null;
+            if (memoized == null && !page.html().contains(LISTING_MARKER)) {
+                break;
+            }
+
+            consecutiveErrors = 0;
 
-                rateLimitDelay(1000);
+            // Start fetching the next page before parsing this one
+            nextPage =
+                    incremental ? null : fetchPageAsync(baseUrl, routeId, pageNumber + 1, executor, inFlight);
 
-                if (pageNumber % 10 == 0) {
-                    System.gc();
-                    logger.info(
-                            "Processed {} pages for category {}, {} total apprenticeships found",
-                            pageNumber - 1,
+            int newOnPage;
+            if (memoized != null) {
+                newOnPage = addMemoized(memoized, knownIds, uniqueApprenticeships);
+            } else {
+                try {
+                    newOnPage = parsePage(page, categoryName, knownIds, uniqueApprenticeships);
+                } catch (IOException e) {
+                    logger.error(
+                            "Failed to parse page {} for category {}: {}",
+                            pageNumber,
                             categoryName,
-                            uniqueApprenticeships.size());
+                            e.getMessage());
+                    newOnPage = 0;
                 }
+            }
 
-            } catch (Exception e) {
-                consecutiveErrors++;
-                logger.error(
-                        "Failed to process page {} for category {}: {}",
+            if (incremental) {
+                if (newOnPage == 0) {
+                    logger.debug(
+                            "Page {} of category {} has only known listings, stopping",
+                            pageNumber,
+                            categoryName);
+                    break;
+                }
+                nextPage = fetchPageAsync(baseUrl, routeId, pageNumber + 1, executor, inFlight);
+            }
+
+            if (pageNumber % 10 == 0) {
+                logger.info(
+                        "Processed {} pages for category {}, {} total apprenticeships found",
                         pageNumber,
                         categoryName,
-                        e.getMessage());
+                        uniqueApprenticeships.size());
             }
+
+            pageNumber++;
         }
 
         if (consecutiveErrors >= MAX_CONSECUTIVE_ERRORS) {
@@ -223,197 +374,174 @@ public record FindAnApprenticeshipScraper(OkHttpClient client) {
     }
 
     /**
-     * Parses a single apprenticeship listing element from the HTML page.
-     *
-     * <p>Extracts:
+     * Parses a freshly downloaded page.
      *
-     * <ul>
-     *   <li>Apprenticeship ID from the URL
-     *   <li>Title/name of the apprenticeship
-     *   <li>Company name, location, salary
-     *   <li>Posted date and closing date
-     * </ul>
+     * <p>Incremental crawls stream the page and build only listings that are not known yet. Full
+     * crawls build every listing and memoize the page so that a later 304 can skip parsing.
      *
-     * @param listing the JSoup element containing the apprenticeship listing
-     * @return a populated FindAnApprenticeship object, or null if parsing fails
+     * @param page the fetched page
+     * @param categoryName the category the page belongs to
+     * @param knownIds IDs to skip, or null for a full crawl
+     * @param uniqueApprenticeships map to store deduplicated apprenticeships
+     * @return the number of listings on the page that were not already known
+     * @throws IOException if the page cannot be parsed
      */
-    private FindAnApprenticeship parseApprenticeship(Element listing) {
-        FindAnApprenticeship apprenticeship = new FindAnApprenticeship();
-
-        Element linkElement = listing.selectFirst("a.das-search-results__link");
-        if (linkElement != null) {
-            String href = linkElement.attr("href");
-            String id = href.substring(href.lastIndexOf("/") + 1);
-            apprenticeship.setId(id);
-            apprenticeship.setName(linkElement.text().trim());
-            apprenticeship.setUrl("https://www.findapprenticeship.service.gov.uk" + href);
-        }
-
-        Elements paragraphs = listing.select("p.govuk-body");
-        if (!paragraphs.isEmpty()) {
-            apprenticeship.setCompanyName(paragraphs.first().text().trim());
-        }
-
-        if (paragraphs.size() > 1) {
-            apprenticeship.setLocation(paragraphs.get(1).text().trim());
-        }
-
-        Element salaryElement = listing.selectFirst("p:contains(Wage)");
-        if (salaryElement != null) {
-            String salary = salaryElement.text().replace("Wage", "").trim();
-            apprenticeship.setSalary(salary);
-        }
-
-        Element closingDateElement = listing.selectFirst("p:contains(Closes)");
-        if (closingDateElement != null) {
-            String closingDateStr = closingDateElement.text();
-            LocalDate closingDate = parseDate(closingDateStr);
-            apprenticeship.setClosingDate(closingDate);
+    private int parsePage(
+            FetchedPage page,
+            String categoryName,
+            @Nullable Set<String> knownIds,
+            Map<String, FindAnApprenticeship> uniqueApprenticeships)
+            throws IOException {
+        if (knownIds != null) {
+            // The memo, if any, no longer matches the page the HTTP cache now holds
+            pageCache.remove(page.url());
+            return PAGE_PARSER.parse(
+                    new StringReader(page.html()),
+                    id -> !knownIds.contains(id),
+                    apprenticeship -> {
+                        apprenticeship.setCategory(categoryName);
+                        uniqueApprenticeships.putIfAbsent(apprenticeship.getId(), apprenticeship);
+                    });
         }
 
-        Element postedDateElement = listing.selectFirst("p:contains(Posted)");
-        if (postedDateElement != null) {
-            String postedDateStr = postedDateElement.text();
-            LocalDate postedDate = parseDate(postedDateStr);
-            apprenticeship.setCreatedAtDate(postedDate);
+        List<FindAnApprenticeship> parsed = PAGE_PARSER.parse(page.html());
+        for (FindAnApprenticeship apprenticeship : parsed) {
+            apprenticeship.setCategory(categoryName);
+            uniqueApprenticeships.putIfAbsent(apprenticeship.getId(), apprenticeship);
         }
-
-        return apprenticeship;
+        pageCache.put(page.url(), parsed.stream().map(FindAnApprenticeship::new).toList());
+        return parsed.size();
     }
 
     /**
-     * Parses a date string from GOV.UK with flexible format support.
-     *
-     * <p>Handles various formats including:
-     *
-     * <ul>
-     *   <li>"Closes today" or "Posted today" - returns today's date
-     *   <li>"Friday 17 October 2025" - with day name and year
-     *   <li>"17 October 2025" - without day name
-     *   <li>"Sunday 5 January" - without year (infers current/next year)
-     *   <li>"5 January" - minimal format
-     *   <li>"Closes in 30 days at 11:59pm" - relative format (extracts date)
-     * </ul>
+     * Adds copies of the listings memoized for an unchanged page, so that later runs never share
+     * objects with the run that parsed it.
      *
-     * <p>If no year is specified and the date is in the past, assumes next year.
-     *
-     * @param dateStr the date string to parse
-     * @return parsed LocalDate, or null if parsing fails
+     * @param memoized the listings parsed when the page last changed
+     * @param knownIds IDs to skip, or null for a full crawl
+     * @param uniqueApprenticeships map to store deduplicated apprenticeships
+     * @return the number of listings on the page that were not already known
      */
-    private LocalDate parseDate(String dateStr) {
-        if (dateStr == null || dateStr.isEmpty()) {
-            return null;
-        }
-
-        // Handle "Closes today" or "Posted today" formats
-        if (dateStr.toLowerCase().contains("today")) {
-            logger.debug("Parsed 'today' as current date from: '{}'", dateStr);
-            return LocalDate.now();
-        }
-
-        try {
-            String[] parts = getParts(dateStr);
-
-            List<String> filteredParts = new ArrayList<>();
-            for (String part : parts) {
-                if (!part.isEmpty()) {
-                    filteredParts.add(part);
-                }
-            }
-            parts = filteredParts.toArray(new String[0]);
-
-            if (parts.length == 0) {
-                throw new IllegalArgumentException("No date information found in: " + dateStr);
+    private static int addMemoized(
+            List<FindAnApprenticeship> memoized,
+            @Nullable Set<String> knownIds,
+            Map<String, FindAnApprenticeship> uniqueApprenticeships) {
+        int newOnPage = 0;
+        for (FindAnApprenticeship apprenticeship : memoized) {
+            if (knownIds == null || !knownIds.contains(apprenticeship.getId())) {
+                uniqueApprenticeships.computeIfAbsent(
+                        apprenticeship.getId(), id -> new FindAnApprenticeship(apprenticeship));
+                newOnPage++;
             }
+        }
+        return newOnPage;
+    }
 
-            boolean hasYear = parts.length > 0 && parts[parts.length - 1].matches("\\d{4}");
+    /**
+     * Starts fetching one results page on the given executor.
+     *
+     * @param baseUrl the search URL to page through
+     * @param routeId the GOV.UK route ID
+     * @param pageNumber the 1-based page number
+     * @param executor the executor to run the request on
+     * @param inFlight semaphore bounding the number of concurrent requests
+     * @return a future completing with the fetched page
+     */
+    private CompletableFuture<FetchedPage> fetchPageAsync(
+            String baseUrl, int routeId, int pageNumber, ExecutorService executor, Semaphore inFlight) {
+        String pageUrl = String.format("%s%d&pageNumber=%d", baseUrl, routeId, pageNumber);
+        return CompletableFuture.supplyAsync(
+                () -> {
+                    try {
+                        return fetchPage(pageUrl, inFlight);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new CompletionException(e);
+                    }
+                },
+                executor);
+    }
 
-            String day, month;
-            int year;
+    /**
+     * Fetches a page, waiting on the adaptive rate limiter and retrying while the service throttles
+     * us. Without a {@code Retry-After} header, retries back off exponentially from BASE_BACKOFF.
+     *
+     * @param pageUrl the URL to fetch
+     * @param inFlight semaphore bounding the number of concurrent requests
+     * @return the fetched page
+     * @throws ClientErrorException if the service rejects the request with a client error
+     * @throws IOException if the request fails or is still throttled after MAX_THROTTLED_ATTEMPTS
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private FetchedPage fetchPage(String pageUrl, Semaphore inFlight)
+            throws IOException, InterruptedException {
+        Request request =
+                new Request.Builder().url(pageUrl).header("User-Agent", "Mozilla/5.0").build();
 
-            if (hasYear) {
-                year = Integer.parseInt(parts[parts.length - 1]);
-                month = parts[parts.length - 2];
+        for (int attempt = 0; attempt < MAX_THROTTLED_ATTEMPTS; attempt++) {
+            boolean throttled;
+            boolean hasRetryAfter;
 
-                if (parts.length >= 3) {
-                    day = null;
-                    for (int i = parts.length - 3; i >= 0; i--) {
-                        if (parts[i].matches("\\d{1,2}")) {
-                            day = parts[i];
-                            break;
+            inFlight.acquire();
+            try {
+                rateLimiter.acquire(request.url());
+                try (Response response = client.newCall(request).execute()) {
+                    throttled = rateLimiter.onResponse(response);
+                    hasRetryAfter = response.header("Retry-After") != null;
+
+                    if (!throttled) {
+                        if (isClientError(response.code())) {
+                            throw new ClientErrorException(response.code());
                         }
+                        if (!response.isSuccessful()) {
+                            throw new IOException("HTTP " + response.code());
+                        }
+                        return new FetchedPage(
+                                request.url(),
+                                response.body().string(),
+                                ParsedPageCache.isUnchanged(response));
                     }
-                    if (day == null) {
-                        throw new IllegalArgumentException("Could not find day number in: " + dateStr);
-                    }
-                } else {
-                    throw new IllegalArgumentException("Unexpected date format: " + dateStr);
-                }
-            } else {
-                if (parts.length >= 3) {
-                    day = parts[1];
-                    month = parts[2];
-                } else if (parts.length == 2) {
-                    day = parts[0];
-                    month = parts[1];
-                } else {
-                    throw new IllegalArgumentException("Unexpected date format: " + dateStr);
-                }
 
-                year = LocalDate.now().getYear();
+                    logger.warn("GOV.UK throttled {} with HTTP {}", pageUrl, response.code());
+                }
+            } finally {
+                inFlight.release();
             }
 
-            String fullDateStr = String.format("%s %s %d", day, month, year);
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d MMMM yyyy", Locale.UK);
-            LocalDate date = LocalDate.parse(fullDateStr, formatter);
-
-            if (!hasYear && date.isBefore(LocalDate.now())) {
-                date = date.plusYears(1);
+            if (!hasRetryAfter) {
+                Thread.sleep(BASE_BACKOFF.multipliedBy(1L << attempt));
             }
-
-            return date;
-        } catch (Exception e) {
-            logger.debug("Date string before parsing: '{}'", dateStr);
-            logger.error("Failed to parse date '{}': {}", dateStr, e.getMessage());
-            return null;
         }
+
+        throw new IOException("Still throttled after " + MAX_THROTTLED_ATTEMPTS + " attempts");
     }
 
     /**
-     * Cleans and splits a date string into component parts.
-     *
-     * <p>Removes common prefixes like "Closes in", "Posted", relative terms like "30 days", times,
-     * and parentheses. Splits the cleaned string into words.
+     * Checks whether a status code is a client error that retrying cannot fix. Request timeouts and
+     * throttling are transient and excluded.
      *
-     * @param dateStr the raw date string from GOV.UK
-     * @return array of cleaned date component strings
+     * @param code the HTTP status code
+     * @return true for 4xx codes other than 408 and 429
      */
-    private static String @NotNull [] getParts(String dateStr) {
-        String cleanDate =
-                dateStr
-                        .replace("Closes in", "")
-                        .replace("Posted", "")
-                        .replace("Closes on", "")
-                        .replaceAll("\\d+ days", "")
-                        .replaceAll("at \\d+:\\d+[ap]m", "")
-                        .replaceAll("[()]", "")
-                        .trim();
-
-        return cleanDate.split("\\s+");
+    private static boolean isClientError(int code) {
+        return code >= 400 && code < 500 && code != 408 && code != 429;
+    }
+
+    /** A client error response; the page is not fetched again. */
+    private static final class ClientErrorException extends IOException {
+        ClientErrorException(int code) {
+            super("HTTP " + code);
+        }
     }
 
     /**
-     * Helper method for rate limiting delays. Extracted to a separate method to clarify intent and
-     * avoid busy-waiting warnings.
+     * A downloaded results page.
      *
-     * @param milliseconds the delay in milliseconds
+     * @param url the page URL
+     * @param html the page body
+     * @param unchanged true if the HTTP cache reported the page as not modified
      */
-    private void rateLimitDelay(long milliseconds) {
-        try {
-            Thread.sleep(milliseconds);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.warn("Rate limit delay interrupted");
-        }
-    }
+    private record FetchedPage(HttpUrl url, String html, boolean unchanged) {}
 }
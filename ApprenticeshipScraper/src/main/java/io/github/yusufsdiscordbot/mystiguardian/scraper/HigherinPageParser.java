@@ -0,0 +1,287 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.scraper;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.HigherinApprenticeship;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Streaming parser for Higher In search result pages.
+ *
+ * <p>Higher In embeds its search results as a JSON object assigned to {@code
+ * window.__RMP_SEARCH_RESULTS_INITIAL_STATE__} inside the HTML. Instead of reading the whole page
+ * into a String and building a Jackson tree, this parser:
+ *
+ * <ul>
+ *   <li>Scans the raw byte stream for the assignment marker
+ *   <li>Hands the stream, positioned at the opening brace, straight to a {@link JsonParser}
+ *   <li>Walks the {@code data} array token by token, binding only the fields a {@link
+ *       HigherinApprenticeship} needs and skipping everything else
+ *   <li>Stops reading as soon as the {@code data} array ends
+ * </ul>
+ *
+ * <p>Field values follow {@link com.fasterxml.jackson.databind.JsonNode#asText(String)}: missing
+ * fields and JSON {@code null} give the default, scalars give their text, and objects or arrays
+ * give an empty string.
+ *
+ * <p>Instances are stateless and thread-safe.
+ *
+ * @see HigherinScraper
+ */
+@Slf4j
+public final class HigherinPageParser {
+
+    /** JavaScript assignment that precedes the embedded search results JSON. */
+    public static final String STATE_MARKER = "window.__RMP_SEARCH_RESULTS_INITIAL_STATE__ = ";
+
+    private static final byte[] MARKER_BYTES = STATE_MARKER.getBytes(StandardCharsets.US_ASCII);
+    private static final int[] MARKER_FAILURE = failureTable(MARKER_BYTES);
+
+    private static final ApprenticeshipDateParser DATE_PARSER = ApprenticeshipDateParser.shared();
+
+    private final JsonFactory jsonFactory;
+
+    /**
+     * Creates a parser that reads JSON with the given factory.
+     *
+     * @param jsonFactory the Jackson factory used to create streaming parsers
+     */
+    public HigherinPageParser(@NotNull JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * Parses every apprenticeship on a search page.
+     *
+     * @param page the raw page bytes
+     * @param category the category slug the page was fetched for
+     * @return the apprenticeships found on the page
+     * @throws IOException if the stream cannot be read or the JSON is malformed
+     * @throws IllegalStateException if the page does not contain the search results JSON
+     */
+    public List<HigherinApprenticeship> parse(@NotNull InputStream page, @NotNull String category)
+            throws IOException {
+        List<HigherinApprenticeship> apprenticeships = new ArrayList<>();
+        parse(page, category, id -> true, apprenticeships::add);
+        return apprenticeships;
+    }
+
+    /**
+     * Parses a search page, building apprenticeships only for IDs accepted by {@code wanted}.
+     *
+     * <p>Listings without an ID, and listings whose ID is rejected, are skipped without creating any
+     * objects for them.
+     *
+     * @param page the raw page bytes
+     * @param category the category slug the page was fetched for
+     * @param wanted decides from the ID alone whether a listing should be built
+     * @param sink receives each apprenticeship that was built
+     * @return the number of listings with an ID found on the page, including skipped ones
+     * @throws IOException if the stream cannot be read or the JSON is malformed
+     * @throws IllegalStateException if the page does not contain the search results JSON
+     */
+    public int parse(
+            @NotNull InputStream page,
+            @NotNull String category,
+            @NotNull Predicate<String> wanted,
+            @NotNull Consumer<HigherinApprenticeship> sink)
+            throws IOException {
+        InputStream in = page instanceof BufferedInputStream ? page : new BufferedInputStream(page);
+
+        if (!skipPastMarker(in)) {
+            throw new IllegalStateException("Could not find search results data in HTML");
+        }
+
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("Extracted data is not valid JSON");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                    return readListings(parser, category, wanted, sink);
+                }
+                parser.skipChildren();
+            }
+        }
+
+        return 0;
+    }
+
+    private int readListings(
+            JsonParser parser,
+            String category,
+            Predicate<String> wanted,
+            Consumer<HigherinApprenticeship> sink)
+            throws IOException {
+        int seen = 0;
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            Listing listing = readListing(parser);
+            if (listing.id == null || listing.id.isEmpty()) {
+                continue;
+            }
+
+            seen++;
+            if (wanted.test(listing.id)) {
+                sink.accept(listing.toApprenticeship(category));
+            }
+        }
+
+        return seen;
+    }
+
+    /** Reads one listing object, leaving the parser on its END_OBJECT token. */
+    private static Listing readListing(JsonParser parser) throws IOException {
+        Listing listing = new Listing();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            switch (field) {
+                case "id" -> listing.id = text(parser);
+                case "jobTitle" -> listing.jobTitle = text(parser);
+                case "companyName" -> listing.companyName = text(parser);
+                case "smallLogo" -> listing.smallLogo = text(parser);
+                case "jobLocationNames" -> listing.jobLocationNames = text(parser);
+                case "salary" -> listing.salary = text(parser);
+                case "url" -> listing.url = text(parser);
+                case "deadline" -> listing.deadline = text(parser);
+                default -> parser.skipChildren();
+            }
+        }
+
+        return listing;
+    }
+
+    /**
+     * Reads the current value the way {@code JsonNode.asText()} would, returning null for JSON
+     * {@code null} so callers can apply their own default.
+     */
+    @Nullable
+    private static String text(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_FLOAT -> String.valueOf(parser.getDoubleValue());
+            case START_OBJECT, START_ARRAY -> {
+                parser.skipChildren();
+                yield "";
+            }
+            default -> parser.getText();
+        };
+    }
+
+    /**
+     * Advances the stream to just after {@link #STATE_MARKER} using a Knuth-Morris-Pratt scan, so
+     * each byte is read exactly once.
+     *
+     * @return true if the marker was found, false if the stream ended first
+     */
+    private static boolean skipPastMarker(InputStream in) throws IOException {
+        int matched = 0;
+        int b;
+        while ((b = in.read()) != -1) {
+            while (matched > 0 && MARKER_BYTES[matched] != (byte) b) {
+                matched = MARKER_FAILURE[matched - 1];
+            }
+            if (MARKER_BYTES[matched] == (byte) b) {
+                matched++;
+                if (matched == MARKER_BYTES.length) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int[] failureTable(byte[] pattern) {
+        int[] failure = new int[pattern.length];
+        int k = 0;
+        for (int i = 1; i < pattern.length; i++) {
+            while (k > 0 && pattern[k] != pattern[i]) {
+                k = failure[k - 1];
+            }
+            if (pattern[k] == pattern[i]) {
+                k++;
+            }
+            failure[i] = k;
+        }
+        return failure;
+    }
+
+    /** Raw field values of one listing, before an apprenticeship object is built. */
+    private static final class Listing {
+        private String id;
+        private String jobTitle;
+        private String companyName;
+        private String smallLogo;
+        private String jobLocationNames;
+        private String salary;
+        private String url;
+        private String deadline;
+
+        private HigherinApprenticeship toApprenticeship(String category) {
+            HigherinApprenticeship apprenticeship = new HigherinApprenticeship();
+
+            apprenticeship.setId(id);
+            apprenticeship.setTitle(jobTitle);
+            apprenticeship.setCompanyName(companyName != null ? companyName : "Not Available");
+            apprenticeship.setCompanyLogo(smallLogo != null ? smallLogo : "Not Available");
+            apprenticeship.setLocation(jobLocationNames);
+            apprenticeship.setSalary(salary != null ? salary : "Not specified");
+            apprenticeship.setUrl(url);
+            apprenticeship.setCategory(category);
+
+            // Use the search category slug as the actual category instead of relevantFor field
+            // The relevantFor field contains academic year info (3rd-year, 4th-year) which is not
+            // useful for categorization
+            apprenticeship.setCategories(Collections.singletonList(category));
+
+            if (deadline != null && !deadline.isEmpty()) {
+                apprenticeship.setClosingDate(DATE_PARSER.parseHigherinDate(deadline));
+            }
+
+            return apprenticeship;
+        }
+    }
+}
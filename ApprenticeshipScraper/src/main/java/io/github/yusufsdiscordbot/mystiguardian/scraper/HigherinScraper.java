@@ -18,19 +18,25 @@
  */ 
 package io.github.yusufsdiscordbot.mystiguardian.scraper;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.ApprenticeshipSource;
 import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.HigherinApprenticeship;
 import io.github.yusufsdiscordbot.mystiguardian.categories.HigherinCategories;
+import io.github.yusufsdiscordbot.mystiguardian.config.ScraperConfig;
+import io.github.yusufsdiscordbot.mystiguardian.ratelimit.HostRateLimiter;
+import io.github.yusufsdiscordbot.mystiguardian.scraper.http.ParsedPageCache;
 import java.io.IOException;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Scraper for Higher In (formerly Rate My Apprenticeship) apprenticeships.
@@ -39,10 +45,11 @@ import okhttp3.Response;
  *
  * <ul>
  *   <li>Iterating through 80+ predefined categories across multiple sectors
- *   <li>Extracting JSON data embedded in HTML pages
- *   <li>Processing apprenticeships in batches to manage memory efficiently
+ *   <li>Streaming the JSON data embedded in HTML pages through {@link HigherinPageParser}
+ *   <li>Fetching categories concurrently on virtual threads, bounded by {@link
+ *       ScraperConfig#parallelism()}
  *   <li>Deduplicating apprenticeships that appear in multiple categories
- *   <li>Implementing rate limiting to respect the source website
+ *   <li>Sharing a per-host token bucket so the crawl stays inside the site's request budget
  * </ul>
  *
  * <p>The scraper handles multiple sectors including:
@@ -55,24 +62,63 @@ import okhttp3.Response;
  *   <li>Legal, Marketing, Healthcare, and more
  * </ul>
  *
- * <p>This is a record class that requires an {@link OkHttpClient} for HTTP requests and an {@link
- * ObjectMapper} for JSON parsing.
+ * <p>This is a record class that requires an {@link OkHttpClient} for HTTP requests, an {@link
+ * ObjectMapper} for JSON parsing and a {@link HostRateLimiter} shared with the other scrapers.
  *
  * @param client the HTTP client for making requests to Higher In
  * @param mapper the JSON mapper for parsing apprenticeship data
+ * @param config the crawl configuration (parallelism and request budget)
+ * @param rateLimiter the per-host rate limiter applied before every request
+ * @param pageCache parsed pages from full crawls, reused when a page comes back 304
  * @see HigherinApprenticeship
  * @see HigherinCategories
  * @see ApprenticeshipSource#RATE_MY_APPRENTICESHIP
  */
 @Slf4j
-public record HigherinScraper(OkHttpClient client, ObjectMapper mapper) {
+public record HigherinScraper(
+        OkHttpClient client,
+        ObjectMapper mapper,
+        ScraperConfig config,
+        HostRateLimiter rateLimiter,
+        ParsedPageCache<List<HigherinApprenticeship>> pageCache) {
 
     /** Base URL for Higher In degree apprenticeship search pages. */
     public static final String BASE_URL =
             "https://www.higherin.com/search-jobs/degree-apprenticeship/";
 
-    /** Number of categories to process in each batch for memory efficiency. */
-    private static final int BATCH_SIZE = 10;
+    /**
+     * Creates a scraper with the default {@link ScraperConfig} and its own rate limiter.
+     *
+     * @param client the HTTP client for making requests to Higher In
+     * @param mapper the JSON mapper for parsing apprenticeship data
+     */
+    public HigherinScraper(OkHttpClient client, ObjectMapper mapper) {
+        this(client, mapper, ScraperConfig.defaults());
+    }
+
+    /**
+     * Creates a scraper with its own rate limiter built from the given configuration.
+     *
+     * @param client the HTTP client for making requests to Higher In
+     * @param mapper the JSON mapper for parsing apprenticeship data
+     * @param config the crawl configuration
+     */
+    public HigherinScraper(OkHttpClient client, ObjectMapper mapper, ScraperConfig config) {
+        this(client, mapper, config, new HostRateLimiter(config.requestsPerSecond(), config.burst()));
+    }
+
+    /**
+     * Creates a scraper with an empty parsed-page memo.
+     *
+     * @param client the HTTP client for making requests to Higher In
+     * @param mapper the JSON mapper for parsing apprenticeship data
+     * @param config the crawl configuration
+     * @param rateLimiter the per-host rate limiter applied before every request
+     */
+    public HigherinScraper(
+            OkHttpClient client, ObjectMapper mapper, ScraperConfig config, HostRateLimiter rateLimiter) {
+        this(client, mapper, config, rateLimiter, new ParsedPageCache<>());
+    }
 
     /**
      * Scrapes all Higher In apprenticeships across all configured categories.
@@ -80,70 +126,139 @@ public record HigherinScraper(OkHttpClient client, ObjectMapper mapper) {
      * <p>This method:
      *
      * <ul>
-     *   <li>Processes categories in batches to manage memory
-     *   <li>Deduplicates apprenticeships by ID
-     *   <li>Implements rate limiting between batches
-     *   <li>Suggests garbage collection after processing multiple batches
+     *   <li>Fetches each category on its own virtual thread
+     *   <li>Caps the number of requests in flight at {@link ScraperConfig#parallelism()}
+     *   <li>Waits on the shared per-host token bucket before every request
+     *   <li>Deduplicates apprenticeships by ID in a concurrent map
      * </ul>
      *
      * @return List of unique Higher In apprenticeships from all categories
      */
     public List<HigherinApprenticeship> scrapeApprenticeships() {
-        Map<String, HigherinApprenticeship> uniqueApprenticeships = new HashMap<>();
-        List<String> categories = HigherinCategories.getAllCategories();
-
-        logger.info("Starting Higher In scraping across {} categories", categories.size());
-
-        for (int i = 0; i < categories.size(); i += BATCH_SIZE) {
-            int endIndex = Math.min(i + BATCH_SIZE, categories.size());
-            List<String> batch = categories.subList(i, endIndex);
-
-            logger.info(
-                    "Processing batch {}/{} ({} categories)",
-                    (i / BATCH_SIZE) + 1,
-                    (categories.size() + BATCH_SIZE - 1) / BATCH_SIZE,
-                    batch.size());
+        return scrapeApprenticeships(null);
+    }
 
-            for (String category : batch) {
-                try {
-                    scrapeCategory(category, uniqueApprenticeships);
-                } catch (Exception e) {
-                    logger.error("Failed to scrape Higher In category {}: {}", category, e.getMessage());
-                }
-            }
+    /**
+     * Scrapes Higher In apprenticeships, optionally skipping listings that are already known.
+     *
+     * <p>Higher In serves each category as a single page, so there is no paging to cut short. In
+     * incremental mode the scraper instead skips known IDs before building any objects for them and
+     * only returns listings not in {@code knownIds}.
+     *
+     * @param knownIds IDs that have already been persisted, or null for a full crawl. The set is read
+     *     from several threads and must not be modified while the crawl runs.
+     * @return List of unique Higher In apprenticeships (only new ones in incremental mode)
+     */
+    public List<HigherinApprenticeship> scrapeApprenticeships(@Nullable Set<String> knownIds) {
+        return scrapeApprenticeships(knownIds, config.parallelism());
+    }
 
-            if (i % (BATCH_SIZE * 3) == 0) {
-                System.gc();
-            }
+    /**
+     * Scrapes Higher In apprenticeships with the given concurrency budget instead of {@link
+     * ScraperConfig#parallelism()}.
+     *
+     * @param knownIds IDs that have already been persisted, or null for a full crawl
+     * @param parallelism maximum number of requests in flight during this run
+     * @return List of unique Higher In apprenticeships (only new ones in incremental mode)
+     * @throws IllegalArgumentException if {@code parallelism} is less than 1
+     */
+    public List<HigherinApprenticeship> scrapeApprenticeships(
+            @Nullable Set<String> knownIds, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        Map<String, HigherinApprenticeship> uniqueApprenticeships = new ConcurrentHashMap<>();
+        List<String> categories = HigherinCategories.getAllCategories();
+        Semaphore inFlight = new Semaphore(parallelism);
 
-            if (endIndex < categories.size()) {
-                rateLimitDelay(500);
+        logger.info(
+                "Starting {} Higher In scraping across {} categories (parallelism={}, {} req/s)",
+                knownIds == null ? "full" : "incremental",
+                categories.size(),
+                parallelism,
+                config.requestsPerSecond());
+
+        long startNanos = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String category : categories) {
+                executor.submit(
+                        () -> scrapeCategoryWithPermit(category, knownIds, inFlight, uniqueApprenticeships));
             }
         }
 
         logger.info(
-                "Completed Higher In scraping. Total unique apprenticeships: {}",
+                "Completed Higher In scraping in {} ms. Total unique apprenticeships: {}",
+                (System.nanoTime() - startNanos) / 1_000_000,
                 uniqueApprenticeships.size());
         return new ArrayList<>(uniqueApprenticeships.values());
     }
 
+    /**
+     * Scrapes a single category while holding one of the parallelism permits. Failures are logged
+     * and contained so that one broken category does not affect the others.
+     *
+     * @param category the category slug to scrape
+     * @param knownIds IDs to skip, or null to keep everything
+     * @param inFlight semaphore bounding the number of concurrent requests
+     * @param uniqueApprenticeships concurrent map to store deduplicated apprenticeships
+     */
+    private void scrapeCategoryWithPermit(
+            String category,
+            @Nullable Set<String> knownIds,
+            Semaphore inFlight,
+            Map<String, HigherinApprenticeship> uniqueApprenticeships) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Higher In category {} skipped: scrape interrupted", category);
+            return;
+        }
+
+        try {
+            scrapeCategory(category, knownIds, uniqueApprenticeships);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Higher In category {} interrupted while rate limited", category);
+        } catch (Exception e) {
+            logger.error("Failed to scrape Higher In category {}: {}", category, e.getMessage());
+        } finally {
+            inFlight.release();
+        }
+    }
+
     /**
      * Scrapes a single category page from Higher In.
      *
-     * <p>Handles HTTP responses, JSON extraction, and adds apprenticeships to the unique collection.
-     * Gracefully handles 404 responses (no apprenticeships in category).
+     * <p>Handles HTTP responses, streams the embedded JSON through {@link HigherinPageParser}, and
+     * adds apprenticeships to the unique collection. Gracefully handles 404 responses (no
+     * apprenticeships in category).
+     *
+     * <p>If the page has not changed since it was last fetched (a 304 from the HTTP cache) and a
+     * full crawl memoized it in {@link #pageCache()}, parsing is skipped and copies of the memoized
+     * listings are used instead, filtered by {@code knownIds}. Without a memo the cached body is
+     * parsed as usual, since the run that fetched it may not have saved its listings.
      *
      * @param category the category slug to scrape (e.g., "software-engineering")
+     * @param knownIds IDs to skip, or null to keep everything
      * @param uniqueApprenticeships map to store deduplicated apprenticeships
      * @throws IOException if HTTP request fails
+     * @throws InterruptedException if interrupted while waiting for the rate limiter
      */
     private void scrapeCategory(
-            String category, Map<String, HigherinApprenticeship> uniqueApprenticeships)
-            throws IOException {
+            String category,
+            @Nullable Set<String> knownIds,
+            Map<String, HigherinApprenticeship> uniqueApprenticeships)
+            throws IOException, InterruptedException {
         String url = BASE_URL + category;
         Request request = new Request.Builder().url(url).build();
 
+        rateLimiter.acquire(request.url());
+
         try (Response response = client.newCall(request).execute()) {
+            rateLimiter.onResponse(response);
+
             if (!response.isSuccessful()) {
                 if (response.code() == 404) {
                     logger.debug("No apprenticeships found for category: {}", category);
@@ -153,193 +268,42 @@ public record HigherinScraper(OkHttpClient client, ObjectMapper mapper) {
                 return;
             }
 
-            String html = response.body().string();
-            String jsonData = extractJsonData(html);
-
-            JsonNode root = mapper.readTree(jsonData);
-
-            JsonNode apprenticeships = root.get("data");
-
-            if (apprenticeships != null && apprenticeships.isArray()) {
-                for (JsonNode apprenticeshipNode : apprenticeships) {
-                    String apprenticeshipId = getJsonText(apprenticeshipNode, "id");
-
-                    if (apprenticeshipId == null || apprenticeshipId.isEmpty()) {
-                        continue;
-                    }
-
-                    if (!uniqueApprenticeships.containsKey(apprenticeshipId)) {
-                        HigherinApprenticeship newApprenticeship =
-                                createApprenticeship(apprenticeshipNode, apprenticeshipId, category);
-                        uniqueApprenticeships.put(apprenticeshipId, newApprenticeship);
+            List<HigherinApprenticeship> memoized =
+                    ParsedPageCache.isUnchanged(response) ? pageCache.get(request.url()) : null;
+            if (memoized != null) {
+                logger.debug("Higher In category {} unchanged, reusing parsed page", category);
+                for (HigherinApprenticeship apprenticeship : memoized) {
+                    if (knownIds == null || !knownIds.contains(apprenticeship.getId())) {
+                        uniqueApprenticeships.computeIfAbsent(
+                                apprenticeship.getId(), id -> new HigherinApprenticeship(apprenticeship));
                     }
                 }
+                return;
             }
-        }
-    }
-
-    /**
-     * Creates a HigherinApprenticeship object from JSON data.
-     *
-     * <p>Maps JSON fields to apprenticeship properties including:
-     *
-     * <ul>
-     *   <li>Basic info (ID, title, company, location)
-     *   <li>Company logo and salary
-     *   <li>Categories from the API's "relevantFor" field
-     *   <li>Closing date with flexible parsing
-     * </ul>
-     *
-     * @param apprenticeshipNode the JSON node containing apprenticeship data
-     * @param apprenticeshipId the unique apprenticeship identifier
-     * @param category the category this apprenticeship was found in
-     * @return a fully populated HigherinApprenticeship object
-     */
-    private HigherinApprenticeship createApprenticeship(
-            JsonNode apprenticeshipNode, String apprenticeshipId, String category) {
-        HigherinApprenticeship apprenticeship = new HigherinApprenticeship();
-
-        apprenticeship.setId(apprenticeshipId);
-
-        apprenticeship.setTitle(getJsonText(apprenticeshipNode, "jobTitle"));
-
-        apprenticeship.setCompanyName(getJsonText(apprenticeshipNode, "companyName", "Not Available"));
-        apprenticeship.setCompanyLogo(getJsonText(apprenticeshipNode, "smallLogo", "Not Available"));
-
-        apprenticeship.setLocation(getJsonText(apprenticeshipNode, "jobLocationNames"));
-        apprenticeship.setSalary(getJsonText(apprenticeshipNode, "salary", "Not specified"));
-        apprenticeship.setUrl(getJsonText(apprenticeshipNode, "url"));
-        apprenticeship.setCategory(category);
-
-        // Use the search category slug as the actual category instead of relevantFor field
-        // The relevantFor field contains academic year info (3rd-year, 4th-year) which is not useful
-        // for categorization
-        // The category parameter contains the actual topic category (software-engineering,
-        // cyber-security, etc.)
-        apprenticeship.setCategories(Collections.singletonList(category));
-
-        String deadline = getJsonText(apprenticeshipNode, "deadline");
-        if (deadline != null && !deadline.isEmpty()) {
-            try {
-                apprenticeship.setClosingDate(parseDate(deadline));
-            } catch (Exception e) {
-                logger.error(
-                        "Failed to parse date for apprenticeship {}: {}", apprenticeshipId, e.getMessage());
-            }
-        }
-
-        return apprenticeship;
-    }
-
-    /**
-     * Safely extracts text from a JSON field.
-     *
-     * @param node the JSON node to extract from
-     * @param fieldName the field name to extract
-     * @return the field value as string, or null if not present
-     */
-    private String getJsonText(JsonNode node, String fieldName) {
-        return getJsonText(node, fieldName, null);
-    }
-
-    /**
-     * Safely extracts text from a JSON field with a default value.
-     *
-     * @param node the JSON node to extract from
-     * @param fieldName the field name to extract
-     * @param defaultValue the value to return if field is missing
-     * @return the field value as string, or defaultValue if not present
-     */
-    private String getJsonText(JsonNode node, String fieldName, String defaultValue) {
-        JsonNode field = node.get(fieldName);
-        return field != null ? field.asText(defaultValue) : defaultValue;
-    }
-
-    /**
-     * Extracts JSON data embedded in HTML page.
-     *
-     * <p>Higher In embeds search results in a JavaScript variable within the HTML. This method
-     * extracts that JSON data by finding the variable assignment and parsing the JSON string.
-     *
-     * @param html the HTML page source
-     * @return extracted JSON string
-     * @throws IllegalStateException if JSON data cannot be found or extracted
-     */
-    private String extractJsonData(String html) {
-        String searchString = "window.__RMP_SEARCH_RESULTS_INITIAL_STATE__ = ";
-        int startIndex = html.indexOf(searchString);
-
-        if (startIndex == -1) {
-            throw new IllegalStateException("Could not find search results data in HTML");
-        }
-
-        startIndex += searchString.length();
-
-        int endIndex = -1;
-        String[] endPatterns = {";</script>", ";\n</script>", "};"};
-
-        for (String pattern : endPatterns) {
-            int index = html.indexOf(pattern, startIndex);
-            if (index != -1) {
-                endIndex = index;
-                break;
-            }
-        }
-
-        if (endIndex == -1) {
-            throw new IllegalStateException("Could not find end of JSON data");
-        }
 
-        String json = html.substring(startIndex, endIndex);
-        if (!json.trim().startsWith("{")) {
-            throw new IllegalStateException("Extracted data is not valid JSON");
-        }
+            HigherinPageParser parser = new HigherinPageParser(mapper.getFactory());
+            try (InputStream body = response.body().byteStream()) {
+                if (knownIds == null) {
+                    // Full crawls parse the whole page so it can be reused on the next 304
+                    List<HigherinApprenticeship> page = parser.parse(body, category);
+                    pageCache.put(
+                            request.url(), page.stream().map(HigherinApprenticeship::new).toList());
+                    page.forEach(
+                            apprenticeship ->
+                                    uniqueApprenticeships.putIfAbsent(apprenticeship.getId(), apprenticeship));
+                    return;
+                }
 
-        return json;
-    }
+                // The memo, if any, no longer matches the page the HTTP cache now holds
+                pageCache.remove(request.url());
 
-    /**
-     * Parses a date string with multiple format support.
-     *
-     * <p>Attempts to parse dates in the following formats:
-     *
-     * <ul>
-     *   <li>yyyy-MM-dd (ISO format)
-     *   <li>dd[st/nd/rd/th] MMMM yyyy (e.g., "1st January 2024")
-     * </ul>
-     *
-     * @param dateStr the date string to parse
-     * @return parsed LocalDate, or null if parsing fails
-     */
-    private LocalDate parseDate(String dateStr) {
-        if (dateStr == null) return null;
-
-        try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-            return LocalDate.parse(dateStr, formatter);
-        } catch (Exception e) {
-            try {
-                DateTimeFormatter altFormatter =
-                        DateTimeFormatter.ofPattern("dd['st']['nd']['rd']['th'] MMMM yyyy", Locale.ENGLISH);
-                return LocalDate.parse(dateStr, altFormatter);
-            } catch (Exception ex) {
-                return null;
+                parser.parse(
+                        body,
+                        category,
+                        id -> !knownIds.contains(id) && !uniqueApprenticeships.containsKey(id),
+                        apprenticeship ->
+                                uniqueApprenticeships.putIfAbsent(apprenticeship.getId(), apprenticeship));
             }
         }
     }
-
-    /**
-     * Helper method for rate limiting delays between batches. Extracted to a separate method to
-     * clarify intent and avoid busy-waiting warnings.
-     *
-     * @param milliseconds the delay in milliseconds
-     */
-    private void rateLimitDelay(long milliseconds) {
-        try {
-            Thread.sleep(milliseconds);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.warn("Rate limit delay interrupted");
-        }
-    }
 }
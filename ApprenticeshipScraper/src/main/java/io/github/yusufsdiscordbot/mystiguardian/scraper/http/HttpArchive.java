@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.scraper.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Compressed archive of recorded HTTP exchanges, used to replay scraper traffic offline.
+ *
+ * <p>The file format is gzip-compressed JSON lines: one {@link HttpArchiveEntry} per line, in the
+ * order the responses were received. Archives are written by {@link RecordingInterceptor} and
+ * served back by {@link ReplayInterceptor}.
+ */
+public final class HttpArchive {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private HttpArchive() {}
+
+    /**
+     * Reads every entry from an archive file.
+     *
+     * @param file the archive to read
+     * @return the entries in the order they were recorded
+     * @throws IOException if the file cannot be read or contains malformed entries
+     */
+    @NotNull
+    public static List<HttpArchiveEntry> read(@NotNull Path file) throws IOException {
+        List<HttpArchiveEntry> entries = new ArrayList<>();
+        try (BufferedReader reader =
+                new BufferedReader(
+                        new InputStreamReader(
+                                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    entries.add(MAPPER.readValue(line, HttpArchiveEntry.class));
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Creates (or truncates) an archive file for writing.
+     *
+     * @param file the archive to write
+     * @return a writer that must be closed to finish the gzip stream
+     * @throws IOException if the file cannot be created
+     */
+    @NotNull
+    public static Writer create(@NotNull Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return new Writer(file);
+    }
+
+    /** Thread-safe, append-only writer for an archive file. */
+    public static final class Writer implements Closeable {
+        private final BufferedWriter out;
+
+        private Writer(Path file) throws IOException {
+            this.out =
+                    new BufferedWriter(
+                            new OutputStreamWriter(
+                                    new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Appends one entry to the archive.
+         *
+         * @param entry the entry to write
+         * @throws IOException if the entry cannot be written
+         */
+        public synchronized void write(@NotNull HttpArchiveEntry entry) throws IOException {
+            out.write(MAPPER.writeValueAsString(entry));
+            out.newLine();
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.scraper.http;
+
+import java.util.List;
+import java.util.Map;
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * One recorded HTTP exchange in an {@link HttpArchive}.
+ *
+ * <p>Entries are stored one per line as JSON; the body is stored as base64 so binary responses
+ * survive the round trip unchanged.
+ *
+ * @param method the request method (e.g., "GET")
+ * @param url the full request URL
+ * @param code the response status code
+ * @param message the response status message
+ * @param headers the response headers, by lower-case name
+ * @param body the decoded response body
+ */
+public record HttpArchiveEntry(
+        String method,
+        String url,
+        int code,
+        String message,
+        Map<String, List<String>> headers,
+        byte[] body) {
+
+    /**
+     * Captures a response that has already been received.
+     *
+     * @param request the request that was sent
+     * @param response the response received for it
+     * @param body the response body bytes
+     * @return the archive entry
+     */
+    @NotNull
+    public static HttpArchiveEntry of(
+            @NotNull Request request, @NotNull Response response, byte @NotNull [] body) {
+        return new HttpArchiveEntry(
+                request.method(),
+                request.url().toString(),
+                response.code(),
+                response.message(),
+                response.headers().toMultimap(),
+                body);
+    }
+
+    /**
+     * Gets the key used to match a request against recorded entries.
+     *
+     * @return the method and URL joined by a space
+     */
+    @NotNull
+    public String key() {
+        return key(method, url);
+    }
+
+    /**
+     * Builds the matching key for a request.
+     *
+     * @param method the request method
+     * @param url the full request URL
+     * @return the method and URL joined by a space
+     */
+    @NotNull
+    public static String key(@NotNull String method, @NotNull String url) {
+        return method + " " + url;
+    }
+
+    /**
+     * Rebuilds the recorded response for a live request.
+     *
+     * @param request the request being answered
+     * @return a response equivalent to the one that was recorded
+     */
+    @NotNull
+    public Response toResponse(@NotNull Request request) {
+        Headers.Builder headerBuilder = new Headers.Builder();
+        headers.forEach(
+                (name, values) -> values.forEach(value -> headerBuilder.addUnsafeNonAscii(name, value)));
+        Headers responseHeaders = headerBuilder.build();
+
+        String contentType = responseHeaders.get("Content-Type");
+        MediaType mediaType = contentType != null ? MediaType.parse(contentType) : null;
+
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message(message)
+                .headers(responseHeaders)
+                .body(ResponseBody.create(body, mediaType))
+                .build();
+    }
+}
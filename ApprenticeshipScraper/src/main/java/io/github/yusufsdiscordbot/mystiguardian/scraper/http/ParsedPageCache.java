@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.scraper.http;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import okhttp3.HttpUrl;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * In-memory memo of parsed results per page URL, used together with OkHttp's on-disk cache.
+ *
+ * <p>The disk cache makes OkHttp send {@code If-None-Match} / {@code If-Modified-Since} for pages
+ * it has seen before. When the server answers {@code 304 Not Modified} the page is identical to
+ * the one parsed last time, so a scraper can reuse that result from here and skip parsing
+ * altogether. On a miss (for example after a restart) the scraper parses the cached body as usual.
+ *
+ * <p>There is one entry per page URL, so the memo is bounded by the number of pages a crawl visits.
+ *
+ * @param <T> the parsed representation of a page
+ */
+public final class ParsedPageCache<T> {
+    private final Map<HttpUrl, T> parsedPages = new ConcurrentHashMap<>();
+
+    /**
+     * Checks whether a response carries the same content as the last time the page was fetched.
+     *
+     * <p>This is true when the server revalidated the cached copy with a 304, or when OkHttp served
+     * a still-fresh copy from disk without going to the network at all.
+     *
+     * @param response the response to check
+     * @return true if the page has not changed since it was cached
+     */
+    public static boolean isUnchanged(@NotNull Response response) {
+        Response networkResponse = response.networkResponse();
+        if (networkResponse == null) {
+            return response.cacheResponse() != null;
+        }
+        return networkResponse.code() == 304;
+    }
+
+    /**
+     * Gets the result parsed the last time the page changed.
+     *
+     * @param url the page URL
+     * @return the memoized result, or null if the page has not been parsed yet
+     */
+    @Nullable
+    public T get(@NotNull HttpUrl url) {
+        return parsedPages.get(url);
+    }
+
+    /**
+     * Remembers the parsed result for a page.
+     *
+     * @param url the page URL
+     * @param parsed the parsed result
+     */
+    public void put(@NotNull HttpUrl url, @NotNull T parsed) {
+        parsedPages.put(url, parsed);
+    }
+
+    /**
+     * Forgets the parsed result for a page, for example after it was fetched again without being
+     * memoized.
+     *
+     * @param url the page URL
+     */
+    public void remove(@NotNull HttpUrl url) {
+        parsedPages.remove(url);
+    }
+
+    /**
+     * Gets the number of pages currently memoized.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return parsedPages.size();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.scraper.http;
+
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * OkHttp application interceptor that writes every exchange to an {@link HttpArchive}.
+ *
+ * <p>The body is peeked rather than consumed, so the caller receives the response unchanged. As an
+ * application interceptor it records the decoded body the scrapers actually parse.
+ *
+ * @see ReplayInterceptor
+ */
+@Slf4j
+public final class RecordingInterceptor implements Interceptor {
+    private final HttpArchive.Writer archive;
+
+    /**
+     * Creates an interceptor that records into the given archive.
+     *
+     * @param archive the archive writer; the caller is responsible for closing it
+     */
+    public RecordingInterceptor(@NotNull HttpArchive.Writer archive) {
+        this.archive = archive;
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        Request request = chain.request();
+        Response response = chain.proceed(request);
+
+        byte[] body = response.peekBody(Long.MAX_VALUE).bytes();
+        archive.write(HttpArchiveEntry.of(request, response, body));
+        logger.debug("Recorded {} {} ({} bytes)", response.code(), request.url(), body.length);
+
+        return response;
+    }
+}
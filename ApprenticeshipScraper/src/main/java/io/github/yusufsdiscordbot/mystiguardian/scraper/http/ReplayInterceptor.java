@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.scraper.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * OkHttp application interceptor that answers every request from an {@link HttpArchive} instead of
+ * the network.
+ *
+ * <p>Requests are matched by method and URL. When the same URL was recorded more than once (for
+ * example a 429 followed by a successful retry), the responses are served in recorded order and
+ * the last one is repeated once the others are used up. A fixed latency can be added to every
+ * response to approximate a real network.
+ *
+ * <p>Requests with no recorded response fail with an {@link IOException}, so a replayed crawl never
+ * silently reaches the live site.
+ *
+ * @see RecordingInterceptor
+ */
+public final class ReplayInterceptor implements Interceptor {
+    private final Map<String, Deque<HttpArchiveEntry>> entries = new HashMap<>();
+    private final Duration latency;
+
+    /**
+     * Creates an interceptor that serves the given entries.
+     *
+     * @param recorded the recorded exchanges, in recorded order
+     * @param latency delay added before every response, or {@link Duration#ZERO} for none
+     */
+    public ReplayInterceptor(@NotNull List<HttpArchiveEntry> recorded, @NotNull Duration latency) {
+        for (HttpArchiveEntry entry : recorded) {
+            entries.computeIfAbsent(entry.key(), key -> new ArrayDeque<>()).addLast(entry);
+        }
+        this.latency = latency;
+    }
+
+    /**
+     * Loads an archive file and creates an interceptor that serves it.
+     *
+     * @param archive the archive to replay
+     * @param latency delay added before every response, or {@link Duration#ZERO} for none
+     * @return the replay interceptor
+     * @throws IOException if the archive cannot be read
+     */
+    @NotNull
+    public static ReplayInterceptor load(@NotNull Path archive, @NotNull Duration latency)
+            throws IOException {
+        return new ReplayInterceptor(HttpArchive.read(archive), latency);
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        Request request = chain.request();
+        HttpArchiveEntry entry = next(HttpArchiveEntry.key(request.method(), request.url().toString()));
+        if (entry == null) {
+            throw new IOException("No archived response for " + request.method() + " " + request.url());
+        }
+
+        if (!latency.isZero() && !latency.isNegative()) {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while simulating latency");
+            }
+        }
+
+        return entry.toResponse(request);
+    }
+
+    private HttpArchiveEntry next(String key) {
+        Deque<HttpArchiveEntry> recorded = entries.get(key);
+        if (recorded == null) {
+            return null;
+        }
+        synchronized (recorded) {
+            return recorded.size() > 1 ? recorded.pollFirst() : recorded.peekFirst();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.source;
+
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.Apprenticeship;
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.ApprenticeshipSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A site that apprenticeships are scraped from, together with how it should be polled.
+ *
+ * <p>Each provider declares its own cadence, concurrency budget and timeout, so {@link
+ * ApprenticeshipSourceScheduler} can run every source independently: a slow or failing source
+ * never delays the others, and fast-moving sources can be polled more often.
+ *
+ * <p>Implementations must be thread-safe. The scheduler never runs the same provider twice at the
+ * same time, but different providers run in parallel.
+ *
+ * @see HigherinSourceProvider
+ * @see FindAnApprenticeshipSourceProvider
+ */
+public interface ApprenticeshipSourceProvider {
+
+    /**
+     * Gets the source this provider scrapes.
+     *
+     * @return the apprenticeship source, unique among registered providers
+     */
+    @NotNull
+    ApprenticeshipSource source();
+
+    /**
+     * Gets how often the source should be polled, measured from the start of one run to the start
+     * of the next. A run still in progress when the next one is due causes that run to be skipped.
+     *
+     * @return the poll interval
+     */
+    @NotNull
+    Duration pollInterval();
+
+    /**
+     * Gets the maximum number of requests this source keeps in flight during a run. Implementations
+     * enforce it in {@link #scrape(Set)}, independently of any other source.
+     *
+     * @return the concurrency budget, at least 1
+     */
+    int concurrency();
+
+    /**
+     * Gets how long a single run may take before it is interrupted.
+     *
+     * @return the run timeout
+     */
+    @NotNull
+    Duration timeout();
+
+    /**
+     * Scrapes the source.
+     *
+     * @param knownIds IDs that have already been persisted, or null for a full crawl. Providers may
+     *     use them to skip known listings early but are not required to.
+     * @return the scraped apprenticeships
+     */
+    @NotNull
+    List<? extends Apprenticeship> scrape(@Nullable Set<String> knownIds);
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.source;
+
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.ApprenticeshipSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Runs every {@link ApprenticeshipSourceProvider} on its own schedule.
+ *
+ * <p>For each provider the scheduler:
+ *
+ * <ul>
+ *   <li>Triggers a run every {@link ApprenticeshipSourceProvider#pollInterval()}
+ *   <li>Runs it on its own virtual thread, in parallel with the other sources
+ *   <li>Skips a trigger while the previous run of the same source is still going
+ *   <li>Interrupts a run that exceeds {@link ApprenticeshipSourceProvider#timeout()}
+ *   <li>Logs and contains failures, so one broken source never stops the others
+ * </ul>
+ *
+ * <p>The {@link ScheduledExecutorService} only fires triggers and timeouts, which return
+ * immediately, so a small shared pool is enough.
+ */
+@Slf4j
+public final class ApprenticeshipSourceScheduler {
+
+    /** Work done for one run of a source. */
+    @FunctionalInterface
+    public interface SourceRun {
+        /**
+         * Runs the source once.
+         *
+         * @param provider the source to run
+         * @throws Exception if the run fails; the scheduler logs it and tries again next time
+         */
+        void run(@NotNull ApprenticeshipSourceProvider provider) throws Exception;
+    }
+
+    private final ScheduledExecutorService scheduler;
+    private final List<ApprenticeshipSourceProvider> providers;
+    private final SourceRun sourceRun;
+    private final Map<ApprenticeshipSource, Thread> runningSources = new ConcurrentHashMap<>();
+    private final List<ScheduledFuture<?>> schedules = new ArrayList<>();
+
+    /**
+     * Creates a scheduler. Nothing runs until {@link #start()} is called.
+     *
+     * @param scheduler the executor used to fire triggers and timeouts
+     * @param providers the sources to run, each with a distinct {@link ApprenticeshipSource}
+     * @param sourceRun the work done for each run
+     * @throws IllegalArgumentException if two providers share a source
+     */
+    public ApprenticeshipSourceScheduler(
+            @NotNull ScheduledExecutorService scheduler,
+            @NotNull List<? extends ApprenticeshipSourceProvider> providers,
+            @NotNull SourceRun sourceRun) {
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler cannot be null");
+        this.providers = List.copyOf(providers);
+        this.sourceRun = Objects.requireNonNull(sourceRun, "sourceRun cannot be null");
+
+        if (this.providers.stream().map(ApprenticeshipSourceProvider::source).distinct().count()
+                != this.providers.size()) {
+            throw new IllegalArgumentException("Each source may only be registered once");
+        }
+    }
+
+    /**
+     * Starts polling every source, with the first run of each triggered immediately. Calling this
+     * again while already started does nothing.
+     */
+    public synchronized void start() {
+        if (!schedules.isEmpty()) {
+            return;
+        }
+
+        for (ApprenticeshipSourceProvider provider : providers) {
+            long intervalMillis = provider.pollInterval().toMillis();
+            schedules.add(
+                    scheduler.scheduleAtFixedRate(
+                            () -> trigger(provider), 0, intervalMillis, TimeUnit.MILLISECONDS));
+            logger.info(
+                    "Scheduled {} every {} (concurrency={}, timeout={})",
+                    provider.source(),
+                    provider.pollInterval(),
+                    provider.concurrency(),
+                    provider.timeout());
+        }
+    }
+
+    /**
+     * Checks whether {@link #start()} has been called.
+     *
+     * @return true if sources are being polled
+     */
+    public synchronized boolean isStarted() {
+        return !schedules.isEmpty();
+    }
+
+    /** Triggers a run of every source now, skipping sources that are already running. */
+    public void runAllNow() {
+        providers.forEach(this::trigger);
+    }
+
+    /** Stops polling and interrupts any runs in progress. */
+    public synchronized void stop() {
+        schedules.forEach(schedule -> schedule.cancel(false));
+        schedules.clear();
+        runningSources.values().forEach(Thread::interrupt);
+    }
+
+    /**
+     * Checks whether a source is currently running.
+     *
+     * @param source the source to check
+     * @return true if a run of the source has started and not yet finished
+     */
+    public boolean isRunning(@NotNull ApprenticeshipSource source) {
+        return runningSources.containsKey(source);
+    }
+
+    /**
+     * Starts a run of the given source unless one is already in progress.
+     *
+     * @param provider the source to run
+     * @return true if a run was started
+     */
+    boolean trigger(ApprenticeshipSourceProvider provider) {
+        ApprenticeshipSource source = provider.source();
+        Thread runner =
+                Thread.ofVirtual()
+                        .name("apprenticeship-source-" + source.getCode())
+                        .unstarted(() -> runOnce(provider));
+
+        if (runningSources.putIfAbsent(source, runner) != null) {
+            logger.warn("{} is still running from the previous trigger, skipping this run", source);
+            return false;
+        }
+
+        runner.start();
+        scheduler.schedule(
+                () -> interruptIfStillRunning(source, runner),
+                provider.timeout().toMillis(),
+                TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    private void runOnce(ApprenticeshipSourceProvider provider) {
+        ApprenticeshipSource source = provider.source();
+        long startNanos = System.nanoTime();
+        try {
+            sourceRun.run(provider);
+            logger.info(
+                    "{} run completed in {} ms", source, (System.nanoTime() - startNanos) / 1_000_000);
+        } catch (InterruptedException e) {
+            logger.warn("{} run interrupted", source);
+        } catch (Exception e) {
+            logger.error("{} run failed: {}", source, e.getMessage(), e);
+        } finally {
+            runningSources.remove(source, Thread.currentThread());
+        }
+    }
+
+    private void interruptIfStillRunning(ApprenticeshipSource source, Thread runner) {
+        if (runningSources.get(source) == runner) {
+            logger.warn("{} run exceeded its timeout, interrupting", source);
+            runner.interrupt();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.source;
+
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.ApprenticeshipSource;
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.FindAnApprenticeship;
+import io.github.yusufsdiscordbot.mystiguardian.config.ScraperConfig;
+import io.github.yusufsdiscordbot.mystiguardian.scraper.FindAnApprenticeshipScraper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link ApprenticeshipSourceProvider} for GOV.UK Find an Apprenticeship, backed by a {@link
+ * FindAnApprenticeshipScraper}.
+ *
+ * @param scraper the scraper used for every run
+ * @param pollInterval how often GOV.UK is polled
+ * @param concurrency maximum number of requests in flight during a run
+ * @param timeout how long a single run may take
+ * @see ApprenticeshipSource#GOV_UK
+ */
+public record FindAnApprenticeshipSourceProvider(
+        FindAnApprenticeshipScraper scraper, Duration pollInterval, int concurrency, Duration timeout)
+        implements ApprenticeshipSourceProvider {
+
+    /**
+     * Default poll interval. GOV.UK posts new vacancies throughout the day, and incremental runs stop
+     * paging at the first known listing, so frequent polls stay cheap.
+     */
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofMinutes(30);
+
+    /**
+     * Default concurrency budget. GOV.UK results are spread over many pages per route, so a full
+     * crawl benefits from several requests in flight.
+     */
+    public static final int DEFAULT_CONCURRENCY = ScraperConfig.DEFAULT_PARALLELISM;
+
+    /** Default run timeout. Full crawls page through every route and can take several minutes. */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(25);
+
+    /**
+     * Validates the concurrency budget.
+     *
+     * @throws IllegalArgumentException if {@code concurrency} is less than 1
+     */
+    public FindAnApprenticeshipSourceProvider {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1");
+        }
+    }
+
+    /**
+     * Creates a provider with the default poll interval, concurrency budget and timeout.
+     *
+     * @param scraper the scraper used for every run
+     */
+    public FindAnApprenticeshipSourceProvider(FindAnApprenticeshipScraper scraper) {
+        this(scraper, DEFAULT_POLL_INTERVAL, DEFAULT_CONCURRENCY, DEFAULT_TIMEOUT);
+    }
+
+    @NotNull
+    @Override
+    public ApprenticeshipSource source() {
+        return ApprenticeshipSource.GOV_UK;
+    }
+
+    @NotNull
+    @Override
+    public List<FindAnApprenticeship> scrape(@Nullable Set<String> knownIds) {
+        return scraper.scrapeApprenticeships(knownIds, concurrency);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.source;
+
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.ApprenticeshipSource;
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.HigherinApprenticeship;
+import io.github.yusufsdiscordbot.mystiguardian.scraper.HigherinScraper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link ApprenticeshipSourceProvider} for Higher In, backed by a {@link HigherinScraper}.
+ *
+ * @param scraper the scraper used for every run
+ * @param pollInterval how often Higher In is polled
+ * @param concurrency maximum number of requests in flight during a run
+ * @param timeout how long a single run may take
+ * @see ApprenticeshipSource#RATE_MY_APPRENTICESHIP
+ */
+public record HigherinSourceProvider(
+        HigherinScraper scraper, Duration pollInterval, int concurrency, Duration timeout)
+        implements ApprenticeshipSourceProvider {
+
+    /** Default poll interval. Higher In lists fewer, longer-lived vacancies than GOV.UK. */
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofHours(1);
+
+    /** Default concurrency budget. Higher In serves each category as a single page. */
+    public static final int DEFAULT_CONCURRENCY = 4;
+
+    /** Default run timeout. A full crawl of every category normally takes well under a minute. */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(15);
+
+    /**
+     * Validates the concurrency budget.
+     *
+     * @throws IllegalArgumentException if {@code concurrency} is less than 1
+     */
+    public HigherinSourceProvider {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1");
+        }
+    }
+
+    /**
+     * Creates a provider with the default poll interval, concurrency budget and timeout.
+     *
+     * @param scraper the scraper used for every run
+     */
+    public HigherinSourceProvider(HigherinScraper scraper) {
+        this(scraper, DEFAULT_POLL_INTERVAL, DEFAULT_CONCURRENCY, DEFAULT_TIMEOUT);
+    }
+
+    @NotNull
+    @Override
+    public ApprenticeshipSource source() {
+        return ApprenticeshipSource.RATE_MY_APPRENTICESHIP;
+    }
+
+    @NotNull
+    @Override
+    public List<HigherinApprenticeship> scrape(@Nullable Set<String> knownIds) {
+        return scraper.scrapeApprenticeships(knownIds, concurrency);
+    }
+}
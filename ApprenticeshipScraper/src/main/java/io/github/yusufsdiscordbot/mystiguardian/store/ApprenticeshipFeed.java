@@ -0,0 +1,199 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.store;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Fan-out of newly saved apprenticeships to live subscribers, such as open web dashboards.
+ *
+ * <p>Each published batch is encoded to JSON once and the same event is offered to every
+ * subscriber's queue. Queues are bounded: a subscriber that falls {@code bufferSize} events behind
+ * is evicted rather than allowed to hold memory or slow down the publisher, and is expected to
+ * reconnect and reload. The number of subscribers is capped as well, since each one usually holds
+ * a server thread while it waits for events.
+ *
+ * <p>Publishing never blocks and is safe from any thread.
+ */
+@Slf4j
+public final class ApprenticeshipFeed {
+    /** Default number of events a subscriber may fall behind before it is evicted. */
+    public static final int DEFAULT_BUFFER_SIZE = 32;
+
+    /** Default maximum number of concurrent subscribers. */
+    public static final int DEFAULT_MAX_SUBSCRIBERS = 50;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** Marker queued to wake a subscriber that has been closed or evicted. */
+    private static final Event CLOSED = new Event(-1, new byte[0]);
+
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final AtomicLong nextEventId = new AtomicLong(1);
+
+    /** Creates a feed with the default buffer size and subscriber limit. */
+    public ApprenticeshipFeed() {
+        this(DEFAULT_BUFFER_SIZE, DEFAULT_MAX_SUBSCRIBERS);
+    }
+
+    /**
+     * Creates a feed.
+     *
+     * @param bufferSize the number of events a subscriber may fall behind before it is evicted
+     * @param maxSubscribers the maximum number of concurrent subscribers
+     * @throws IllegalArgumentException if either value is less than 1
+     */
+    public ApprenticeshipFeed(int bufferSize, int maxSubscribers) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be at least 1");
+        }
+        if (maxSubscribers < 1) {
+            throw new IllegalArgumentException("maxSubscribers must be at least 1");
+        }
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    /**
+     * Registers a new subscriber. The subscriber only receives events published after this call.
+     *
+     * @return the subscription, or null if the subscriber limit has been reached
+     */
+    @Nullable
+    public synchronized Subscription subscribe() {
+        if (subscriptions.size() >= maxSubscribers) {
+            return null;
+        }
+        Subscription subscription = new Subscription();
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Publishes newly saved listings to every subscriber as one event whose data is {@code
+     * {"apprenticeships": [...]}}, in the web API shape. Subscribers whose buffer is full are
+     * evicted.
+     *
+     * @param listings the new listings; nothing is published if empty
+     */
+    public void publish(@NotNull Collection<ApprenticeshipListing> listings) {
+        if (listings.isEmpty() || subscriptions.isEmpty()) {
+            return;
+        }
+
+        byte[] json;
+        try {
+            json =
+                    MAPPER.writeValueAsBytes(
+                            Map.of(
+                                    "apprenticeships",
+                                    listings.stream().map(ApprenticeshipListing::toWebMap).toList()));
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to encode {} apprenticeships for the live feed", listings.size(), e);
+            return;
+        }
+
+        Event event = new Event(nextEventId.getAndIncrement(), json);
+        for (Subscription subscription : subscriptions) {
+            if (!subscription.queue.offer(event)) {
+                logger.info("Evicting live feed subscriber that fell {} events behind", bufferSize);
+                subscription.close();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of current subscribers.
+     *
+     * @return the number of subscribers
+     */
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * One published batch.
+     *
+     * @param id an increasing event number, unique within this feed
+     * @param json the UTF-8 JSON data, shared between subscribers and not to be modified
+     */
+    public record Event(long id, byte[] json) {}
+
+    /** A subscriber's view of the feed. Close it when the subscriber goes away. */
+    public final class Subscription implements AutoCloseable {
+        private final BlockingQueue<Event> queue = new ArrayBlockingQueue<>(bufferSize);
+        private volatile boolean closed;
+
+        private Subscription() {}
+
+        /**
+         * Waits for the next event.
+         *
+         * @param timeout how long to wait
+         * @return the next event, or null if none arrived in time or the subscription is closed
+         * @throws InterruptedException if the calling thread is interrupted while waiting
+         */
+        @Nullable
+        public Event poll(@NotNull Duration timeout) throws InterruptedException {
+            if (closed) {
+                return null;
+            }
+            Event event = queue.poll(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            return event == CLOSED ? null : event;
+        }
+
+        /**
+         * Checks whether the subscription has been closed, either by the subscriber or because it
+         * fell too far behind.
+         *
+         * @return true if no further events will be delivered
+         */
+        public boolean isClosed() {
+            return closed;
+        }
+
+        /** Unregisters the subscriber and drops any events it has not read. */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscriptions.remove(this);
+            queue.clear();
+            // Wakes a thread blocked in poll so it can notice the subscription is closed
+            queue.offer(CLOSED);
+        }
+    }
+}
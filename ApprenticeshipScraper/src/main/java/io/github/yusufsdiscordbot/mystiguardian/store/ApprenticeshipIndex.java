@@ -0,0 +1,215 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Query structures for one snapshot of the {@link ApprenticeshipReadModel}.
+ *
+ * <p>Listings are numbered by their position in closing-date order. For every category, location
+ * and source the index keeps a {@link BitSet} of the listings that have it, so combining filters is
+ * a few word-wise ANDs. Each {@link ApprenticeshipQuery.Sort} is a precomputed permutation of the
+ * listing numbers, and every listing's JSON object is encoded once, so a page is assembled by
+ * walking a permutation and copying bytes.
+ *
+ * <p>The {@code q} text filter is the one filter without an index. It keeps the web API's substring
+ * semantics ("gineer" finds "Engineer"), which the word-prefix {@link ApprenticeshipSearchIndex}
+ * cannot answer, so it scans the pre-lowercased title and company of only the listings left after
+ * the bit set filters. With a few thousand open listings that scan costs less than building and
+ * republishing a substring index on every snapshot; typeahead, which is called per keystroke, goes
+ * through {@link ApprenticeshipSearchIndex} instead.
+ *
+ * <p>Instances are immutable and safe to share between threads.
+ */
+final class ApprenticeshipIndex {
+    private static final byte[] PAGE_START = ascii("{\"apprenticeships\":[");
+
+    private final byte[][] rows;
+    private final String[] searchText;
+    private final Map<String, BitSet> byCategory;
+    private final Map<String, BitSet> byLocation;
+    private final Map<String, BitSet> bySource;
+    private final Map<ApprenticeshipQuery.Sort, int[]> orders;
+    private final byte[] facets;
+
+    /**
+     * Builds the index.
+     *
+     * @param listings the open listings in closing-date order
+     * @param rows the JSON object of each listing, in the same order
+     * @param mapper the mapper used to encode the facet lists
+     * @throws IOException if the facet lists cannot be encoded
+     */
+    ApprenticeshipIndex(
+            @NotNull List<ApprenticeshipListing> listings,
+            byte[][] rows,
+            @NotNull ObjectMapper mapper)
+            throws IOException {
+        this.rows = rows;
+        this.searchText = new String[listings.size()];
+
+        Map<String, BitSet> categories = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        Map<String, BitSet> locations = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        Map<String, BitSet> sources = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 0; i < listings.size(); i++) {
+            ApprenticeshipListing listing = listings.get(i);
+            searchText[i] =
+                    (listing.title() + '\n' + Objects.toString(listing.companyName(), ""))
+                            .toLowerCase(Locale.ROOT);
+            for (String category : listing.unifiedCategories()) {
+                categories.computeIfAbsent(category, key -> new BitSet()).set(i);
+            }
+            if (listing.location() != null && !listing.location().isBlank()) {
+                locations.computeIfAbsent(listing.location(), key -> new BitSet()).set(i);
+            }
+            sources.computeIfAbsent(listing.source().getCode(), key -> new BitSet()).set(i);
+        }
+        this.byCategory = categories;
+        this.byLocation = locations;
+        this.bySource = sources;
+
+        this.orders = new EnumMap<>(ApprenticeshipQuery.Sort.class);
+        for (ApprenticeshipQuery.Sort sort : ApprenticeshipQuery.Sort.values()) {
+            orders.put(sort, permutation(listings, sort.comparator()));
+        }
+
+        Map<String, Object> facetLists = new LinkedHashMap<>();
+        facetLists.put("available", listings.size());
+        facetLists.put("categories", List.copyOf(categories.keySet()));
+        facetLists.put("locations", List.copyOf(locations.keySet()));
+        facetLists.put("sources", List.copyOf(sources.keySet()));
+        byte[] encoded = mapper.writeValueAsBytes(facetLists);
+        // Drop the braces so the fields can be appended to the first page's object
+        this.facets = Arrays.copyOfRange(encoded, 1, encoded.length - 1);
+    }
+
+    /**
+     * Gets the listings matching the query's filters.
+     *
+     * @param query the query
+     * @return a new bit set with a bit per matching listing number
+     */
+    @NotNull
+    BitSet matching(@NotNull ApprenticeshipQuery query) {
+        BitSet matches = new BitSet(rows.length);
+        matches.set(0, rows.length);
+        if (!and(matches, byCategory, query.category())
+                || !and(matches, byLocation, query.location())
+                || !and(matches, bySource, query.source())) {
+            return new BitSet();
+        }
+
+        String text = query.text();
+        if (text != null) {
+            // Substring match over the survivors of the indexed filters; see the class comment
+            for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                if (!searchText[i].contains(text)) {
+                    matches.clear(i);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Encodes one page of results as {@code {"apprenticeships": [...], "total": n, "nextCursor":
+     * "..."}}. The first page (cursor 0) also carries {@code available}, {@code categories}, {@code
+     * locations} and {@code sources} so clients can build their filter controls.
+     *
+     * @param query the query
+     * @return the UTF-8 JSON body
+     */
+    byte[] page(@NotNull ApprenticeshipQuery query) {
+        BitSet matches = matching(query);
+        int[] order = orders.get(query.sort());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        out.writeBytes(PAGE_START);
+        int written = 0;
+        int rank = query.cursor();
+        for (; rank < order.length && written < query.limit(); rank++) {
+            int row = order[rank];
+            if (matches.get(row)) {
+                if (written++ > 0) {
+                    out.write(',');
+                }
+                out.writeBytes(rows[row]);
+            }
+        }
+        while (rank < order.length && !matches.get(order[rank])) {
+            rank++;
+        }
+
+        String nextCursor = rank < order.length ? "\"" + rank + "\"" : "null";
+        out.writeBytes(ascii("],\"total\":" + matches.cardinality() + ",\"nextCursor\":" + nextCursor));
+        if (query.cursor() == 0) {
+            out.write(',');
+            out.writeBytes(facets);
+        }
+        out.write('}');
+        return out.toByteArray();
+    }
+
+    /** Intersects {@code matches} with the posting list for {@code key}, if a key is given. */
+    private static boolean and(BitSet matches, Map<String, BitSet> index, @Nullable String key) {
+        if (key == null) {
+            return true;
+        }
+        BitSet postings = index.get(key);
+        if (postings == null) {
+            return false;
+        }
+        matches.and(postings);
+        return true;
+    }
+
+    private static int[] permutation(
+            List<ApprenticeshipListing> listings, @Nullable Comparator<ApprenticeshipListing> order) {
+        if (order == null) {
+            return IntStream.range(0, listings.size()).toArray();
+        }
+        // Stable sort, so ties stay in closing-date order
+        return IntStream.range(0, listings.size())
+                .boxed()
+                .sorted(Comparator.comparing(listings::get, order))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
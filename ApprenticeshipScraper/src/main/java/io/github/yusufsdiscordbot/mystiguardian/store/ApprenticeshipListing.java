@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.store;
+
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.Apprenticeship;
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.ApprenticeshipSource;
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.FindAnApprenticeship;
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.HigherinApprenticeship;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Flat, source-independent snapshot of an apprenticeship as it is persisted.
+ *
+ * <p>Scraped {@link Apprenticeship} objects carry source-specific fields and build Discord embeds;
+ * a listing keeps only the columns that are stored, so it can be written to and read back from any
+ * {@link ApprenticeshipStore} and exported to the spreadsheet without knowing where it came from.
+ *
+ * @param id the apprenticeship ID
+ * @param source the source the apprenticeship was scraped from
+ * @param title the apprenticeship title
+ * @param companyName the company offering the apprenticeship
+ * @param location where the apprenticeship is based
+ * @param categories the source-specific categories
+ * @param unifiedCategories the unified MystiGuardian category names
+ * @param salary the salary details
+ * @param openingDate the date the listing opened or was posted, or null if unknown
+ * @param closingDate the application deadline, or null if unknown
+ * @param url the URL of the full listing
+ * @see ApprenticeshipStore
+ */
+public record ApprenticeshipListing(
+        @NotNull String id,
+        @NotNull ApprenticeshipSource source,
+        @NotNull String title,
+        @Nullable String companyName,
+        @Nullable String location,
+        @NotNull List<String> categories,
+        @NotNull List<String> unifiedCategories,
+        @Nullable String salary,
+        @Nullable LocalDate openingDate,
+        @Nullable LocalDate closingDate,
+        @Nullable String url) {
+
+    /**
+     * Validates the required fields and copies the category lists.
+     *
+     * @throws NullPointerException if a required field is null
+     */
+    public ApprenticeshipListing {
+        Objects.requireNonNull(id, "id cannot be null");
+        Objects.requireNonNull(source, "source cannot be null");
+        title = Objects.requireNonNullElse(title, "");
+        categories = categories == null ? List.of() : List.copyOf(categories);
+        unifiedCategories = unifiedCategories == null ? List.of() : List.copyOf(unifiedCategories);
+    }
+
+    /**
+     * Creates a listing from a scraped apprenticeship.
+     *
+     * @param apprenticeship the scraped apprenticeship
+     * @param source the source it was scraped from
+     * @return the listing
+     */
+    @NotNull
+    public static ApprenticeshipListing of(
+            @NotNull Apprenticeship apprenticeship, @NotNull ApprenticeshipSource source) {
+        LocalDate openingDate = null;
+        if (apprenticeship instanceof HigherinApprenticeship higherinApprenticeship) {
+            openingDate = higherinApprenticeship.getOpeningDate();
+        } else if (apprenticeship instanceof FindAnApprenticeship govApprenticeship) {
+            openingDate = govApprenticeship.getCreatedAtDate();
+        }
+
+        return new ApprenticeshipListing(
+                apprenticeship.getId(),
+                source,
+                apprenticeship.getTitle(),
+                apprenticeship.getCompanyName(),
+                apprenticeship.getLocation(),
+                apprenticeship.getCategories(),
+                apprenticeship.getUnifiedCategories(),
+                apprenticeship.getSalary(),
+                openingDate,
+                apprenticeship.getClosingDate(),
+                apprenticeship.getUrl());
+    }
+
+    /**
+     * Checks whether applications are still open on the given day.
+     *
+     * @param today the current date
+     * @return true if there is no closing date or it is not before {@code today}
+     */
+    public boolean isOpenOn(@NotNull LocalDate today) {
+        return closingDate == null || !closingDate.isBefore(today);
+    }
+
+    /**
+     * Converts this listing to the JSON object shape served by the apprenticeships web API. Missing
+     * values are empty strings; {@code createdAtDate} repeats the opening date for GOV.UK listings.
+     *
+     * @return a mutable map of field names to values
+     */
+    @NotNull
+    public Map<String, Object> toWebMap() {
+        String opening = openingDate != null ? openingDate.toString() : "";
+
+        Map<String, Object> apprenticeship = new LinkedHashMap<>();
+        apprenticeship.put("id", id);
+        apprenticeship.put("title", title);
+        apprenticeship.put("companyName", Objects.toString(companyName, ""));
+        apprenticeship.put("location", Objects.toString(location, ""));
+        apprenticeship.put("categories", categories);
+        apprenticeship.put("unifiedCategories", unifiedCategories);
+        apprenticeship.put("salary", Objects.toString(salary, ""));
+        apprenticeship.put("openingDate", opening);
+        apprenticeship.put("createdAtDate", opening);
+        apprenticeship.put("closingDate", closingDate != null ? closingDate.toString() : "");
+        apprenticeship.put("url", Objects.toString(url, ""));
+        apprenticeship.put("source", source.getCode());
+        return apprenticeship;
+    }
+
+    /**
+     * Converts this listing to a spreadsheet row in column order: ID, Title, Company, Location,
+     * Categories, Unified Categories, Salary, Opening Date, Closing Date, URL, Source.
+     *
+     * @return the row values
+     */
+    @NotNull
+    public List<Object> toSheetRow() {
+        return Arrays.asList(
+                id,
+                title,
+                Objects.toString(companyName, ""),
+                Objects.toString(location, ""),
+                String.join(", ", categories),
+                String.join(", ", unifiedCategories),
+                Objects.toString(salary, ""),
+                openingDate != null ? openingDate.toString() : "",
+                closingDate != null ? closingDate.toString() : "",
+                Objects.toString(url, ""),
+                source.getCode());
+    }
+}
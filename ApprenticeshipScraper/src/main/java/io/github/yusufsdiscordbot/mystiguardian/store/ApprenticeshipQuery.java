@@ -0,0 +1,193 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.store;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * One page request against the {@link ApprenticeshipReadModel}: filters, sort order and position.
+ *
+ * <p>Filters that are null match everything. Blank filter values are treated as null, and the text
+ * filter is matched case-insensitively against the title and company name.
+ *
+ * @param category a unified category the listing must have, or null
+ * @param location the exact location the listing must have, or null
+ * @param source the source code (e.g., "RMA") the listing must have, or null
+ * @param text text the title or company name must contain, or null
+ * @param sort the order of the results
+ * @param cursor the position to resume from, as returned in {@code nextCursor}; 0 for the first
+ *     page
+ * @param limit the maximum number of listings in the page
+ * @see ApprenticeshipReadModel#query(ApprenticeshipQuery)
+ */
+public record ApprenticeshipQuery(
+        @Nullable String category,
+        @Nullable String location,
+        @Nullable String source,
+        @Nullable String text,
+        @NotNull Sort sort,
+        int cursor,
+        int limit) {
+
+    /** Page size used when the request does not give one. */
+    public static final int DEFAULT_LIMIT = 24;
+
+    /** Largest page size a request may ask for. */
+    public static final int MAX_LIMIT = 100;
+
+    /**
+     * Normalizes blank filters and validates the position.
+     *
+     * @throws IllegalArgumentException if the cursor is negative or the limit is out of range
+     */
+    public ApprenticeshipQuery {
+        category = blankToNull(category);
+        location = blankToNull(location);
+        source = blankToNull(source);
+        text = blankToNull(text);
+        if (text != null) {
+            text = text.toLowerCase(Locale.ROOT);
+        }
+        if (sort == null) {
+            sort = Sort.CLOSING;
+        }
+        if (cursor < 0) {
+            throw new IllegalArgumentException("cursor must not be negative");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+
+    /**
+     * Builds a query from raw request parameters.
+     *
+     * @param category the {@code category} parameter, or null
+     * @param location the {@code location} parameter, or null
+     * @param source the {@code source} parameter, or null
+     * @param text the {@code q} parameter, or null
+     * @param sort the {@code sort} parameter, or null for closing date order
+     * @param cursor the {@code cursor} parameter, or null for the first page
+     * @param limit the {@code limit} parameter, or null for {@link #DEFAULT_LIMIT}
+     * @return the query
+     * @throws IllegalArgumentException if any parameter is malformed or out of range
+     */
+    @NotNull
+    public static ApprenticeshipQuery fromParams(
+            @Nullable String category,
+            @Nullable String location,
+            @Nullable String source,
+            @Nullable String text,
+            @Nullable String sort,
+            @Nullable String cursor,
+            @Nullable String limit) {
+        return new ApprenticeshipQuery(
+                category,
+                location,
+                source,
+                text,
+                Sort.fromParam(sort),
+                parseInt(cursor, 0, "cursor"),
+                parseInt(limit, DEFAULT_LIMIT, "limit"));
+    }
+
+    @Nullable
+    private static String blankToNull(@Nullable String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static int parseInt(@Nullable String value, int defaultValue, String name) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a number", e);
+        }
+    }
+
+    /** Result orders. Each is precomputed once per snapshot of the read model. */
+    public enum Sort {
+        /** Soonest closing date first, listings without one last. */
+        CLOSING("closing", null),
+
+        /** Most recently opened or posted first, listings without a date last. */
+        POSTED(
+                "posted",
+                Comparator.comparing(
+                        ApprenticeshipListing::openingDate,
+                        Comparator.nullsLast(Comparator.reverseOrder()))),
+
+        /** Company name, A to Z, ignoring case. */
+        COMPANY(
+                "company",
+                Comparator.comparing(
+                        listing -> Objects.toString(listing.companyName(), ""),
+                        String.CASE_INSENSITIVE_ORDER)),
+
+        /** Title, A to Z, ignoring case. */
+        TITLE(
+                "title",
+                Comparator.comparing(ApprenticeshipListing::title, String.CASE_INSENSITIVE_ORDER));
+
+        private final String param;
+        @Nullable private final Comparator<ApprenticeshipListing> comparator;
+
+        Sort(String param, @Nullable Comparator<ApprenticeshipListing> comparator) {
+            this.param = param;
+            this.comparator = comparator;
+        }
+
+        /**
+         * Gets the comparator that orders listings for this sort, applied on top of closing date
+         * order.
+         *
+         * @return the comparator, or null if closing date order is already this order
+         */
+        @Nullable
+        Comparator<ApprenticeshipListing> comparator() {
+            return comparator;
+        }
+
+        /**
+         * Looks up a sort by its request parameter value.
+         *
+         * @param param the {@code sort} parameter (e.g., "closing"), or null
+         * @return the matching sort, or {@link #CLOSING} if the parameter is null or blank
+         * @throws IllegalArgumentException if the value is not a known sort
+         */
+        @NotNull
+        public static Sort fromParam(@Nullable String param) {
+            if (param == null || param.isBlank()) {
+                return CLOSING;
+            }
+            for (Sort sort : values()) {
+                if (sort.param.equalsIgnoreCase(param.trim())) {
+                    return sort;
+                }
+            }
+            throw new IllegalArgumentException("Unknown sort: " + param);
+        }
+    }
+}
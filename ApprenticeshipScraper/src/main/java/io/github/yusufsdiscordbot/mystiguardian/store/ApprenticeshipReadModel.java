@@ -0,0 +1,290 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * In-memory view of the open apprenticeships, kept ready to serve.
+ *
+ * <p>The model holds an immutable snapshot of typed {@link ApprenticeshipListing}s in closing-date
+ * order, together with the web API response already encoded as JSON, gzipped, and tagged with an
+ * ETag. Serving a request is therefore a copy of bytes that already exist; nothing is queried,
+ * parsed or serialized per request.
+ *
+ * <p>Each snapshot also carries an {@link ApprenticeshipIndex} so that clients can ask for one
+ * filtered, sorted page at a time ({@link #query(ApprenticeshipQuery)}) instead of downloading the
+ * whole catalog. A word index over titles, companies and locations, updated incrementally with
+ * every change, answers typeahead searches ({@link #suggest(String, int)}).
+ *
+ * <p>The snapshot is rebuilt when listings are saved ({@link #upsertAll(Collection)}) or replaced
+ * ({@link #replaceAll(Collection)}). Because the listings are ordered by closing date, expired ones
+ * are always a prefix of the list: the first read on a day after the earliest closing date drops
+ * that prefix and re-encodes the response, so no per-request date checks are needed.
+ *
+ * <p>Reads are lock-free; writers and eviction synchronize on the model.
+ *
+ * @see ApprenticeshipStore
+ */
+public final class ApprenticeshipReadModel {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** Number of suggestions returned when the caller does not ask for a specific number. */
+    public static final int DEFAULT_SUGGESTIONS = 8;
+
+    /** Largest number of suggestions a caller may ask for. */
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private final Clock clock;
+    private final ApprenticeshipSearchIndex searchIndex = new ApprenticeshipSearchIndex();
+    private volatile Snapshot snapshot;
+
+    /** Creates an empty read model that uses the system clock and time zone. */
+    public ApprenticeshipReadModel() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates an empty read model.
+     *
+     * @param clock the clock used to decide which listings have closed
+     */
+    ApprenticeshipReadModel(@NotNull Clock clock) {
+        this.clock = clock;
+        this.snapshot = build(List.of(), LocalDate.now(clock));
+    }
+
+    /**
+     * Replaces every listing in the model.
+     *
+     * @param listings the listings to hold; closed ones are left out
+     */
+    public synchronized void replaceAll(@NotNull Collection<ApprenticeshipListing> listings) {
+        snapshot = build(listings, LocalDate.now(clock));
+        searchIndex.replaceAll(snapshot.listings());
+    }
+
+    /**
+     * Adds listings to the model, replacing any held listing with the same ID.
+     *
+     * @param listings the listings to add; closed ones are left out
+     */
+    public synchronized void upsertAll(@NotNull Collection<ApprenticeshipListing> listings) {
+        if (listings.isEmpty()) {
+            return;
+        }
+
+        Map<String, ApprenticeshipListing> merged = new LinkedHashMap<>();
+        snapshot.listings().forEach(listing -> merged.put(listing.id(), listing));
+        listings.forEach(listing -> merged.put(listing.id(), listing));
+        LocalDate today = LocalDate.now(clock);
+        snapshot = build(merged.values(), today);
+
+        searchIndex.removeAll(
+                listings.stream()
+                        .filter(listing -> !listing.isOpenOn(today))
+                        .map(ApprenticeshipListing::id)
+                        .toList());
+        searchIndex.putAll(listings.stream().filter(listing -> listing.isOpenOn(today)).toList());
+    }
+
+    /**
+     * Gets the open listings, soonest closing first and listings without a closing date last.
+     *
+     * @return an immutable list of open listings
+     */
+    @NotNull
+    public List<ApprenticeshipListing> listings() {
+        return current().listings();
+    }
+
+    /**
+     * Gets the pre-encoded web API response for the open listings.
+     *
+     * @return the encoded response
+     */
+    @NotNull
+    public EncodedResponse response() {
+        return current().response();
+    }
+
+    /**
+     * Runs a filtered, sorted and paged query against the open listings.
+     *
+     * <p>The result is {@code {"apprenticeships": [...], "total": n, "nextCursor": "..."}}, where
+     * {@code total} counts every match and {@code nextCursor} is null on the last page. The first
+     * page also lists the {@code categories}, {@code locations} and {@code sources} that can be
+     * filtered on and the number of {@code available} listings. Cursors are opaque positions within
+     * one snapshot; if the listings change between pages, a page may repeat or skip a listing.
+     *
+     * @param query the filters, sort and position
+     * @return the UTF-8 JSON body
+     */
+    @NotNull
+    public byte[] query(@NotNull ApprenticeshipQuery query) {
+        return current().index().page(query);
+    }
+
+    /**
+     * Suggests open listings for text typed into a search box. Each word of the text is matched as
+     * a prefix of the words in the title, company name and location; see {@link
+     * ApprenticeshipSearchIndex} for the ranking.
+     *
+     * @param text the text typed so far
+     * @param limit the maximum number of suggestions, between 1 and {@link #MAX_SUGGESTIONS}
+     * @return the best matching listings, best first
+     * @throws IllegalArgumentException if the limit is out of range
+     */
+    @NotNull
+    public List<ApprenticeshipListing> suggest(@NotNull String text, int limit) {
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        // Evicts closed listings from the search index as well
+        current();
+        return searchIndex.search(text, limit);
+    }
+
+    /**
+     * Gets the number of open listings.
+     *
+     * @return the number of open listings
+     */
+    public int size() {
+        return current().listings().size();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        LocalDate today = LocalDate.now(clock);
+        if (!current.hasExpired(today)) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (snapshot.hasExpired(today)) {
+                List<ApprenticeshipListing> listings = snapshot.listings();
+                int firstOpen = 0;
+                while (firstOpen < listings.size() && !listings.get(firstOpen).isOpenOn(today)) {
+                    firstOpen++;
+                }
+                searchIndex.removeAll(
+                        listings.subList(0, firstOpen).stream().map(ApprenticeshipListing::id).toList());
+                snapshot = encode(listings.subList(firstOpen, listings.size()));
+            }
+            return snapshot;
+        }
+    }
+
+    private static Snapshot build(Collection<ApprenticeshipListing> listings, LocalDate today) {
+        return encode(
+                listings.stream()
+                        .filter(listing -> listing.isOpenOn(today))
+                        .sorted(InMemoryApprenticeshipStore.CLOSING_DATE_ORDER)
+                        .toList());
+    }
+
+    private static Snapshot encode(List<ApprenticeshipListing> listings) {
+        try {
+            byte[][] rows = new byte[listings.size()][];
+            ByteArrayOutputStream json = new ByteArrayOutputStream(listings.size() * 512 + 32);
+            json.writeBytes("{\"apprenticeships\":[".getBytes(StandardCharsets.US_ASCII));
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] = MAPPER.writeValueAsBytes(listings.get(i).toWebMap());
+                if (i > 0) {
+                    json.write(',');
+                }
+                json.writeBytes(rows[i]);
+            }
+            json.writeBytes("]}".getBytes(StandardCharsets.US_ASCII));
+
+            byte[] body = json.toByteArray();
+            LocalDate firstClosingDate = listings.isEmpty() ? null : listings.getFirst().closingDate();
+            return new Snapshot(
+                    List.copyOf(listings),
+                    new ApprenticeshipIndex(listings, rows, MAPPER),
+                    new EncodedResponse(body, gzip(body), etag(body)),
+                    firstClosingDate);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode apprenticeships", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(data);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String etag(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return '"' + HexFormat.of().formatHex(digest, 0, 16) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * The web API response for one snapshot of the model. The arrays are shared and must not be
+     * modified.
+     *
+     * @param json the UTF-8 JSON body, {@code {"apprenticeships": [...]}}
+     * @param gzip the same body, gzip-compressed
+     * @param etag a strong, quoted entity tag derived from the JSON body
+     */
+    public record EncodedResponse(byte[] json, byte[] gzip, String etag) {}
+
+    /**
+     * One immutable state of the model.
+     *
+     * @param listings the open listings in closing-date order
+     * @param index the filter and sort structures for {@code listings}
+     * @param response the encoded response for {@code listings}
+     * @param firstClosingDate the earliest closing date, or null if no listing has one
+     */
+    private record Snapshot(
+            List<ApprenticeshipListing> listings,
+            ApprenticeshipIndex index,
+            EncodedResponse response,
+            @Nullable LocalDate firstClosingDate) {
+
+        boolean hasExpired(LocalDate today) {
+            return firstClosingDate != null && firstClosingDate.isBefore(today);
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.store;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Typeahead search over the titles, companies and locations of the open apprenticeships.
+ *
+ * <p>Every word of those fields is a key in a sorted map whose value lists the listings containing
+ * it and in which fields. A query word matches every key it is a prefix of, which is a range scan
+ * of the sorted map, and a listing is a hit if it matches all query words. Hits are ranked by where
+ * each word matched (title before company before location), with whole-word matches counting
+ * double, and then by closing date.
+ *
+ * <p>Listings are numbered by slot, and each posting is an {@code int} packing the slot and the
+ * fields, so a search adds up scores in plain arrays and keeps only the best few hits in a small
+ * heap.
+ *
+ * <p>The index is maintained incrementally: {@link #put(ApprenticeshipListing)} and {@link
+ * #remove(String)} only touch the words of the listing concerned. Writers synchronize on the index
+ * and publish a fresh copy of the slot array after every update; searches do not lock and work on
+ * the array they started with. Slots are never reused, so a posting always refers to the listing
+ * it was written for, or to an empty slot once that listing is removed. A search may therefore
+ * briefly miss a listing or still see a removed one, but never returns a listing for words it does
+ * not contain. Once most slots are empty the index is rebuilt and republished as a whole.
+ */
+final class ApprenticeshipSearchIndex {
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int TITLE = 1;
+    private static final int COMPANY = 2;
+    private static final int LOCATION = 4;
+    private static final int FIELD_BITS = 3;
+    private static final int FIELD_MASK = (1 << FIELD_BITS) - 1;
+    private static final int MIN_SLOTS = 64;
+
+    // Guarded by this
+    private final Map<String, Integer> slotsById = new HashMap<>();
+    private int slotCount;
+
+    private volatile State state = new State(new ConcurrentSkipListMap<>(), new Document[MIN_SLOTS]);
+
+    /**
+     * Adds a listing, replacing any indexed listing with the same ID.
+     *
+     * @param listing the listing to index
+     */
+    synchronized void put(@NotNull ApprenticeshipListing listing) {
+        putAll(List.of(listing));
+    }
+
+    /**
+     * Adds listings, replacing any indexed listings with the same IDs. Postings are merged once per
+     * word rather than once per listing, so loading a whole catalog stays linear.
+     *
+     * @param listings the listings to index
+     */
+    synchronized void putAll(@NotNull Collection<ApprenticeshipListing> listings) {
+        // The last listing with each ID wins, and each ID is indexed only once
+        Map<String, ApprenticeshipListing> byId = new LinkedHashMap<>();
+        listings.forEach(listing -> byId.put(listing.id(), listing));
+
+        State current = state;
+        Document[] slots = current.slots().clone();
+        Map<String, List<Integer>> added = new HashMap<>();
+        for (ApprenticeshipListing listing : byId.values()) {
+            Integer existing = slotsById.get(listing.id());
+            if (existing == null || !slots[existing].listing().equals(listing)) {
+                unindex(listing.id(), current.postings(), slots);
+                slots = index(listing, slots, added);
+            }
+        }
+
+        added.forEach(
+                (word, list) ->
+                        current
+                                .postings()
+                                .merge(
+                                        word,
+                                        list.stream().mapToInt(Integer::intValue).toArray(),
+                                        ApprenticeshipSearchIndex::concat));
+        publish(current.postings(), slots);
+    }
+
+    /**
+     * Assigns the listing the next free slot and collects its postings into {@code added}.
+     *
+     * @return the slot array, grown if the new slot did not fit
+     */
+    private Document[] index(
+            ApprenticeshipListing listing, Document[] slots, Map<String, List<Integer>> added) {
+        Map<String, Integer> words = new HashMap<>();
+        addWords(words, listing.title(), TITLE);
+        addWords(words, listing.companyName(), COMPANY);
+        addWords(words, listing.location(), LOCATION);
+
+        int slot = slotCount++;
+        if (slot >= slots.length) {
+            slots = Arrays.copyOf(slots, slots.length * 2);
+        }
+        slots[slot] = new Document(listing, words.keySet().toArray(String[]::new));
+        slotsById.put(listing.id(), slot);
+
+        words.forEach(
+                (word, fields) ->
+                        added
+                                .computeIfAbsent(word, key -> new ArrayList<>())
+                                .add(slot << FIELD_BITS | fields));
+        return slots;
+    }
+
+    /**
+     * Removes a listing from the index.
+     *
+     * @param id the ID of the listing to remove
+     */
+    synchronized void remove(@NotNull String id) {
+        removeAll(List.of(id));
+    }
+
+    /**
+     * Removes listings from the index.
+     *
+     * @param ids the IDs of the listings to remove
+     */
+    synchronized void removeAll(@NotNull Collection<String> ids) {
+        State current = state;
+        Document[] slots = current.slots().clone();
+        boolean removed = false;
+        for (String id : ids) {
+            removed |= unindex(id, current.postings(), slots);
+        }
+        if (removed) {
+            publish(current.postings(), slots);
+        }
+    }
+
+    /** Drops a listing's postings and empties its slot in {@code slots}. */
+    private boolean unindex(
+            String id, ConcurrentSkipListMap<String, int[]> postings, Document[] slots) {
+        Integer slot = slotsById.remove(id);
+        if (slot == null) {
+            return false;
+        }
+
+        for (String word : slots[slot].words()) {
+            postings.computeIfPresent(word, (key, list) -> without(list, slot));
+        }
+        slots[slot] = null;
+        return true;
+    }
+
+    /**
+     * Makes the index hold exactly the given listings.
+     *
+     * @param listings the listings to keep or add; every other listing is removed
+     */
+    synchronized void replaceAll(@NotNull Collection<ApprenticeshipListing> listings) {
+        Set<String> keep = new HashSet<>();
+        listings.forEach(listing -> keep.add(listing.id()));
+        removeAll(slotsById.keySet().stream().filter(id -> !keep.contains(id)).toList());
+        putAll(listings);
+    }
+
+    /**
+     * Publishes the updated slot array, or rebuilds the whole index into fresh, densely numbered
+     * slots once more than half of the slots in use are empty.
+     */
+    private void publish(ConcurrentSkipListMap<String, int[]> postings, Document[] slots) {
+        int live = slotsById.size();
+        if (slotCount <= MIN_SLOTS || slotCount - live <= live) {
+            state = new State(postings, slots);
+            return;
+        }
+
+        slotsById.clear();
+        slotCount = 0;
+        Document[] compacted = new Document[Math.max(MIN_SLOTS, Integer.highestOneBit(live) * 2)];
+        Map<String, List<Integer>> added = new HashMap<>();
+        for (Document document : slots) {
+            if (document != null) {
+                compacted = index(document.listing(), compacted, added);
+            }
+        }
+
+        ConcurrentSkipListMap<String, int[]> rebuilt = new ConcurrentSkipListMap<>();
+        added.forEach(
+                (word, list) -> rebuilt.put(word, list.stream().mapToInt(Integer::intValue).toArray()));
+        state = new State(rebuilt, compacted);
+    }
+
+    /**
+     * Gets the number of indexed listings.
+     *
+     * @return the number of indexed listings
+     */
+    synchronized int size() {
+        return slotsById.size();
+    }
+
+    /**
+     * Finds the listings matching every word of the text, best first.
+     *
+     * @param text the text typed so far; each word is matched as a prefix
+     * @param limit the maximum number of listings to return
+     * @return the best matching listings, or an empty list if the text has no words
+     */
+    @NotNull
+    List<ApprenticeshipListing> search(@NotNull String text, int limit) {
+        List<String> terms = words(text).distinct().toList();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        State current = state;
+        Document[] documents = current.slots();
+        int[] scores = null;
+        int[] termScores = new int[documents.length];
+        // Longer terms usually match fewer words, so starting with them prunes the most
+        List<String> byLength =
+                terms.stream().sorted(Comparator.comparingInt(String::length).reversed()).toList();
+        for (String term : byLength) {
+            boolean any = false;
+            for (Map.Entry<String, int[]> entry :
+                    current.postings().subMap(term, true, term + Character.MAX_VALUE, true).entrySet()) {
+                boolean wholeWord = entry.getKey().equals(term);
+                for (int posting : entry.getValue()) {
+                    int slot = posting >>> FIELD_BITS;
+                    if (slot < termScores.length && (scores == null || scores[slot] > 0)) {
+                        termScores[slot] =
+                                Math.max(termScores[slot], score(posting & FIELD_MASK, wholeWord));
+                        any = true;
+                    }
+                }
+            }
+            if (!any) {
+                return List.of();
+            }
+
+            if (scores == null) {
+                scores = termScores;
+                termScores = new int[documents.length];
+            } else {
+                for (int slot = 0; slot < scores.length; slot++) {
+                    scores[slot] = termScores[slot] > 0 ? scores[slot] + termScores[slot] : 0;
+                }
+                Arrays.fill(termScores, 0);
+            }
+        }
+
+        int[] finalScores = scores;
+        Comparator<Integer> ranking =
+                Comparator.<Integer>comparingInt(slot -> -finalScores[slot])
+                        .thenComparing(
+                                slot -> documents[slot].listing(),
+                                InMemoryApprenticeshipStore.CLOSING_DATE_ORDER);
+        // Keeps the best hits seen so far with the worst of them at the head
+        PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1, ranking.reversed());
+        for (int slot = 0; slot < finalScores.length; slot++) {
+            if (finalScores[slot] > 0 && documents[slot] != null) {
+                best.offer(slot);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        }
+
+        List<Integer> ranked = new ArrayList<>(best);
+        ranked.sort(ranking);
+        return ranked.stream().map(slot -> documents[slot].listing()).toList();
+    }
+
+    private static int score(int fields, boolean wholeWord) {
+        int weight = (fields & TITLE) != 0 ? 3 : (fields & COMPANY) != 0 ? 2 : 1;
+        return wholeWord ? weight * 2 : weight;
+    }
+
+    private static void addWords(Map<String, Integer> words, @Nullable String value, int field) {
+        if (value != null) {
+            words(value).forEach(word -> words.merge(word, field, (a, b) -> a | b));
+        }
+    }
+
+    private static Stream<String> words(String value) {
+        return Arrays.stream(WORD_SEPARATOR.split(value.toLowerCase(Locale.ROOT)))
+                .filter(word -> !word.isEmpty());
+    }
+
+    private static int[] concat(int[] first, int[] second) {
+        int[] joined = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, joined, first.length, second.length);
+        return joined;
+    }
+
+    @Nullable
+    private static int[] without(int[] list, int slot) {
+        int[] kept =
+                Arrays.stream(list).filter(posting -> posting >>> FIELD_BITS != slot).toArray();
+        return kept.length == 0 ? null : kept;
+    }
+
+    /**
+     * An indexed listing and the words it was indexed under, kept so it can be removed again.
+     *
+     * @param listing the listing
+     * @param words the distinct words of its title, company and location
+     */
+    private record Document(ApprenticeshipListing listing, String[] words) {}
+
+    /**
+     * The postings and the slot array they refer to, published together.
+     *
+     * @param postings word to postings; each posting is {@code slot << FIELD_BITS | fields}
+     * @param slots the listing in each slot, or null for a slot that is empty or not yet in use
+     */
+    private record State(ConcurrentSkipListMap<String, int[]> postings, Document[] slots) {}
+}
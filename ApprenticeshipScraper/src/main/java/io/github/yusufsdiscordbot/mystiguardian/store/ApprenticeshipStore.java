@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.store;
+
+import io.github.yusufsdiscordbot.mystiguardian.manager.ApprenticeshipSpreadsheetManager;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Primary store for scraped apprenticeships.
+ *
+ * <p>{@link ApprenticeshipSpreadsheetManager} writes every new apprenticeship here before it is
+ * announced, and serves all reads (deduplication and the web listing) from here. The spreadsheet is
+ * only an export that is written to asynchronously.
+ *
+ * <p>Implementations must be thread-safe: sources run in parallel and the web server reads while
+ * scrapes are being saved. Failures are reported as unchecked exceptions.
+ *
+ * @see ApprenticeshipListing
+ * @see InMemoryApprenticeshipStore
+ */
+public interface ApprenticeshipStore {
+
+    /**
+     * Inserts the given listings, replacing any stored listing with the same ID.
+     *
+     * @param listings the listings to save
+     */
+    void upsertAll(@NotNull Collection<ApprenticeshipListing> listings);
+
+    /**
+     * Gets every listing that is still open, ordered by closing date (soonest first, listings
+     * without a closing date last).
+     *
+     * @param today the current date; listings that closed before it are left out
+     * @return the open listings
+     */
+    @NotNull
+    List<ApprenticeshipListing> findOpen(@NotNull LocalDate today);
+
+    /**
+     * Gets the IDs of every stored listing, open or closed.
+     *
+     * @return the stored IDs
+     */
+    @NotNull
+    Set<String> findAllIds();
+
+    /**
+     * Counts the stored listings.
+     *
+     * @return the number of stored listings
+     */
+    long count();
+}
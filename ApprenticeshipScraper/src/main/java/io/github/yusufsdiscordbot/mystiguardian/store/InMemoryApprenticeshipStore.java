@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.store;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link ApprenticeshipStore} that keeps listings in memory only.
+ *
+ * <p>Used when no database is configured. Its contents are lost on restart, so the spreadsheet
+ * manager backfills it from the sheet when it starts empty.
+ */
+public final class InMemoryApprenticeshipStore implements ApprenticeshipStore {
+
+    /** Soonest closing date first, open-ended listings last, then by ID for a stable order. */
+    static final Comparator<ApprenticeshipListing> CLOSING_DATE_ORDER =
+            Comparator.comparing(
+                            ApprenticeshipListing::closingDate,
+                            Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(ApprenticeshipListing::id);
+
+    private final Map<String, ApprenticeshipListing> listings = new ConcurrentHashMap<>();
+
+    @Override
+    public void upsertAll(@NotNull Collection<ApprenticeshipListing> listings) {
+        listings.forEach(listing -> this.listings.put(listing.id(), listing));
+    }
+
+    @NotNull
+    @Override
+    public List<ApprenticeshipListing> findOpen(@NotNull LocalDate today) {
+        return listings.values().stream()
+                .filter(listing -> listing.isOpenOn(today))
+                .sorted(CLOSING_DATE_ORDER)
+                .toList();
+    }
+
+    @NotNull
+    @Override
+    public Set<String> findAllIds() {
+        return Set.copyOf(listings.keySet());
+    }
+
+    @Override
+    public long count() {
+        return listings.size();
+    }
+}
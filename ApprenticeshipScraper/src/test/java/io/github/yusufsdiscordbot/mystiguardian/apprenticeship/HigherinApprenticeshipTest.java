@@ -146,6 +146,19 @@ class HigherinApprenticeshipTest {
             assertTrue(apprenticeship.getCategories().contains("software-engineering"));
         }
 
+        @Test
+        @DisplayName("Should copy categories into a copied apprenticeship")
+        void testCopyHasOwnCategories() {
+            apprenticeship.setId("12345");
+            apprenticeship.setCategories(Arrays.asList("software-engineering"));
+
+            HigherinApprenticeship copy = new HigherinApprenticeship(apprenticeship);
+            copy.getCategories().add("cyber-security");
+
+            assertEquals(apprenticeship.getId(), copy.getId());
+            assertEquals(List.of("software-engineering"), apprenticeship.getCategories());
+        }
+
         @Test
         @DisplayName("Should handle null categories as empty list")
         void testNullCategories() {
@@ -242,6 +242,16 @@ class CategoryMapperTest {
             assertTrue(groups.isEmpty());
         }
 
+        @Test
+        @DisplayName("Should normalize categories that are not slugs")
+        void testUnnormalizedCategory() {
+            List<ApprenticeshipCategoryGroup> groups =
+                    CategoryMapper.mapToUnifiedCategories("Software Engineering");
+
+            assertEquals(List.of(ApprenticeshipCategoryGroup.TECHNOLOGY), groups);
+            assertSame(groups, CategoryMapper.mapToUnifiedCategories("SOFTWARE-ENGINEERING"));
+        }
+
         @Test
         @DisplayName("Should handle null list of categories")
         void testNullCategoryList() {
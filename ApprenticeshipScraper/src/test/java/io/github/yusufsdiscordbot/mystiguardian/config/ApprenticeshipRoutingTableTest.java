@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.HigherinApprenticeship;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ApprenticeshipRoutingTable}.
+ *
+ * <p>Tests role resolution from category and group mappings, the default role fallback, and hub
+ * channel routing.
+ */
+@DisplayName("ApprenticeshipRoutingTable Tests")
+class ApprenticeshipRoutingTableTest {
+
+    private static HigherinApprenticeship apprenticeship(String... categories) {
+        HigherinApprenticeship apprenticeship = new HigherinApprenticeship();
+        apprenticeship.setCategories(List.of(categories));
+        return apprenticeship;
+    }
+
+    @Nested
+    @DisplayName("Role Routing")
+    class RoleRoutingTests {
+
+        @Test
+        @DisplayName("Group mappings should apply to every category in the group")
+        void testGroupMapping() {
+            ApprenticeshipRoutingTable table =
+                    ApprenticeshipRoutingTable.compile(
+                            null, Map.of("TECHNOLOGY", List.of("1", "2")), null, List.of());
+
+            assertEquals(List.of("1", "2"), table.roles(List.of(apprenticeship("software-engineering"))));
+            assertEquals("<@&1> <@&2>", table.pingMessage(List.of(apprenticeship("cyber-security"))));
+            assertNull(table.pingMessage(List.of(apprenticeship("accounting"))));
+        }
+
+        @Test
+        @DisplayName("Category mappings should match unnormalized categories")
+        void testCategoryMapping() {
+            ApprenticeshipRoutingTable table =
+                    ApprenticeshipRoutingTable.compile(
+                            Map.of("software-engineering", List.of("1")),
+                            Map.of("TECHNOLOGY", List.of("1", "2")),
+                            null,
+                            List.of());
+
+            assertEquals(List.of("1", "2"), table.roles(List.of(apprenticeship("Software Engineering"))));
+        }
+
+        @Test
+        @DisplayName("Roles should be deduplicated across apprenticeships")
+        void testDeduplicatedRoles() {
+            ApprenticeshipRoutingTable table =
+                    ApprenticeshipRoutingTable.compile(
+                            Map.of("accounting", List.of("3")),
+                            Map.of("TECHNOLOGY", List.of("1")),
+                            null,
+                            List.of());
+
+            assertEquals(
+                    "<@&3> <@&1>",
+                    table.pingMessage(
+                            List.of(
+                                    apprenticeship("software-engineering"),
+                                    apprenticeship("accounting"),
+                                    apprenticeship("cyber-security"))));
+        }
+
+        @Test
+        @DisplayName("Default roles should only apply without any mappings")
+        void testDefaultRoles() {
+            ApprenticeshipRoutingTable unmapped =
+                    ApprenticeshipRoutingTable.compile(null, null, List.of("9"), List.of());
+            ApprenticeshipRoutingTable mapped =
+                    ApprenticeshipRoutingTable.compile(
+                            Map.of("accounting", List.of("3")), null, List.of("9"), List.of());
+
+            assertEquals(List.of("9"), unmapped.roles(List.of(apprenticeship("software-engineering"))));
+            assertTrue(mapped.roles(List.of(apprenticeship("software-engineering"))).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Hub Routing")
+    class HubRoutingTests {
+
+        @Test
+        @DisplayName("Hubs should receive their group and catch-all hubs everything")
+        void testHubRouting() {
+            ApprenticeshipRoutingTable table =
+                    ApprenticeshipRoutingTable.forHubs(
+                            List.of(
+                                    new DAConfig.HubChannelConfig(1, 10, null),
+                                    new DAConfig.HubChannelConfig(1, 11, ApprenticeshipCategoryGroup.TECHNOLOGY),
+                                    new DAConfig.HubChannelConfig(1, 12, ApprenticeshipCategoryGroup.FINANCE)));
+
+            BitSet technology = table.hubs(apprenticeship("Software Engineering"));
+            BitSet unknown = table.hubs(apprenticeship("underwater-basket-weaving"));
+
+            assertEquals(BitSet.valueOf(new long[] {0b011}), technology);
+            assertEquals(BitSet.valueOf(new long[] {0b001}), unknown);
+            assertTrue(table.roles(List.of(apprenticeship("software-engineering"))).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Returned hub sets should not affect the table")
+        void testHubsAreCopies() {
+            ApprenticeshipRoutingTable table =
+                    ApprenticeshipRoutingTable.forHubs(
+                            List.of(
+                                    new DAConfig.HubChannelConfig(
+                                            1, 11, ApprenticeshipCategoryGroup.TECHNOLOGY)));
+
+            table.hubs(apprenticeship("software-engineering")).clear();
+
+            assertTrue(table.hubs(apprenticeship("software-engineering")).get(0));
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.manager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.Apprenticeship;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import net.dv8tion.jda.api.entities.channel.middleman.GuildMessageChannel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ApprenticeshipAnnouncer}.
+ *
+ * <p>Tests message batching, per-channel ordering and that channels are sent to in parallel.
+ */
+@DisplayName("ApprenticeshipAnnouncer Tests")
+class ApprenticeshipAnnouncerTest {
+
+    private record Sent(
+            GuildMessageChannel channel, List<MessageEmbed> embeds, CompletableFuture<Void> result) {}
+
+    private final List<Sent> sent = new CopyOnWriteArrayList<>();
+
+    /** A sender whose messages stay in flight until the test completes them. */
+    private final ApprenticeshipAnnouncer announcer =
+            new ApprenticeshipAnnouncer(
+                    (channel, content, embeds) -> {
+                        CompletableFuture<Void> result = new CompletableFuture<>();
+                        sent.add(new Sent(channel, embeds, result));
+                        return result;
+                    });
+
+    private static TextChannel channel(long id) {
+        TextChannel channel = mock(TextChannel.class);
+        when(channel.getIdLong()).thenReturn(id);
+        when(channel.getId()).thenReturn(Long.toString(id));
+        return channel;
+    }
+
+    private static List<Apprenticeship> apprenticeships(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(
+                        i -> {
+                            Apprenticeship apprenticeship = mock(Apprenticeship.class);
+                            when(apprenticeship.getEmbed())
+                                    .thenReturn(new EmbedBuilder().setTitle("Job " + i).build());
+                            return apprenticeship;
+                        })
+                .toList();
+    }
+
+    private List<Sent> sentTo(TextChannel channel) {
+        return sent.stream().filter(message -> message.channel() == channel).toList();
+    }
+
+    @Nested
+    @DisplayName("Batching")
+    class BatchingTests {
+
+        @Test
+        @DisplayName("Should split embeds into messages of at most ten, in order")
+        void testSplitsIntoMessages() {
+            TextChannel channel = channel(1);
+            List<Apprenticeship> jobs = apprenticeships(23);
+
+            CompletableFuture<Void> done = announcer.announce(jobs, List.of(channel), "ping");
+            for (int i = 0; i < 3; i++) {
+                sent.get(i).result().complete(null);
+            }
+
+            assertTrue(done.isDone());
+            assertEquals(
+                    List.of(10, 10, 3), sent.stream().map(message -> message.embeds().size()).toList());
+            assertEquals("Job 10", sent.get(1).embeds().get(0).getTitle());
+        }
+
+        @Test
+        @DisplayName("Should build each embed once for all channels")
+        void testBuildsEmbedsOnce() {
+            List<Apprenticeship> jobs = apprenticeships(12);
+
+            announcer.announce(jobs, List.of(channel(1), channel(2), channel(3)), null);
+
+            for (Apprenticeship job : jobs) {
+                verify(job, times(1)).getEmbed();
+            }
+            assertEquals(3, sent.size());
+            assertSame(sent.get(0).embeds(), sent.get(1).embeds());
+        }
+
+        @Test
+        @DisplayName("Should build each embed once when channels get different selections")
+        void testRoutedBuildsEmbedsOnce() {
+            TextChannel all = channel(1);
+            TextChannel some = channel(2);
+            List<Apprenticeship> jobs = apprenticeships(4);
+
+            announcer.announce(Map.of(all, jobs, some, jobs.subList(2, 4)), null);
+
+            for (Apprenticeship job : jobs) {
+                verify(job, times(1)).getEmbed();
+            }
+            assertEquals(4, sentTo(all).get(0).embeds().size());
+            assertEquals("Job 2", sentTo(some).get(0).embeds().get(0).getTitle());
+        }
+
+        @Test
+        @DisplayName("Should do nothing without apprenticeships or channels")
+        void testNothingToSend() {
+            assertTrue(announcer.announce(List.of(), List.of(channel(1)), null).isDone());
+            assertTrue(announcer.announce(apprenticeships(1), List.of(), null).isDone());
+            assertTrue(sent.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Ordering")
+    class OrderingTests {
+
+        @Test
+        @DisplayName("Should send to every channel without waiting for the others")
+        void testChannelsInParallel() {
+            TextChannel first = channel(1);
+            TextChannel second = channel(2);
+
+            announcer.announce(apprenticeships(15), List.of(first, second), null);
+
+            // Both channels have their first message in flight before either completes
+            assertEquals(1, sentTo(first).size());
+            assertEquals(1, sentTo(second).size());
+        }
+
+        @Test
+        @DisplayName("Should send a channel's next message only after the previous one")
+        void testOneMessageAtATimePerChannel() {
+            TextChannel channel = channel(1);
+
+            announcer.announce(apprenticeships(25), List.of(channel), null);
+            assertEquals(1, sent.size());
+
+            sent.get(0).result().complete(null);
+            assertEquals(2, sent.size());
+        }
+
+        @Test
+        @DisplayName("Should queue a later announcement behind the one still sending")
+        void testLaterAnnouncementWaits() throws Exception {
+            TextChannel channel = channel(1);
+
+            announcer.announce(apprenticeships(1), List.of(channel), null);
+            CompletableFuture<Void> second =
+                    announcer.announce(apprenticeships(1), List.of(channel), null);
+            assertEquals(1, sent.size());
+            assertEquals(1, announcer.pendingChannels());
+
+            sent.get(0).result().complete(null);
+            sent.get(1).result().complete(null);
+            second.get(1, TimeUnit.SECONDS);
+            assertEquals(0, announcer.pendingChannels());
+        }
+
+        @Test
+        @DisplayName("Should carry on with the next message after a failure")
+        void testContinuesAfterFailure() {
+            TextChannel channel = channel(1);
+
+            CompletableFuture<Void> done =
+                    announcer.announce(apprenticeships(20), List.of(channel), null);
+            sent.get(0).result().completeExceptionally(new IllegalStateException("Missing access"));
+            sent.get(1).result().complete(null);
+
+            assertEquals(2, sent.size());
+            assertTrue(done.isDone());
+            assertFalse(done.isCompletedExceptionally());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.manager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link ApprenticeshipIdIndex}.
+ *
+ * <p>Tests membership, persistence across reloads and reconciling against the sheet.
+ */
+@DisplayName("ApprenticeshipIdIndex Tests")
+class ApprenticeshipIdIndexTest {
+
+    private static final String SCOPE = "Apprenticeships 2026";
+
+    @TempDir Path tempDir;
+
+    private Path indexFile() {
+        return tempDir.resolve("index").resolve("apprenticeship-ids.txt");
+    }
+
+    @Nested
+    @DisplayName("Persistence")
+    class PersistenceTests {
+
+        @Test
+        @DisplayName("Should start empty and unscoped when the file does not exist")
+        void testMissingFile() {
+            ApprenticeshipIdIndex index = new ApprenticeshipIdIndex(indexFile());
+            index.load();
+
+            assertEquals(0, index.size());
+            assertNull(index.scope());
+            assertNull(index.reconciledAt());
+        }
+
+        @Test
+        @DisplayName("Should reload reconciled and appended IDs")
+        void testRoundTrip() throws IOException {
+            ApprenticeshipIdIndex index = new ApprenticeshipIdIndex(indexFile());
+            index.replaceAll(SCOPE, List.of("RMA1", "RMA2"));
+            index.addAll(List.of("VAC3", "RMA1"));
+
+            ApprenticeshipIdIndex reloaded = new ApprenticeshipIdIndex(indexFile());
+            reloaded.load();
+
+            assertEquals(Set.of("RMA1", "RMA2", "VAC3"), reloaded.view());
+            assertEquals(SCOPE, reloaded.scope());
+            assertEquals(index.reconciledAt(), reloaded.reconciledAt());
+        }
+
+        @Test
+        @DisplayName("Should ignore a file with a malformed header")
+        void testMalformedFile() throws IOException {
+            Files.createDirectories(indexFile().getParent());
+            Files.writeString(indexFile(), "RMA1\nRMA2\n");
+
+            ApprenticeshipIdIndex index = new ApprenticeshipIdIndex(indexFile());
+            index.load();
+
+            assertEquals(0, index.size());
+            assertNull(index.scope());
+        }
+
+        @Test
+        @DisplayName("Should not write IDs before the index has been reconciled")
+        void testUnscopedAddStaysInMemory() throws IOException {
+            ApprenticeshipIdIndex index = new ApprenticeshipIdIndex(indexFile());
+            index.addAll(List.of("RMA1"));
+
+            assertTrue(index.contains("RMA1"));
+            assertFalse(Files.exists(indexFile()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Reconciling")
+    class ReconcileTests {
+
+        @Test
+        @DisplayName("Should drop IDs no longer in the sheet and keep the rest")
+        void testReplaceAll() throws IOException {
+            ApprenticeshipIdIndex index = new ApprenticeshipIdIndex(null);
+            index.replaceAll("Apprenticeships 2025", List.of("RMA1", "RMA2"));
+            Set<String> view = index.view();
+
+            index.replaceAll(SCOPE, List.of("RMA2", "VAC3", ""));
+
+            assertEquals(Set.of("RMA2", "VAC3"), view);
+            assertFalse(index.contains("RMA1"));
+            assertEquals(SCOPE, index.scope());
+        }
+
+        @Test
+        @DisplayName("Should expose a read-only view")
+        void testViewIsReadOnly() {
+            ApprenticeshipIdIndex index = new ApprenticeshipIdIndex(null);
+
+            assertThrows(UnsupportedOperationException.class, () -> index.view().add("RMA1"));
+        }
+    }
+}
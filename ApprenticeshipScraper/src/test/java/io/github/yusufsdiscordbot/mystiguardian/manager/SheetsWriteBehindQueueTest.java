@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.manager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import io.github.yusufsdiscordbot.mystiguardian.ratelimit.TokenBucket;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SheetsWriteBehindQueue}.
+ *
+ * <p>Tests coalescing, size and time based flushes, and retry behaviour on throttled and rejected
+ * writes.
+ */
+@DisplayName("SheetsWriteBehindQueue Tests")
+class SheetsWriteBehindQueueTest {
+
+    private static final String SHEET = "Apprenticeships 2026";
+    private static final Duration LONG_INTERVAL = Duration.ofMinutes(10);
+
+    private final List<List<List<Object>>> batches = new CopyOnWriteArrayList<>();
+
+    private SheetsWriteBehindQueue queue(
+            SheetsWriteBehindQueue.BatchWriter writer, int maxBatchRows, Duration flushInterval) {
+        return new SheetsWriteBehindQueue(
+                writer, new TokenBucket(1000, 1000), maxBatchRows, flushInterval, Duration.ofMillis(1));
+    }
+
+    private SheetsWriteBehindQueue.BatchWriter recordingWriter() {
+        return (sheetName, rows) -> batches.add(new ArrayList<>(rows));
+    }
+
+    private static List<Object> row(String id, String title) {
+        return List.of(id, title);
+    }
+
+    private static HttpResponseException httpError(int status) {
+        return new HttpResponseException.Builder(status, "error", new HttpHeaders()).build();
+    }
+
+    private void awaitBatches(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (batches.size() < count) {
+            assertTrue(System.nanoTime() < deadline, "Expected " + count + " batches");
+            Thread.sleep(10);
+        }
+    }
+
+    @Nested
+    @DisplayName("Flushing")
+    class FlushingTests {
+
+        @Test
+        @DisplayName("Should coalesce rows with the same ID and flush on size")
+        void testCoalesceAndSizeFlush() throws InterruptedException {
+            try (SheetsWriteBehindQueue queue = queue(recordingWriter(), 3, LONG_INTERVAL)) {
+                queue.enqueue(SHEET, List.of(row("RMA1", "old"), row("RMA2", "b")));
+                queue.enqueue(SHEET, List.of(row("RMA1", "new")));
+                assertEquals(2, queue.pendingRows());
+
+                queue.enqueue(SHEET, List.of(row("VAC3", "c")));
+                awaitBatches(1);
+            }
+
+            assertEquals(
+                    List.of(row("RMA1", "new"), row("RMA2", "b"), row("VAC3", "c")), batches.getFirst());
+        }
+
+        @Test
+        @DisplayName("Should flush on time when the batch is not full")
+        void testTimeFlush() throws InterruptedException {
+            try (SheetsWriteBehindQueue queue =
+                    queue(recordingWriter(), 100, Duration.ofMillis(50))) {
+                queue.enqueue(SHEET, List.of(row("RMA1", "a")));
+                awaitBatches(1);
+                assertEquals(0, queue.pendingRows());
+            }
+        }
+
+        @Test
+        @DisplayName("Should flush pending rows on close")
+        void testFlushOnClose() {
+            SheetsWriteBehindQueue queue = queue(recordingWriter(), 100, LONG_INTERVAL);
+            queue.enqueue(SHEET, List.of(row("RMA1", "a")));
+
+            queue.close();
+
+            assertEquals(1, batches.size());
+            assertThrows(IllegalStateException.class, () -> queue.enqueue(SHEET, List.of(row("X", ""))));
+        }
+    }
+
+    @Nested
+    @DisplayName("Failures")
+    class FailureTests {
+
+        @Test
+        @DisplayName("Should retry throttled writes without losing rows")
+        void testRetryOnThrottle() throws InterruptedException {
+            AtomicInteger attempts = new AtomicInteger();
+            SheetsWriteBehindQueue.BatchWriter writer =
+                    (sheetName, rows) -> {
+                        if (attempts.incrementAndGet() <= 2) {
+                            throw httpError(429);
+                        }
+                        batches.add(new ArrayList<>(rows));
+                    };
+
+            try (SheetsWriteBehindQueue queue = queue(writer, 1, LONG_INTERVAL)) {
+                queue.enqueue(SHEET, List.of(row("RMA1", "a")));
+                awaitBatches(1);
+            }
+
+            assertEquals(3, attempts.get());
+            assertEquals(List.of(row("RMA1", "a")), batches.getFirst());
+        }
+
+        @Test
+        @DisplayName("Should classify retryable failures")
+        void testIsRetryable() {
+            assertTrue(SheetsWriteBehindQueue.isRetryable(httpError(429)));
+            assertTrue(SheetsWriteBehindQueue.isRetryable(httpError(503)));
+            assertTrue(SheetsWriteBehindQueue.isRetryable(new IOException("Connection reset")));
+            assertFalse(SheetsWriteBehindQueue.isRetryable(httpError(400)));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link AimdRateController}.
+ *
+ * <p>Tests the additive increase / multiplicative decrease behaviour and {@code Retry-After}
+ * parsing.
+ */
+@DisplayName("AimdRateController Tests")
+class AimdRateControllerTest {
+
+    @Nested
+    @DisplayName("Rate Adaptation")
+    class RateAdaptationTests {
+
+        @Test
+        @DisplayName("Throttle should halve the rate")
+        void testThrottleHalvesRate() {
+            TokenBucket bucket = new TokenBucket(4.0, 4);
+            AimdRateController controller = new AimdRateController("example.com", bucket, 4.0);
+
+            controller.onThrottle(null);
+
+            assertEquals(2.0, bucket.getPermitsPerSecond(), 0.0001);
+        }
+
+        @Test
+        @DisplayName("Rate should never drop below the floor")
+        void testRateFloor() {
+            TokenBucket bucket = new TokenBucket(1.0, 1);
+            AimdRateController controller = new AimdRateController("example.com", bucket, 1.0);
+
+            for (int i = 0; i < 20; i++) {
+                controller.onThrottle(null);
+            }
+
+            assertEquals(
+                    AimdRateController.MIN_PERMITS_PER_SECOND, bucket.getPermitsPerSecond(), 0.0001);
+        }
+
+        @Test
+        @DisplayName("Success should recover the rate up to the ceiling")
+        void testSuccessRecoversToCeiling() {
+            TokenBucket bucket = new TokenBucket(10.0, 5);
+            AimdRateController controller = new AimdRateController("example.com", bucket, 10.0);
+
+            controller.onThrottle(null);
+            controller.onSuccess();
+            assertEquals(6.0, bucket.getPermitsPerSecond(), 0.0001);
+
+            for (int i = 0; i < 20; i++) {
+                controller.onSuccess();
+            }
+            assertEquals(10.0, bucket.getPermitsPerSecond(), 0.0001);
+        }
+
+        @Test
+        @DisplayName("Retry-After should pause the bucket")
+        void testRetryAfterPausesBucket() {
+            TokenBucket bucket = new TokenBucket(10.0, 5);
+            AimdRateController controller = new AimdRateController("example.com", bucket, 10.0);
+
+            controller.onThrottle(Duration.ofSeconds(30));
+
+            assertFalse(bucket.tryAcquire());
+        }
+    }
+
+    @Nested
+    @DisplayName("Retry-After Parsing")
+    class RetryAfterParsingTests {
+
+        @Test
+        @DisplayName("Should parse delta-seconds")
+        void testParseSeconds() {
+            assertEquals(Duration.ofSeconds(120), AimdRateController.parseRetryAfter("120"));
+        }
+
+        @Test
+        @DisplayName("Should parse HTTP dates")
+        void testParseHttpDate() {
+            String header =
+                    ZonedDateTime.now(ZoneOffset.UTC)
+                            .plusSeconds(60)
+                            .format(DateTimeFormatter.RFC_1123_DATE_TIME);
+
+            Duration delay = AimdRateController.parseRetryAfter(header);
+
+            assertNotNull(delay);
+            assertTrue(delay.toSeconds() > 0 && delay.toSeconds() <= 60);
+        }
+
+        @Test
+        @DisplayName("Should return null for missing or malformed headers")
+        void testParseInvalid() {
+            assertNull(AimdRateController.parseRetryAfter(null));
+            assertNull(AimdRateController.parseRetryAfter(""));
+            assertNull(AimdRateController.parseRetryAfter("soon"));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.scraper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ApprenticeshipDateParser}.
+ *
+ * <p>Tests the Higher In and GOV.UK date formats, year inference and memoization. A fixed clock
+ * pins "today" to 1 June 2025.
+ */
+@DisplayName("ApprenticeshipDateParser Tests")
+class ApprenticeshipDateParserTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+
+    private ApprenticeshipDateParser parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new ApprenticeshipDateParser(clockAt("2025-06-01T10:00:00Z"), 16);
+    }
+
+    private static Clock clockAt(String instant) {
+        return Clock.fixed(Instant.parse(instant), ZoneOffset.UTC);
+    }
+
+    @Nested
+    @DisplayName("Higher In Dates")
+    class HigherinDateTests {
+
+        @Test
+        @DisplayName("Should parse ISO dates")
+        void testIsoDate() {
+            assertEquals(LocalDate.of(2025, 1, 31), parser.parseHigherinDate("2025-01-31"));
+        }
+
+        @Test
+        @DisplayName("Should parse ordinal dates with one or two digit days")
+        void testOrdinalDates() {
+            assertEquals(LocalDate.of(2025, 3, 1), parser.parseHigherinDate("1st March 2025"));
+            assertEquals(LocalDate.of(2025, 3, 22), parser.parseHigherinDate("22nd March 2025"));
+        }
+
+        @Test
+        @DisplayName("Should reject malformed, impossible and year-less dates")
+        void testInvalidDates() {
+            assertNull(parser.parseHigherinDate("not a date"));
+            assertNull(parser.parseHigherinDate("2025-02-30"));
+            assertNull(parser.parseHigherinDate("31st February 2025"));
+            assertNull(parser.parseHigherinDate("5 January"));
+            assertNull(parser.parseHigherinDate(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("GOV.UK Dates")
+    class GovUkDateTests {
+
+        @Test
+        @DisplayName("Should parse today")
+        void testToday() {
+            assertEquals(TODAY, parser.parseGovUkDate("Closes today"));
+            assertEquals(TODAY, parser.parseGovUkDate("Posted today"));
+        }
+
+        @Test
+        @DisplayName("Should take the bracketed date over the relative duration")
+        void testRelativeWithDate() {
+            assertEquals(
+                    LocalDate.of(2025, 5, 12),
+                    parser.parseGovUkDate("Closes in 3 days (Monday 12 May 2025)"));
+            assertEquals(
+                    LocalDate.of(2025, 10, 17),
+                    parser.parseGovUkDate("Closes in 30 days at 11:59pm (Friday 17 October 2025)"));
+        }
+
+        @Test
+        @DisplayName("Should infer the year when it is missing")
+        void testYearInference() {
+            assertEquals(LocalDate.of(2025, 10, 21), parser.parseGovUkDate("Posted 21 October"));
+            assertEquals(
+                    LocalDate.of(2026, 2, 16), parser.parseGovUkDate("Closes on Sunday 16 February"));
+        }
+
+        @Test
+        @DisplayName("Should return null when there is no date")
+        void testNoDate() {
+            assertNull(parser.parseGovUkDate("Closes in 3 days"));
+            assertNull(parser.parseGovUkDate(""));
+        }
+    }
+
+    @Nested
+    @DisplayName("Memoization")
+    class MemoizationTests {
+
+        @Test
+        @DisplayName("Should memoize each distinct string once")
+        void testMemoizesDistinctStrings() {
+            parser.parseGovUkDate("Posted 21 October");
+            parser.parseGovUkDate("Posted 21 October");
+            parser.parseGovUkDate("rubbish");
+
+            assertEquals(2, parser.memoSize());
+        }
+
+        @Test
+        @DisplayName("Should stop memoizing once the bound is reached")
+        void testMemoIsBounded() {
+            for (int day = 1; day <= 28; day++) {
+                parser.parseHigherinDate("2025-02-" + (day < 10 ? "0" + day : day));
+            }
+
+            assertEquals(16, parser.memoSize());
+            assertEquals(LocalDate.of(2025, 2, 28), parser.parseHigherinDate("2025-02-28"));
+        }
+
+        @Test
+        @DisplayName("Should not memoize when the bound is zero")
+        void testMemoDisabled() {
+            ApprenticeshipDateParser unmemoized =
+                    new ApprenticeshipDateParser(clockAt("2025-06-01T10:00:00Z"), 0);
+
+            assertEquals(TODAY, unmemoized.parseGovUkDate("Closes today"));
+            assertEquals(0, unmemoized.memoSize());
+        }
+    }
+}
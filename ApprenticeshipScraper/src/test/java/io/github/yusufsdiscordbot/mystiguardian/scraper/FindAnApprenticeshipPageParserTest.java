@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.scraper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.FindAnApprenticeship;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link FindAnApprenticeshipPageParser}.
+ *
+ * <p>Tests streaming extraction of GOV.UK search result listings and ID-based skipping.
+ */
+@DisplayName("FindAnApprenticeshipPageParser Tests")
+class FindAnApprenticeshipPageParserTest {
+
+    private static final String FIXTURE = "/find_an_apprenticeship_page.html";
+
+    private FindAnApprenticeshipPageParser parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new FindAnApprenticeshipPageParser();
+    }
+
+    private Reader openFixture() {
+        InputStream in = getClass().getResourceAsStream(FIXTURE);
+        assertNotNull(in, "Fixture not found: " + FIXTURE);
+        return new InputStreamReader(in, StandardCharsets.UTF_8);
+    }
+
+    private List<FindAnApprenticeship> parseFixture() throws IOException {
+        List<FindAnApprenticeship> apprenticeships = new ArrayList<>();
+        try (Reader reader = openFixture()) {
+            parser.parse(reader, id -> true, apprenticeships::add);
+        }
+        return apprenticeships;
+    }
+
+    @Nested
+    @DisplayName("Listing Extraction")
+    class ListingExtractionTests {
+
+        @Test
+        @DisplayName("Should emit one apprenticeship per listing")
+        void testListingCount() throws IOException {
+            List<FindAnApprenticeship> apprenticeships = parseFixture();
+
+            assertEquals(2, apprenticeships.size());
+            assertEquals("VAC1000283266", apprenticeships.get(0).getId());
+            assertEquals("VAC1000291111", apprenticeships.get(1).getId());
+        }
+
+        @Test
+        @DisplayName("Should extract all listing fields")
+        void testListingFields() throws IOException {
+            FindAnApprenticeship apprenticeship = parseFixture().getFirst();
+
+            assertEquals("2025 Software Engineering Apprentice - Cheadle", apprenticeship.getName());
+            assertEquals(
+                    "https://www.findapprenticeship.service.gov.uk/apprenticeship/VAC1000283266",
+                    apprenticeship.getUrl());
+            assertEquals("THALES UK LIMITED", apprenticeship.getCompanyName());
+            assertEquals("Stockport, SK3 0XB", apprenticeship.getLocation());
+            assertEquals("£22,500 a year", apprenticeship.getSalary());
+        }
+
+        @Test
+        @DisplayName("Should parse closing and posted dates")
+        void testListingDates() throws IOException {
+            List<FindAnApprenticeship> apprenticeships = parseFixture();
+
+            LocalDate closing = apprenticeships.get(0).getClosingDate();
+            assertNotNull(closing);
+            assertEquals(Month.FEBRUARY, closing.getMonth());
+            assertEquals(16, closing.getDayOfMonth());
+
+            assertEquals(LocalDate.now(), apprenticeships.get(1).getClosingDate());
+            assertEquals(LocalDate.of(2025, 9, 3), apprenticeships.get(1).getCreatedAtDate());
+        }
+    }
+
+    @Nested
+    @DisplayName("Skipping")
+    class SkippingTests {
+
+        @Test
+        @DisplayName("Should only build listings accepted by the filter")
+        void testRejectedIdsAreSkipped() throws IOException {
+            List<FindAnApprenticeship> built = new ArrayList<>();
+
+            int accepted;
+            try (Reader reader = openFixture()) {
+                accepted = parser.parse(reader, id -> !id.equals("VAC1000283266"), built::add);
+            }
+
+            assertEquals(1, accepted);
+            assertEquals(1, built.size());
+            assertEquals("VAC1000291111", built.getFirst().getId());
+        }
+
+        @Test
+        @DisplayName("Should return nothing for a page without listings")
+        void testEmptyPage() throws IOException {
+            assertTrue(parser.parse("<html><body><p>No results</p></body></html>").isEmpty());
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.scraper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.yusufsdiscordbot.mystiguardian.ApprenticeshipScraper;
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.FindAnApprenticeship;
+import io.github.yusufsdiscordbot.mystiguardian.categories.GovUkRoutes;
+import io.github.yusufsdiscordbot.mystiguardian.config.ScraperConfig;
+import io.github.yusufsdiscordbot.mystiguardian.scraper.http.HttpArchive;
+import io.github.yusufsdiscordbot.mystiguardian.scraper.http.HttpArchiveEntry;
+import io.github.yusufsdiscordbot.mystiguardian.scraper.http.ReplayInterceptor;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link FindAnApprenticeshipScraper}.
+ *
+ * <p>Tests full and incremental crawls replayed from an {@link HttpArchive}, so no request reaches
+ * GOV.UK.
+ */
+@DisplayName("FindAnApprenticeshipScraper Tests")
+class FindAnApprenticeshipScraperTest {
+
+    private static final String FIXTURE = "/find_an_apprenticeship_page.html";
+    private static final String EMPTY_PAGE = "<html><body><p>No results</p></body></html>";
+    private static final int DIGITAL_ROUTE = 7;
+
+    @TempDir Path tempDir;
+
+    private static HttpArchiveEntry page(int routeId, int pageNumber, String body) {
+        return page(routeId, pageNumber, 200, body);
+    }
+
+    private static HttpArchiveEntry page(int routeId, int pageNumber, int code, String body) {
+        return page(FindAnApprenticeshipScraper.BASE_URL, routeId, pageNumber, code, body);
+    }
+
+    private static HttpArchiveEntry page(
+            String baseUrl, int routeId, int pageNumber, int code, String body) {
+        String url = String.format("%s%d&pageNumber=%d", baseUrl, routeId, pageNumber);
+        return new HttpArchiveEntry(
+                "GET",
+                HttpUrl.get(url).toString(),
+                code,
+                code == 200 ? "OK" : "Error",
+                Map.of("content-type", List.of("text/html; charset=utf-8")),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Records an empty first page for every route except the Digital one. */
+    private static List<HttpArchiveEntry> otherRoutesEmpty() {
+        List<HttpArchiveEntry> entries = new ArrayList<>();
+        for (int routeId : GovUkRoutes.getAllRoutes().values()) {
+            if (routeId != DIGITAL_ROUTE) {
+                entries.add(page(routeId, 1, EMPTY_PAGE));
+            }
+        }
+        return entries;
+    }
+
+    private String readFixture() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream(FIXTURE)) {
+            assertNotNull(in, "Fixture not found: " + FIXTURE);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /** Records one results page for the Digital route and an empty page everywhere else. */
+    private Path writeArchive() throws IOException {
+        String listings = readFixture();
+        Path file = tempDir.resolve("gov-uk.jsonl.gz");
+        try (HttpArchive.Writer writer = HttpArchive.create(file)) {
+            for (int routeId : GovUkRoutes.getAllRoutes().values()) {
+                writer.write(page(routeId, 1, routeId == DIGITAL_ROUTE ? listings : EMPTY_PAGE));
+                writer.write(page(routeId, 2, EMPTY_PAGE));
+            }
+        }
+        return file;
+    }
+
+    @Nested
+    @DisplayName("Replayed Crawl")
+    class ReplayedCrawlTests {
+
+        @Test
+        @DisplayName("Should collect the listings of every route from a replayed archive")
+        void testFullCrawl() throws IOException {
+            ScraperConfig config = new ScraperConfig(4, 1_000, 100);
+
+            List<FindAnApprenticeship> apprenticeships;
+            try (ApprenticeshipScraper scraper =
+                    ApprenticeshipScraper.replaying(config, writeArchive(), Duration.ZERO)) {
+                apprenticeships = scraper.scrapeFindAnApprenticeshipJobs();
+            }
+
+            apprenticeships.sort(Comparator.comparing(FindAnApprenticeship::getId));
+            assertEquals(2, apprenticeships.size());
+            assertEquals("VAC1000283266", apprenticeships.get(0).getId());
+            assertEquals("VAC1000291111", apprenticeships.get(1).getId());
+            assertEquals("Digital", apprenticeships.get(0).getCategory());
+        }
+
+        @Test
+        @DisplayName("Should keep no more requests in flight than the run's budget")
+        void testRunParallelism() throws IOException {
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger maxInFlight = new AtomicInteger();
+            OkHttpClient client =
+                    new OkHttpClient.Builder()
+                            .addInterceptor(
+                                    chain -> {
+                                        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                                        try {
+                                            return chain.proceed(chain.request());
+                                        } finally {
+                                            inFlight.decrementAndGet();
+                                        }
+                                    })
+                            .addInterceptor(ReplayInterceptor.load(writeArchive(), Duration.ofMillis(5)))
+                            .build();
+
+            List<FindAnApprenticeship> apprenticeships =
+                    new FindAnApprenticeshipScraper(client, new ScraperConfig(4, 1_000, 100))
+                            .scrapeApprenticeships(null, 1);
+
+            assertEquals(2, apprenticeships.size());
+            assertEquals(1, maxInFlight.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Incremental Crawl")
+    class IncrementalCrawlTests {
+
+        @Test
+        @DisplayName("Should page newest first and stop after the first page with only known IDs")
+        void testStopsAtFirstKnownPage() throws IOException {
+            String listings = readFixture();
+            String incremental = FindAnApprenticeshipScraper.INCREMENTAL_BASE_URL;
+            List<HttpArchiveEntry> entries = new ArrayList<>();
+            for (int routeId : GovUkRoutes.getAllRoutes().values()) {
+                if (routeId != DIGITAL_ROUTE) {
+                    entries.add(page(incremental, routeId, 1, 200, EMPTY_PAGE));
+                }
+            }
+            // Page 1 has one new listing, page 2 only known ones; page 3 must never be requested
+            entries.add(
+                    page(
+                            incremental,
+                            DIGITAL_ROUTE,
+                            1,
+                            200,
+                            listings.replace("VAC1000291111", "VAC1000299999")));
+            entries.add(page(incremental, DIGITAL_ROUTE, 2, 200, listings));
+            entries.add(page(incremental, DIGITAL_ROUTE, 3, 200, listings));
+
+            List<String> requested = new CopyOnWriteArrayList<>();
+            OkHttpClient client =
+                    new OkHttpClient.Builder()
+                            .addInterceptor(
+                                    chain -> {
+                                        requested.add(chain.request().url().toString());
+                                        return chain.proceed(chain.request());
+                                    })
+                            .addInterceptor(new ReplayInterceptor(entries, Duration.ZERO))
+                            .build();
+
+            List<FindAnApprenticeship> apprenticeships =
+                    new FindAnApprenticeshipScraper(client, new ScraperConfig(4, 1_000, 100))
+                            .scrapeApprenticeships(Set.of("VAC1000283266", "VAC1000291111"));
+
+            assertEquals(1, apprenticeships.size());
+            assertEquals("VAC1000299999", apprenticeships.get(0).getId());
+            assertTrue(requested.stream().allMatch(url -> url.contains("sort=AgeAsc")));
+            assertTrue(requested.contains(entries.get(entries.size() - 2).url()));
+            assertFalse(requested.contains(entries.get(entries.size() - 1).url()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Failed Pages")
+    class FailedPageTests {
+
+        @Test
+        @DisplayName("Should fetch a page again after a transient failure")
+        void testRetryAfterTransientFailure() throws IOException {
+            List<HttpArchiveEntry> entries = otherRoutesEmpty();
+            HttpArchiveEntry firstPage = page(DIGITAL_ROUTE, 1, readFixture());
+            entries.add(firstPage);
+            entries.add(page(DIGITAL_ROUTE, 2, EMPTY_PAGE));
+            AtomicInteger firstPageRequests = new AtomicInteger();
+            OkHttpClient client =
+                    new OkHttpClient.Builder()
+                            .addInterceptor(
+                                    chain -> {
+                                        boolean first = chain.request().url().toString().equals(firstPage.url());
+                                        if (first && firstPageRequests.getAndIncrement() == 0) {
+                                            throw new IOException("Connection reset");
+                                        }
+                                        return chain.proceed(chain.request());
+                                    })
+                            .addInterceptor(new ReplayInterceptor(entries, Duration.ZERO))
+                            .build();
+
+            List<FindAnApprenticeship> apprenticeships =
+                    new FindAnApprenticeshipScraper(client, new ScraperConfig(4, 1_000, 100))
+                            .scrapeApprenticeships();
+
+            assertEquals(2, firstPageRequests.get());
+            assertEquals(2, apprenticeships.size());
+        }
+
+        @Test
+        @DisplayName("Should not fetch a page again after a client error")
+        void testNoRetryAfterClientError() throws IOException {
+            List<HttpArchiveEntry> entries = otherRoutesEmpty();
+            entries.add(page(DIGITAL_ROUTE, 1, 404, EMPTY_PAGE));
+            entries.add(page(DIGITAL_ROUTE, 1, readFixture()));
+            OkHttpClient client =
+                    new OkHttpClient.Builder()
+                            .addInterceptor(new ReplayInterceptor(entries, Duration.ZERO))
+                            .build();
+
+            List<FindAnApprenticeship> apprenticeships =
+                    new FindAnApprenticeshipScraper(client, new ScraperConfig(4, 1_000, 100))
+                            .scrapeApprenticeships();
+
+            assertTrue(apprenticeships.isEmpty());
+        }
+    }
+}
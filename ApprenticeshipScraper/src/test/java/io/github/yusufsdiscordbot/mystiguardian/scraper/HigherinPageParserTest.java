@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.scraper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.HigherinApprenticeship;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link HigherinPageParser}.
+ *
+ * <p>Tests marker scanning, field binding with {@code asText} semantics, and ID-based skipping.
+ */
+@DisplayName("HigherinPageParser Tests")
+class HigherinPageParserTest {
+
+    private static final String FIXTURE = "/higherin_search_page.html";
+
+    private HigherinPageParser parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new HigherinPageParser(new JsonFactory());
+    }
+
+    private List<HigherinApprenticeship> parseFixture() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream(FIXTURE)) {
+            assertNotNull(in, "Fixture not found: " + FIXTURE);
+            return parser.parse(in, "software-engineering");
+        }
+    }
+
+    @Nested
+    @DisplayName("Field Binding")
+    class FieldBindingTests {
+
+        @Test
+        @DisplayName("Should only read listings from the data array")
+        void testListingsFromDataArray() throws IOException {
+            List<HigherinApprenticeship> apprenticeships = parseFixture();
+
+            assertEquals(3, apprenticeships.size());
+            assertEquals("11318", apprenticeships.get(0).getId());
+            assertEquals("22001", apprenticeships.get(1).getId());
+            assertEquals("33002", apprenticeships.get(2).getId());
+        }
+
+        @Test
+        @DisplayName("Should bind all fields of a complete listing")
+        void testCompleteListing() throws IOException {
+            HigherinApprenticeship apprenticeship = parseFixture().getFirst();
+
+            assertEquals("Software Engineering Degree Apprenticeship", apprenticeship.getTitle());
+            assertEquals("BT Group", apprenticeship.getCompanyName());
+            assertEquals("https://cdn.example.com/bt_small.jpg", apprenticeship.getCompanyLogo());
+            assertEquals("Belfast, London", apprenticeship.getLocation());
+            assertEquals("£21,840", apprenticeship.getSalary());
+            assertEquals(
+                    "https://www.higherin.com/jobs/11318/bt-group/software-engineering",
+                    apprenticeship.getUrl());
+            assertEquals(LocalDate.of(2025, 1, 31), apprenticeship.getClosingDate());
+            assertEquals("software-engineering", apprenticeship.getCategory());
+            assertEquals(List.of("software-engineering"), apprenticeship.getCategories());
+        }
+
+        @Test
+        @DisplayName("Should apply defaults for null and missing fields")
+        void testDefaults() throws IOException {
+            HigherinApprenticeship apprenticeship = parseFixture().get(1);
+
+            assertEquals("Not Available", apprenticeship.getCompanyName());
+            assertEquals("Not Available", apprenticeship.getCompanyLogo());
+            assertEquals("Not specified", apprenticeship.getSalary());
+            assertEquals(LocalDate.of(2025, 3, 21), apprenticeship.getClosingDate());
+        }
+
+        @Test
+        @DisplayName("Should read arrays as empty text and numbers as their text")
+        void testNonStringValues() throws IOException {
+            List<HigherinApprenticeship> apprenticeships = parseFixture();
+
+            assertEquals("", apprenticeships.get(1).getLocation());
+            assertEquals("25000", apprenticeships.get(2).getSalary());
+            assertEquals("Widget \"Co\"", apprenticeships.get(2).getCompanyName());
+            assertNull(apprenticeships.get(2).getClosingDate());
+        }
+    }
+
+    @Nested
+    @DisplayName("Skipping")
+    class SkippingTests {
+
+        @Test
+        @DisplayName("Should not build rejected listings but still count them")
+        void testRejectedIdsAreSkipped() throws IOException {
+            List<HigherinApprenticeship> built = new ArrayList<>();
+            Set<String> known = Set.of("11318", "33002");
+
+            int seen;
+            try (InputStream in = getClass().getResourceAsStream(FIXTURE)) {
+                seen = parser.parse(in, "software-engineering", id -> !known.contains(id), built::add);
+            }
+
+            assertEquals(3, seen);
+            assertEquals(1, built.size());
+            assertEquals("22001", built.getFirst().getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("Marker Handling")
+    class MarkerHandlingTests {
+
+        @Test
+        @DisplayName("Should fail when the marker is missing")
+        void testMissingMarker() {
+            byte[] html = "<html><body>No data</body></html>".getBytes(StandardCharsets.UTF_8);
+            InputStream in = new ByteArrayInputStream(html);
+
+            assertThrows(IllegalStateException.class, () -> parser.parse(in, "software-engineering"));
+        }
+
+        @Test
+        @DisplayName("Should find the marker after a partial match")
+        void testPartialMatchBeforeMarker() throws IOException {
+            String html =
+                    "<script>window.window.__RMP_SEARCH_RESULTS_INITIAL_STATE__ = "
+                            + "{\"data\":[{\"id\":\"1\",\"jobTitle\":\"Title\"}]};</script>";
+            InputStream in = new ByteArrayInputStream(html.getBytes(StandardCharsets.UTF_8));
+
+            List<HigherinApprenticeship> apprenticeships = parser.parse(in, "law");
+
+            assertEquals(1, apprenticeships.size());
+            assertEquals("Title", apprenticeships.getFirst().getTitle());
+        }
+    }
+}
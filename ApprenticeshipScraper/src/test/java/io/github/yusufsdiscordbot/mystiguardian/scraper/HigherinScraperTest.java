@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.scraper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.HigherinApprenticeship;
+import io.github.yusufsdiscordbot.mystiguardian.categories.HigherinCategories;
+import io.github.yusufsdiscordbot.mystiguardian.config.ScraperConfig;
+import io.github.yusufsdiscordbot.mystiguardian.scraper.http.HttpArchive;
+import io.github.yusufsdiscordbot.mystiguardian.scraper.http.HttpArchiveEntry;
+import io.github.yusufsdiscordbot.mystiguardian.scraper.http.ReplayInterceptor;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link HigherinScraper}.
+ *
+ * <p>Tests full and incremental crawls replayed from {@link HttpArchive} entries, so no request
+ * reaches Higher In.
+ */
+@DisplayName("HigherinScraper Tests")
+class HigherinScraperTest {
+
+    private static final String FIXTURE = "/higherin_search_page.html";
+
+    private HigherinScraper scraper;
+
+    private static HttpArchiveEntry category(String slug, int code, String body) {
+        return new HttpArchiveEntry(
+                "GET",
+                HttpUrl.get(HigherinScraper.BASE_URL + slug).toString(),
+                code,
+                code == 200 ? "OK" : "Not Found",
+                Map.of("content-type", List.of("text/html; charset=utf-8")),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String readFixture() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream(FIXTURE)) {
+            assertNotNull(in, "Fixture not found: " + FIXTURE);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /** Serves the fixture for the first category and a 404 for every other one. */
+    @BeforeEach
+    void setUp() throws IOException {
+        List<String> categories = HigherinCategories.getAllCategories();
+        List<HttpArchiveEntry> entries = new ArrayList<>();
+        entries.add(category(categories.get(0), 200, readFixture()));
+        for (String slug : categories.subList(1, categories.size())) {
+            entries.add(category(slug, 404, ""));
+        }
+        OkHttpClient client =
+                new OkHttpClient.Builder()
+                        .addInterceptor(new ReplayInterceptor(entries, Duration.ZERO))
+                        .build();
+        scraper = new HigherinScraper(client, new ObjectMapper(), new ScraperConfig(4, 1_000, 100));
+    }
+
+    private static List<String> ids(List<HigherinApprenticeship> apprenticeships) {
+        return apprenticeships.stream()
+                .map(HigherinApprenticeship::getId)
+                .sorted(Comparator.naturalOrder())
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("Replayed Crawl")
+    class ReplayedCrawlTests {
+
+        @Test
+        @DisplayName("Should collect every listing in a full crawl")
+        void testFullCrawl() {
+            assertEquals(List.of("11318", "22001", "33002"), ids(scraper.scrapeApprenticeships()));
+        }
+
+        @Test
+        @DisplayName("Should return only listings that are not already known")
+        void testIncrementalCrawl() {
+            List<HigherinApprenticeship> apprenticeships =
+                    scraper.scrapeApprenticeships(Set.of("11318", "33002"));
+
+            assertEquals(List.of("22001"), ids(apprenticeships));
+        }
+
+        @Test
+        @DisplayName("Should return nothing when every listing is known")
+        void testIncrementalCrawlAllKnown() {
+            assertTrue(scraper.scrapeApprenticeships(Set.of("11318", "22001", "33002")).isEmpty());
+        }
+    }
+}
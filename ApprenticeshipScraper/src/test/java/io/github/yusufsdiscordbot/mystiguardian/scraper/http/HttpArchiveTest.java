@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.scraper.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link HttpArchive} and {@link ReplayInterceptor}.
+ *
+ * <p>Tests that archives survive a write/read round trip and that replay serves recorded responses
+ * without touching the network.
+ */
+@DisplayName("HttpArchive Tests")
+class HttpArchiveTest {
+
+    private static final String PAGE_URL =
+            "https://www.higherin.com/search-jobs/degree-apprenticeship/law";
+
+    @TempDir Path tempDir;
+
+    private static HttpArchiveEntry entry(String url, int code, String body) {
+        return new HttpArchiveEntry(
+                "GET",
+                url,
+                code,
+                code == 200 ? "OK" : "Too Many Requests",
+                Map.of("content-type", List.of("text/html; charset=utf-8")),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Path writeArchive(HttpArchiveEntry... entries) throws IOException {
+        Path file = tempDir.resolve("archive.jsonl.gz");
+        try (HttpArchive.Writer writer = HttpArchive.create(file)) {
+            for (HttpArchiveEntry entry : entries) {
+                writer.write(entry);
+            }
+        }
+        return file;
+    }
+
+    private static OkHttpClient replayClient(Path archive) throws IOException {
+        return new OkHttpClient.Builder()
+                .addInterceptor(ReplayInterceptor.load(archive, Duration.ZERO))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Round Trip")
+    class RoundTripTests {
+
+        @Test
+        @DisplayName("Should read back what was written")
+        void testRoundTrip() throws IOException {
+            Path file = writeArchive(entry(PAGE_URL, 200, "<html>£22,500</html>"));
+
+            List<HttpArchiveEntry> entries = HttpArchive.read(file);
+
+            assertEquals(1, entries.size());
+            assertEquals(PAGE_URL, entries.getFirst().url());
+            assertEquals(200, entries.getFirst().code());
+            assertEquals(
+                    "<html>£22,500</html>", new String(entries.getFirst().body(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Nested
+    @DisplayName("Replay")
+    class ReplayTests {
+
+        @Test
+        @DisplayName("Should serve the recorded response")
+        void testReplayServesResponse() throws IOException {
+            OkHttpClient client = replayClient(writeArchive(entry(PAGE_URL, 200, "<html>law</html>")));
+
+            Request request = new Request.Builder().url(PAGE_URL).build();
+
+            try (Response response = client.newCall(request).execute()) {
+                assertEquals(200, response.code());
+                assertEquals("text/html; charset=utf-8", response.header("Content-Type"));
+                assertEquals("<html>law</html>", response.body().string());
+            }
+        }
+
+        @Test
+        @DisplayName("Should serve repeated URLs in recorded order and then repeat the last")
+        void testReplayOrder() throws IOException {
+            OkHttpClient client =
+                    replayClient(writeArchive(entry(PAGE_URL, 429, ""), entry(PAGE_URL, 200, "ok")));
+            Request request = new Request.Builder().url(PAGE_URL).build();
+
+            try (Response first = client.newCall(request).execute()) {
+                assertEquals(429, first.code());
+            }
+            try (Response second = client.newCall(request).execute()) {
+                assertEquals(200, second.code());
+            }
+            try (Response third = client.newCall(request).execute()) {
+                assertEquals(200, third.code());
+            }
+        }
+
+        @Test
+        @DisplayName("Should fail for requests that were not recorded")
+        void testReplayMissingEntry() throws IOException {
+            OkHttpClient client = replayClient(writeArchive(entry(PAGE_URL, 200, "ok")));
+            Request request = new Request.Builder().url(PAGE_URL + "/other").build();
+
+            assertThrows(IOException.class, () -> client.newCall(request).execute());
+        }
+    }
+}
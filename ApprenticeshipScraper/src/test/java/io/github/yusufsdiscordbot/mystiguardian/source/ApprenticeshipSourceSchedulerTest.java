@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.source;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.Apprenticeship;
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.ApprenticeshipSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ApprenticeshipSourceScheduler}.
+ *
+ * <p>Tests overlap prevention, failure isolation between sources and run timeouts.
+ */
+@DisplayName("ApprenticeshipSourceScheduler Tests")
+class ApprenticeshipSourceSchedulerTest {
+
+    private ScheduledExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private record StubProvider(ApprenticeshipSource source, Duration timeout)
+            implements ApprenticeshipSourceProvider {
+
+        StubProvider(ApprenticeshipSource source) {
+            this(source, Duration.ofMinutes(1));
+        }
+
+        @NotNull
+        @Override
+        public Duration pollInterval() {
+            return Duration.ofHours(1);
+        }
+
+        @Override
+        public int concurrency() {
+            return 1;
+        }
+
+        @NotNull
+        @Override
+        public List<? extends Apprenticeship> scrape(@Nullable Set<String> knownIds) {
+            return List.of();
+        }
+    }
+
+    private static void awaitIdle(
+            ApprenticeshipSourceScheduler scheduler, ApprenticeshipSource source)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduler.isRunning(source)) {
+            assertTrue(System.nanoTime() < deadline, source + " did not finish");
+            Thread.sleep(10);
+        }
+    }
+
+    @Nested
+    @DisplayName("Overlap")
+    class OverlapTests {
+
+        @Test
+        @DisplayName("Should skip a trigger while the same source is still running")
+        void testOverlappingTriggerSkipped() throws InterruptedException {
+            CountDownLatch release = new CountDownLatch(1);
+            StubProvider provider = new StubProvider(ApprenticeshipSource.GOV_UK);
+            ApprenticeshipSourceScheduler scheduler =
+                    new ApprenticeshipSourceScheduler(executor, List.of(provider), p -> release.await());
+
+            assertTrue(scheduler.trigger(provider));
+            assertFalse(scheduler.trigger(provider));
+
+            release.countDown();
+            awaitIdle(scheduler, ApprenticeshipSource.GOV_UK);
+            assertTrue(scheduler.trigger(provider));
+        }
+
+        @Test
+        @DisplayName("Should reject two providers for the same source")
+        void testDuplicateSourceRejected() {
+            List<StubProvider> providers =
+                    List.of(
+                            new StubProvider(ApprenticeshipSource.GOV_UK),
+                            new StubProvider(ApprenticeshipSource.GOV_UK));
+
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new ApprenticeshipSourceScheduler(executor, providers, p -> {}));
+        }
+    }
+
+    @Nested
+    @DisplayName("Isolation")
+    class IsolationTests {
+
+        @Test
+        @DisplayName("Should keep running other sources when one fails")
+        void testFailureIsolated() throws InterruptedException {
+            CountDownLatch higherinRan = new CountDownLatch(1);
+            ApprenticeshipSourceScheduler scheduler =
+                    new ApprenticeshipSourceScheduler(
+                            executor,
+                            List.of(
+                                    new StubProvider(ApprenticeshipSource.GOV_UK),
+                                    new StubProvider(ApprenticeshipSource.RATE_MY_APPRENTICESHIP)),
+                            p -> {
+                                if (p.source() == ApprenticeshipSource.GOV_UK) {
+                                    throw new IllegalStateException("GOV.UK is down");
+                                }
+                                higherinRan.countDown();
+                            });
+
+            scheduler.runAllNow();
+
+            assertTrue(higherinRan.await(5, TimeUnit.SECONDS));
+            awaitIdle(scheduler, ApprenticeshipSource.GOV_UK);
+        }
+
+        @Test
+        @DisplayName("Should interrupt a run that exceeds its timeout")
+        void testTimeoutInterrupts() throws InterruptedException {
+            CountDownLatch interrupted = new CountDownLatch(1);
+            StubProvider provider =
+                    new StubProvider(ApprenticeshipSource.GOV_UK, Duration.ofMillis(50));
+            ApprenticeshipSourceScheduler scheduler =
+                    new ApprenticeshipSourceScheduler(
+                            executor,
+                            List.of(provider),
+                            p -> {
+                                try {
+                                    Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                                } catch (InterruptedException e) {
+                                    interrupted.countDown();
+                                    throw e;
+                                }
+                            });
+
+            scheduler.trigger(provider);
+
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+            awaitIdle(scheduler, ApprenticeshipSource.GOV_UK);
+        }
+    }
+}
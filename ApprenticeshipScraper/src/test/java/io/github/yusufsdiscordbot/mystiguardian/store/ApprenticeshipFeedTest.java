@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.ApprenticeshipSource;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ApprenticeshipFeed}.
+ *
+ * <p>Tests delivery to subscribers, slow-consumer eviction and the subscriber limit.
+ */
+@DisplayName("ApprenticeshipFeed Tests")
+class ApprenticeshipFeedTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static List<ApprenticeshipListing> batch(String id) {
+        return List.of(
+                new ApprenticeshipListing(
+                        id,
+                        ApprenticeshipSource.GOV_UK,
+                        "Title " + id,
+                        "Company",
+                        "London",
+                        List.of(),
+                        List.of("Technology"),
+                        null,
+                        null,
+                        null,
+                        null));
+    }
+
+    @Nested
+    @DisplayName("Delivery")
+    class DeliveryTests {
+
+        @Test
+        @DisplayName("Should deliver each batch to every subscriber in order")
+        void testFanOut() throws Exception {
+            ApprenticeshipFeed feed = new ApprenticeshipFeed();
+            ApprenticeshipFeed.Subscription first = feed.subscribe();
+            ApprenticeshipFeed.Subscription second = feed.subscribe();
+
+            feed.publish(batch("VAC1"));
+            feed.publish(batch("VAC2"));
+
+            for (ApprenticeshipFeed.Subscription subscription : List.of(first, second)) {
+                ApprenticeshipFeed.Event event = subscription.poll(Duration.ofSeconds(1));
+                assertEquals(
+                        "VAC1",
+                        MAPPER.readTree(event.json()).get("apprenticeships").get(0).get("id").asText());
+                assertTrue(subscription.poll(Duration.ofSeconds(1)).id() > event.id());
+            }
+        }
+
+        @Test
+        @DisplayName("Should return null when no event arrives in time")
+        void testTimeout() throws InterruptedException {
+            ApprenticeshipFeed feed = new ApprenticeshipFeed();
+
+            assertNull(feed.subscribe().poll(Duration.ofMillis(10)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Subscribers")
+    class SubscriberTests {
+
+        @Test
+        @DisplayName("Should evict a subscriber whose buffer is full")
+        void testEviction() throws InterruptedException {
+            ApprenticeshipFeed feed = new ApprenticeshipFeed(2, 10);
+            ApprenticeshipFeed.Subscription slow = feed.subscribe();
+            ApprenticeshipFeed.Subscription fast = feed.subscribe();
+
+            for (int i = 0; i < 3; i++) {
+                feed.publish(batch("VAC" + i));
+                assertNotNull(fast.poll(Duration.ofSeconds(1)));
+            }
+
+            assertTrue(slow.isClosed());
+            assertNull(slow.poll(Duration.ofSeconds(1)));
+            assertFalse(fast.isClosed());
+            assertEquals(1, feed.subscriberCount());
+        }
+
+        @Test
+        @DisplayName("Should refuse subscribers beyond the limit until one closes")
+        void testLimit() {
+            ApprenticeshipFeed feed = new ApprenticeshipFeed(4, 1);
+            ApprenticeshipFeed.Subscription subscription = feed.subscribe();
+
+            assertNull(feed.subscribe());
+            subscription.close();
+            assertNotNull(feed.subscribe());
+        }
+
+        @Test
+        @DisplayName("Should wake a waiting subscriber when it is closed")
+        void testCloseWakesPoll() throws Exception {
+            ApprenticeshipFeed feed = new ApprenticeshipFeed();
+            ApprenticeshipFeed.Subscription subscription = feed.subscribe();
+
+            Thread closer =
+                    new Thread(
+                            () -> {
+                                try {
+                                    Thread.sleep(50);
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                                subscription.close();
+                            });
+            closer.start();
+
+            long start = System.nanoTime();
+            assertNull(subscription.poll(Duration.ofSeconds(10)));
+            assertTrue(System.nanoTime() - start < Duration.ofSeconds(5).toNanos());
+            closer.join();
+        }
+    }
+}
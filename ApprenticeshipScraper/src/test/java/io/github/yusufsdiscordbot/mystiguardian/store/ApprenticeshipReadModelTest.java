@@ -0,0 +1,286 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.store;
+
+import static io.github.yusufsdiscordbot.mystiguardian.store.ListingFixtures.listing;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.ApprenticeshipSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ApprenticeshipReadModel}.
+ *
+ * <p>Tests the pre-encoded response, merging saved listings, evicting closed ones and paged
+ * queries.
+ */
+@DisplayName("ApprenticeshipReadModel Tests")
+class ApprenticeshipReadModelTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static List<String> ids(ApprenticeshipReadModel model) {
+        return model.listings().stream().map(ApprenticeshipListing::id).toList();
+    }
+
+    /** Clock whose current instant can be moved forward by the test. */
+    private static final class TestClock extends Clock {
+        private Instant instant = TODAY.atStartOfDay(ZoneOffset.UTC).toInstant();
+
+        void advanceDays(int days) {
+            instant = instant.plusSeconds(days * 86_400L);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    @Nested
+    @DisplayName("Encoded response")
+    class EncodedResponseTests {
+
+        @Test
+        @DisplayName("Should encode open listings in the web API shape")
+        void testJson() throws IOException {
+            ApprenticeshipReadModel model = new ApprenticeshipReadModel(new TestClock());
+            model.replaceAll(List.of(listing("VAC1", TODAY.plusDays(2)), listing("VAC2", TODAY)));
+
+            JsonNode apprenticeships = MAPPER.readTree(model.response().json()).get("apprenticeships");
+
+            assertEquals(2, apprenticeships.size());
+            assertEquals("VAC2", apprenticeships.get(0).get("id").asText());
+            assertEquals("2026-03-10", apprenticeships.get(0).get("closingDate").asText());
+            assertEquals("", apprenticeships.get(0).get("openingDate").asText());
+            assertEquals("Technology", apprenticeships.get(0).get("unifiedCategories").get(0).asText());
+            assertEquals("GOV_UK", apprenticeships.get(0).get("source").asText());
+        }
+
+        @Test
+        @DisplayName("Should gzip the same bytes as the JSON body")
+        void testGzip() throws IOException {
+            ApprenticeshipReadModel model = new ApprenticeshipReadModel(new TestClock());
+            model.replaceAll(List.of(listing("VAC1", null)));
+
+            ApprenticeshipReadModel.EncodedResponse response = model.response();
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.gzip()))) {
+                assertArrayEquals(response.json(), in.readAllBytes());
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep the ETag for the same content and change it when content changes")
+        void testEtag() {
+            ApprenticeshipReadModel model = new ApprenticeshipReadModel(new TestClock());
+            model.replaceAll(List.of(listing("VAC1", null)));
+            String etag = model.response().etag();
+
+            model.replaceAll(List.of(listing("VAC1", null)));
+            assertEquals(etag, model.response().etag());
+
+            model.upsertAll(List.of(listing("VAC2", null)));
+            assertNotEquals(etag, model.response().etag());
+            assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+        }
+    }
+
+    @Nested
+    @DisplayName("Updates")
+    class UpdateTests {
+
+        @Test
+        @DisplayName("Should merge saved listings by ID and keep closing-date order")
+        void testUpsert() {
+            ApprenticeshipReadModel model = new ApprenticeshipReadModel(new TestClock());
+            model.replaceAll(List.of(listing("VAC1", TODAY.plusDays(5)), listing("VAC2", null)));
+
+            model.upsertAll(List.of(listing("VAC1", TODAY.plusDays(1)), listing("VAC3", TODAY)));
+
+            assertEquals(List.of("VAC3", "VAC1", "VAC2"), ids(model));
+        }
+
+        @Test
+        @DisplayName("Should leave out listings that have already closed")
+        void testClosedListingsSkipped() {
+            ApprenticeshipReadModel model = new ApprenticeshipReadModel(new TestClock());
+            model.replaceAll(List.of(listing("VAC1", TODAY.minusDays(1)), listing("VAC2", TODAY)));
+
+            assertEquals(List.of("VAC2"), ids(model));
+        }
+
+        @Test
+        @DisplayName("Should evict listings once their closing date has passed")
+        void testEviction() throws IOException {
+            TestClock clock = new TestClock();
+            ApprenticeshipReadModel model = new ApprenticeshipReadModel(clock);
+            model.replaceAll(
+                    List.of(
+                            listing("VAC1", TODAY),
+                            listing("VAC2", TODAY.plusDays(1)),
+                            listing("VAC3", null)));
+            String etag = model.response().etag();
+
+            clock.advanceDays(2);
+
+            assertEquals(List.of("VAC3"), ids(model));
+            assertNotEquals(etag, model.response().etag());
+            assertEquals(1, MAPPER.readTree(model.response().json()).get("apprenticeships").size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Queries")
+    class QueryTests {
+
+        private ApprenticeshipReadModel model;
+
+        @BeforeEach
+        void setUp() {
+            model = new ApprenticeshipReadModel(new TestClock());
+            model.replaceAll(
+                    List.of(
+                            listing(
+                                    "VAC1",
+                                    ApprenticeshipSource.GOV_UK,
+                                    "Software Engineer",
+                                    "Acme",
+                                    "London",
+                                    List.of("Technology"),
+                                    TODAY.plusDays(1)),
+                            listing(
+                                    "VAC2",
+                                    ApprenticeshipSource.GOV_UK,
+                                    "Data Analyst",
+                                    "Beta",
+                                    "Leeds",
+                                    List.of("Technology", "Finance"),
+                                    TODAY.plusDays(2)),
+                            listing(
+                                    "RMA3",
+                                    ApprenticeshipSource.RATE_MY_APPRENTICESHIP,
+                                    "Accountant",
+                                    "Acme Finance",
+                                    "London",
+                                    List.of("Finance"),
+                                    null)));
+        }
+
+        private JsonNode query(
+                String category, String location, String source, String text, String sort, String cursor)
+                throws IOException {
+            return MAPPER.readTree(
+                    model.query(
+                            ApprenticeshipQuery.fromParams(
+                                    category, location, source, text, sort, cursor, "2")));
+        }
+
+        private static List<String> pageIds(JsonNode page) {
+            List<String> ids = new ArrayList<>();
+            page.get("apprenticeships").forEach(node -> ids.add(node.get("id").asText()));
+            return ids;
+        }
+
+        @Test
+        @DisplayName("Should page through results with a cursor")
+        void testPaging() throws IOException {
+            JsonNode first = query(null, null, null, null, null, null);
+            assertEquals(List.of("VAC1", "VAC2"), pageIds(first));
+            assertEquals(3, first.get("total").asInt());
+
+            JsonNode second = query(null, null, null, null, null, first.get("nextCursor").asText());
+            assertEquals(List.of("RMA3"), pageIds(second));
+            assertTrue(second.get("nextCursor").isNull());
+        }
+
+        @Test
+        @DisplayName("Should combine category, location, source and text filters")
+        void testFilters() throws IOException {
+            assertEquals(
+                    List.of("VAC2", "RMA3"), pageIds(query("finance", null, null, null, null, null)));
+            assertEquals(
+                    List.of("VAC1", "RMA3"), pageIds(query(null, "London", null, null, null, null)));
+            assertEquals(
+                    List.of("RMA3"), pageIds(query("Finance", "London", "RMA", null, null, null)));
+            assertEquals(
+                    List.of("VAC1", "RMA3"), pageIds(query(null, null, null, "ACME", null, null)));
+            assertEquals(0, query("Unknown", null, null, null, null, null).get("total").asInt());
+        }
+
+        @Test
+        @DisplayName("Should use the precomputed sort orders")
+        void testSort() throws IOException {
+            assertEquals(
+                    List.of("RMA3", "VAC2"), pageIds(query(null, null, null, null, "title", null)));
+            assertEquals(
+                    List.of("VAC1", "RMA3"), pageIds(query(null, null, null, null, "company", null)));
+        }
+
+        @Test
+        @DisplayName("Should list the filter values on the first page only")
+        void testFacets() throws IOException {
+            JsonNode first = query(null, null, null, null, null, null);
+            assertEquals(3, first.get("available").asInt());
+            assertEquals("Finance", first.get("categories").get(0).asText());
+            assertEquals(2, first.get("locations").size());
+
+            assertFalse(query(null, null, null, null, null, "1").has("categories"));
+        }
+
+        @Test
+        @DisplayName("Should reject malformed parameters")
+        void testInvalidParameters() {
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> ApprenticeshipQuery.fromParams(null, null, null, null, "newest", null, null));
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> ApprenticeshipQuery.fromParams(null, null, null, null, null, "abc", null));
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> ApprenticeshipQuery.fromParams(null, null, null, null, null, null, "0"));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.store;
+
+import static io.github.yusufsdiscordbot.mystiguardian.store.ListingFixtures.listing;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ApprenticeshipSearchIndex}.
+ *
+ * <p>Tests prefix matching, ranking and incremental updates.
+ */
+@DisplayName("ApprenticeshipSearchIndex Tests")
+class ApprenticeshipSearchIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    private ApprenticeshipSearchIndex index;
+
+    private List<String> search(String text) {
+        return index.search(text, 10).stream().map(ApprenticeshipListing::id).toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new ApprenticeshipSearchIndex();
+        index.putAll(
+                List.of(
+                        listing("VAC1", "Software Engineer", "Acme", "London", TODAY.plusDays(5)),
+                        listing("VAC2", "Civil Engineering", "Engine Works", "Leeds", TODAY.plusDays(1)),
+                        listing("VAC3", "Accountant", "Acme Finance", "London", null)));
+    }
+
+    @Nested
+    @DisplayName("Matching")
+    class MatchingTests {
+
+        @Test
+        @DisplayName("Should match words by prefix, ignoring case and punctuation")
+        void testPrefix() {
+            assertEquals(List.of("VAC1", "VAC3"), search("ACM"));
+            assertEquals(List.of("VAC3"), search("fin"));
+            assertEquals(List.of("VAC3"), search("accountant,"));
+        }
+
+        @Test
+        @DisplayName("Should require every word to match")
+        void testAllWords() {
+            assertEquals(List.of("VAC1"), search("soft lon"));
+            assertEquals(List.of(), search("soft leeds"));
+            assertEquals(List.of(), search("   "));
+        }
+
+        @Test
+        @DisplayName("Should rank title matches above company matches")
+        void testRanking() {
+            assertEquals(List.of("VAC1", "VAC2"), search("engineer"));
+            assertEquals(List.of("VAC2", "VAC1"), search("eng"));
+        }
+
+        @Test
+        @DisplayName("Should stop at the limit")
+        void testLimit() {
+            assertEquals(1, index.search("a", 1).size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Updates")
+    class UpdateTests {
+
+        @Test
+        @DisplayName("Should reindex a listing when it changes")
+        void testPut() {
+            index.put(listing("VAC1", "Plumber", "Acme", "London", TODAY.plusDays(5)));
+
+            assertEquals(List.of(), search("software"));
+            assertEquals(List.of("VAC1"), search("plumb"));
+            assertEquals(3, index.size());
+        }
+
+        @Test
+        @DisplayName("Should forget removed listings")
+        void testRemove() {
+            index.remove("VAC3");
+            index.put(listing("VAC4", "Data Analyst", "Beta", "Leeds", null));
+
+            assertEquals(List.of("VAC1"), search("acme"));
+            assertEquals(List.of("VAC4"), search("data"));
+            assertEquals(3, index.size());
+        }
+
+        @Test
+        @DisplayName("Should keep only the listings given to replaceAll")
+        void testReplaceAll() {
+            index.replaceAll(
+                    List.of(listing("VAC2", "Civil Engineering", "Engine Works", "Leeds", null)));
+
+            assertEquals(List.of("VAC2"), search("e"));
+            assertEquals(1, index.size());
+        }
+
+        @Test
+        @DisplayName("Should stay correct after empty slots are compacted")
+        void testCompaction() {
+            for (int i = 0; i < 500; i++) {
+                index.put(listing("TMP" + i, "Temporary Role", "Gamma", "York", null));
+                index.remove("TMP" + i);
+            }
+
+            assertEquals(List.of(), search("temporary"));
+            assertEquals(List.of("VAC1", "VAC3"), search("acme"));
+            assertEquals(3, index.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Should never return a listing that does not match while listings change")
+        void testSearchDuringUpdates() throws Exception {
+            Thread writer =
+                    new Thread(
+                            () -> {
+                                for (int i = 0; i < 20_000; i++) {
+                                    String id = "CHURN" + (i % 50);
+                                    if (i % 3 == 0) {
+                                        index.remove(id);
+                                    } else {
+                                        String title = i % 2 == 0 ? "Welder" : "Baker";
+                                        index.put(listing(id, title, "Delta", "Hull", null));
+                                    }
+                                }
+                            });
+            writer.start();
+
+            while (writer.isAlive()) {
+                for (ApprenticeshipListing hit : index.search("weld", 20)) {
+                    assertEquals("Welder", hit.title());
+                }
+            }
+            writer.join();
+        }
+    }
+}
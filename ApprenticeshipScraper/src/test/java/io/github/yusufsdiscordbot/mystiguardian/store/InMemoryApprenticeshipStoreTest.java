@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.store;
+
+import static io.github.yusufsdiscordbot.mystiguardian.store.ListingFixtures.listing;
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.ApprenticeshipSource;
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.HigherinApprenticeship;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link InMemoryApprenticeshipStore} and {@link ApprenticeshipListing}.
+ *
+ * <p>Tests upserts, open listing order and conversion from scraped apprenticeships.
+ */
+@DisplayName("InMemoryApprenticeshipStore Tests")
+class InMemoryApprenticeshipStoreTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    @Nested
+    @DisplayName("Store")
+    class StoreTests {
+
+        @Test
+        @DisplayName("Should replace a listing saved again with the same ID")
+        void testUpsert() {
+            InMemoryApprenticeshipStore store = new InMemoryApprenticeshipStore();
+            store.upsertAll(List.of(listing("VAC1", null), listing("VAC2", null)));
+            store.upsertAll(List.of(listing("VAC1", TODAY)));
+
+            assertEquals(2, store.count());
+            assertEquals(Set.of("VAC1", "VAC2"), store.findAllIds());
+            assertEquals(TODAY, store.findOpen(TODAY).getFirst().closingDate());
+        }
+
+        @Test
+        @DisplayName("Should return open listings by closing date with open-ended ones last")
+        void testFindOpen() {
+            InMemoryApprenticeshipStore store = new InMemoryApprenticeshipStore();
+            store.upsertAll(
+                    List.of(
+                            listing("VAC1", null),
+                            listing("VAC2", TODAY.plusDays(5)),
+                            listing("VAC3", TODAY.minusDays(1)),
+                            listing("VAC4", TODAY)));
+
+            List<String> ids = store.findOpen(TODAY).stream().map(ApprenticeshipListing::id).toList();
+
+            assertEquals(List.of("VAC4", "VAC2", "VAC1"), ids);
+        }
+    }
+
+    @Nested
+    @DisplayName("Listing")
+    class ListingTests {
+
+        @Test
+        @DisplayName("Should copy stored fields from a scraped apprenticeship")
+        void testOf() {
+            HigherinApprenticeship apprenticeship = new HigherinApprenticeship();
+            apprenticeship.setId("RMA1");
+            apprenticeship.setTitle("Software Engineer");
+            apprenticeship.setCategories(List.of("software-engineering"));
+            apprenticeship.setOpeningDate(TODAY.minusDays(3));
+            apprenticeship.setClosingDate(TODAY);
+
+            ApprenticeshipListing listing =
+                    ApprenticeshipListing.of(apprenticeship, ApprenticeshipSource.RATE_MY_APPRENTICESHIP);
+
+            assertEquals("RMA1", listing.id());
+            assertEquals(List.of("Technology"), listing.unifiedCategories());
+            assertEquals(TODAY.minusDays(3), listing.openingDate());
+            assertEquals(TODAY, listing.closingDate());
+        }
+
+        @Test
+        @DisplayName("Should write sheet rows in column order with empty strings for missing values")
+        void testToSheetRow() {
+            List<Object> row = listing("VAC1", null).toSheetRow();
+
+            assertEquals(11, row.size());
+            assertEquals("VAC1", row.getFirst());
+            assertEquals("", row.get(7));
+            assertEquals("", row.get(8));
+            assertEquals("GOV_UK", row.get(10));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.store;
+
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.ApprenticeshipSource;
+import java.time.LocalDate;
+import java.util.List;
+
+/** Builds {@link ApprenticeshipListing} instances for the store tests. */
+final class ListingFixtures {
+
+    private ListingFixtures() {}
+
+    /**
+     * Builds a GOV.UK listing with placeholder details, titled {@code "Title " + id}.
+     *
+     * @param id the listing ID
+     * @param closingDate the closing date, or null if none
+     * @return the listing
+     */
+    static ApprenticeshipListing listing(String id, LocalDate closingDate) {
+        return new ApprenticeshipListing(
+                id,
+                ApprenticeshipSource.GOV_UK,
+                "Title " + id,
+                "Company",
+                "London",
+                List.of("Digital"),
+                List.of("Technology"),
+                "£20,000",
+                null,
+                closingDate,
+                "https://example.com/" + id);
+    }
+
+    /**
+     * Builds a GOV.UK listing with the given searchable fields and no categories.
+     *
+     * @param id the listing ID
+     * @param title the title
+     * @param companyName the company name
+     * @param location the location
+     * @param closingDate the closing date, or null if none
+     * @return the listing
+     */
+    static ApprenticeshipListing listing(
+            String id, String title, String companyName, String location, LocalDate closingDate) {
+        return listing(
+                id, ApprenticeshipSource.GOV_UK, title, companyName, location, List.of(), closingDate);
+    }
+
+    /**
+     * Builds a listing with the given filterable fields and nothing else.
+     *
+     * @param id the listing ID
+     * @param source the source site
+     * @param title the title
+     * @param companyName the company name
+     * @param location the location
+     * @param unifiedCategories the unified categories
+     * @param closingDate the closing date, or null if none
+     * @return the listing
+     */
+    static ApprenticeshipListing listing(
+            String id,
+            ApprenticeshipSource source,
+            String title,
+            String companyName,
+            String location,
+            List<String> unifiedCategories,
+            LocalDate closingDate) {
+        return new ApprenticeshipListing(
+                id,
+                source,
+                title,
+                companyName,
+                location,
+                List.of(),
+                unifiedCategories,
+                null,
+                null,
+                closingDate,
+                null);
+    }
+}
@@ -22,17 +22,20 @@ import static io.github.yusufsdiscordbot.mystiguardian.utils.MystiGuardianUtils.
 
 import com.zaxxer.hikari.HikariDataSource;
 import io.github.yusufsdiscordbot.mystiguardian.commands.moderation.util.UnbanCheckThread;
+import io.github.yusufsdiscordbot.mystiguardian.database.JooqApprenticeshipStore;
 import io.github.yusufsdiscordbot.mystiguardian.database.MystiGuardianDatabase;
 import io.github.yusufsdiscordbot.mystiguardian.event.EventDispatcher;
 import io.github.yusufsdiscordbot.mystiguardian.event.events.DiscordEvents;
 import io.github.yusufsdiscordbot.mystiguardian.event.events.ModerationActionTriggerEvent;
 import io.github.yusufsdiscordbot.mystiguardian.event.events.NewDAEvent;
+import io.github.yusufsdiscordbot.mystiguardian.event.listener.ApprenticeshipWebhookDelivery;
 import io.github.yusufsdiscordbot.mystiguardian.event.listener.ModerationActionTriggerEventListener;
 import io.github.yusufsdiscordbot.mystiguardian.event.listener.NewDAEventListener;
 import io.github.yusufsdiscordbot.mystiguardian.manager.ApprenticeshipSpreadsheetManager;
 import io.github.yusufsdiscordbot.mystiguardian.slash.AutoSlashAdder;
 import io.github.yusufsdiscordbot.mystiguardian.slash.SlashCommandsHandler;
 import io.github.yusufsdiscordbot.mystiguardian.utils.MystiGuardianUtils;
+import java.io.IOException;
 import java.time.Instant;
 import java.util.Objects;
 import java.util.Optional;
@@ -57,6 +60,9 @@ public class MystiGuardianConfig {
     @Getter private static MystiGuardianConfig instance;
     @Getter public static ApprenticeshipSpreadsheetManager apprenticeshipSpreadsheetManager;
 
+    /** Posts apprenticeship announcements through channel webhooks, caching one per channel. */
+    private final ApprenticeshipWebhookDelivery webhookDelivery = new ApprenticeshipWebhookDelivery();
+
     @SuppressWarnings("unused")
     public MystiGuardianConfig() {
         instance = this;
@@ -77,6 +83,14 @@ public class MystiGuardianConfig {
     private void shutdown() {
         logger.info("Shutting down...");
 
+        if (apprenticeshipSpreadsheetManager != null) {
+            try {
+                apprenticeshipSpreadsheetManager.close();
+            } catch (IOException e) {
+                logger.error("Failed to close the apprenticeship spreadsheet manager", e);
+            }
+        }
+
         Optional.ofNullable(database)
                 .map(MystiGuardianDatabase::getDs)
                 .ifPresent(HikariDataSource::close);
@@ -102,7 +116,7 @@ public class MystiGuardianConfig {
         eventDispatcher.registerEventHandler(
                 ModerationActionTriggerEvent.class, new ModerationActionTriggerEventListener());
 
-        eventDispatcher.registerEventHandler(NewDAEvent.class, new NewDAEventListener());
+        eventDispatcher.registerEventHandler(NewDAEvent.class, new NewDAEventListener(webhookDelivery));
 
         jda.addEventListener(new DiscordEvents(slashCommandsHandler));
     }
@@ -152,7 +166,9 @@ public class MystiGuardianConfig {
                             MystiGuardianUtils.getDAConfig().spreadsheetId(),
                             MystiGuardianUtils.getScheduler(),
                             MystiGuardianUtils.getDAConfig(),
-                            MystiGuardianUtils.getMainConfig().rolesToPing());
+                            MystiGuardianUtils.getApprenticeshipRoutingTable(),
+                            new JooqApprenticeshipStore(context),
+                            webhookDelivery);
 
             apprenticeshipSpreadsheetManager.scheduleProcessNewApprenticeships(jda);
         } catch (Exception e) {
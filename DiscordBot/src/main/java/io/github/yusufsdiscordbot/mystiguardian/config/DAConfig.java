@@ -20,9 +20,29 @@ package io.github.yusufsdiscordbot.mystiguardian.config;
 
 import com.google.api.services.sheets.v4.Sheets;
 import java.util.List;
+import org.jetbrains.annotations.Nullable;
 
 public record DAConfig(
-        List<GuildChannelConfig> guildChannels, Sheets sheetsService, String spreadsheetId) {
+        List<GuildChannelConfig> guildChannels,
+        Sheets sheetsService,
+        String spreadsheetId,
+        List<HubChannelConfig> hubChannels) {
+
+    public DAConfig {
+        hubChannels = hubChannels == null ? List.of() : List.copyOf(hubChannels);
+    }
+
+    public DAConfig(
+            List<GuildChannelConfig> guildChannels, Sheets sheetsService, String spreadsheetId) {
+        this(guildChannels, sheetsService, spreadsheetId, List.of());
+    }
+
+    public boolean usesHubChannels() {
+        return !hubChannels.isEmpty();
+    }
 
     public record GuildChannelConfig(long guildId, long channelId) {}
+
+    public record HubChannelConfig(
+            long guildId, long channelId, @Nullable ApprenticeshipCategoryGroup categoryGroup) {}
 }
@@ -31,5 +31,5 @@ public record MainConfig(
         String githubToken,
         @Nullable WebServiceConfig webService) {
 
-    public record WebServiceConfig(int port, String baseUrl) {}
+    public record WebServiceConfig(int port, String baseUrl, @Nullable String tokenSecret) {}
 }
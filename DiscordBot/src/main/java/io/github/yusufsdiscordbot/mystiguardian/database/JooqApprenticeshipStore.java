@@ -0,0 +1,165 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.database;
+
+import static io.github.yusufsdiscordbot.mystiguardian.db.Tables.APPRENTICESHIP;
+
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.ApprenticeshipSource;
+import io.github.yusufsdiscordbot.mystiguardian.db.tables.records.ApprenticeshipRecord;
+import io.github.yusufsdiscordbot.mystiguardian.store.ApprenticeshipListing;
+import io.github.yusufsdiscordbot.mystiguardian.store.ApprenticeshipStore;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+
+/**
+ * {@link ApprenticeshipStore} backed by the {@code apprenticeship} table.
+ *
+ * <p>Writes are multi-row upserts keyed by ID, so re-saving a listing refreshes its details but
+ * keeps the time it was first seen. Open listings are read through the closing date index.
+ */
+@Slf4j
+public class JooqApprenticeshipStore implements ApprenticeshipStore {
+
+    /** Maximum number of rows sent in a single upsert statement. */
+    private static final int UPSERT_BATCH_SIZE = 500;
+
+    private final DSLContext context;
+
+    public JooqApprenticeshipStore(@NotNull DSLContext context) {
+        this.context = Objects.requireNonNull(context, "context cannot be null");
+    }
+
+    @Override
+    public void upsertAll(@NotNull Collection<ApprenticeshipListing> listings) {
+        val batch = List.copyOf(listings);
+        for (int from = 0; from < batch.size(); from += UPSERT_BATCH_SIZE) {
+            upsert(batch.subList(from, Math.min(from + UPSERT_BATCH_SIZE, batch.size())));
+        }
+    }
+
+    private void upsert(List<ApprenticeshipListing> listings) {
+        val insert =
+                context.insertInto(
+                        APPRENTICESHIP,
+                        APPRENTICESHIP.ID,
+                        APPRENTICESHIP.SOURCE,
+                        APPRENTICESHIP.TITLE,
+                        APPRENTICESHIP.COMPANY_NAME,
+                        APPRENTICESHIP.LOCATION,
+                        APPRENTICESHIP.CATEGORIES,
+                        APPRENTICESHIP.UNIFIED_CATEGORIES,
+                        APPRENTICESHIP.SALARY,
+                        APPRENTICESHIP.OPENING_DATE,
+                        APPRENTICESHIP.CLOSING_DATE,
+                        APPRENTICESHIP.URL);
+
+        for (ApprenticeshipListing listing : listings) {
+            insert.values(
+                    listing.id(),
+                    listing.source().getCode(),
+                    listing.title(),
+                    listing.companyName(),
+                    listing.location(),
+                    listing.categories().toArray(String[]::new),
+                    listing.unifiedCategories().toArray(String[]::new),
+                    listing.salary(),
+                    listing.openingDate(),
+                    listing.closingDate(),
+                    listing.url());
+        }
+
+        insert
+                .onConflict(APPRENTICESHIP.ID)
+                .doUpdate()
+                .set(APPRENTICESHIP.SOURCE, DSL.excluded(APPRENTICESHIP.SOURCE))
+                .set(APPRENTICESHIP.TITLE, DSL.excluded(APPRENTICESHIP.TITLE))
+                .set(APPRENTICESHIP.COMPANY_NAME, DSL.excluded(APPRENTICESHIP.COMPANY_NAME))
+                .set(APPRENTICESHIP.LOCATION, DSL.excluded(APPRENTICESHIP.LOCATION))
+                .set(APPRENTICESHIP.CATEGORIES, DSL.excluded(APPRENTICESHIP.CATEGORIES))
+                .set(APPRENTICESHIP.UNIFIED_CATEGORIES, DSL.excluded(APPRENTICESHIP.UNIFIED_CATEGORIES))
+                .set(APPRENTICESHIP.SALARY, DSL.excluded(APPRENTICESHIP.SALARY))
+                .set(APPRENTICESHIP.OPENING_DATE, DSL.excluded(APPRENTICESHIP.OPENING_DATE))
+                .set(APPRENTICESHIP.CLOSING_DATE, DSL.excluded(APPRENTICESHIP.CLOSING_DATE))
+                .set(APPRENTICESHIP.URL, DSL.excluded(APPRENTICESHIP.URL))
+                .set(APPRENTICESHIP.UPDATED_AT, DSL.currentOffsetDateTime())
+                .execute();
+    }
+
+    @NotNull
+    @Override
+    public List<ApprenticeshipListing> findOpen(@NotNull LocalDate today) {
+        return context
+                .selectFrom(APPRENTICESHIP)
+                .where(APPRENTICESHIP.CLOSING_DATE.isNull().or(APPRENTICESHIP.CLOSING_DATE.ge(today)))
+                .orderBy(APPRENTICESHIP.CLOSING_DATE.asc().nullsLast(), APPRENTICESHIP.ID.asc())
+                .fetch()
+                .stream()
+                .map(JooqApprenticeshipStore::toListing)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @NotNull
+    @Override
+    public Set<String> findAllIds() {
+        return context.select(APPRENTICESHIP.ID).from(APPRENTICESHIP).fetchSet(APPRENTICESHIP.ID);
+    }
+
+    @Override
+    public long count() {
+        return context.fetchCount(APPRENTICESHIP);
+    }
+
+    @Nullable
+    private static ApprenticeshipListing toListing(ApprenticeshipRecord record) {
+        val source = ApprenticeshipSource.fromCode(record.getSource());
+        if (source == null) {
+            logger.warn(
+                    "Skipping apprenticeship {} with unknown source {}", record.getId(), record.getSource());
+            return null;
+        }
+
+        return new ApprenticeshipListing(
+                record.getId(),
+                source,
+                record.getTitle(),
+                record.getCompanyName(),
+                record.getLocation(),
+                toList(record.getCategories()),
+                toList(record.getUnifiedCategories()),
+                record.getSalary(),
+                record.getOpeningDate(),
+                record.getClosingDate(),
+                record.getUrl());
+    }
+
+    private static List<String> toList(@Nullable String[] values) {
+        return values == null ? List.of() : Arrays.asList(values);
+    }
+}
@@ -468,6 +468,57 @@ public class MystiGuardianDatabaseHandler {
         }
     }
 
+    public static class ApprenticeshipWebhook {
+        /**
+         * Gets the cached webhook URL used for apprenticeship announcements in a channel.
+         *
+         * @param channelId the channel ID
+         * @return the webhook URL, or null if none is cached
+         */
+        @Nullable
+        public static String getWebhookUrl(String channelId) {
+            return MystiGuardianConfig.getContext()
+                    .select(APPRENTICESHIP_WEBHOOK.WEBHOOK_URL)
+                    .from(APPRENTICESHIP_WEBHOOK)
+                    .where(APPRENTICESHIP_WEBHOOK.CHANNEL_ID.eq(channelId))
+                    .fetchOne(APPRENTICESHIP_WEBHOOK.WEBHOOK_URL);
+        }
+
+        /**
+         * Caches the webhook used for apprenticeship announcements in a channel, replacing any
+         * previous one.
+         *
+         * @param guildId the guild ID
+         * @param channelId the channel ID
+         * @param webhookId the webhook ID
+         * @param webhookUrl the webhook execute URL, including its token
+         */
+        public static void setWebhook(
+                String guildId, String channelId, String webhookId, String webhookUrl) {
+            MystiGuardianConfig.getContext()
+                    .insertInto(
+                            APPRENTICESHIP_WEBHOOK,
+                            APPRENTICESHIP_WEBHOOK.CHANNEL_ID,
+                            APPRENTICESHIP_WEBHOOK.GUILD_ID,
+                            APPRENTICESHIP_WEBHOOK.WEBHOOK_ID,
+                            APPRENTICESHIP_WEBHOOK.WEBHOOK_URL)
+                    .values(channelId, guildId, webhookId, webhookUrl)
+                    .onConflict(APPRENTICESHIP_WEBHOOK.CHANNEL_ID)
+                    .doUpdate()
+                    .set(APPRENTICESHIP_WEBHOOK.GUILD_ID, guildId)
+                    .set(APPRENTICESHIP_WEBHOOK.WEBHOOK_ID, webhookId)
+                    .set(APPRENTICESHIP_WEBHOOK.WEBHOOK_URL, webhookUrl)
+                    .execute();
+        }
+
+        public static void deleteWebhook(String channelId) {
+            MystiGuardianConfig.getContext()
+                    .deleteFrom(APPRENTICESHIP_WEBHOOK)
+                    .where(APPRENTICESHIP_WEBHOOK.CHANNEL_ID.eq(channelId))
+                    .execute();
+        }
+    }
+
     public static class StoredFiles {
         /**
          * Store a new file record in the database
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.event.listener;
+
+import io.github.yusufsdiscordbot.mystiguardian.database.MystiGuardianDatabaseHandler;
+import io.github.yusufsdiscordbot.mystiguardian.manager.ApprenticeshipAnnouncer;
+import io.github.yusufsdiscordbot.mystiguardian.utils.MystiGuardianUtils;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.IncomingWebhookClient;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.Webhook;
+import net.dv8tion.jda.api.entities.WebhookClient;
+import net.dv8tion.jda.api.entities.WebhookType;
+import net.dv8tion.jda.api.entities.channel.attribute.IWebhookContainer;
+import net.dv8tion.jda.api.entities.channel.middleman.GuildMessageChannel;
+import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.requests.ErrorResponse;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Sends apprenticeship announcements through a channel webhook instead of the bot's own message
+ * endpoint.
+ *
+ * <p>Webhook executions have their own rate limit bucket, so a burst of announcements does not
+ * slow down moderation replies the bot sends in the same channel. For each channel this class:
+ *
+ * <ul>
+ *   <li>Reuses the webhook URL cached in memory or in the {@code apprenticeship_webhook} table
+ *   <li>Otherwise reuses a webhook this bot created earlier, or creates one named {@link
+ *       #WEBHOOK_NAME}, and caches its URL
+ *   <li>Forgets the webhook and sets up a new one if Discord reports it was deleted
+ * </ul>
+ *
+ * <p>The store is only called on {@code storeExecutor}, never on the JDA callback thread that
+ * completes the previous send, so a slow database cannot hold up JDA's other callbacks.
+ *
+ * <p>Channels where no webhook can be used (the bot lacks {@link Permission#MANAGE_WEBHOOKS}, or
+ * the channel type has no webhooks) fall back to posting as the bot. Used as the sender of an
+ * {@link ApprenticeshipAnnouncer}, which keeps messages to one channel in order and so never sets
+ * up two webhooks for the same channel at once.
+ */
+@Slf4j
+public final class ApprenticeshipWebhookDelivery implements ApprenticeshipAnnouncer.MessageSender {
+
+    /** Name of the webhooks this bot creates for announcements. */
+    public static final String WEBHOOK_NAME = "MystiGuardian Apprenticeships";
+
+    /** Persists the webhook URL used in each channel. */
+    public interface WebhookStore {
+        /**
+         * Finds the webhook URL cached for a channel.
+         *
+         * @param channelId the channel ID
+         * @return the webhook URL, or null if none is cached
+         */
+        @Nullable
+        String find(long channelId);
+
+        /**
+         * Caches the webhook used in a channel, replacing any previous one.
+         *
+         * @param guildId the guild ID
+         * @param channelId the channel ID
+         * @param webhookId the webhook ID
+         * @param url the webhook execute URL, including its token
+         */
+        void save(long guildId, long channelId, long webhookId, @NotNull String url);
+
+        /**
+         * Removes the webhook cached for a channel.
+         *
+         * @param channelId the channel ID
+         */
+        void delete(long channelId);
+    }
+
+    /** Store backed by the {@code apprenticeship_webhook} table. */
+    public static final WebhookStore DATABASE_STORE =
+            new WebhookStore() {
+                @Override
+                public @Nullable String find(long channelId) {
+                    return MystiGuardianDatabaseHandler.ApprenticeshipWebhook.getWebhookUrl(
+                            Long.toString(channelId));
+                }
+
+                @Override
+                public void save(long guildId, long channelId, long webhookId, @NotNull String url) {
+                    MystiGuardianDatabaseHandler.ApprenticeshipWebhook.setWebhook(
+                            Long.toString(guildId), Long.toString(channelId), Long.toString(webhookId), url);
+                }
+
+                @Override
+                public void delete(long channelId) {
+                    MystiGuardianDatabaseHandler.ApprenticeshipWebhook.deleteWebhook(
+                            Long.toString(channelId));
+                }
+            };
+
+    private final WebhookStore store;
+    private final Executor storeExecutor;
+    private final Map<Long, IncomingWebhookClient> clients = new ConcurrentHashMap<>();
+
+    /** Creates a delivery that caches webhook URLs in the database, queried on virtual threads. */
+    public ApprenticeshipWebhookDelivery() {
+        this(DATABASE_STORE, MystiGuardianUtils.getVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Creates a delivery with a custom webhook store that does not block, called on the sending
+     * thread.
+     *
+     * @param store the store used to cache webhook URLs
+     */
+    public ApprenticeshipWebhookDelivery(@NotNull WebhookStore store) {
+        this(store, Runnable::run);
+    }
+
+    /**
+     * Creates a delivery with a custom webhook store.
+     *
+     * @param store the store used to cache webhook URLs
+     * @param storeExecutor the executor every store call runs on
+     */
+    public ApprenticeshipWebhookDelivery(
+            @NotNull WebhookStore store, @NotNull Executor storeExecutor) {
+        this.store = Objects.requireNonNull(store, "store cannot be null");
+        this.storeExecutor = Objects.requireNonNull(storeExecutor, "storeExecutor cannot be null");
+    }
+
+    @Override
+    public CompletableFuture<?> send(
+            @NotNull GuildMessageChannel channel,
+            @Nullable String content,
+            @NotNull List<MessageEmbed> embeds) {
+        return webhookFor(channel)
+                .thenCompose(
+                        client -> {
+                            if (client == null) {
+                                return sendAsBot(channel, content, embeds);
+                            }
+                            return sendThroughWebhook(client, content, embeds)
+                                    .exceptionallyCompose(
+                                            error -> {
+                                                if (!isUnknownWebhook(error)) {
+                                                    return CompletableFuture.failedFuture(error);
+                                                }
+                                                logger.warn(
+                                                        "Webhook for channel {} was deleted, setting up a new one",
+                                                        channel.getId());
+                                                return forget(channel)
+                                                        .thenCompose(ignored -> resend(channel, content, embeds));
+                                            });
+                        });
+    }
+
+    /** Sends once more after the cached webhook turned out to be gone, without retrying again. */
+    private CompletableFuture<Message> resend(
+            GuildMessageChannel channel, @Nullable String content, List<MessageEmbed> embeds) {
+        return webhookFor(channel)
+                .thenCompose(
+                        client ->
+                                client == null
+                                        ? sendAsBot(channel, content, embeds)
+                                        : sendThroughWebhook(client, content, embeds));
+    }
+
+    /**
+     * Gets the webhook client for a channel, setting one up if needed.
+     *
+     * @return a future of the client, or of null if the channel should be posted to as the bot
+     */
+    private CompletableFuture<IncomingWebhookClient> webhookFor(GuildMessageChannel channel) {
+        IncomingWebhookClient cached = clients.get(channel.getIdLong());
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return CompletableFuture.supplyAsync(() -> findStored(channel), storeExecutor)
+                .thenCompose(
+                        storedUrl ->
+                                storedUrl != null
+                                        ? CompletableFuture.completedFuture(remember(channel, storedUrl))
+                                        : setUpWebhook(channel));
+    }
+
+    /**
+     * Finds or creates this bot's announcement webhook in a channel and caches it.
+     *
+     * @return a future of the client, or of null if the channel should be posted to as the bot
+     */
+    private CompletableFuture<IncomingWebhookClient> setUpWebhook(GuildMessageChannel channel) {
+        if (!(channel instanceof IWebhookContainer container)
+                || !channel.getGuild().getSelfMember().hasPermission(channel, Permission.MANAGE_WEBHOOKS)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long selfId = channel.getJDA().getSelfUser().getIdLong();
+        return container
+                .retrieveWebhooks()
+                .submit()
+                .thenCompose(
+                        webhooks ->
+                                webhooks.stream()
+                                        .filter(webhook -> isOwnAnnouncementWebhook(webhook, selfId))
+                                        .findFirst()
+                                        .map(CompletableFuture::completedFuture)
+                                        .orElseGet(() -> container.createWebhook(WEBHOOK_NAME).submit()))
+                .thenApply(
+                        webhook -> {
+                            storeExecutor.execute(() -> persist(channel, webhook));
+                            return remember(channel, webhook.getUrl());
+                        })
+                .exceptionally(
+                        error -> {
+                            logger.warn(
+                                    "Could not set up a webhook in channel {}, posting as the bot: {}",
+                                    channel.getId(),
+                                    error.getMessage());
+                            return null;
+                        });
+    }
+
+    private IncomingWebhookClient remember(GuildMessageChannel channel, String url) {
+        IncomingWebhookClient client = WebhookClient.createClient(channel.getJDA(), url);
+        clients.put(channel.getIdLong(), client);
+        return client;
+    }
+
+    @Nullable
+    private String findStored(GuildMessageChannel channel) {
+        try {
+            return store.find(channel.getIdLong());
+        } catch (RuntimeException e) {
+            logger.warn(
+                    "Failed to read cached webhook for channel {}: {}", channel.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void persist(GuildMessageChannel channel, Webhook webhook) {
+        try {
+            store.save(
+                    channel.getGuild().getIdLong(),
+                    channel.getIdLong(),
+                    webhook.getIdLong(),
+                    webhook.getUrl());
+        } catch (RuntimeException e) {
+            // The webhook is still cached in memory and found again by name after a restart
+            logger.warn(
+                    "Failed to cache webhook for channel {}: {}", channel.getId(), e.getMessage());
+        }
+    }
+
+    /** Drops the cached webhook; the future completes once the store no longer returns it. */
+    private CompletableFuture<Void> forget(GuildMessageChannel channel) {
+        clients.remove(channel.getIdLong());
+        return CompletableFuture.runAsync(
+                () -> {
+                    try {
+                        store.delete(channel.getIdLong());
+                    } catch (RuntimeException e) {
+                        logger.warn(
+                                "Failed to remove cached webhook for channel {}: {}",
+                                channel.getId(),
+                                e.getMessage());
+                    }
+                },
+                storeExecutor);
+    }
+
+    private static boolean isOwnAnnouncementWebhook(Webhook webhook, long selfId) {
+        User owner = webhook.getOwnerAsUser();
+        return webhook.getType() == WebhookType.INCOMING
+                && webhook.getToken() != null
+                && owner != null
+                && owner.getIdLong() == selfId
+                && WEBHOOK_NAME.equals(webhook.getName());
+    }
+
+    private static boolean isUnknownWebhook(Throwable error) {
+        Throwable cause =
+                error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof ErrorResponseException response
+                && response.getErrorResponse() == ErrorResponse.UNKNOWN_WEBHOOK;
+    }
+
+    private static CompletableFuture<Message> sendThroughWebhook(
+            IncomingWebhookClient client, @Nullable String content, List<MessageEmbed> embeds) {
+        return content == null
+                ? client.sendMessageEmbeds(embeds).submit()
+                : client.sendMessage(content).setEmbeds(embeds).submit();
+    }
+
+    private static CompletableFuture<Message> sendAsBot(
+            GuildMessageChannel channel, @Nullable String content, List<MessageEmbed> embeds) {
+        return content == null
+                ? channel.sendMessageEmbeds(embeds).submit()
+                : channel.sendMessage(content).setEmbeds(embeds).submit();
+    }
+}
@@ -18,87 +18,36 @@
  */ 
 package io.github.yusufsdiscordbot.mystiguardian.event.listener;
 
-import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.Apprenticeship;
-import io.github.yusufsdiscordbot.mystiguardian.config.ApprenticeshipCategoryGroup;
 import io.github.yusufsdiscordbot.mystiguardian.event.events.NewDAEvent;
 import io.github.yusufsdiscordbot.mystiguardian.event.handler.NewDAEventHandler;
+import io.github.yusufsdiscordbot.mystiguardian.manager.ApprenticeshipAnnouncer;
 import io.github.yusufsdiscordbot.mystiguardian.utils.MystiGuardianUtils;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
-import lombok.val;
-import net.dv8tion.jda.api.entities.MessageEmbed;
 
 @Slf4j
 public class NewDAEventListener implements NewDAEventHandler {
+    private final ApprenticeshipAnnouncer announcer;
+
+    /**
+     * Creates a listener that posts announcements through the given sender.
+     *
+     * @param sender the sender shared with the apprenticeship manager, so both use the same webhook
+     *     cache
+     */
+    public NewDAEventListener(ApprenticeshipAnnouncer.MessageSender sender) {
+        this.announcer = new ApprenticeshipAnnouncer(sender);
+    }
+
     @Override
     public void onNewDA(NewDAEvent event) {
         logger.info("New DA event: {}", event.toString());
 
-        val config = MystiGuardianUtils.getMainConfig();
-        val embeds = new ArrayList<MessageEmbed>();
-        val rolesToPingSet = new HashSet<String>();
-
-        // Process each apprenticeship to collect embeds and determine which roles to ping
-        for (Apprenticeship apprenticeship : event.apprenticeships()) {
-            embeds.add(apprenticeship.getEmbed());
-
-            // Get roles to ping based on apprenticeship categories
-            List<String> apprenticeshipCategories = apprenticeship.getCategories();
-            if (apprenticeshipCategories != null && !apprenticeshipCategories.isEmpty()) {
-                // Check if any apprenticeship category matches configured category mappings
-                for (String category : apprenticeshipCategories) {
-                    String normalizedCategory = category.toLowerCase().replace(" ", "-");
-
-                    // First check individual category mappings
-                    List<String> categoryRoles = config.categoryRoleMappings().get(normalizedCategory);
-                    if (categoryRoles != null && !categoryRoles.isEmpty()) {
-                        rolesToPingSet.addAll(categoryRoles);
-                    }
-
-                    // Then check category group mappings
-                    List<ApprenticeshipCategoryGroup> groups =
-                            ApprenticeshipCategoryGroup.findGroupsForCategory(normalizedCategory);
-                    for (ApprenticeshipCategoryGroup group : groups) {
-                        List<String> groupRoles = config.categoryGroupMappings().get(group.name());
-                        if (groupRoles != null && !groupRoles.isEmpty()) {
-                            rolesToPingSet.addAll(groupRoles);
-                        }
-                    }
-                }
-            }
-        }
-
-        // If no category-specific roles found, only use default rolesToPing if category mappings are
-        // not configured
-        if (rolesToPingSet.isEmpty()) {
-            boolean hasCategoryMappings =
-                    config.categoryRoleMappings() != null && !config.categoryRoleMappings().isEmpty();
-            boolean hasGroupMappings =
-                    config.categoryGroupMappings() != null && !config.categoryGroupMappings().isEmpty();
-
-            // Only use default rolesToPing if no category/group mappings are configured at all
-            if (!hasCategoryMappings && !hasGroupMappings && config.rolesToPing() != null) {
-                rolesToPingSet.addAll(config.rolesToPing());
-            }
-        }
-
-        // Build the ping message
-        String pingMessage = null;
-        if (!rolesToPingSet.isEmpty()) {
-            pingMessage =
-                    rolesToPingSet.stream()
-                            .filter(roleId -> roleId != null && !roleId.isEmpty())
-                            .map(roleId -> String.format("<@&%s>", roleId))
-                            .collect(Collectors.joining(" "));
-        }
+        // Roles come from the routing table compiled from the category mappings
+        String pingMessage =
+                MystiGuardianUtils.getApprenticeshipRoutingTable().pingMessage(event.apprenticeships());
 
-        // Send the message with pings as content (outside embed)
-        if (pingMessage != null && !pingMessage.isEmpty()) {
-            event.textChannel().sendMessage(pingMessage).setEmbeds(embeds).queue();
-        } else {
-            // No pings, just send embeds
-            event.textChannel().sendMessageEmbeds(embeds).queue();
-        }
+        // Send with pings as content (outside embed), up to 10 embeds per message
+        announcer.announce(event.apprenticeships(), List.of(event.textChannel()), pingMessage);
     }
 }
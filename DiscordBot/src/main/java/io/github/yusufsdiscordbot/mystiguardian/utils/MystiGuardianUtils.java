@@ -65,6 +65,7 @@ public class MystiGuardianUtils {
     private static final SystemInfo systemInfo = new SystemInfo();
     private static final CentralProcessor processor = systemInfo.getHardware().getProcessor();
     private static final Map<Long, GithubAIModel> githubAIModel = new HashMap<>();
+    private static volatile CompiledRouting compiledRouting;
     private static final String AI_PROMPT =
             "You are MystiGuardian, your server’s mystical protector and entertainment extraordinaire, created by RealYusufIsmail. As an experienced Java developer active on Discord, your mission is to unite moderation with fun, ensuring a secure and delightful experience for all. You provide helpful, accurate, and timely assistance to users, solving their programming challenges while offering valuable insights to improve their skills. Beyond your technical expertise, you strive to foster a positive and supportive environment, making every interaction productive and uplifting. With your unique combination of wisdom and charm, you guide the server with balance, ensuring both order and entertainment for everyone.";
 
@@ -298,10 +299,24 @@ public class MystiGuardianUtils {
                 guildChannels.add(new DAConfig.GuildChannelConfig(guildId, channelId));
             }
 
+            // Optional hub announcement channels, posted to once and crossposted to followers
+            java.util.List<DAConfig.HubChannelConfig> hubChannels = new ArrayList<>();
+            JsonNode hubChannelsNode = daConfig.get("hubChannels");
+            if (hubChannelsNode != null && hubChannelsNode.isArray()) {
+                for (JsonNode hubNode : hubChannelsNode) {
+                    hubChannels.add(
+                            new DAConfig.HubChannelConfig(
+                                    getRequiredLongValue(hubNode, "guildId"),
+                                    getRequiredLongValue(hubNode, "discordChannelId"),
+                                    getCategoryGroupValue(hubNode, "categoryGroup")));
+                }
+            }
+
             return new DAConfig(
                     guildChannels,
                     GoogleSheetsConfig.createSheetsService(),
-                    getRequiredStringValue(daConfig, "spreadsheetId"));
+                    getRequiredStringValue(daConfig, "spreadsheetId"),
+                    hubChannels);
         } catch (IOException | GeneralSecurityException e) {
             throw new RuntimeException(e);
         }
@@ -390,7 +405,9 @@ public class MystiGuardianUtils {
             if (webServiceNode != null && webServiceNode.isObject()) {
                 int port = webServiceNode.get("port").asInt(8080);
                 String baseUrl = getRequiredStringValue(webServiceNode, "baseUrl");
-                webServiceConfig = new MainConfig.WebServiceConfig(port, baseUrl);
+                JsonNode tokenSecretNode = webServiceNode.get("tokenSecret");
+                String tokenSecret = tokenSecretNode != null ? tokenSecretNode.asText(null) : null;
+                webServiceConfig = new MainConfig.WebServiceConfig(port, baseUrl, tokenSecret);
             }
         } catch (Exception e) {
             logger.debug("webService config not found, web service will not be available");
@@ -406,6 +423,31 @@ public class MystiGuardianUtils {
                 webServiceConfig);
     }
 
+    /**
+     * Gets the apprenticeship routing table compiled from the role mappings in the main config. The
+     * table is compiled once and only compiled again after {@link #jConfig} is replaced.
+     */
+    @NotNull
+    public static ApprenticeshipRoutingTable getApprenticeshipRoutingTable() {
+        JConfig source = jConfig;
+        CompiledRouting routing = compiledRouting;
+        if (routing == null || routing.source() != source) {
+            MainConfig config = getMainConfig();
+            routing =
+                    new CompiledRouting(
+                            source,
+                            ApprenticeshipRoutingTable.compile(
+                                    config.categoryRoleMappings(),
+                                    config.categoryGroupMappings(),
+                                    config.rolesToPing(),
+                                    java.util.List.of()));
+            compiledRouting = routing;
+        }
+        return routing.table();
+    }
+
+    private record CompiledRouting(JConfig source, ApprenticeshipRoutingTable table) {}
+
     @NotNull
     public static DiscordAuthConfig getDiscordAuthConfig() {
         val discordAuth = getRequiredConfigObject("discord-auth");
@@ -469,6 +511,26 @@ public class MystiGuardianUtils {
         return value.asText();
     }
 
+    @Nullable
+    private static ApprenticeshipCategoryGroup getCategoryGroupValue(
+            @NotNull JsonNode config, String key) {
+        JsonNode value = config.get(key);
+        if (value == null || value.isNull() || value.asText().isEmpty()) {
+            return null;
+        }
+
+        try {
+            return ApprenticeshipCategoryGroup.valueOf(value.asText().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    key
+                            + " '"
+                            + value.asText()
+                            + "' is not one of "
+                            + Arrays.toString(ApprenticeshipCategoryGroup.values()));
+        }
+    }
+
     private static long getRequiredLongValue(@NotNull JsonNode config, String key) {
         JsonNode value = config.get(key);
 
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The apprenticeship viewer page and its stylesheet and script, prepared once and served as bytes.
+ *
+ * <p>The files live under {@code /web/apprenticeships/} on the classpath. On first use each one is
+ * minified, gzipped and hashed. The stylesheet and script are renamed to include their hash (e.g.,
+ * {@code app.3f2c9a1b7d.js}) and the page's {@code {{app.css}}} and {@code {{app.js}}}
+ * placeholders are pointed at those names, so they can be cached for a year: a changed file gets a
+ * new name. The page itself is revalidated with its ETag on every visit.
+ *
+ * <p>The assets are served by {@code ApprenticeshipRequestsHandler} in the OAuth module, which
+ * hosts the live apprenticeships page. {@link ApprenticeshipWebService} has matching routes but is
+ * not started by the bot.
+ */
+public final class ApprenticeshipPageAssets {
+    /** URL path prefix the fingerprinted assets are served under. */
+    public static final String ASSET_PATH = "/apprenticeships/assets/";
+
+    /** Cache-Control for fingerprinted assets, whose content never changes under the same name. */
+    public static final String ASSET_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    /** Cache-Control for the page, which must be revalidated but can then be answered with a 304. */
+    public static final String PAGE_CACHE_CONTROL = "private, no-cache";
+
+    private static final String RESOURCE_DIRECTORY = "/web/apprenticeships/";
+    private static final Pattern CSS_COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern CSS_PUNCTUATION = Pattern.compile("\\s*([{};,])\\s*");
+    private static final Pattern CSS_COLON = Pattern.compile(":\\s+");
+
+    private final Asset page;
+    private final Map<String, Asset> assets;
+
+    private ApprenticeshipPageAssets() {
+        Map<String, Asset> fingerprinted = new HashMap<>();
+        String html = read("index.html");
+        html =
+                html.replace(
+                        "{{app.css}}",
+                        add(fingerprinted, "app.css", "text/css", ApprenticeshipPageAssets::minifyCss));
+        html =
+                html.replace(
+                        "{{app.js}}",
+                        add(
+                                fingerprinted,
+                                "app.js",
+                                "text/javascript",
+                                ApprenticeshipPageAssets::minifyLines));
+
+        this.page = Asset.of("text/html; charset=UTF-8", minifyLines(html));
+        this.assets = Map.copyOf(fingerprinted);
+    }
+
+    /**
+     * Gets the prepared assets, loading them on first use.
+     *
+     * @return the shared assets
+     * @throws UncheckedIOException if a resource is missing or cannot be read
+     */
+    @NotNull
+    public static ApprenticeshipPageAssets get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Gets the viewer page.
+     *
+     * @return the page
+     */
+    @NotNull
+    public Asset page() {
+        return page;
+    }
+
+    /**
+     * Looks up a fingerprinted asset.
+     *
+     * @param name the file name after {@link #ASSET_PATH}, e.g. {@code app.3f2c9a1b7d.js}
+     * @return the asset, or null if there is no asset with that name
+     */
+    @Nullable
+    public Asset asset(@NotNull String name) {
+        return assets.get(name);
+    }
+
+    /**
+     * Checks whether a client accepts gzip-encoded responses.
+     *
+     * @param acceptEncoding the Accept-Encoding request header, or null
+     * @return true if gzip is listed
+     */
+    public static boolean acceptsGzip(@Nullable String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+
+    /** Prepares an asset, stores it under its fingerprinted name and returns its URL path. */
+    private static String add(
+            Map<String, Asset> assets,
+            String fileName,
+            String contentType,
+            UnaryOperator<String> minifier) {
+        Asset asset = Asset.of(contentType + "; charset=UTF-8", minifier.apply(read(fileName)));
+        int dot = fileName.lastIndexOf('.');
+        // The ETag is a quoted hash; the first 10 hex digits are enough to tell versions apart
+        String name =
+                fileName.substring(0, dot) + '.' + asset.etag().substring(1, 11) + fileName.substring(dot);
+        assets.put(name, asset);
+        return ASSET_PATH + name;
+    }
+
+    private static String read(String fileName) {
+        try (InputStream in =
+                ApprenticeshipPageAssets.class.getResourceAsStream(RESOURCE_DIRECTORY + fileName)) {
+            if (in == null) {
+                throw new IOException("Missing resource " + RESOURCE_DIRECTORY + fileName);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load the apprenticeship page", e);
+        }
+    }
+
+    /**
+     * Minifies a stylesheet: drops comments, indentation and line breaks, and the spaces around
+     * braces, semicolons, commas and after colons.
+     */
+    static String minifyCss(String css) {
+        String minified = CSS_COMMENT.matcher(css).replaceAll("");
+        minified = minified.lines().map(String::strip).collect(Collectors.joining(" "));
+        minified = CSS_PUNCTUATION.matcher(minified).replaceAll("$1");
+        return CSS_COLON.matcher(minified).replaceAll(":").strip();
+    }
+
+    /**
+     * Minifies HTML or JavaScript conservatively: strips indentation, blank lines and whole-line
+     * {@code //} comments but keeps line breaks, so automatic semicolon insertion and template
+     * literals behave as before.
+     */
+    static String minifyLines(String source) {
+        return source.lines()
+                .map(String::strip)
+                .filter(line -> !line.isEmpty() && !line.startsWith("//"))
+                .collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * One prepared file. The arrays are shared and must not be modified.
+     *
+     * @param contentType the Content-Type header value
+     * @param body the minified UTF-8 content
+     * @param gzip the same content, gzip-compressed
+     * @param etag a strong, quoted entity tag derived from the content
+     */
+    public record Asset(String contentType, byte[] body, byte[] gzip, String etag) {
+
+        private static Asset of(String contentType, String content) {
+            byte[] body = content.getBytes(StandardCharsets.UTF_8);
+            return new Asset(contentType, body, gzip(body), etag(body));
+        }
+
+        /**
+         * Checks whether the client already holds this version.
+         *
+         * @param ifNoneMatch the If-None-Match request header, or null
+         * @return true if a 304 Not Modified can be sent instead of the body
+         */
+        public boolean isNotModified(@Nullable String ifNoneMatch) {
+            return ifNoneMatch != null && ifNoneMatch.contains(etag);
+        }
+
+        private static byte[] gzip(byte[] data) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length / 3 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+                gzip.write(data);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return bytes.toByteArray();
+        }
+
+        private static String etag(byte[] data) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+                return '"' + HexFormat.of().formatHex(digest, 0, 16) + '"';
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+    }
+
+    /** Loads the assets on first use. */
+    private static final class Holder {
+        private static final ApprenticeshipPageAssets INSTANCE = new ApprenticeshipPageAssets();
+    }
+}
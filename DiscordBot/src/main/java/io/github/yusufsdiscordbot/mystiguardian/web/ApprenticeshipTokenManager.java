@@ -18,24 +18,165 @@
  */ 
 package io.github.yusufsdiscordbot.mystiguardian.web;
 
-import java.lang.reflect.Method;
+import io.github.yusufsdiscordbot.mystiguardian.config.MainConfig;
+import io.github.yusufsdiscordbot.mystiguardian.utils.MystiGuardianUtils;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
- * Utility class to generate access tokens for the apprenticeship web viewer. Uses reflection to
- * call the OAuth module's ApprenticeshipRequestsHandler.
+ * Issues and checks the temporary access tokens for the apprenticeship web viewer.
+ *
+ * <p>Tokens are stateless: a token is its expiry time and a random nonce, followed by an
+ * HMAC-SHA256 signature of both. Checking one needs only the secret, so there is no token table to
+ * look up or sweep, tokens survive restarts, and any instance sharing the secret accepts them.
+ *
+ * <p>The secret comes from {@code webService.tokenSecret} in the config. Without one, a random
+ * secret is generated at startup and tokens stop working when the bot restarts.
  */
-public class ApprenticeshipTokenManager {
+@Slf4j
+public final class ApprenticeshipTokenManager {
+    /** How long a token stays valid after it is issued. */
+    public static final Duration TOKEN_LIFETIME = Duration.ofHours(24);
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int PAYLOAD_LENGTH = 2 * Long.BYTES;
+    private static final int MIN_SECRET_LENGTH = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final SecretKeySpec key;
+    private final Clock clock;
 
+    /**
+     * Creates a token manager.
+     *
+     * @param secret the signing secret; every instance that must accept the same tokens needs the
+     *     same secret
+     * @param clock the clock used for expiry
+     */
+    ApprenticeshipTokenManager(@NotNull byte[] secret, @NotNull Clock clock) {
+        this.key = new SecretKeySpec(secret.clone(), ALGORITHM);
+        this.clock = clock;
+    }
+
+    /**
+     * Generates a new access token that expires after {@link #TOKEN_LIFETIME}.
+     *
+     * @return the token, safe to use in a URL
+     */
     public static String generateAccessToken() {
+        return Holder.INSTANCE.generate();
+    }
+
+    /**
+     * Checks an access token.
+     *
+     * @param token the token from the request, or null
+     * @return true if the token was signed with this secret and has not expired
+     */
+    public static boolean isValidToken(@Nullable String token) {
+        return Holder.INSTANCE.isValid(token);
+    }
+
+    /**
+     * Generates a new access token that expires after {@link #TOKEN_LIFETIME}.
+     *
+     * @return the token, safe to use in a URL
+     */
+    @NotNull
+    String generate() {
+        byte[] payload =
+                ByteBuffer.allocate(PAYLOAD_LENGTH)
+                        .putLong(clock.instant().plus(TOKEN_LIFETIME).getEpochSecond())
+                        .putLong(RANDOM.nextLong())
+                        .array();
+        return ENCODER.encodeToString(payload) + '.' + ENCODER.encodeToString(sign(payload));
+    }
+
+    /**
+     * Checks an access token.
+     *
+     * @param token the token from the request, or null
+     * @return true if the token was signed with this secret and has not expired
+     */
+    boolean isValid(@Nullable String token) {
+        if (token == null) {
+            return false;
+        }
+        int dot = token.indexOf('.');
+        if (dot < 0) {
+            return false;
+        }
+
+        byte[] payload;
+        byte[] signature;
         try {
-            Class<?> handlerClass =
-                    Class.forName(
-                            "io.github.yusufsdiscordbot.mystiguardian.oauth.requests.ApprenticeshipRequestsHandler");
-            Method generateMethod = handlerClass.getMethod("generateAccessToken");
-            return (String) generateMethod.invoke(null);
+            payload = DECODER.decode(token.substring(0, dot));
+            signature = DECODER.decode(token.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        if (payload.length != PAYLOAD_LENGTH || !MessageDigest.isEqual(sign(payload), signature)) {
+            return false;
+        }
+
+        long expiresAt = ByteBuffer.wrap(payload).getLong();
+        return clock.instant().isBefore(Instant.ofEpochSecond(expiresAt));
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            // Mac instances are not thread-safe, and creating one is cheap next to a web request
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+
+    /** Reads the secret from the config, falling back to a random one. */
+    private static byte[] configuredSecret() {
+        String secret = null;
+        try {
+            MainConfig.WebServiceConfig webService = MystiGuardianUtils.getMainConfig().webService();
+            secret = webService != null ? webService.tokenSecret() : null;
         } catch (Exception e) {
-            throw new RuntimeException(
-                    "Failed to generate access token. Make sure the OAuth module is running.", e);
+            logger.debug("Could not read webService.tokenSecret from config", e);
+        }
+
+        if (secret == null || secret.isBlank()) {
+            logger.warn(
+                    "webService.tokenSecret is not set; using a random secret, so apprenticeship links"
+                            + " will stop working when the bot restarts");
+            byte[] random = new byte[MIN_SECRET_LENGTH];
+            RANDOM.nextBytes(random);
+            return random;
         }
+
+        byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < MIN_SECRET_LENGTH) {
+            logger.warn("webService.tokenSecret is shorter than {} bytes", MIN_SECRET_LENGTH);
+        }
+        return bytes;
+    }
+
+    /** Loads the shared instance on first use, after the config is available. */
+    private static final class Holder {
+        private static final ApprenticeshipTokenManager INSTANCE =
+                new ApprenticeshipTokenManager(configuredSecret(), Clock.systemUTC());
     }
 }
@@ -23,25 +23,30 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
 import io.github.yusufsdiscordbot.mystiguardian.MystiGuardianConfig;
+import io.github.yusufsdiscordbot.mystiguardian.store.ApprenticeshipListing;
+import io.github.yusufsdiscordbot.mystiguardian.store.ApprenticeshipQuery;
+import io.github.yusufsdiscordbot.mystiguardian.store.ApprenticeshipReadModel;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class ApprenticeshipWebService {
     private static ApprenticeshipWebService instance;
-    private final Map<String, TokenInfo> accessTokens = new ConcurrentHashMap<>();
     private final int port;
     private final String baseUrl;
     private HttpServer server;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    /** Query parameters that turn an API request into a filtered, paged one. */
+    private static final Set<String> PAGE_PARAMS =
+            Set.of("category", "location", "source", "q", "sort", "cursor", "limit");
+
     private ApprenticeshipWebService(int port, String baseUrl) {
         this.port = port;
         this.baseUrl = baseUrl;
@@ -68,43 +73,17 @@ public class ApprenticeshipWebService {
             server.setExecutor(Executors.newFixedThreadPool(10));
             server.start();
             logger.info("Apprenticeship web service started on port {}", port);
-
-            // Start cleanup task for expired tokens
-            startTokenCleanupTask();
         } catch (IOException e) {
             logger.error("Failed to start web service", e);
         }
     }
 
     public String generateAccessToken() {
-        String token = UUID.randomUUID().toString();
-        Instant expiry = Instant.now().plus(24, ChronoUnit.HOURS);
-        accessTokens.put(token, new TokenInfo(expiry));
-        logger.debug("Generated access token: {} (expires: {})", token, expiry);
-        return token;
+        return ApprenticeshipTokenManager.generateAccessToken();
     }
 
     private boolean isValidToken(String token) {
-        TokenInfo info = accessTokens.get(token);
-        if (info == null) {
-            return false;
-        }
-        if (Instant.now().isAfter(info.expiry)) {
-            accessTokens.remove(token);
-            return false;
-        }
-        return true;
-    }
-
-    private void startTokenCleanupTask() {
-        Timer timer = new Timer(true);
-        timer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                Instant now = Instant.now();
-                accessTokens.entrySet().removeIf(entry -> now.isAfter(entry.getValue().expiry));
-            }
-        }, 60000, 60000); // Run every minute
+        return ApprenticeshipTokenManager.isValidToken(token);
     }
 
     public String getBaseUrl() {
@@ -114,42 +93,55 @@ public class ApprenticeshipWebService {
     private class ApprenticeshipHandler implements HttpHandler {
         @Override
         public void handle(HttpExchange exchange) throws IOException {
-            String query = exchange.getRequestURI().getQuery();
-            String token = extractToken(query);
+            String path = exchange.getRequestURI().getPath();
+            if (path.startsWith(ApprenticeshipPageAssets.ASSET_PATH)) {
+                String name = path.substring(ApprenticeshipPageAssets.ASSET_PATH.length());
+                var asset = ApprenticeshipPageAssets.get().asset(name);
+                if (asset == null) {
+                    sendResponse(exchange, 404, "");
+                    return;
+                }
+                sendAsset(exchange, asset, ApprenticeshipPageAssets.ASSET_CACHE_CONTROL);
+                return;
+            }
+
+            String token = parseQuery(exchange.getRequestURI().getRawQuery()).get("token");
 
             if (token == null || !isValidToken(token)) {
+                exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
                 sendResponse(exchange, 403, generateErrorPage("Access Denied", "Invalid or expired token."));
                 return;
             }
 
-            String html = generateHtmlPage();
-            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
-            sendResponse(exchange, 200, html);
-        }
-
-        private String extractToken(String query) {
-            if (query == null) return null;
-            for (String param : query.split("&")) {
-                String[] pair = param.split("=");
-                if (pair.length == 2 && pair[0].equals("token")) {
-                    return pair[1];
-                }
-            }
-            return null;
+            sendAsset(
+                    exchange,
+                    ApprenticeshipPageAssets.get().page(),
+                    ApprenticeshipPageAssets.PAGE_CACHE_CONTROL);
         }
     }
 
     private class ApprenticeshipApiHandler implements HttpHandler {
         @Override
         public void handle(HttpExchange exchange) throws IOException {
-            String query = exchange.getRequestURI().getQuery();
-            String token = extractToken(query);
+            Map<String, String> params = parseQuery(exchange.getRequestURI().getRawQuery());
+            String token = params.get("token");
 
             if (token == null || !isValidToken(token)) {
                 sendJsonResponse(exchange, 403, Map.of("error", "Invalid or expired token"));
                 return;
             }
 
+            var manager = MystiGuardianConfig.getApprenticeshipSpreadsheetManager();
+            String path = exchange.getRequestURI().getPath();
+            if (manager != null && path.equals("/api/apprenticeships/suggest")) {
+                sendSuggestions(exchange, manager.getReadModel(), params);
+                return;
+            }
+            if (manager != null && params.keySet().stream().anyMatch(PAGE_PARAMS::contains)) {
+                sendPage(exchange, manager.getReadModel(), params);
+                return;
+            }
+
             try {
                 List<Map<String, Object>> apprenticeships = fetchAllJobs();
                 sendJsonResponse(exchange, 200, Map.of("apprenticeships", apprenticeships, "count", apprenticeships.size()));
@@ -159,15 +151,49 @@ public class ApprenticeshipWebService {
             }
         }
 
-        private String extractToken(String query) {
-            if (query == null) return null;
-            for (String param : query.split("&")) {
-                String[] pair = param.split("=");
-                if (pair.length == 2 && pair[0].equals("token")) {
-                    return pair[1];
-                }
+        private void sendPage(
+                HttpExchange exchange, ApprenticeshipReadModel readModel, Map<String, String> params)
+                throws IOException {
+            ApprenticeshipQuery query;
+            try {
+                query =
+                        ApprenticeshipQuery.fromParams(
+                                params.get("category"),
+                                params.get("location"),
+                                params.get("source"),
+                                params.get("q"),
+                                params.get("sort"),
+                                params.get("cursor"),
+                                params.get("limit"));
+            } catch (IllegalArgumentException e) {
+                sendJsonResponse(exchange, 400, Map.of("error", e.getMessage()));
+                return;
             }
-            return null;
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.getResponseHeaders().set("Cache-Control", "private, no-cache");
+            sendBytes(exchange, 200, readModel.query(query));
+        }
+
+        private void sendSuggestions(
+                HttpExchange exchange, ApprenticeshipReadModel readModel, Map<String, String> params)
+                throws IOException {
+            String limitParam = params.get("limit");
+            List<ApprenticeshipListing> suggestions;
+            try {
+                int limit =
+                        limitParam == null
+                                ? ApprenticeshipReadModel.DEFAULT_SUGGESTIONS
+                                : Integer.parseInt(limitParam);
+                suggestions = readModel.suggest(params.getOrDefault("q", ""), limit);
+            } catch (IllegalArgumentException e) {
+                sendJsonResponse(exchange, 400, Map.of("error", "Invalid limit"));
+                return;
+            }
+
+            exchange.getResponseHeaders().set("Cache-Control", "private, max-age=30");
+            var body = suggestions.stream().map(ApprenticeshipListing::toWebMap).toList();
+            sendJsonResponse(exchange, 200, Map.of("suggestions", body));
         }
 
         private List<Map<String, Object>> fetchAllJobs() throws Exception {
@@ -186,311 +212,6 @@ public class ApprenticeshipWebService {
         }
     }
 
-    private String generateHtmlPage() {
-        return """
-<!DOCTYPE html>
-<html lang="en">
-<head>
-    <meta charset="UTF-8">
-    <meta name="viewport" content="width=device-width, initial-scale=1.0">
-    <title>Available Apprenticeships</title>
-    <style>
-        * { margin: 0; padding: 0; box-sizing: border-box; }
-        body {
-            font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', Roboto, sans-serif;
-            background: linear-gradient(135deg, #667eea 0%, #764ba2 100%);
-            min-height: 100vh;
-            padding: 20px;
-        }
-        .container { max-width: 1200px; margin: 0 auto; }
-        header {
-            background: white;
-            padding: 30px;
-            border-radius: 15px;
-            box-shadow: 0 10px 30px rgba(0,0,0,0.2);
-            margin-bottom: 30px;
-        }
-        h1 { color: #333; margin-bottom: 10px; font-size: 2.5em; }
-        .subtitle { color: #666; font-size: 1.1em; }
-        .filters {
-            background: white;
-            padding: 20px;
-            border-radius: 15px;
-            box-shadow: 0 5px 15px rgba(0,0,0,0.1);
-            margin-bottom: 20px;
-            display: grid;
-            grid-template-columns: repeat(auto-fit, minmax(250px, 1fr));
-            gap: 15px;
-        }
-        .filter-group { display: flex; flex-direction: column; }
-        label { font-weight: 600; color: #555; margin-bottom: 5px; font-size: 0.9em; }
-        input, select {
-            padding: 10px;
-            border: 2px solid #e0e0e0;
-            border-radius: 8px;
-            font-size: 1em;
-            transition: border-color 0.3s;
-        }
-        input:focus, select:focus { outline: none; border-color: #667eea; }
-        .stats {
-            background: white;
-            padding: 15px 20px;
-            border-radius: 10px;
-            box-shadow: 0 3px 10px rgba(0,0,0,0.1);
-            margin-bottom: 20px;
-            display: flex;
-            justify-content: space-between;
-            align-items: center;
-        }
-        .stat-item { display: flex; align-items: center; gap: 10px; }
-        .stat-number { font-size: 2em; font-weight: bold; color: #667eea; }
-        .stat-label { color: #666; font-size: 0.9em; }
-        .jobs-grid {
-            display: grid;
-            grid-template-columns: repeat(auto-fill, minmax(350px, 1fr));
-            gap: 20px;
-            margin-bottom: 30px;
-        }
-        .job-card {
-            background: white;
-            border-radius: 15px;
-            padding: 25px;
-            box-shadow: 0 5px 15px rgba(0,0,0,0.1);
-            transition: transform 0.3s, box-shadow 0.3s;
-            cursor: pointer;
-            position: relative;
-            overflow: hidden;
-        }
-        .job-card:hover { transform: translateY(-5px); box-shadow: 0 15px 30px rgba(0,0,0,0.2); }
-        .job-card::before {
-            content: '';
-            position: absolute;
-            top: 0;
-            left: 0;
-            width: 5px;
-            height: 100%;
-            background: linear-gradient(180deg, #667eea 0%, #764ba2 100%);
-        }
-        .job-source {
-            position: absolute;
-            top: 15px;
-            right: 15px;
-            background: #f0f0f0;
-            padding: 5px 10px;
-            border-radius: 20px;
-            font-size: 0.75em;
-            color: #666;
-        }
-        .job-title {
-            color: #333;
-            font-size: 1.3em;
-            font-weight: bold;
-            margin-bottom: 10px;
-            padding-right: 80px;
-        }
-        .job-company { color: #667eea; font-size: 1.1em; margin-bottom: 15px; font-weight: 600; }
-        .job-details { display: flex; flex-direction: column; gap: 10px; margin-bottom: 15px; }
-        .job-detail { display: flex; align-items: center; gap: 8px; color: #666; font-size: 0.9em; }
-        .job-categories { display: flex; flex-wrap: wrap; gap: 8px; margin-bottom: 15px; }
-        .category-tag {
-            background: #f0f0ff;
-            color: #667eea;
-            padding: 5px 12px;
-            border-radius: 15px;
-            font-size: 0.85em;
-            font-weight: 500;
-        }
-        .job-footer {
-            display: flex;
-            justify-content: space-between;
-            align-items: center;
-            padding-top: 15px;
-            border-top: 1px solid #e0e0e0;
-        }
-        .time-left { font-size: 0.9em; color: #666; }
-        .time-left.urgent { color: #e74c3c; font-weight: bold; }
-        .apply-btn {
-            background: linear-gradient(135deg, #667eea 0%, #764ba2 100%);
-            color: white;
-            padding: 10px 20px;
-            border-radius: 25px;
-            text-decoration: none;
-            font-weight: 600;
-            transition: transform 0.2s;
-            display: inline-block;
-        }
-        .apply-btn:hover { transform: scale(1.05); }
-        .loading { text-align: center; padding: 50px; color: white; font-size: 1.2em; }
-        .no-results { text-align: center; padding: 50px; background: white; border-radius: 15px; color: #666; }
-        .emoji { font-size: 1.2em; }
-        @media (max-width: 768px) {
-            .jobs-grid { grid-template-columns: 1fr; }
-            h1 { font-size: 1.8em; }
-        }
-    </style>
-</head>
-<body>
-    <div class="container">
-        <header>
-            <h1>🎓 Available Apprenticeships</h1>
-            <p class="subtitle">Find your perfect degree apprenticeship opportunity</p>
-        </header>
-        <div class="filters">
-            <div class="filter-group">
-                <label for="search">🔍 Search</label>
-                <input type="text" id="search" placeholder="Search by title or company...">
-            </div>
-            <div class="filter-group">
-                <label for="category">📚 Category</label>
-                <select id="category"><option value="">All Categories</option></select>
-            </div>
-            <div class="filter-group">
-                <label for="location">📍 Location</label>
-                <input type="text" id="location" placeholder="Filter by location...">
-            </div>
-            <div class="filter-group">
-                <label for="sort">📊 Sort By</label>
-                <select id="sort">
-                    <option value="closing">Closing Date (Soonest)</option>
-                    <option value="posted">Recently Posted</option>
-                    <option value="company">Company A-Z</option>
-                    <option value="title">Title A-Z</option>
-                </select>
-            </div>
-        </div>
-        <div class="stats">
-            <div class="stat-item">
-                <div class="stat-number" id="totalJobs">0</div>
-                <div class="stat-label">Total Opportunities</div>
-            </div>
-            <div class="stat-item">
-                <div class="stat-number" id="shownJobs">0</div>
-                <div class="stat-label">Shown</div>
-            </div>
-        </div>
-        <div id="jobsContainer" class="jobs-grid">
-            <div class="loading">Loading apprenticeships...</div>
-        </div>
-    </div>
-    <script>
-        let allJobs = [];
-        const urlParams = new URLSearchParams(window.location.search);
-        const token = urlParams.get('token');
-        
-        async function fetchJobs() {
-            try {
-                const response = await fetch(`/api/apprenticeships?token=${token}`);
-                if (!response.ok) throw new Error('Failed to fetch apprenticeships');
-                const data = await response.json();
-                allJobs = data.apprenticeships || [];
-                populateCategories();
-                displayJobs();
-            } catch (error) {
-                console.error('Error fetching apprenticeships:', error);
-                document.getElementById('jobsContainer').innerHTML = 
-                    '<div class="no-results">❌ Failed to load apprenticeships. Please try refreshing the page.</div>';
-            }
-        }
-        
-        function populateCategories() {
-            const categories = new Set();
-            allJobs.forEach(job => {
-                // Use unified categories for the dropdown
-                if (job.unifiedCategories && Array.isArray(job.unifiedCategories)) {
-                    job.unifiedCategories.forEach(cat => categories.add(cat));
-                }
-            });
-            const select = document.getElementById('category');
-            Array.from(categories).sort().forEach(cat => {
-                const option = document.createElement('option');
-                option.value = cat;
-                option.textContent = cat; // Unified categories are already formatted
-                select.appendChild(option);
-            });
-        }
-        
-        function displayJobs() {
-            const searchTerm = document.getElementById('search').value.toLowerCase();
-            const categoryFilter = document.getElementById('category').value;
-            const locationFilter = document.getElementById('location').value.toLowerCase();
-            const sortBy = document.getElementById('sort').value;
-            
-            let filtered = allJobs.filter(job => {
-                const matchesSearch = !searchTerm || 
-                    job.title.toLowerCase().includes(searchTerm) ||
-                    job.companyName.toLowerCase().includes(searchTerm);
-                // Filter by unified categories
-                const matchesCategory = !categoryFilter ||
-                    (job.unifiedCategories && job.unifiedCategories.includes(categoryFilter));
-                const matchesLocation = !locationFilter ||
-                    job.location.toLowerCase().includes(locationFilter);
-                return matchesSearch && matchesCategory && matchesLocation;
-            });
-            
-            filtered.sort((a, b) => {
-                switch(sortBy) {
-                    case 'closing': return new Date(a.closingDate) - new Date(b.closingDate);
-                    case 'posted': return new Date(b.createdAtDate || b.openingDate) - new Date(a.createdAtDate || a.openingDate);
-                    case 'company': return a.companyName.localeCompare(b.companyName);
-                    case 'title': return a.title.localeCompare(b.title);
-                    default: return 0;
-                }
-            });
-            
-            document.getElementById('totalJobs').textContent = allJobs.length;
-            document.getElementById('shownJobs').textContent = filtered.length;
-            
-            const container = document.getElementById('jobsContainer');
-            if (filtered.length === 0) {
-                container.innerHTML = '<div class="no-results">😕 No apprenticeships match your filters. Try adjusting your search.</div>';
-                return;
-            }
-            
-            container.innerHTML = filtered.map(job => {
-                const daysLeft = job.closingDate ? 
-                    Math.ceil((new Date(job.closingDate) - new Date()) / (1000 * 60 * 60 * 24)) : null;
-                const urgentClass = daysLeft && daysLeft <= 7 ? 'urgent' : '';
-                const timeLeftText = daysLeft ? (daysLeft > 0 ? `${daysLeft} days left` : 'Expired') : 'No deadline';
-                // Display unified categories on cards
-                const categories = job.unifiedCategories && job.unifiedCategories.length > 0 ?
-                    `<div class="job-categories">
-                        ${job.unifiedCategories.slice(0, 3).map(cat => 
-                            `<span class="category-tag">${cat}</span>`
-                        ).join('')}
-                        ${job.unifiedCategories.length > 3 ? `<span class="category-tag">+${job.unifiedCategories.length - 3} more</span>` : ''}
-                    </div>` : '';
-                
-                return `
-                    <div class="job-card">
-                        <div class="job-source">${job.source || 'Unknown'}</div>
-                        <div class="job-title">${job.title}</div>
-                        <div class="job-company">${job.companyName}</div>
-                        <div class="job-details">
-                            <div class="job-detail"><span class="emoji">📍</span><span>${job.location}</span></div>
-                            <div class="job-detail"><span class="emoji">💰</span><span>${job.salary || 'Not specified'}</span></div>
-                            ${job.closingDate ? `<div class="job-detail"><span class="emoji">⏰</span><span>Closes: ${new Date(job.closingDate).toLocaleDateString()}</span></div>` : ''}
-                        </div>
-                        ${categories}
-                        <div class="job-footer">
-                            <div class="time-left ${urgentClass}">⌛ ${timeLeftText}</div>
-                            <a href="${job.url}" target="_blank" class="apply-btn">Apply Now</a>
-                        </div>
-                    </div>
-                `;
-            }).join('');
-        }
-        
-        document.getElementById('search').addEventListener('input', displayJobs);
-        document.getElementById('category').addEventListener('change', displayJobs);
-        document.getElementById('location').addEventListener('input', displayJobs);
-        document.getElementById('sort').addEventListener('change', displayJobs);
-        fetchJobs();
-    </script>
-</body>
-</html>
-        """;
-    }
-
     private String generateErrorPage(String title, String message) {
         return String.format("""
 <!DOCTYPE html>
@@ -530,9 +251,52 @@ public class ApprenticeshipWebService {
         """, title, title, message);
     }
 
+    /**
+     * Sends a prepared page asset, or 304 Not Modified if the client already has it. The gzipped
+     * bytes are sent when the client accepts them.
+     */
+    private void sendAsset(
+            HttpExchange exchange, ApprenticeshipPageAssets.Asset asset, String cacheControl)
+            throws IOException {
+        var headers = exchange.getResponseHeaders();
+        headers.set("ETag", asset.etag());
+        headers.set("Cache-Control", cacheControl);
+        headers.set("Vary", "Accept-Encoding");
+        if (asset.isNotModified(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+
+        headers.set("Content-Type", asset.contentType());
+        if (ApprenticeshipPageAssets.acceptsGzip(
+                exchange.getRequestHeaders().getFirst("Accept-Encoding"))) {
+            headers.set("Content-Encoding", "gzip");
+            sendBytes(exchange, 200, asset.gzip());
+        } else {
+            sendBytes(exchange, 200, asset.body());
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) return params;
+        for (String param : rawQuery.split("&")) {
+            int equals = param.indexOf('=');
+            if (equals <= 0) continue;
+            params.putIfAbsent(
+                    URLDecoder.decode(param.substring(0, equals), StandardCharsets.UTF_8),
+                    URLDecoder.decode(param.substring(equals + 1), StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
     private void sendResponse(HttpExchange exchange, int statusCode, String response) throws IOException {
-        byte[] bytes = response.getBytes("UTF-8");
-        exchange.sendResponseHeaders(statusCode, bytes.length);
+        sendBytes(exchange, statusCode, response.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void sendBytes(HttpExchange exchange, int statusCode, byte[] bytes) throws IOException {
+        exchange.sendResponseHeaders(statusCode, bytes.length == 0 ? -1 : bytes.length);
         try (OutputStream os = exchange.getResponseBody()) {
             os.write(bytes);
         }
@@ -543,11 +307,4 @@ public class ApprenticeshipWebService {
         String json = objectMapper.writeValueAsString(data);
         sendResponse(exchange, statusCode, json);
     }
-
-    private static class TokenInfo {
-        final Instant expiry;
-        TokenInfo(Instant expiry) {
-            this.expiry = expiry;
-        }
-    }
 }
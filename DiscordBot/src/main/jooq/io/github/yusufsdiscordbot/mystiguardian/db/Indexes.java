@@ -4,6 +4,7 @@
 package io.github.yusufsdiscordbot.mystiguardian.db;
 
 
+import io.github.yusufsdiscordbot.mystiguardian.db.tables.Apprenticeship;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.FlywaySchemaHistory;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.StoredFiles;
 
@@ -23,6 +24,9 @@ public class Indexes {
     // INDEX definitions
     // -------------------------------------------------------------------------
 
+    public static final Index IDX_APPRENTICESHIP_CLOSING_DATE = Internal.createIndex(DSL.name("idx_apprenticeship_closing_date"), Apprenticeship.APPRENTICESHIP, new OrderField[] { Apprenticeship.APPRENTICESHIP.CLOSING_DATE }, false);
+    public static final Index IDX_APPRENTICESHIP_SOURCE = Internal.createIndex(DSL.name("idx_apprenticeship_source"), Apprenticeship.APPRENTICESHIP, new OrderField[] { Apprenticeship.APPRENTICESHIP.SOURCE }, false);
+    public static final Index IDX_APPRENTICESHIP_UNIFIED_CATEGORIES = Internal.createIndex(DSL.name("idx_apprenticeship_unified_categories"), Apprenticeship.APPRENTICESHIP, new OrderField[] { Apprenticeship.APPRENTICESHIP.UNIFIED_CATEGORIES }, false);
     public static final Index FLYWAY_SCHEMA_HISTORY_S_IDX = Internal.createIndex(DSL.name("flyway_schema_history_s_idx"), FlywaySchemaHistory.FLYWAY_SCHEMA_HISTORY, new OrderField[] { FlywaySchemaHistory.FLYWAY_SCHEMA_HISTORY.SUCCESS }, false);
     public static final Index IDX_STORED_FILES_FILE_NAME = Internal.createIndex(DSL.name("idx_stored_files_file_name"), StoredFiles.STORED_FILES, new OrderField[] { StoredFiles.STORED_FILES.FILE_NAME }, false);
     public static final Index IDX_STORED_FILES_GUILD_ID = Internal.createIndex(DSL.name("idx_stored_files_guild_id"), StoredFiles.STORED_FILES, new OrderField[] { StoredFiles.STORED_FILES.GUILD_ID }, false);
@@ -8,6 +8,8 @@ import io.github.yusufsdiscordbot.mystiguardian.db.tables.AmountOfBans;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.AmountOfKicks;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.AmountOfTimeOuts;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.AmountOfWarns;
+import io.github.yusufsdiscordbot.mystiguardian.db.tables.Apprenticeship;
+import io.github.yusufsdiscordbot.mystiguardian.db.tables.ApprenticeshipWebhook;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.AuditChannel;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.Ban;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.FlywaySchemaHistory;
@@ -22,6 +24,8 @@ import io.github.yusufsdiscordbot.mystiguardian.db.tables.records.AmountOfBansRe
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.records.AmountOfKicksRecord;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.records.AmountOfTimeOutsRecord;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.records.AmountOfWarnsRecord;
+import io.github.yusufsdiscordbot.mystiguardian.db.tables.records.ApprenticeshipRecord;
+import io.github.yusufsdiscordbot.mystiguardian.db.tables.records.ApprenticeshipWebhookRecord;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.records.AuditChannelRecord;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.records.BanRecord;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.records.FlywaySchemaHistoryRecord;
@@ -58,6 +62,8 @@ public class Keys {
     public static final UniqueKey<AmountOfTimeOutsRecord> AMOUNT_OF_TIME_OUTS_PKEY = Internal.createUniqueKey(AmountOfTimeOuts.AMOUNT_OF_TIME_OUTS, DSL.name("amount_of_time_outs_pkey"), new TableField[] { AmountOfTimeOuts.AMOUNT_OF_TIME_OUTS.ID }, true);
     public static final UniqueKey<AmountOfWarnsRecord> AMOUNT_OF_WARNS_GUILD_ID_USER_ID_ID_KEY = Internal.createUniqueKey(AmountOfWarns.AMOUNT_OF_WARNS, DSL.name("amount_of_warns_guild_id_user_id_id_key"), new TableField[] { AmountOfWarns.AMOUNT_OF_WARNS.GUILD_ID, AmountOfWarns.AMOUNT_OF_WARNS.USER_ID, AmountOfWarns.AMOUNT_OF_WARNS.ID }, true);
     public static final UniqueKey<AmountOfWarnsRecord> AMOUNT_OF_WARNS_PKEY = Internal.createUniqueKey(AmountOfWarns.AMOUNT_OF_WARNS, DSL.name("amount_of_warns_pkey"), new TableField[] { AmountOfWarns.AMOUNT_OF_WARNS.ID }, true);
+    public static final UniqueKey<ApprenticeshipRecord> APPRENTICESHIP_PKEY = Internal.createUniqueKey(Apprenticeship.APPRENTICESHIP, DSL.name("apprenticeship_pkey"), new TableField[] { Apprenticeship.APPRENTICESHIP.ID }, true);
+    public static final UniqueKey<ApprenticeshipWebhookRecord> APPRENTICESHIP_WEBHOOK_PKEY = Internal.createUniqueKey(ApprenticeshipWebhook.APPRENTICESHIP_WEBHOOK, DSL.name("apprenticeship_webhook_pkey"), new TableField[] { ApprenticeshipWebhook.APPRENTICESHIP_WEBHOOK.CHANNEL_ID }, true);
     public static final UniqueKey<AuditChannelRecord> AUDIT_CHANNEL_PKEY = Internal.createUniqueKey(AuditChannel.AUDIT_CHANNEL, DSL.name("audit_channel_pkey"), new TableField[] { AuditChannel.AUDIT_CHANNEL.GUILD_ID }, true);
     public static final UniqueKey<BanRecord> BAN_GUILD_ID_USER_ID_ID_KEY = Internal.createUniqueKey(Ban.BAN, DSL.name("ban_guild_id_user_id_id_key"), new TableField[] { Ban.BAN.GUILD_ID, Ban.BAN.USER_ID, Ban.BAN.ID }, true);
     public static final UniqueKey<BanRecord> BAN_PKEY = Internal.createUniqueKey(Ban.BAN, DSL.name("ban_pkey"), new TableField[] { Ban.BAN.ID }, true);
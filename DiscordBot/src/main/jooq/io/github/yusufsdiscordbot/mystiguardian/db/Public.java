@@ -8,6 +8,8 @@ import io.github.yusufsdiscordbot.mystiguardian.db.tables.AmountOfBans;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.AmountOfKicks;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.AmountOfTimeOuts;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.AmountOfWarns;
+import io.github.yusufsdiscordbot.mystiguardian.db.tables.Apprenticeship;
+import io.github.yusufsdiscordbot.mystiguardian.db.tables.ApprenticeshipWebhook;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.AuditChannel;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.Ban;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.FlywaySchemaHistory;
@@ -60,6 +62,16 @@ public class Public extends SchemaImpl {
      */
     public final AmountOfWarns AMOUNT_OF_WARNS = AmountOfWarns.AMOUNT_OF_WARNS;
 
+    /**
+     * The table <code>public.apprenticeship</code>.
+     */
+    public final Apprenticeship APPRENTICESHIP = Apprenticeship.APPRENTICESHIP;
+
+    /**
+     * The table <code>public.apprenticeship_webhook</code>.
+     */
+    public final ApprenticeshipWebhook APPRENTICESHIP_WEBHOOK = ApprenticeshipWebhook.APPRENTICESHIP_WEBHOOK;
+
     /**
      * The table <code>public.audit_channel</code>.
      */
@@ -130,6 +142,8 @@ public class Public extends SchemaImpl {
             AmountOfKicks.AMOUNT_OF_KICKS,
             AmountOfTimeOuts.AMOUNT_OF_TIME_OUTS,
             AmountOfWarns.AMOUNT_OF_WARNS,
+            Apprenticeship.APPRENTICESHIP,
+            ApprenticeshipWebhook.APPRENTICESHIP_WEBHOOK,
             AuditChannel.AUDIT_CHANNEL,
             Ban.BAN,
             FlywaySchemaHistory.FLYWAY_SCHEMA_HISTORY,
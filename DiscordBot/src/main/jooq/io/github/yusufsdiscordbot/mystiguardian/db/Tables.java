@@ -8,6 +8,8 @@ import io.github.yusufsdiscordbot.mystiguardian.db.tables.AmountOfBans;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.AmountOfKicks;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.AmountOfTimeOuts;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.AmountOfWarns;
+import io.github.yusufsdiscordbot.mystiguardian.db.tables.Apprenticeship;
+import io.github.yusufsdiscordbot.mystiguardian.db.tables.ApprenticeshipWebhook;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.AuditChannel;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.Ban;
 import io.github.yusufsdiscordbot.mystiguardian.db.tables.FlywaySchemaHistory;
@@ -46,6 +48,16 @@ public class Tables {
      */
     public static final AmountOfWarns AMOUNT_OF_WARNS = AmountOfWarns.AMOUNT_OF_WARNS;
 
+    /**
+     * The table <code>public.apprenticeship</code>.
+     */
+    public static final Apprenticeship APPRENTICESHIP = Apprenticeship.APPRENTICESHIP;
+
+    /**
+     * The table <code>public.apprenticeship_webhook</code>.
+     */
+    public static final ApprenticeshipWebhook APPRENTICESHIP_WEBHOOK = ApprenticeshipWebhook.APPRENTICESHIP_WEBHOOK;
+
     /**
      * The table <code>public.audit_channel</code>.
      */
@@ -0,0 +1,27 @@
+-- Add apprenticeship table as the primary store for scraped apprenticeships
+-- Google Sheets is kept as an export that is written to asynchronously
+
+CREATE TABLE IF NOT EXISTS apprenticeship (
+    id VARCHAR(256) PRIMARY KEY,
+    source VARCHAR(64) NOT NULL,
+    title VARCHAR(512) NOT NULL,
+    company_name VARCHAR(512),
+    location VARCHAR(512),
+    categories TEXT[] NOT NULL,
+    unified_categories TEXT[] NOT NULL,
+    salary VARCHAR(512),
+    opening_date DATE,
+    closing_date DATE,
+    url VARCHAR(1024),
+    first_seen_at TIMESTAMP NOT NULL DEFAULT now(),
+    updated_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+-- Create an index for faster lookups by source
+CREATE INDEX idx_apprenticeship_source ON apprenticeship(source);
+
+-- Create an index for listing apprenticeships that are still open
+CREATE INDEX idx_apprenticeship_closing_date ON apprenticeship(closing_date);
+
+-- Create a GIN index so unified category filters can use array containment (@>)
+CREATE INDEX idx_apprenticeship_unified_categories ON apprenticeship USING GIN (unified_categories);
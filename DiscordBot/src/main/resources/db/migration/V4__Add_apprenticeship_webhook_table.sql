@@ -0,0 +1,10 @@
+-- Add a table caching the webhook used to post apprenticeship announcements in each channel
+-- Webhooks have their own rate limit bucket, separate from the bot's messages in the channel
+
+CREATE TABLE IF NOT EXISTS apprenticeship_webhook (
+    channel_id VARCHAR(256) PRIMARY KEY,
+    guild_id VARCHAR(256) NOT NULL,
+    webhook_id VARCHAR(256) NOT NULL,
+    webhook_url VARCHAR(512) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT now()
+);
@@ -0,0 +1,199 @@
+const PAGE_SIZE = 24;
+const token = new URLSearchParams(window.location.search).get('token');
+let nextCursor = null;
+let shownCount = 0;
+let requestSeq = 0;
+let searchTimer = null;
+let pendingLive = 0;
+
+function buildQuery(cursor) {
+    const params = new URLSearchParams({ token: token, limit: PAGE_SIZE });
+    const search = document.getElementById('search').value.trim();
+    const category = document.getElementById('category').value;
+    const location = document.getElementById('location').value;
+    if (search) params.set('q', search);
+    if (category) params.set('category', category);
+    if (location) params.set('location', location);
+    params.set('sort', document.getElementById('sort').value);
+    if (cursor) params.set('cursor', cursor);
+    return params;
+}
+
+// Fetches one page from the server, which does the filtering, sorting and paging
+async function loadJobs(append) {
+    const seq = ++requestSeq;
+    const loadMore = document.getElementById('load-more');
+    loadMore.disabled = true;
+    try {
+        const response = await fetch(`/api/apprenticeships?${buildQuery(append ? nextCursor : null)}`);
+        const data = await response.json();
+        if (seq !== requestSeq) {
+            return;
+        }
+
+        if (data.error) {
+            document.getElementById('jobs-grid').innerHTML = `<div class="error">${data.error}</div>`;
+            loadMore.style.display = 'none';
+            return;
+        }
+
+        if (data.categories && document.getElementById('category').options.length === 1) {
+            populateFilters(data.categories, data.locations);
+        }
+        if (data.available !== undefined) {
+            document.getElementById('stats').dataset.available = data.available;
+        }
+
+        renderJobs(data.apprenticeships, append);
+        nextCursor = data.nextCursor;
+        updateStats(data.total);
+        loadMore.style.display = nextCursor ? 'block' : 'none';
+    } catch (error) {
+        console.error('Error loading apprenticeships:', error);
+        document.getElementById('jobs-grid').innerHTML = '<div class="error">Failed to load apprenticeships. Please try again later.</div>';
+    } finally {
+        loadMore.disabled = false;
+    }
+}
+
+function populateFilters(categories, locations) {
+    const categorySelect = document.getElementById('category');
+    categories.forEach(cat => {
+        const option = document.createElement('option');
+        option.value = cat;
+        option.textContent = cat;
+        categorySelect.appendChild(option);
+    });
+
+    const locationSelect = document.getElementById('location');
+    locations.forEach(loc => {
+        const option = document.createElement('option');
+        option.value = loc;
+        option.textContent = loc;
+        locationSelect.appendChild(option);
+    });
+}
+
+function renderJob(job) {
+    const closingDate = new Date(job.closingDate);
+    const today = new Date();
+    const daysLeft = Math.ceil((closingDate - today) / (1000 * 60 * 60 * 24));
+    const isUrgent = daysLeft < 7;
+    // Display unified categories on cards
+    const categoriesDisplay = (job.unifiedCategories || []).join(', ') || 'Not specified';
+
+    return `
+        <div class="job-card">
+            <div class="job-title">${job.title || 'Untitled'}</div>
+            <div class="job-company">${job.companyName || 'Company not specified'}</div>
+            <div class="job-detail">📍 ${job.location || 'Location not specified'}</div>
+            <div class="job-detail">💰 ${job.salary || 'Not specified'}</div>
+            <div class="job-detail">⏰ Closes: ${job.closingDate || 'Not specified'}</div>
+            <div class="job-detail ${isUrgent ? 'urgent' : ''}">
+                ${daysLeft > 0 ? `${daysLeft} days left` : 'Closing soon!'}
+            </div>
+            <div class="job-category">🎓 ${categoriesDisplay}</div>
+            <a href="${job.url || '#'}" target="_blank" class="apply-button">Apply Now</a>
+        </div>
+    `;
+}
+
+function renderJobs(jobs, append) {
+    const grid = document.getElementById('jobs-grid');
+
+    if (!append) {
+        shownCount = 0;
+        if (jobs.length === 0) {
+            grid.innerHTML = '<div class="error">No apprenticeships found matching your criteria.</div>';
+            return;
+        }
+        grid.innerHTML = '';
+    }
+
+    shownCount += jobs.length;
+    grid.insertAdjacentHTML('beforeend', jobs.map(renderJob).join(''));
+}
+
+function updateStats(total) {
+    const stats = document.getElementById('stats');
+    stats.textContent = `Showing ${shownCount} of ${total} matching (${stats.dataset.available || total} opportunities)`;
+}
+
+async function loadSuggestions() {
+    const text = document.getElementById('search').value.trim();
+    const list = document.getElementById('suggestions');
+    if (!text) {
+        list.innerHTML = '';
+        return;
+    }
+    try {
+        const params = new URLSearchParams({ token: token, q: text });
+        const response = await fetch(`/api/apprenticeships/suggest?${params}`);
+        const data = await response.json();
+        if (data.error || text !== document.getElementById('search').value.trim()) {
+            return;
+        }
+        const titles = [...new Set(data.suggestions.map(job => job.title))];
+        list.innerHTML = '';
+        titles.forEach(title => {
+            const option = document.createElement('option');
+            option.value = title;
+            list.appendChild(option);
+        });
+    } catch (error) {
+        console.error('Error loading suggestions:', error);
+    }
+}
+
+function reload() {
+    nextCursor = null;
+    pendingLive = 0;
+    document.getElementById('live-notice').style.display = 'none';
+    loadJobs(false);
+}
+
+// New apprenticeships are pushed by the server as they are saved
+function connectLiveFeed() {
+    if (!window.EventSource) {
+        return;
+    }
+    const source = new EventSource(`/api/apprenticeships/stream?token=${encodeURIComponent(token)}`);
+    let connectedBefore = false;
+    source.onopen = () => {
+        // Events may have been missed while reconnecting
+        if (connectedBefore) {
+            reload();
+        }
+        connectedBefore = true;
+    };
+    source.addEventListener('apprenticeships', event => {
+        const count = JSON.parse(event.data).apprenticeships.length;
+        const stats = document.getElementById('stats');
+        stats.dataset.available = Number(stats.dataset.available || 0) + count;
+        if (shownCount <= PAGE_SIZE) {
+            reload();
+            return;
+        }
+        pendingLive += count;
+        const notice = document.getElementById('live-notice');
+        notice.textContent = `${pendingLive} new apprenticeship${pendingLive === 1 ? '' : 's'} - click to refresh`;
+        notice.style.display = 'block';
+    });
+}
+
+document.getElementById('search').addEventListener('input', () => {
+    loadSuggestions();
+    clearTimeout(searchTimer);
+    searchTimer = setTimeout(reload, 250);
+});
+document.getElementById('category').addEventListener('change', reload);
+document.getElementById('location').addEventListener('change', reload);
+document.getElementById('sort').addEventListener('change', reload);
+document.getElementById('load-more').addEventListener('click', () => loadJobs(true));
+document.getElementById('live-notice').addEventListener('click', () => {
+    reload();
+    window.scrollTo(0, 0);
+});
+
+loadJobs(false);
+connectLiveFeed();
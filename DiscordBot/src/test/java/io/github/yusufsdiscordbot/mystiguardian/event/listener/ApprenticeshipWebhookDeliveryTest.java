@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.event.listener;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import net.dv8tion.jda.api.requests.restaction.MessageCreateAction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ApprenticeshipWebhookDelivery}.
+ *
+ * <p>Tests the fallback to posting as the bot when no webhook can be used, and that the webhook
+ * cache is only read on the store executor.
+ */
+@DisplayName("ApprenticeshipWebhookDelivery Tests")
+class ApprenticeshipWebhookDeliveryTest {
+
+    private static final List<MessageEmbed> EMBEDS =
+            List.of(new EmbedBuilder().setTitle("Software Engineer").build());
+
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final AtomicReference<String> lookupThread = new AtomicReference<>();
+    private TextChannel channel;
+    private Member self;
+
+    @BeforeEach
+    void setUp() {
+        channel = mock(TextChannel.class);
+        Guild guild = mock(Guild.class);
+        self = mock(Member.class);
+        when(channel.getIdLong()).thenReturn(42L);
+        when(channel.getId()).thenReturn("42");
+        when(channel.getGuild()).thenReturn(guild);
+        when(guild.getSelfMember()).thenReturn(self);
+
+        MessageCreateAction action = mock(MessageCreateAction.class);
+        when(action.submit()).thenReturn(CompletableFuture.completedFuture(mock(Message.class)));
+        when(channel.sendMessageEmbeds(anyCollection())).thenReturn(action);
+    }
+
+    private ApprenticeshipWebhookDelivery delivery(boolean storeAvailable) {
+        return delivery(storeAvailable, Runnable::run);
+    }
+
+    private ApprenticeshipWebhookDelivery delivery(boolean storeAvailable, Executor storeExecutor) {
+        return new ApprenticeshipWebhookDelivery(
+                new ApprenticeshipWebhookDelivery.WebhookStore() {
+                    @Override
+                    public @Nullable String find(long channelId) {
+                        lookups.incrementAndGet();
+                        lookupThread.set(Thread.currentThread().getName());
+                        if (!storeAvailable) {
+                            throw new IllegalStateException("Database unavailable");
+                        }
+                        return null;
+                    }
+
+                    @Override
+                    public void save(long guildId, long channelId, long webhookId, @NotNull String url) {
+                        fail("No webhook should be saved");
+                    }
+
+                    @Override
+                    public void delete(long channelId) {}
+                },
+                storeExecutor);
+    }
+
+    @Test
+    @DisplayName("Should post as the bot without permission to manage webhooks")
+    void testFallsBackWithoutPermission() throws Exception {
+        when(self.hasPermission(channel, Permission.MANAGE_WEBHOOKS)).thenReturn(false);
+
+        delivery(true).send(channel, null, EMBEDS).get(1, TimeUnit.SECONDS);
+
+        assertEquals(1, lookups.get());
+        verify(channel).sendMessageEmbeds(anyCollection());
+        verify(channel, never()).retrieveWebhooks();
+    }
+
+    @Test
+    @DisplayName("Should still post when the webhook cache cannot be read")
+    void testFallsBackWhenStoreFails() throws Exception {
+        when(self.hasPermission(channel, Permission.MANAGE_WEBHOOKS)).thenReturn(false);
+
+        delivery(false).send(channel, null, EMBEDS).get(1, TimeUnit.SECONDS);
+
+        verify(channel).sendMessageEmbeds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should read the webhook cache on the store executor")
+    void testStoreRunsOnExecutor() throws Exception {
+        when(self.hasPermission(channel, Permission.MANAGE_WEBHOOKS)).thenReturn(false);
+        ExecutorService storeExecutor =
+                Executors.newSingleThreadExecutor(task -> new Thread(task, "webhook-store"));
+
+        try {
+            delivery(true, storeExecutor).send(channel, null, EMBEDS).get(1, TimeUnit.SECONDS);
+        } finally {
+            storeExecutor.shutdownNow();
+        }
+
+        assertEquals("webhook-store", lookupThread.get());
+        verify(channel).sendMessageEmbeds(anyCollection());
+    }
+}
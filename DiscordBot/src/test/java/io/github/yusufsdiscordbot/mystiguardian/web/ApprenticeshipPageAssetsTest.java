@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ApprenticeshipPageAssets}.
+ *
+ * <p>Tests the stylesheet and line minifiers and gzip negotiation.
+ */
+@DisplayName("ApprenticeshipPageAssets Tests")
+class ApprenticeshipPageAssetsTest {
+
+    @Nested
+    @DisplayName("Minification")
+    class MinificationTests {
+
+        @Test
+        @DisplayName("Should drop comments and whitespace from stylesheets")
+        void testMinifyCss() {
+            String css =
+                    """
+                    /* Layout */
+                    body {
+                        margin: 0;
+                        font-family: Arial, sans-serif;
+                    }
+
+                    /* Cards
+                       span lines */
+                    .card > h2 { color: #333; }
+                    a:hover { text-decoration: underline; }
+                    """;
+
+            assertEquals(
+                    "body{margin:0;font-family:Arial,sans-serif;}"
+                            + ".card > h2{color:#333;}"
+                            + "a:hover{text-decoration:underline;}",
+                    ApprenticeshipPageAssets.minifyCss(css));
+        }
+
+        @Test
+        @DisplayName("Should strip indentation, blank lines and whole-line comments only")
+        void testMinifyLines() {
+            String script =
+                    """
+                    // Live feed
+                    function connect() {
+                        const url = `/api?page=1`;
+
+                        return url; // keep
+                    }
+                    """;
+
+            assertEquals(
+                    "function connect() {\nconst url = `/api?page=1`;\nreturn url; // keep\n}",
+                    ApprenticeshipPageAssets.minifyLines(script));
+        }
+
+        @Test
+        @DisplayName("Should keep one line break between HTML lines")
+        void testMinifyHtml() {
+            String html =
+                    """
+                    <ul>
+                        <li>One</li>
+
+                        <li>Two</li>
+                    </ul>
+                    """;
+
+            assertEquals(
+                    "<ul>\n<li>One</li>\n<li>Two</li>\n</ul>", ApprenticeshipPageAssets.minifyLines(html));
+        }
+    }
+
+    @Nested
+    @DisplayName("Encoding")
+    class EncodingTests {
+
+        @Test
+        @DisplayName("Should detect gzip in Accept-Encoding")
+        void testAcceptsGzip() {
+            assertTrue(ApprenticeshipPageAssets.acceptsGzip("gzip, deflate, br"));
+            assertFalse(ApprenticeshipPageAssets.acceptsGzip("br"));
+            assertFalse(ApprenticeshipPageAssets.acceptsGzip(null));
+        }
+    }
+}
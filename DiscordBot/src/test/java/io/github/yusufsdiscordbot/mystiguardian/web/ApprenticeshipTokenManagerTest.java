@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ApprenticeshipTokenManager}.
+ *
+ * <p>Tests that signed tokens validate without shared state, expire, and reject tampering.
+ */
+@DisplayName("ApprenticeshipTokenManager Tests")
+class ApprenticeshipTokenManagerTest {
+
+    private static final byte[] SECRET =
+            "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+    private static final Instant NOW = Instant.parse("2026-03-10T12:00:00Z");
+
+    private static ApprenticeshipTokenManager manager(byte[] secret, Instant now) {
+        return new ApprenticeshipTokenManager(secret, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should accept a token on another instance with the same secret")
+        void testSharedSecret() {
+            String token = manager(SECRET, NOW).generate();
+
+            assertTrue(manager(SECRET, NOW.plusSeconds(60)).isValid(token));
+            assertNotEquals(token, manager(SECRET, NOW).generate());
+        }
+
+        @Test
+        @DisplayName("Should reject a token once it has expired")
+        void testExpiry() {
+            String token = manager(SECRET, NOW).generate();
+            Instant expiry = NOW.plus(ApprenticeshipTokenManager.TOKEN_LIFETIME);
+
+            assertTrue(manager(SECRET, expiry.minus(Duration.ofSeconds(1))).isValid(token));
+            assertFalse(manager(SECRET, expiry).isValid(token));
+        }
+
+        @Test
+        @DisplayName("Should reject tokens signed with another secret or altered")
+        void testTampering() {
+            String token = manager(SECRET, NOW).generate();
+            byte[] otherSecret = "another-secret-another-secret-xx".getBytes(StandardCharsets.UTF_8);
+            String altered = (token.charAt(0) == 'A' ? 'B' : 'A') + token.substring(1);
+
+            assertFalse(manager(otherSecret, NOW).isValid(token));
+            assertFalse(manager(SECRET, NOW).isValid(altered));
+        }
+
+        @Test
+        @DisplayName("Should reject malformed tokens")
+        void testMalformed() {
+            ApprenticeshipTokenManager manager = manager(SECRET, NOW);
+
+            assertFalse(manager.isValid(null));
+            assertFalse(manager.isValid(""));
+            assertFalse(manager.isValid("not-a-token"));
+            assertFalse(manager.isValid("!!!.???"));
+            assertFalse(manager.isValid("YWJj.YWJj"));
+        }
+    }
+}
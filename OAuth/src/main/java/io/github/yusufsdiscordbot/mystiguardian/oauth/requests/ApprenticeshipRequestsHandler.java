@@ -20,13 +20,23 @@ package io.github.yusufsdiscordbot.mystiguardian.oauth.requests;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.yusufsdiscordbot.mystiguardian.MystiGuardianConfig;
+import io.github.yusufsdiscordbot.mystiguardian.store.ApprenticeshipFeed;
+import io.github.yusufsdiscordbot.mystiguardian.store.ApprenticeshipListing;
+import io.github.yusufsdiscordbot.mystiguardian.store.ApprenticeshipQuery;
+import io.github.yusufsdiscordbot.mystiguardian.store.ApprenticeshipReadModel;
+import io.github.yusufsdiscordbot.mystiguardian.web.ApprenticeshipPageAssets;
+import io.github.yusufsdiscordbot.mystiguardian.web.ApprenticeshipTokenManager;
 import lombok.extern.slf4j.Slf4j;
+import spark.Request;
+import spark.Response;
 import spark.Spark;
 
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Handles HTTP requests for apprenticeship data access via Spark web framework.
@@ -34,22 +44,27 @@ import java.util.concurrent.ConcurrentHashMap;
  * <p>This handler provides secure token-based access to apprenticeship listings through
  * both HTML and JSON endpoints. Features include:
  * <ul>
- *   <li>Token-based authentication with 24-hour expiry
- *   <li>Automatic token cleanup task
- *   <li>HTML and JSON response formats
+ *   <li>Stateless signed tokens with 24-hour expiry, see {@link ApprenticeshipTokenManager}
+ *   <li>A static HTML page with fingerprinted, minified and gzipped assets, see
+ *       {@link ApprenticeshipPageAssets}
+ *   <li>JSON API responses
+ *   <li>Filtered, sorted and paged JSON results, so the page only fetches what it shows
+ *   <li>Typeahead suggestions over titles, companies and locations
+ *   <li>A Server-Sent Events stream that pushes newly saved apprenticeships to open pages
  * </ul>
  */
 @Slf4j
 public class ApprenticeshipRequestsHandler {
-    private static final Map<String, TokenInfo> accessTokens = new ConcurrentHashMap<>();
     private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Duration STREAM_HEARTBEAT = Duration.ofSeconds(20);
+    private static final List<String> PAGE_PARAMS =
+            List.of("category", "location", "source", "q", "sort", "cursor", "limit");
 
     /**
-     * Constructs a new ApprenticeshipRequestsHandler and initializes routes and cleanup tasks.
+     * Constructs a new ApprenticeshipRequestsHandler and initializes routes.
      */
     public ApprenticeshipRequestsHandler() {
         setupRoutes();
-        startTokenCleanupTask();
     }
 
     private void setupRoutes() {
@@ -57,22 +72,32 @@ public class ApprenticeshipRequestsHandler {
         Spark.get("/apprenticeships", (req, res) -> {
             String token = req.queryParams("token");
 
-            if (token == null || !isValidToken(token)) {
+            if (token == null || !ApprenticeshipTokenManager.isValidToken(token)) {
                 res.type("text/html; charset=UTF-8");
                 res.status(403);
                 return generateErrorPage("Access Denied", "Invalid or expired token.");
             }
 
-            res.type("text/html; charset=UTF-8");
-            res.status(200);
-            return generateHtmlPage();
+            // The page is a static shell; it reads the token from its own URL
+            var page = ApprenticeshipPageAssets.get().page();
+            return sendAsset(req, res, page, ApprenticeshipPageAssets.PAGE_CACHE_CONTROL);
+        });
+
+        // Fingerprinted stylesheet and script for the page
+        Spark.get(ApprenticeshipPageAssets.ASSET_PATH + ":name", (req, res) -> {
+            var asset = ApprenticeshipPageAssets.get().asset(req.params(":name"));
+            if (asset == null) {
+                res.status(404);
+                return "";
+            }
+            return sendAsset(req, res, asset, ApprenticeshipPageAssets.ASSET_CACHE_CONTROL);
         });
 
         // JSON API endpoint
         Spark.get("/api/apprenticeships", (req, res) -> {
             String token = req.queryParams("token");
 
-            if (token == null || !isValidToken(token)) {
+            if (token == null || !ApprenticeshipTokenManager.isValidToken(token)) {
                 res.type("application/json");
                 res.status(403);
                 return objectMapper.writeValueAsString(Map.of("error", "Invalid or expired token"));
@@ -85,416 +110,240 @@ public class ApprenticeshipRequestsHandler {
                     return objectMapper.writeValueAsString(Map.of("error", "Apprenticeship manager not initialized"));
                 }
 
-                List<Map<String, Object>> apprenticeships = apprenticeshipSpreadsheetManager.getAllJobsForWeb();
+                var readModel = apprenticeshipSpreadsheetManager.getReadModel();
+                if (isPagedRequest(req)) {
+                    ApprenticeshipQuery query;
+                    try {
+                        query = ApprenticeshipQuery.fromParams(
+                                req.queryParams("category"),
+                                req.queryParams("location"),
+                                req.queryParams("source"),
+                                req.queryParams("q"),
+                                req.queryParams("sort"),
+                                req.queryParams("cursor"),
+                                req.queryParams("limit"));
+                    } catch (IllegalArgumentException e) {
+                        res.type("application/json");
+                        res.status(400);
+                        return objectMapper.writeValueAsString(Map.of("error", e.getMessage()));
+                    }
+
+                    res.type("application/json");
+                    res.header("Cache-Control", "private, no-cache");
+                    res.header("Vary", "Accept-Encoding");
+                    res.status(200);
+                    String acceptEncoding = req.headers("Accept-Encoding");
+                    if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                        // Pages are small and built per request, so Spark compresses them itself
+                        res.header("Content-Encoding", "gzip");
+                    }
+                    return readModel.query(query);
+                }
+
+                // The full body is encoded once per change to the read model, not per request
+                var response = readModel.response();
+                res.header("ETag", response.etag());
+                res.header("Cache-Control", "private, no-cache");
+                res.header("Vary", "Accept-Encoding");
+
+                String ifNoneMatch = req.headers("If-None-Match");
+                if (ifNoneMatch != null && ifNoneMatch.contains(response.etag())) {
+                    res.status(304);
+                    return "";
+                }
+
                 res.type("application/json");
                 res.status(200);
-                return objectMapper.writeValueAsString(Map.of("apprenticeships", apprenticeships));
+                String acceptEncoding = req.headers("Accept-Encoding");
+                if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                    res.header("Content-Encoding", "gzip");
+                    return writeBody(res, response.gzip());
+                }
+                return writeBody(res, response.json());
             } catch (Exception e) {
                 logger.error("Error fetching apprenticeships", e);
                 res.status(500);
                 return objectMapper.writeValueAsString(Map.of("error", "Failed to fetch apprenticeships"));
             }
         });
+
+        // Typeahead endpoint, answered from the read model's word index
+        Spark.get("/api/apprenticeships/suggest", (req, res) -> {
+            String token = req.queryParams("token");
+            res.type("application/json");
+
+            if (token == null || !ApprenticeshipTokenManager.isValidToken(token)) {
+                res.status(403);
+                return objectMapper.writeValueAsString(Map.of("error", "Invalid or expired token"));
+            }
+
+            var apprenticeshipSpreadsheetManager = MystiGuardianConfig.getApprenticeshipSpreadsheetManager();
+            if (apprenticeshipSpreadsheetManager == null) {
+                res.status(500);
+                return objectMapper.writeValueAsString(Map.of("error", "Apprenticeship manager not initialized"));
+            }
+
+            String text = Objects.requireNonNullElse(req.queryParams("q"), "");
+            String limitParam = req.queryParams("limit");
+            List<ApprenticeshipListing> suggestions;
+            try {
+                int limit = limitParam == null
+                        ? ApprenticeshipReadModel.DEFAULT_SUGGESTIONS
+                        : Integer.parseInt(limitParam);
+                suggestions = apprenticeshipSpreadsheetManager.getReadModel().suggest(text, limit);
+            } catch (IllegalArgumentException e) {
+                // NumberFormatException is an IllegalArgumentException too
+                res.status(400);
+                return objectMapper.writeValueAsString(Map.of("error", "Invalid limit"));
+            }
+
+            res.header("Cache-Control", "private, max-age=30");
+            res.status(200);
+            return objectMapper.writeValueAsString(
+                    Map.of("suggestions", suggestions.stream().map(ApprenticeshipListing::toWebMap).toList()));
+        });
+
+        // Server-Sent Events stream of newly saved apprenticeships
+        Spark.get("/api/apprenticeships/stream", (req, res) -> {
+            String token = req.queryParams("token");
+
+            if (token == null || !ApprenticeshipTokenManager.isValidToken(token)) {
+                res.type("application/json");
+                res.status(403);
+                return objectMapper.writeValueAsString(Map.of("error", "Invalid or expired token"));
+            }
+
+            var apprenticeshipSpreadsheetManager = MystiGuardianConfig.getApprenticeshipSpreadsheetManager();
+            if (apprenticeshipSpreadsheetManager == null) {
+                res.type("application/json");
+                res.status(500);
+                return objectMapper.writeValueAsString(Map.of("error", "Apprenticeship manager not initialized"));
+            }
+
+            var subscription = apprenticeshipSpreadsheetManager.getFeed().subscribe();
+            if (subscription == null) {
+                res.type("application/json");
+                res.header("Retry-After", "30");
+                res.status(503);
+                return objectMapper.writeValueAsString(Map.of("error", "Too many live connections"));
+            }
+
+            streamEvents(res, subscription);
+            return "";
+        });
+    }
+
+    /**
+     * Writes feed events to the client as Server-Sent Events until the client disconnects or the
+     * subscription is evicted for falling behind. A comment line is sent every
+     * {@link #STREAM_HEARTBEAT} so proxies keep the connection open and a closed client is noticed
+     * by the next failed write.
+     *
+     * @param res the Spark response
+     * @param subscription the feed subscription to drain; closed when streaming ends
+     * @throws InterruptedException if the serving thread is interrupted
+     */
+    private static void streamEvents(Response res, ApprenticeshipFeed.Subscription subscription)
+            throws InterruptedException {
+        HttpServletResponse raw = res.raw();
+        raw.setStatus(200);
+        raw.setContentType("text/event-stream");
+        raw.setCharacterEncoding("UTF-8");
+        raw.setHeader("Cache-Control", "no-cache");
+        raw.setHeader("X-Accel-Buffering", "no");
+
+        try (subscription; ServletOutputStream out = raw.getOutputStream()) {
+            out.write(ascii("retry: 5000\n\n"));
+            out.flush();
+
+            while (!subscription.isClosed()) {
+                var event = subscription.poll(STREAM_HEARTBEAT);
+                if (event == null) {
+                    out.write(ascii(": keep-alive\n\n"));
+                } else {
+                    out.write(ascii("id: " + event.id() + "\nevent: apprenticeships\ndata: "));
+                    out.write(event.json());
+                    out.write(ascii("\n\n"));
+                }
+                out.flush();
+            }
+        } catch (IOException e) {
+            logger.debug("Live feed client disconnected: {}", e.getMessage());
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
     }
 
     /**
-     * Generates a new access token with a 24-hour expiration.
+     * Checks whether a request to {@code /api/apprenticeships} asks for a single page. Requests that
+     * carry only the token get the whole catalog, which keeps older clients working.
      *
-     * @return the generated access token string
+     * @param req the Spark request
+     * @return true if any filter, sort or paging parameter is present
      */
-    public static String generateAccessToken() {
-        String token = UUID.randomUUID().toString();
-        Instant expiry = Instant.now().plus(24, ChronoUnit.HOURS);
-        accessTokens.put(token, new TokenInfo(expiry));
-        logger.debug("Generated access token: {} (expires: {})", token, expiry);
-        return token;
+    private static boolean isPagedRequest(Request req) {
+        for (String param : PAGE_PARAMS) {
+            if (req.queryParams(param) != null) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private boolean isValidToken(String token) {
-        TokenInfo info = accessTokens.get(token);
-        if (info == null) {
-            return false;
+    /**
+     * Sends a prepared asset, or 304 Not Modified if the client already has it. The gzipped bytes
+     * are sent when the client accepts them.
+     *
+     * @param req the Spark request
+     * @param res the Spark response
+     * @param asset the asset to send
+     * @param cacheControl the Cache-Control header value
+     * @return an empty body for Spark
+     * @throws IOException if the client connection fails
+     */
+    private static String sendAsset(
+            Request req, Response res, ApprenticeshipPageAssets.Asset asset, String cacheControl)
+            throws IOException {
+        res.header("ETag", asset.etag());
+        res.header("Cache-Control", cacheControl);
+        res.header("Vary", "Accept-Encoding");
+        if (asset.isNotModified(req.headers("If-None-Match"))) {
+            res.status(304);
+            return "";
         }
-        if (Instant.now().isAfter(info.expiry)) {
-            accessTokens.remove(token);
-            return false;
+
+        res.type(asset.contentType());
+        res.status(200);
+        if (ApprenticeshipPageAssets.acceptsGzip(req.headers("Accept-Encoding"))) {
+            res.header("Content-Encoding", "gzip");
+            return writeBody(res, asset.gzip());
         }
-        return true;
+        return writeBody(res, asset.body());
     }
 
-    private void startTokenCleanupTask() {
-        Timer timer = new Timer(true);
-        timer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                Instant now = Instant.now();
-                accessTokens.entrySet().removeIf(entry -> now.isAfter(entry.getValue().expiry));
-            }
-        }, 60000, 60000); // Run every minute
+    /**
+     * Writes a pre-encoded body straight to the servlet response. Spark would gzip a returned body
+     * again whenever {@code Content-Encoding: gzip} is set, so the bytes bypass its serializers; the
+     * committed response makes Spark skip the empty return value.
+     *
+     * @param res the Spark response
+     * @param body the bytes to send
+     * @return an empty body for Spark
+     * @throws IOException if the client connection fails
+     */
+    private static String writeBody(Response res, byte[] body) throws IOException {
+        HttpServletResponse raw = res.raw();
+        raw.setContentLength(body.length);
+        try (ServletOutputStream out = raw.getOutputStream()) {
+            out.write(body);
+        }
+        return "";
     }
 
     private String generateErrorPage(String title, String message) {
         return "<!DOCTYPE html><html><head><meta charset=\"UTF-8\"><title>" + title +
                "</title></head><body><h1>" + title + "</h1><p>" + message + "</p></body></html>";
     }
-
-    private String generateHtmlPage() {
-        return """
-                <!DOCTYPE html>
-                <html lang="en">
-                <head>
-                    <meta charset="UTF-8">
-                    <meta name="viewport" content="width=device-width, initial-scale=1.0">
-                    <title>Available Apprenticeships</title>
-                    <style>
-                        * {
-                            margin: 0;
-                            padding: 0;
-                            box-sizing: border-box;
-                        }
-                        
-                        body {
-                            font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif;
-                            background: linear-gradient(135deg, #667eea 0%, #764ba2 100%);
-                            min-height: 100vh;
-                            padding: 20px;
-                        }
-                        
-                        .container {
-                            max-width: 1200px;
-                            margin: 0 auto;
-                        }
-                        
-                        header {
-                            text-align: center;
-                            color: white;
-                            margin-bottom: 40px;
-                        }
-                        
-                        h1 {
-                            font-size: 2.5rem;
-                            margin-bottom: 10px;
-                        }
-                        
-                        .subtitle {
-                            font-size: 1.2rem;
-                            opacity: 0.9;
-                        }
-                        
-                        .filters {
-                            background: white;
-                            padding: 20px;
-                            border-radius: 10px;
-                            box-shadow: 0 4px 6px rgba(0,0,0,0.1);
-                            margin-bottom: 30px;
-                            display: grid;
-                            grid-template-columns: repeat(auto-fit, minmax(250px, 1fr));
-                            gap: 15px;
-                        }
-                        
-                        .filter-group {
-                            display: flex;
-                            flex-direction: column;
-                        }
-                        
-                        label {
-                            font-weight: 600;
-                            margin-bottom: 5px;
-                            color: #333;
-                        }
-                        
-                        input, select {
-                            padding: 10px;
-                            border: 2px solid #e0e0e0;
-                            border-radius: 5px;
-                            font-size: 1rem;
-                            transition: border-color 0.3s;
-                        }
-                        
-                        input:focus, select:focus {
-                            outline: none;
-                            border-color: #667eea;
-                        }
-                        
-                        .stats {
-                            background: rgba(255,255,255,0.9);
-                            padding: 15px;
-                            border-radius: 10px;
-                            margin-bottom: 20px;
-                            text-align: center;
-                            font-size: 1.1rem;
-                            font-weight: 600;
-                            color: #333;
-                        }
-                        
-                        .jobs-grid {
-                            display: grid;
-                            grid-template-columns: repeat(auto-fill, minmax(350px, 1fr));
-                            gap: 20px;
-                        }
-                        
-                        .job-card {
-                            background: white;
-                            padding: 20px;
-                            border-radius: 10px;
-                            box-shadow: 0 4px 6px rgba(0,0,0,0.1);
-                            transition: transform 0.3s, box-shadow 0.3s;
-                        }
-                        
-                        .job-card:hover {
-                            transform: translateY(-5px);
-                            box-shadow: 0 8px 12px rgba(0,0,0,0.15);
-                        }
-                        
-                        .job-title {
-                            font-size: 1.3rem;
-                            font-weight: 700;
-                            color: #667eea;
-                            margin-bottom: 10px;
-                        }
-                        
-                        .job-company {
-                            font-size: 1.1rem;
-                            color: #555;
-                            margin-bottom: 15px;
-                        }
-                        
-                        .job-detail {
-                            margin: 8px 0;
-                            color: #666;
-                            display: flex;
-                            align-items: center;
-                            gap: 5px;
-                        }
-                        
-                        .job-category {
-                            display: inline-block;
-                            background: #f0f0f0;
-                            padding: 5px 10px;
-                            border-radius: 5px;
-                            font-size: 0.9rem;
-                            margin-top: 10px;
-                        }
-                        
-                        .apply-button {
-                            display: inline-block;
-                            background: #667eea;
-                            color: white;
-                            padding: 10px 20px;
-                            border-radius: 5px;
-                            text-decoration: none;
-                            margin-top: 15px;
-                            transition: background 0.3s;
-                        }
-                        
-                        .apply-button:hover {
-                            background: #5568d3;
-                        }
-                        
-                        .urgent {
-                            color: #e74c3c;
-                            font-weight: 700;
-                        }
-                        
-                        .loading {
-                            text-align: center;
-                            color: white;
-                            font-size: 1.5rem;
-                            padding: 40px;
-                        }
-                        
-                        .error {
-                            background: #fff;
-                            padding: 20px;
-                            border-radius: 10px;
-                            text-align: center;
-                            color: #e74c3c;
-                        }
-                    </style>
-                </head>
-                <body>
-                    <div class="container">
-                        <header>
-                            <h1>🎓 Available Apprenticeships</h1>
-                            <p class="subtitle">Find your perfect opportunity</p>
-                        </header>
-                        
-                        <div class="filters">
-                            <div class="filter-group">
-                                <label for="search">🔍 Search</label>
-                                <input type="text" id="search" placeholder="Search by job title or company...">
-                            </div>
-                            <div class="filter-group">
-                                <label for="category">📋 Category</label>
-                                <select id="category">
-                                    <option value="">All Categories</option>
-                                </select>
-                            </div>
-                            <div class="filter-group">
-                                <label for="location">📍 Location</label>
-                                <select id="location">
-                                    <option value="">All Locations</option>
-                                </select>
-                            </div>
-                            <div class="filter-group">
-                                <label for="sort">🔄 Sort By</label>
-                                <select id="sort">
-                                    <option value="closing">Closing Date</option>
-                                    <option value="posted">Posted Date</option>
-                                    <option value="company">Company</option>
-                                    <option value="title">Apprenticeship Title</option>
-                                </select>
-                            </div>
-                        </div>
-                        
-                        <div class="stats" id="stats">Loading...</div>
-                        
-                        <div class="jobs-grid" id="jobs-grid">
-                            <div class="loading">Loading apprenticeships...</div>
-                        </div>
-                    </div>
-                    
-                    <script>
-                        let allJobs = [];
-                        let filteredJobs = [];
-                        
-                        async function loadJobs() {
-                            try {
-                                const urlParams = new URLSearchParams(window.location.search);
-                                const token = urlParams.get('token');
-                                const response = await fetch(`/api/apprenticeships?token=${token}`);
-                                const data = await response.json();
-                                
-                                if (data.error) {
-                                    document.getElementById('jobs-grid').innerHTML = `<div class="error">${data.error}</div>`;
-                                    return;
-                                }
-                                
-                                allJobs = data.apprenticeships;
-                                filteredJobs = allJobs;
-                                
-                                populateFilters();
-                                renderJobs();
-                                updateStats();
-                            } catch (error) {
-                                console.error('Error loading apprenticeships:', error);
-                                document.getElementById('jobs-grid').innerHTML = '<div class="error">Failed to load apprenticeships. Please try again later.</div>';
-                            }
-                        }
-                        
-                        function populateFilters() {
-                            // Use unified categories for the dropdown
-                            const categories = [...new Set(allJobs.flatMap(job => job.unifiedCategories || []))].sort();
-                            const locations = [...new Set(allJobs.map(job => job.location))].filter(loc => loc).sort();
-                            
-                            const categorySelect = document.getElementById('category');
-                            categories.forEach(cat => {
-                                const option = document.createElement('option');
-                                option.value = cat;
-                                option.textContent = cat;
-                                categorySelect.appendChild(option);
-                            });
-                            
-                            const locationSelect = document.getElementById('location');
-                            locations.forEach(loc => {
-                                const option = document.createElement('option');
-                                option.value = loc;
-                                option.textContent = loc;
-                                locationSelect.appendChild(option);
-                            });
-                        }
-                        
-                        function filterJobs() {
-                            const searchTerm = document.getElementById('search').value.toLowerCase();
-                            const selectedCategory = document.getElementById('category').value;
-                            const selectedLocation = document.getElementById('location').value;
-                            
-                            filteredJobs = allJobs.filter(job => {
-                                const matchesSearch = (job.title || '').toLowerCase().includes(searchTerm) || 
-                                                    (job.companyName || '').toLowerCase().includes(searchTerm);
-                                // Filter by unified categories
-                                const matchesCategory = !selectedCategory || (job.unifiedCategories || []).includes(selectedCategory);
-                                const matchesLocation = !selectedLocation || job.location === selectedLocation;
-                                
-                                return matchesSearch && matchesCategory && matchesLocation;
-                            });
-                            
-                            sortJobs();
-                            renderJobs();
-                            updateStats();
-                        }
-                        
-                        function sortJobs() {
-                            const sortBy = document.getElementById('sort').value;
-                            
-                            filteredJobs.sort((a, b) => {
-                                switch(sortBy) {
-                                    case 'closing':
-                                        return new Date(a.closingDate || 0) - new Date(b.closingDate || 0);
-                                    case 'posted':
-                                        return new Date(b.openingDate || 0) - new Date(a.openingDate || 0);
-                                    case 'company':
-                                        return (a.companyName || '').localeCompare(b.companyName || '');
-                                    case 'title':
-                                        return (a.title || '').localeCompare(b.title || '');
-                                    default:
-                                        return 0;
-                                }
-                            });
-                        }
-                        
-                        function renderJobs() {
-                            const grid = document.getElementById('jobs-grid');
-                            
-                            if (filteredJobs.length === 0) {
-                                grid.innerHTML = '<div class="error">No apprenticeships found matching your criteria.</div>';
-                                return;
-                            }
-                            
-                            grid.innerHTML = filteredJobs.map(job => {
-                                const closingDate = new Date(job.closingDate);
-                                const today = new Date();
-                                const daysLeft = Math.ceil((closingDate - today) / (1000 * 60 * 60 * 24));
-                                const isUrgent = daysLeft < 7;
-                                // Display unified categories on cards
-                                const categoriesDisplay = (job.unifiedCategories || []).join(', ') || 'Not specified';
-                                
-                                return `
-                                    <div class="job-card">
-                                        <div class="job-title">${job.title || 'Untitled'}</div>
-                                        <div class="job-company">${job.companyName || 'Company not specified'}</div>
-                                        <div class="job-detail">📍 ${job.location || 'Location not specified'}</div>
-                                        <div class="job-detail">💰 ${job.salary || 'Not specified'}</div>
-                                        <div class="job-detail">⏰ Closes: ${job.closingDate || 'Not specified'}</div>
-                                        <div class="job-detail ${isUrgent ? 'urgent' : ''}">
-                                            ${daysLeft > 0 ? `${daysLeft} days left` : 'Closing soon!'}
-                                        </div>
-                                        <div class="job-category">🎓 ${categoriesDisplay}</div>
-                                        <a href="${job.url || '#'}" target="_blank" class="apply-button">Apply Now</a>
-                                    </div>
-                                `;
-                            }).join('');
-                        }
-                        
-                        function updateStats() {
-                            document.getElementById('stats').textContent = 
-                                `Showing ${filteredJobs.length} of ${allJobs.length} opportunities`;
-                        }
-                        
-                        document.getElementById('search').addEventListener('input', filterJobs);
-                        document.getElementById('category').addEventListener('change', filterJobs);
-                        document.getElementById('location').addEventListener('change', filterJobs);
-                        document.getElementById('sort').addEventListener('change', () => {
-                            sortJobs();
-                            renderJobs();
-                        });
-                        
-                        loadJobs();
-                    </script>
-                </body>
-                </html>
-                """;
-    }
-
-    private record TokenInfo(Instant expiry) {}
 }
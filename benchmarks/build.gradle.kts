@@ -0,0 +1,25 @@
+plugins {
+    id("java")
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    // Code under benchmark
+    jmh(project(":ApprenticeshipScraper"))
+
+    // Parsers used directly by the benchmark setup code
+    jmh(libs.bundles.http.scraping)
+}
+
+// Reuse the scraper's test fixtures instead of keeping copies in this module
+sourceSets { named("jmh") { resources.srcDir(project(":ApprenticeshipScraper").file("src/test/resources")) } }
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    profilers.add("gc")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    jvmArgsAppend.add("--enable-preview")
+    resultFormat.set("JSON")
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.categories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link CategoryMapper}, which runs for every apprenticeship saved or announced.
+ *
+ * <p>The input set is every real Higher In category and GOV.UK route name, plus a few categories
+ * with no mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CategoryMapperBenchmark {
+
+    private List<String> categories;
+
+    @Setup
+    public void setUp() {
+        categories = new ArrayList<>(HigherinCategories.getAllCategories());
+        categories.addAll(GovUkRoutes.getAllRoutes().keySet());
+        categories.addAll(List.of("Unknown category", "SOFTWARE-ENGINEERING", " law "));
+    }
+
+    @Benchmark
+    public void mapEachCategory(Blackhole blackhole) {
+        for (String category : categories) {
+            blackhole.consume(CategoryMapper.mapToUnifiedCategories(category));
+        }
+    }
+
+    @Benchmark
+    public Object mapAllCategories() {
+        return CategoryMapper.mapToUnifiedCategories(categories);
+    }
+}
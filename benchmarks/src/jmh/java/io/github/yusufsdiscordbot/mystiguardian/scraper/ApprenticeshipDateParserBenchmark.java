@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.scraper;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link ApprenticeshipDateParser} over the date strings seen on real listings.
+ *
+ * <p>A memo size of 0 measures the tokenizer itself; the default size measures the steady state
+ * of a crawl, where almost every string has been seen before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApprenticeshipDateParserBenchmark {
+
+    private static final String[] HIGHERIN_DATES = {
+        "2025-01-31", "1st March 2025", "22nd November 2025", "not a date"
+    };
+
+    private static final String[] GOV_UK_DATES = {
+        "Closes on Sunday 16 February",
+        "Closes in 30 days at 11:59pm (Friday 17 October 2025)",
+        "Closes in 3 days (Monday 12 May 2025)",
+        "Posted 21 October",
+        "Posted 3 September 2025",
+        "Closes today"
+    };
+
+    @Param({"0", "1024"})
+    public int maxMemoSize;
+
+    private ApprenticeshipDateParser parser;
+
+    @Setup
+    public void setUp() {
+        parser = new ApprenticeshipDateParser(Clock.systemDefaultZone(), maxMemoSize);
+    }
+
+    @Benchmark
+    public void parseHigherinDates(Blackhole blackhole) {
+        for (String date : HIGHERIN_DATES) {
+            blackhole.consume(parser.parseHigherinDate(date));
+        }
+    }
+
+    @Benchmark
+    public void parseGovUkDates(Blackhole blackhole) {
+        for (String date : GOV_UK_DATES) {
+            blackhole.consume(parser.parseGovUkDate(date));
+        }
+    }
+}
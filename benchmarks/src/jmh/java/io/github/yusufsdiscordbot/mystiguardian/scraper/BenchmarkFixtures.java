@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.scraper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+
+/**
+ * Loads the scraper test fixtures and scales them up into larger pages for benchmarking.
+ *
+ * <p>The fixtures come from {@code ApprenticeshipScraper/src/test/resources}, which the benchmark
+ * source set adds as a resource directory.
+ */
+final class BenchmarkFixtures {
+    static final String HIGHERIN_PAGE = "/higherin_search_page.html";
+    static final String FIND_AN_APPRENTICESHIP_PAGE = "/find_an_apprenticeship_page.html";
+
+    private BenchmarkFixtures() {}
+
+    /**
+     * Reads a fixture from the classpath.
+     *
+     * @param name the resource name
+     * @return the fixture contents
+     */
+    static String load(String name) {
+        try (InputStream in = BenchmarkFixtures.class.getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IllegalStateException("Fixture not found: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Builds a Higher In page whose {@code data} array repeats the fixture's four listings to hold
+     * roughly {@code listings} entries.
+     *
+     * @param listings the approximate number of listings
+     * @return the page HTML
+     */
+    static String higherinPage(int listings) {
+        String page = load(HIGHERIN_PAGE);
+        int start = page.indexOf("\"data\":[") + "\"data\":[".length();
+        int end = page.indexOf("],\"links\"", start);
+        return page.substring(0, start)
+                + repeat(page.substring(start, end), listings, 4, ",")
+                + page.substring(end);
+    }
+
+    /**
+     * Builds a GOV.UK results page whose list repeats the fixture's two listings to hold roughly
+     * {@code listings} entries.
+     *
+     * @param listings the approximate number of listings
+     * @return the page HTML
+     */
+    static String findAnApprenticeshipPage(int listings) {
+        String page = load(FIND_AN_APPRENTICESHIP_PAGE);
+        int start = page.indexOf("<li ");
+        int end = page.lastIndexOf("</li>") + "</li>".length();
+        return page.substring(0, start)
+                + repeat(page.substring(start, end), listings, 2, "\n")
+                + page.substring(end);
+    }
+
+    private static String repeat(String block, int listings, int perBlock, String separator) {
+        StringJoiner joiner = new StringJoiner(separator);
+        for (int i = 0; i < Math.max(1, listings / perBlock); i++) {
+            joiner.add(block);
+        }
+        return joiner.toString();
+    }
+}
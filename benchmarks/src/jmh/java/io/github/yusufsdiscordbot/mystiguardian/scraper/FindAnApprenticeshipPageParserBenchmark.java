@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.scraper;
+
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.FindAnApprenticeship;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link FindAnApprenticeshipPageParser}.
+ *
+ * <p>Covers streaming a whole results page and extracting a single listing. Date parsing is
+ * measured separately in {@link ApprenticeshipDateParserBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FindAnApprenticeshipPageParserBenchmark {
+
+    @Param({"2", "20"})
+    public int listings;
+
+    private String page;
+    private Element listing;
+    private FindAnApprenticeshipPageParser parser;
+
+    @Setup
+    public void setUp() {
+        page = BenchmarkFixtures.findAnApprenticeshipPage(listings);
+        listing =
+                Jsoup.parse(BenchmarkFixtures.load(BenchmarkFixtures.FIND_AN_APPRENTICESHIP_PAGE))
+                        .selectFirst(FindAnApprenticeshipPageParser.LISTING_SELECTOR);
+        parser = new FindAnApprenticeshipPageParser();
+    }
+
+    @Benchmark
+    public int parsePage(Blackhole blackhole) throws IOException {
+        return parser.parse(new StringReader(page), id -> true, blackhole::consume);
+    }
+
+    @Benchmark
+    public FindAnApprenticeship parseListing() {
+        return FindAnApprenticeshipPageParser.parseListing(listing);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 RealYusufIsmail.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package io.github.yusufsdiscordbot.mystiguardian.scraper;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import io.github.yusufsdiscordbot.mystiguardian.apprenticeship.HigherinApprenticeship;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link HigherinPageParser}, the hot path of every Higher In category fetch.
+ *
+ * <p>Covers marker scanning plus field binding for a full parse, and the cost of a page whose
+ * listings are all already known (the common case for incremental crawls).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HigherinPageParserBenchmark {
+
+    @Param({"4", "100"})
+    public int listings;
+
+    private byte[] page;
+    private HigherinPageParser parser;
+
+    @Setup
+    public void setUp() {
+        page = BenchmarkFixtures.higherinPage(listings).getBytes(StandardCharsets.UTF_8);
+        parser = new HigherinPageParser(new JsonFactory());
+    }
+
+    @Benchmark
+    public List<HigherinApprenticeship> parsePage() throws IOException {
+        return parser.parse(new ByteArrayInputStream(page), "software-engineering");
+    }
+
+    @Benchmark
+    public int skipKnownListings(Blackhole blackhole) throws IOException {
+        return parser.parse(
+                new ByteArrayInputStream(page), "software-engineering", id -> false, blackhole::consume);
+    }
+}
@@ -4,3 +4,4 @@ include("DiscordBot")
 include("OAuth")
 include("Annotations")
 include("ApprenticeshipScraper")
+include("benchmarks")